@@ -0,0 +1,189 @@
+package br.com.arquivolivre.mcpeasy4j.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the benchmark suites with the GC profiler and compares the results against a baseline file.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar [options] [include-regex...]
+ *
+ *   --save            write the results to the baseline file instead of comparing
+ *   --baseline=PATH   baseline file, defaults to baseline.json
+ *   --threshold=PCT   slowdown or allocation growth reported as a regression, defaults to 10
+ *   --quick           short warmup and measurement, for smoke runs
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+  private static final String ALLOC_RATE = "gc.alloc.rate";
+  private static final String ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  private BenchmarkRunner() {}
+
+  /**
+   * Entry point.
+   *
+   * @param args the command-line options and benchmark include patterns
+   * @throws RunnerException if JMH fails
+   * @throws IOException if the baseline cannot be read or written
+   */
+  public static void main(String[] args) throws RunnerException, IOException {
+    var save = false;
+    var quick = false;
+    var baseline = Path.of("baseline.json");
+    var threshold = 10.0;
+    var includes = new ArrayList<String>();
+    for (var arg : args) {
+      if (arg.equals("--save")) {
+        save = true;
+      } else if (arg.equals("--quick")) {
+        quick = true;
+      } else if (arg.startsWith("--baseline=")) {
+        baseline = Path.of(arg.substring("--baseline=".length()));
+      } else if (arg.startsWith("--threshold=")) {
+        threshold = Double.parseDouble(arg.substring("--threshold=".length()));
+      } else {
+        includes.add(arg);
+      }
+    }
+
+    var runner = new BenchmarkRunner();
+    var results = runner.toBaseline(runner.run(includes, quick));
+    if (save) {
+      runner.objectMapper.writeValue(baseline.toFile(), results);
+      System.out.println("Baseline written to " + baseline.toAbsolutePath());
+    } else if (Files.exists(baseline)) {
+      runner.compare(runner.objectMapper.readValue(baseline.toFile(), Baseline.class), results,
+          threshold);
+    } else {
+      System.out.println("No baseline at " + baseline.toAbsolutePath() + ", run with --save");
+    }
+  }
+
+  private Collection<RunResult> run(List<String> includes, boolean quick) throws RunnerException {
+    var options = new OptionsBuilder().addProfiler(GCProfiler.class);
+    if (includes.isEmpty()) {
+      options.include(BenchmarkRunner.class.getPackageName() + ".*");
+    } else {
+      includes.forEach(options::include);
+    }
+    if (quick) {
+      options
+          .warmupIterations(2)
+          .warmupTime(TimeValue.milliseconds(200))
+          .measurementIterations(3)
+          .measurementTime(TimeValue.milliseconds(200));
+    }
+    return new Runner(options.build()).run();
+  }
+
+  private Baseline toBaseline(Collection<RunResult> runResults) {
+    var entries = new TreeMap<String, Entry>();
+    for (var result : runResults) {
+      var name = result.getParams().getBenchmark();
+      var primary = result.getPrimaryResult();
+      var secondary = result.getSecondaryResults();
+      entries.put(
+          name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1),
+          new Entry(
+              primary.getScore(),
+              primary.getScoreUnit(),
+              secondary.containsKey(ALLOC_RATE) ? secondary.get(ALLOC_RATE).getScore() : -1,
+              secondary.containsKey(ALLOC_RATE_NORM)
+                  ? secondary.get(ALLOC_RATE_NORM).getScore()
+                  : -1));
+    }
+    return new Baseline(
+        System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version"),
+        System.getProperty("os.name") + " " + System.getProperty("os.arch"),
+        Runtime.getRuntime().availableProcessors(),
+        entries);
+  }
+
+  private void compare(Baseline baseline, Baseline current, double threshold) {
+    System.out.printf(
+        "%nBaseline: %s, %s, %d CPUs%n", baseline.jvm(), baseline.os(), baseline.cpus());
+    if (baseline.cpus() != current.cpus()) {
+      System.out.printf(
+          "Recorded on %d CPUs, running on %d: times are not comparable%n",
+          baseline.cpus(), current.cpus());
+    }
+    System.out.printf(
+        "%-52s %14s %14s %8s %12s %12s %8s%n",
+        "Benchmark", "Baseline", "Current", "Time", "Base B/op", "Cur B/op", "Alloc");
+    var regressions = 0;
+    for (var entry : current.benchmarks().entrySet()) {
+      var now = entry.getValue();
+      var before = baseline.benchmarks().get(entry.getKey());
+      if (before == null) {
+        System.out.printf(
+            "%-52s %14s %14.2f %8s %12s %12.0f %8s%n",
+            entry.getKey(), "-", now.score(), "new", "-", now.allocBytesPerOp(), "new");
+        continue;
+      }
+      var timeDelta = percentChange(before.score(), now.score());
+      var allocDelta = percentChange(before.allocBytesPerOp(), now.allocBytesPerOp());
+      var regressed = timeDelta > threshold || allocDelta > threshold;
+      if (regressed) {
+        regressions++;
+      }
+      System.out.printf(
+          "%-52s %14.2f %14.2f %+7.1f%% %12.0f %12.0f %+7.1f%%%s%n",
+          entry.getKey(),
+          before.score(),
+          now.score(),
+          timeDelta,
+          before.allocBytesPerOp(),
+          now.allocBytesPerOp(),
+          allocDelta,
+          regressed ? "  REGRESSION" : "");
+    }
+    System.out.printf("%n%d regression(s) above %.0f%%%n", regressions, threshold);
+  }
+
+  private static double percentChange(double before, double now) {
+    if (before <= 0) {
+      return 0;
+    }
+    return (now - before) / before * 100.0;
+  }
+
+  /**
+   * Benchmark results recorded on one machine.
+   *
+   * @param jvm the JVM the results were recorded on
+   * @param os the operating system and architecture
+   * @param cpus the number of available processors
+   * @param benchmarks the results by benchmark name
+   */
+  record Baseline(String jvm, String os, int cpus, Map<String, Entry> benchmarks) {}
+
+  /**
+   * Result of one benchmark.
+   *
+   * @param score the average time per operation
+   * @param unit the unit of the score
+   * @param allocMbPerSec allocation rate in MB/sec, -1 if not measured
+   * @param allocBytesPerOp bytes allocated per operation, -1 if not measured
+   */
+  record Entry(double score, String unit, double allocMbPerSec, double allocBytesPerOp) {}
+}
@@ -0,0 +1,91 @@
+package br.com.arquivolivre.mcpeasy4j.benchmarks;
+
+import br.com.arquivolivre.mcpeasy4j.McpServerBootstrap;
+import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import br.com.arquivolivre.mcpeasy4j.annotation.Prompt;
+import br.com.arquivolivre.mcpeasy4j.annotation.PromptArgument;
+import br.com.arquivolivre.mcpeasy4j.annotation.Property;
+import br.com.arquivolivre.mcpeasy4j.annotation.Resource;
+import br.com.arquivolivre.mcpeasy4j.annotation.Tool;
+import br.com.arquivolivre.mcpeasy4j.annotation.TransportType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server whose tools cover the argument and result shapes exercised by the benchmarks. Also the
+ * default server spawned by the {@link LoadGenerator}, which is why it uses the buffered transport:
+ * the SDK's stdio transport closes the session when concurrent tool calls respond at the same time.
+ */
+@McpServer(name = "benchmark-server", transport = TransportType.BUFFERED_STDIO)
+public class BenchmarkServer {
+
+  /** Number of rows returned by the large-result tool and resource. */
+  static final int LARGE_RESULT_ROWS = 1_000;
+
+  private final List<Map<String, Object>> largeResult = buildLargeResult();
+
+  /** POJO argument and result type. */
+  public record Order(String id, String customer, int quantity, double price, List<String> tags) {}
+
+  @Tool(description = "Adds two integers")
+  public int add(@Property(name = "a") int a, @Property(name = "b") int b) {
+    return a + b;
+  }
+
+  @Tool(description = "Echoes a message")
+  public String echo(@Property(name = "message") String message) {
+    return message;
+  }
+
+  @Tool(description = "Counts the entries of a map")
+  public int countEntries(@Property(name = "data") Map<String, Object> data) {
+    return data.size();
+  }
+
+  @Tool(description = "Prices an order")
+  public Order priceOrder(@Property(name = "order") Order order) {
+    return new Order(
+        order.id(), order.customer(), order.quantity(), order.price() * 0.9, order.tags());
+  }
+
+  @Tool(description = "Returns a large result")
+  public List<Map<String, Object>> largeResult() {
+    return largeResult;
+  }
+
+  @Resource(uri = "bench://large", mimeType = "application/json")
+  public List<Map<String, Object>> largeResource() {
+    return largeResult;
+  }
+
+  @Prompt(name = "review", description = "Review prompt")
+  public String review(@PromptArgument(name = "language") String language) {
+    return "Please review the following " + language + " code.";
+  }
+
+  private static List<Map<String, Object>> buildLargeResult() {
+    var rows = new ArrayList<Map<String, Object>>(LARGE_RESULT_ROWS);
+    for (var i = 0; i < LARGE_RESULT_ROWS; i++) {
+      var row = new LinkedHashMap<String, Object>();
+      row.put("id", i);
+      row.put("name", "row-" + i);
+      row.put("score", i * 0.5);
+      row.put("active", i % 2 == 0);
+      row.put("tags", List.of("alpha", "beta", "gamma"));
+      rows.add(row);
+    }
+    return List.copyOf(rows);
+  }
+
+  /**
+   * Starts the server on stdio.
+   *
+   * @param args ignored
+   * @throws InterruptedException if interrupted while running
+   */
+  public static void main(String[] args) throws InterruptedException {
+    McpServerBootstrap.start(BenchmarkServer.class).awaitTermination();
+  }
+}
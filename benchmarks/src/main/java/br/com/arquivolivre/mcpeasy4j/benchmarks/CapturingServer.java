@@ -0,0 +1,59 @@
+package br.com.arquivolivre.mcpeasy4j.benchmarks;
+
+import io.modelcontextprotocol.server.McpServer;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncPromptSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncResourceSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import java.util.HashMap;
+import java.util.Map;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sync server that keeps the specifications registered by the adapter instead of publishing them,
+ * so benchmarks can call the handler lambdas directly without any transport in the way.
+ */
+final class CapturingServer extends McpSyncServer {
+
+  final Map<String, SyncToolSpecification> tools = new HashMap<>();
+  final Map<String, SyncResourceSpecification> resources = new HashMap<>();
+  final Map<String, SyncPromptSpecification> prompts = new HashMap<>();
+
+  CapturingServer() {
+    super(McpServer.async(new NoopTransportProvider()).build());
+  }
+
+  @Override
+  public void addTool(SyncToolSpecification spec) {
+    tools.put(spec.tool().name(), spec);
+  }
+
+  @Override
+  public void addResource(SyncResourceSpecification spec) {
+    resources.put(spec.resource().uri(), spec);
+  }
+
+  @Override
+  public void addPrompt(SyncPromptSpecification spec) {
+    prompts.put(spec.prompt().name(), spec);
+  }
+
+  /** Transport that never receives or sends anything. */
+  private static final class NoopTransportProvider implements McpServerTransportProvider {
+
+    @Override
+    public void setSessionFactory(McpServerSession.Factory sessionFactory) {}
+
+    @Override
+    public Mono<Void> notifyClients(String method, Object params) {
+      return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> closeGracefully() {
+      return Mono.empty();
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package br.com.arquivolivre.mcpeasy4j.benchmarks;
+
+import br.com.arquivolivre.mcpeasy4j.completion.PrefixIndex;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Top-{@value #LIMIT} lookups in a {@link PrefixIndex} of {@value #VALUE_COUNT} values, for a
+ * prefix matching a handful of values and for one matching a large share of the index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompletionBenchmark {
+
+  /** Number of values in the index. */
+  static final int VALUE_COUNT = 1_000_000;
+
+  /** Maximum number of values returned per lookup, as in a completion/complete result. */
+  static final int LIMIT = 100;
+
+  private PrefixIndex index;
+
+  @Setup
+  public void setUp() {
+    index =
+        PrefixIndex.of(
+            IntStream.range(0, VALUE_COUNT).mapToObj(i -> "customer-" + Integer.toString(i, 36)));
+  }
+
+  @Benchmark
+  public PrefixIndex.Matches lookupNarrowPrefix() {
+    return index.lookup("CUSTOMER-ab1", LIMIT);
+  }
+
+  @Benchmark
+  public PrefixIndex.Matches lookupBroadPrefix() {
+    return index.lookup("customer-", LIMIT);
+  }
+}
@@ -0,0 +1,392 @@
+package br.com.arquivolivre.mcpeasy4j.benchmarks;
+
+import br.com.arquivolivre.mcpeasy4j.metrics.HistogramSnapshot;
+import br.com.arquivolivre.mcpeasy4j.metrics.LatencyHistogram;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for the full stdio path: transport, adapter and invoker. Spawns an MCP
+ * server as a child process, performs the initialize handshake, then sends {@code tools/call}
+ * requests over its stdin at a fixed rate and matches the responses read from its stdout.
+ *
+ * <p>Requests are scheduled at fixed intervals, whether or not earlier ones have completed. Latency
+ * is measured from the time a request was scheduled, not from when it was actually written, so a
+ * stall in the server also counts against the requests that queued up behind it. This corrects the
+ * coordinated omission that makes closed-loop benchmarks under-report tail latency. The uncorrected
+ * service time is reported alongside for comparison.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar br.com.arquivolivre.mcpeasy4j.benchmarks.LoadGenerator [options]
+ *
+ *   --rate=N           requests per second, defaults to 1000
+ *   --concurrency=N    maximum outstanding requests, defaults to 64
+ *   --duration=SEC     measured run length, defaults to 30
+ *   --warmup=SEC       unmeasured run length before it, defaults to 5
+ *   --tool=NAME        tool to call, defaults to echo
+ *   --arguments=JSON   tool arguments, defaults to {"message":"hello"}
+ *   --command=CMD...   server command line, consuming the remaining arguments; defaults to
+ *                      this JVM running BenchmarkServer on the current class path
+ * </pre>
+ */
+public final class LoadGenerator implements AutoCloseable {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration REGISTRATION_TIMEOUT = Duration.ofSeconds(10);
+
+  private final Options options;
+  private final Process process;
+  private final OutputStream out;
+  private final BufferedReader in;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ConcurrentMap<Long, long[]> pending = new ConcurrentHashMap<>();
+  private final Semaphore permits;
+  private final LatencyHistogram corrected = new LatencyHistogram();
+  private final LatencyHistogram uncorrected = new LatencyHistogram();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private volatile long measureStartNanos = Long.MAX_VALUE;
+  private volatile boolean serverExited;
+
+  private LoadGenerator(Options options, Process process) {
+    this.options = options;
+    this.process = process;
+    this.out = process.getOutputStream();
+    this.in =
+        new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+    this.permits = new Semaphore(options.concurrency());
+  }
+
+  /**
+   * Entry point.
+   *
+   * @param args the command-line options
+   * @throws Exception if the server cannot be started or the run fails
+   */
+  public static void main(String[] args) throws Exception {
+    var options = Options.parse(args);
+    var process =
+        new ProcessBuilder(options.command())
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+    try (var generator = new LoadGenerator(options, process)) {
+      generator.initialize();
+      generator.run().print(System.out);
+    }
+  }
+
+  /**
+   * Sends the initialize request, waits for its response and confirms with the initialized
+   * notification, as an MCP client must before calling tools. Then waits until the tool under test
+   * is listed, since the server may still be registering its features when the handshake completes.
+   *
+   * @throws IOException if the server does not answer or never lists the tool
+   * @throws InterruptedException if interrupted while waiting
+   */
+  private void initialize() throws IOException, InterruptedException {
+    send(
+        "{\"jsonrpc\":\"2.0\",\"id\":0,\"method\":\"initialize\",\"params\":{"
+            + "\"protocolVersion\":\"2024-11-05\",\"capabilities\":{},"
+            + "\"clientInfo\":{\"name\":\"mcp-easy4j-load-generator\",\"version\":\"1.0.0\"}}}");
+    var result = awaitResponse(0);
+    send("{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}");
+
+    var deadline = System.nanoTime() + REGISTRATION_TIMEOUT.toNanos();
+    for (var id = -1L; System.nanoTime() < deadline; id--) {
+      send("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"tools/list\"}");
+      result = awaitResponse(id);
+      for (var tool : result.path("tools")) {
+        if (options.tool().equals(tool.path("name").asText())) {
+          return;
+        }
+      }
+      Thread.sleep(50);
+    }
+    throw new IOException("Server did not list tool " + options.tool());
+  }
+
+  /**
+   * Reads messages until the response with the given id arrives, skipping notifications.
+   *
+   * @param id the request id
+   * @return the result of the response
+   * @throws IOException if the response is an error or the server exits first
+   */
+  private JsonNode awaitResponse(long id) throws IOException {
+    String line;
+    while ((line = in.readLine()) != null) {
+      var message = objectMapper.readTree(line);
+      if (message.path("id").canConvertToLong() && message.path("id").asLong() == id) {
+        if (message.has("error")) {
+          throw new IOException("Request " + id + " failed: " + message.get("error"));
+        }
+        return message.path("result");
+      }
+    }
+    throw new IOException("Server exited before answering request " + id);
+  }
+
+  /**
+   * Runs the warmup and the measured phase, then waits for outstanding responses.
+   *
+   * @return the report of the measured phase
+   * @throws IOException if writing to the server fails
+   * @throws InterruptedException if interrupted while waiting
+   */
+  private Report run() throws IOException, InterruptedException {
+    Thread.ofPlatform().name("load-generator-reader").daemon().start(this::readLoop);
+
+    var params =
+        objectMapper.writeValueAsString(
+            Map.of("name", options.tool(), "arguments", options.arguments()));
+    var intervalNanos = NANOS_PER_SECOND / options.rate();
+    var start = System.nanoTime();
+    var measureStart = start + options.warmup().toNanos();
+    var end = measureStart + options.duration().toNanos();
+    measureStartNanos = measureStart;
+
+    var sent = 0L;
+    for (var id = 1L; ; id++) {
+      var intended = start + (id - 1) * intervalNanos;
+      if (intended >= end) {
+        break;
+      }
+      waitUntil(intended);
+      permits.acquire();
+      if (serverExited) {
+        break;
+      }
+      pending.put(id, new long[] {intended, System.nanoTime()});
+      send(
+          "{\"jsonrpc\":\"2.0\",\"id\":"
+              + id
+              + ",\"method\":\"tools/call\",\"params\":"
+              + params
+              + "}");
+      if (intended >= measureStart) {
+        sent++;
+      }
+    }
+
+    // Wait for the responses still in flight
+    if (!serverExited) {
+      permits.tryAcquire(options.concurrency(), DRAIN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    var finished = serverExited ? System.nanoTime() : Math.max(end, System.nanoTime());
+    var elapsed = Duration.ofNanos(Math.max(0, finished - measureStart));
+    var timedOut = pending.values().stream().filter(times -> times[0] >= measureStart).count();
+    return new Report(
+        sent,
+        completed.sum(),
+        errors.sum(),
+        timedOut,
+        serverExited,
+        elapsed,
+        options,
+        corrected.snapshot(),
+        uncorrected.snapshot());
+  }
+
+  /**
+   * Reads responses and records the latency of each one completed during the measured phase. When
+   * the server exits, wakes up the sender so the run ends with what was measured so far.
+   */
+  private void readLoop() {
+    try {
+      String line;
+      while ((line = in.readLine()) != null) {
+        var now = System.nanoTime();
+        var message = objectMapper.readTree(line);
+        var id = message.path("id");
+        if (!id.canConvertToLong()) {
+          continue; // Notification or log message
+        }
+        var times = pending.remove(id.asLong());
+        if (times == null) {
+          continue;
+        }
+        if (times[0] >= measureStartNanos) {
+          completed.increment();
+          if (isError(message)) {
+            errors.increment();
+          }
+          corrected.record(now - times[0]);
+          uncorrected.record(now - times[1]);
+        }
+        permits.release();
+      }
+    } catch (IOException e) {
+      // Treated like the end of the stream below
+    } finally {
+      // The report counts what is still pending as timed out
+      serverExited = true;
+      permits.release(options.concurrency());
+    }
+  }
+
+  private static boolean isError(JsonNode message) {
+    return message.has("error") || message.path("result").path("isError").asBoolean(false);
+  }
+
+  private void send(String message) throws IOException {
+    out.write(message.getBytes(StandardCharsets.UTF_8));
+    out.write('\n');
+    out.flush();
+  }
+
+  private static void waitUntil(long deadline) {
+    long remaining;
+    while ((remaining = deadline - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+    }
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    try {
+      out.close();
+    } catch (IOException e) {
+      // Already closed by the server
+    }
+    if (!process.waitFor(5, TimeUnit.SECONDS)) {
+      process.destroyForcibly();
+    }
+  }
+
+  /**
+   * Load generator settings.
+   *
+   * @param rate requests per second
+   * @param concurrency maximum outstanding requests
+   * @param duration measured run length
+   * @param warmup unmeasured run length before it
+   * @param tool the tool to call
+   * @param arguments the tool arguments
+   * @param command the server command line
+   */
+  record Options(
+      int rate,
+      int concurrency,
+      Duration duration,
+      Duration warmup,
+      String tool,
+      Map<String, Object> arguments,
+      List<String> command) {
+
+    static Options parse(String[] args) throws IOException {
+      var rate = 1000;
+      var concurrency = 64;
+      var duration = Duration.ofSeconds(30);
+      var warmup = Duration.ofSeconds(5);
+      var tool = "echo";
+      Map<String, Object> arguments = Map.of("message", "hello");
+      List<String> command =
+          List.of(
+              ProcessHandle.current().info().command().orElse("java"),
+              "-cp",
+              System.getProperty("java.class.path"),
+              BenchmarkServer.class.getName());
+
+      for (var i = 0; i < args.length; i++) {
+        var arg = args[i];
+        var value = arg.substring(arg.indexOf('=') + 1);
+        if (arg.startsWith("--rate=")) {
+          rate = Integer.parseInt(value);
+        } else if (arg.startsWith("--concurrency=")) {
+          concurrency = Integer.parseInt(value);
+        } else if (arg.startsWith("--duration=")) {
+          duration = Duration.ofSeconds(Long.parseLong(value));
+        } else if (arg.startsWith("--warmup=")) {
+          warmup = Duration.ofSeconds(Long.parseLong(value));
+        } else if (arg.startsWith("--tool=")) {
+          tool = value;
+        } else if (arg.startsWith("--arguments=")) {
+          arguments = new ObjectMapper().readValue(value, new TypeReference<>() {});
+        } else if (arg.startsWith("--command=")) {
+          var commandLine = new ArrayList<String>();
+          commandLine.add(value);
+          commandLine.addAll(Arrays.asList(args).subList(i + 1, args.length));
+          command = commandLine;
+          break;
+        } else {
+          throw new IllegalArgumentException("Unknown option: " + arg);
+        }
+      }
+      return new Options(rate, concurrency, duration, warmup, tool, arguments, command);
+    }
+  }
+
+  /**
+   * Results of the measured phase.
+   *
+   * @param sent requests scheduled during the measured phase
+   * @param completed responses received for them
+   * @param errors responses that were JSON-RPC errors or tool errors
+   * @param timedOut requests still unanswered after the drain timeout
+   * @param serverExited whether the server exited before the run ended
+   * @param elapsed wall-clock length of the measured phase
+   * @param options the settings of the run
+   * @param corrected latency from scheduled send time
+   * @param uncorrected latency from actual send time
+   */
+  record Report(
+      long sent,
+      long completed,
+      long errors,
+      long timedOut,
+      boolean serverExited,
+      Duration elapsed,
+      Options options,
+      HistogramSnapshot corrected,
+      HistogramSnapshot uncorrected) {
+
+    void print(PrintStream out) {
+      var seconds = elapsed.toNanos() / (double) NANOS_PER_SECOND;
+      out.printf(
+          "Target %d req/s, concurrency %d, tool %s, %.1fs measured%n",
+          options.rate(), options.concurrency(), options.tool(), seconds);
+      out.printf(
+          "Sent %d, completed %d, errors %d, timed out %d, throughput %.1f req/s%n",
+          sent, completed, errors, timedOut, completed / seconds);
+      if (serverExited) {
+        out.println("The server exited before the run ended");
+      }
+      out.printf(
+          "%-12s %10s %10s %10s %10s %10s %10s%n",
+          "Latency (us)", "mean", "p50", "p90", "p99", "p99.9", "max");
+      printRow(out, "corrected", corrected);
+      printRow(out, "uncorrected", uncorrected);
+    }
+
+    private static void printRow(PrintStream out, String label, HistogramSnapshot snapshot) {
+      out.printf(
+          "%-12s %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+          label,
+          snapshot.meanMicros(),
+          snapshot.p50Micros(),
+          snapshot.p90Micros(),
+          snapshot.p99Micros(),
+          snapshot.p999Micros(),
+          snapshot.maxMicros());
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package br.com.arquivolivre.mcpeasy4j.benchmarks;
+
+import br.com.arquivolivre.mcpeasy4j.logging.LogLevels;
+import br.com.arquivolivre.mcpeasy4j.logging.McpLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema.LoggingLevel;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link McpLogger} calls from a tool whose session keeps the default info level: debug messages
+ * and structured data that are dropped, and an info message that is built and handed to the
+ * session.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+  private McpLogger logger;
+  private int hits = 42;
+
+  @Setup
+  public void setUp(Blackhole blackhole) {
+    logger =
+        new LogLevels().loggerFor("session-1", "search", blackhole::consume, new ObjectMapper());
+  }
+
+  @Benchmark
+  public void disabledMessage() {
+    logger.debug(() -> "Found " + hits + " hits");
+  }
+
+  @Benchmark
+  public void disabledData() {
+    logger.logData(LoggingLevel.DEBUG, () -> Map.of("hits", hits));
+  }
+
+  @Benchmark
+  public void enabledMessage() {
+    logger.info(() -> "Found " + hits + " hits");
+  }
+}
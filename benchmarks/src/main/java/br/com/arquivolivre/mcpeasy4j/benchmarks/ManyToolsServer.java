@@ -0,0 +1,1518 @@
+package br.com.arquivolivre.mcpeasy4j.benchmarks;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import br.com.arquivolivre.mcpeasy4j.annotation.Property;
+import br.com.arquivolivre.mcpeasy4j.annotation.Tool;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server with {@value #TOOL_COUNT} tools of varying signatures, used to measure startup scanning
+ * and schema generation on large servers. Generated; the tool bodies are irrelevant.
+ */
+@McpServer(name = "many-tools")
+public class ManyToolsServer {
+
+  /** Number of tools declared by this class. */
+  static final int TOOL_COUNT = 300;
+
+  @Tool(name = "tool_000", description = "Generated tool 0")
+  public String tool000(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_001", description = "Generated tool 1")
+  public int tool001(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_002", description = "Generated tool 2")
+  public boolean tool002(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_003", description = "Generated tool 3")
+  public Map<String, Object> tool003(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_004", description = "Generated tool 4")
+  public String tool004(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_005", description = "Generated tool 5")
+  public String tool005(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_006", description = "Generated tool 6")
+  public int tool006(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_007", description = "Generated tool 7")
+  public boolean tool007(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_008", description = "Generated tool 8")
+  public Map<String, Object> tool008(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_009", description = "Generated tool 9")
+  public String tool009(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_010", description = "Generated tool 10")
+  public String tool010(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_011", description = "Generated tool 11")
+  public int tool011(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_012", description = "Generated tool 12")
+  public boolean tool012(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_013", description = "Generated tool 13")
+  public Map<String, Object> tool013(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_014", description = "Generated tool 14")
+  public String tool014(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_015", description = "Generated tool 15")
+  public String tool015(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_016", description = "Generated tool 16")
+  public int tool016(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_017", description = "Generated tool 17")
+  public boolean tool017(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_018", description = "Generated tool 18")
+  public Map<String, Object> tool018(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_019", description = "Generated tool 19")
+  public String tool019(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_020", description = "Generated tool 20")
+  public String tool020(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_021", description = "Generated tool 21")
+  public int tool021(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_022", description = "Generated tool 22")
+  public boolean tool022(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_023", description = "Generated tool 23")
+  public Map<String, Object> tool023(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_024", description = "Generated tool 24")
+  public String tool024(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_025", description = "Generated tool 25")
+  public String tool025(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_026", description = "Generated tool 26")
+  public int tool026(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_027", description = "Generated tool 27")
+  public boolean tool027(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_028", description = "Generated tool 28")
+  public Map<String, Object> tool028(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_029", description = "Generated tool 29")
+  public String tool029(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_030", description = "Generated tool 30")
+  public String tool030(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_031", description = "Generated tool 31")
+  public int tool031(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_032", description = "Generated tool 32")
+  public boolean tool032(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_033", description = "Generated tool 33")
+  public Map<String, Object> tool033(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_034", description = "Generated tool 34")
+  public String tool034(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_035", description = "Generated tool 35")
+  public String tool035(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_036", description = "Generated tool 36")
+  public int tool036(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_037", description = "Generated tool 37")
+  public boolean tool037(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_038", description = "Generated tool 38")
+  public Map<String, Object> tool038(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_039", description = "Generated tool 39")
+  public String tool039(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_040", description = "Generated tool 40")
+  public String tool040(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_041", description = "Generated tool 41")
+  public int tool041(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_042", description = "Generated tool 42")
+  public boolean tool042(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_043", description = "Generated tool 43")
+  public Map<String, Object> tool043(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_044", description = "Generated tool 44")
+  public String tool044(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_045", description = "Generated tool 45")
+  public String tool045(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_046", description = "Generated tool 46")
+  public int tool046(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_047", description = "Generated tool 47")
+  public boolean tool047(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_048", description = "Generated tool 48")
+  public Map<String, Object> tool048(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_049", description = "Generated tool 49")
+  public String tool049(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_050", description = "Generated tool 50")
+  public String tool050(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_051", description = "Generated tool 51")
+  public int tool051(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_052", description = "Generated tool 52")
+  public boolean tool052(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_053", description = "Generated tool 53")
+  public Map<String, Object> tool053(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_054", description = "Generated tool 54")
+  public String tool054(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_055", description = "Generated tool 55")
+  public String tool055(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_056", description = "Generated tool 56")
+  public int tool056(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_057", description = "Generated tool 57")
+  public boolean tool057(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_058", description = "Generated tool 58")
+  public Map<String, Object> tool058(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_059", description = "Generated tool 59")
+  public String tool059(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_060", description = "Generated tool 60")
+  public String tool060(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_061", description = "Generated tool 61")
+  public int tool061(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_062", description = "Generated tool 62")
+  public boolean tool062(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_063", description = "Generated tool 63")
+  public Map<String, Object> tool063(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_064", description = "Generated tool 64")
+  public String tool064(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_065", description = "Generated tool 65")
+  public String tool065(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_066", description = "Generated tool 66")
+  public int tool066(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_067", description = "Generated tool 67")
+  public boolean tool067(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_068", description = "Generated tool 68")
+  public Map<String, Object> tool068(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_069", description = "Generated tool 69")
+  public String tool069(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_070", description = "Generated tool 70")
+  public String tool070(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_071", description = "Generated tool 71")
+  public int tool071(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_072", description = "Generated tool 72")
+  public boolean tool072(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_073", description = "Generated tool 73")
+  public Map<String, Object> tool073(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_074", description = "Generated tool 74")
+  public String tool074(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_075", description = "Generated tool 75")
+  public String tool075(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_076", description = "Generated tool 76")
+  public int tool076(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_077", description = "Generated tool 77")
+  public boolean tool077(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_078", description = "Generated tool 78")
+  public Map<String, Object> tool078(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_079", description = "Generated tool 79")
+  public String tool079(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_080", description = "Generated tool 80")
+  public String tool080(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_081", description = "Generated tool 81")
+  public int tool081(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_082", description = "Generated tool 82")
+  public boolean tool082(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_083", description = "Generated tool 83")
+  public Map<String, Object> tool083(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_084", description = "Generated tool 84")
+  public String tool084(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_085", description = "Generated tool 85")
+  public String tool085(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_086", description = "Generated tool 86")
+  public int tool086(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_087", description = "Generated tool 87")
+  public boolean tool087(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_088", description = "Generated tool 88")
+  public Map<String, Object> tool088(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_089", description = "Generated tool 89")
+  public String tool089(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_090", description = "Generated tool 90")
+  public String tool090(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_091", description = "Generated tool 91")
+  public int tool091(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_092", description = "Generated tool 92")
+  public boolean tool092(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_093", description = "Generated tool 93")
+  public Map<String, Object> tool093(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_094", description = "Generated tool 94")
+  public String tool094(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_095", description = "Generated tool 95")
+  public String tool095(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_096", description = "Generated tool 96")
+  public int tool096(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_097", description = "Generated tool 97")
+  public boolean tool097(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_098", description = "Generated tool 98")
+  public Map<String, Object> tool098(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_099", description = "Generated tool 99")
+  public String tool099(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_100", description = "Generated tool 100")
+  public String tool100(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_101", description = "Generated tool 101")
+  public int tool101(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_102", description = "Generated tool 102")
+  public boolean tool102(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_103", description = "Generated tool 103")
+  public Map<String, Object> tool103(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_104", description = "Generated tool 104")
+  public String tool104(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_105", description = "Generated tool 105")
+  public String tool105(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_106", description = "Generated tool 106")
+  public int tool106(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_107", description = "Generated tool 107")
+  public boolean tool107(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_108", description = "Generated tool 108")
+  public Map<String, Object> tool108(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_109", description = "Generated tool 109")
+  public String tool109(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_110", description = "Generated tool 110")
+  public String tool110(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_111", description = "Generated tool 111")
+  public int tool111(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_112", description = "Generated tool 112")
+  public boolean tool112(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_113", description = "Generated tool 113")
+  public Map<String, Object> tool113(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_114", description = "Generated tool 114")
+  public String tool114(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_115", description = "Generated tool 115")
+  public String tool115(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_116", description = "Generated tool 116")
+  public int tool116(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_117", description = "Generated tool 117")
+  public boolean tool117(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_118", description = "Generated tool 118")
+  public Map<String, Object> tool118(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_119", description = "Generated tool 119")
+  public String tool119(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_120", description = "Generated tool 120")
+  public String tool120(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_121", description = "Generated tool 121")
+  public int tool121(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_122", description = "Generated tool 122")
+  public boolean tool122(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_123", description = "Generated tool 123")
+  public Map<String, Object> tool123(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_124", description = "Generated tool 124")
+  public String tool124(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_125", description = "Generated tool 125")
+  public String tool125(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_126", description = "Generated tool 126")
+  public int tool126(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_127", description = "Generated tool 127")
+  public boolean tool127(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_128", description = "Generated tool 128")
+  public Map<String, Object> tool128(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_129", description = "Generated tool 129")
+  public String tool129(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_130", description = "Generated tool 130")
+  public String tool130(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_131", description = "Generated tool 131")
+  public int tool131(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_132", description = "Generated tool 132")
+  public boolean tool132(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_133", description = "Generated tool 133")
+  public Map<String, Object> tool133(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_134", description = "Generated tool 134")
+  public String tool134(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_135", description = "Generated tool 135")
+  public String tool135(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_136", description = "Generated tool 136")
+  public int tool136(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_137", description = "Generated tool 137")
+  public boolean tool137(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_138", description = "Generated tool 138")
+  public Map<String, Object> tool138(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_139", description = "Generated tool 139")
+  public String tool139(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_140", description = "Generated tool 140")
+  public String tool140(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_141", description = "Generated tool 141")
+  public int tool141(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_142", description = "Generated tool 142")
+  public boolean tool142(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_143", description = "Generated tool 143")
+  public Map<String, Object> tool143(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_144", description = "Generated tool 144")
+  public String tool144(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_145", description = "Generated tool 145")
+  public String tool145(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_146", description = "Generated tool 146")
+  public int tool146(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_147", description = "Generated tool 147")
+  public boolean tool147(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_148", description = "Generated tool 148")
+  public Map<String, Object> tool148(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_149", description = "Generated tool 149")
+  public String tool149(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_150", description = "Generated tool 150")
+  public String tool150(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_151", description = "Generated tool 151")
+  public int tool151(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_152", description = "Generated tool 152")
+  public boolean tool152(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_153", description = "Generated tool 153")
+  public Map<String, Object> tool153(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_154", description = "Generated tool 154")
+  public String tool154(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_155", description = "Generated tool 155")
+  public String tool155(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_156", description = "Generated tool 156")
+  public int tool156(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_157", description = "Generated tool 157")
+  public boolean tool157(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_158", description = "Generated tool 158")
+  public Map<String, Object> tool158(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_159", description = "Generated tool 159")
+  public String tool159(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_160", description = "Generated tool 160")
+  public String tool160(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_161", description = "Generated tool 161")
+  public int tool161(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_162", description = "Generated tool 162")
+  public boolean tool162(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_163", description = "Generated tool 163")
+  public Map<String, Object> tool163(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_164", description = "Generated tool 164")
+  public String tool164(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_165", description = "Generated tool 165")
+  public String tool165(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_166", description = "Generated tool 166")
+  public int tool166(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_167", description = "Generated tool 167")
+  public boolean tool167(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_168", description = "Generated tool 168")
+  public Map<String, Object> tool168(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_169", description = "Generated tool 169")
+  public String tool169(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_170", description = "Generated tool 170")
+  public String tool170(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_171", description = "Generated tool 171")
+  public int tool171(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_172", description = "Generated tool 172")
+  public boolean tool172(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_173", description = "Generated tool 173")
+  public Map<String, Object> tool173(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_174", description = "Generated tool 174")
+  public String tool174(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_175", description = "Generated tool 175")
+  public String tool175(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_176", description = "Generated tool 176")
+  public int tool176(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_177", description = "Generated tool 177")
+  public boolean tool177(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_178", description = "Generated tool 178")
+  public Map<String, Object> tool178(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_179", description = "Generated tool 179")
+  public String tool179(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_180", description = "Generated tool 180")
+  public String tool180(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_181", description = "Generated tool 181")
+  public int tool181(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_182", description = "Generated tool 182")
+  public boolean tool182(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_183", description = "Generated tool 183")
+  public Map<String, Object> tool183(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_184", description = "Generated tool 184")
+  public String tool184(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_185", description = "Generated tool 185")
+  public String tool185(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_186", description = "Generated tool 186")
+  public int tool186(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_187", description = "Generated tool 187")
+  public boolean tool187(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_188", description = "Generated tool 188")
+  public Map<String, Object> tool188(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_189", description = "Generated tool 189")
+  public String tool189(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_190", description = "Generated tool 190")
+  public String tool190(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_191", description = "Generated tool 191")
+  public int tool191(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_192", description = "Generated tool 192")
+  public boolean tool192(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_193", description = "Generated tool 193")
+  public Map<String, Object> tool193(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_194", description = "Generated tool 194")
+  public String tool194(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_195", description = "Generated tool 195")
+  public String tool195(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_196", description = "Generated tool 196")
+  public int tool196(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_197", description = "Generated tool 197")
+  public boolean tool197(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_198", description = "Generated tool 198")
+  public Map<String, Object> tool198(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_199", description = "Generated tool 199")
+  public String tool199(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_200", description = "Generated tool 200")
+  public String tool200(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_201", description = "Generated tool 201")
+  public int tool201(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_202", description = "Generated tool 202")
+  public boolean tool202(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_203", description = "Generated tool 203")
+  public Map<String, Object> tool203(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_204", description = "Generated tool 204")
+  public String tool204(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_205", description = "Generated tool 205")
+  public String tool205(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_206", description = "Generated tool 206")
+  public int tool206(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_207", description = "Generated tool 207")
+  public boolean tool207(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_208", description = "Generated tool 208")
+  public Map<String, Object> tool208(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_209", description = "Generated tool 209")
+  public String tool209(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_210", description = "Generated tool 210")
+  public String tool210(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_211", description = "Generated tool 211")
+  public int tool211(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_212", description = "Generated tool 212")
+  public boolean tool212(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_213", description = "Generated tool 213")
+  public Map<String, Object> tool213(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_214", description = "Generated tool 214")
+  public String tool214(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_215", description = "Generated tool 215")
+  public String tool215(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_216", description = "Generated tool 216")
+  public int tool216(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_217", description = "Generated tool 217")
+  public boolean tool217(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_218", description = "Generated tool 218")
+  public Map<String, Object> tool218(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_219", description = "Generated tool 219")
+  public String tool219(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_220", description = "Generated tool 220")
+  public String tool220(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_221", description = "Generated tool 221")
+  public int tool221(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_222", description = "Generated tool 222")
+  public boolean tool222(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_223", description = "Generated tool 223")
+  public Map<String, Object> tool223(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_224", description = "Generated tool 224")
+  public String tool224(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_225", description = "Generated tool 225")
+  public String tool225(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_226", description = "Generated tool 226")
+  public int tool226(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_227", description = "Generated tool 227")
+  public boolean tool227(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_228", description = "Generated tool 228")
+  public Map<String, Object> tool228(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_229", description = "Generated tool 229")
+  public String tool229(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_230", description = "Generated tool 230")
+  public String tool230(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_231", description = "Generated tool 231")
+  public int tool231(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_232", description = "Generated tool 232")
+  public boolean tool232(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_233", description = "Generated tool 233")
+  public Map<String, Object> tool233(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_234", description = "Generated tool 234")
+  public String tool234(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_235", description = "Generated tool 235")
+  public String tool235(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_236", description = "Generated tool 236")
+  public int tool236(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_237", description = "Generated tool 237")
+  public boolean tool237(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_238", description = "Generated tool 238")
+  public Map<String, Object> tool238(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_239", description = "Generated tool 239")
+  public String tool239(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_240", description = "Generated tool 240")
+  public String tool240(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_241", description = "Generated tool 241")
+  public int tool241(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_242", description = "Generated tool 242")
+  public boolean tool242(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_243", description = "Generated tool 243")
+  public Map<String, Object> tool243(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_244", description = "Generated tool 244")
+  public String tool244(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_245", description = "Generated tool 245")
+  public String tool245(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_246", description = "Generated tool 246")
+  public int tool246(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_247", description = "Generated tool 247")
+  public boolean tool247(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_248", description = "Generated tool 248")
+  public Map<String, Object> tool248(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_249", description = "Generated tool 249")
+  public String tool249(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_250", description = "Generated tool 250")
+  public String tool250(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_251", description = "Generated tool 251")
+  public int tool251(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_252", description = "Generated tool 252")
+  public boolean tool252(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_253", description = "Generated tool 253")
+  public Map<String, Object> tool253(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_254", description = "Generated tool 254")
+  public String tool254(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_255", description = "Generated tool 255")
+  public String tool255(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_256", description = "Generated tool 256")
+  public int tool256(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_257", description = "Generated tool 257")
+  public boolean tool257(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_258", description = "Generated tool 258")
+  public Map<String, Object> tool258(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_259", description = "Generated tool 259")
+  public String tool259(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_260", description = "Generated tool 260")
+  public String tool260(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_261", description = "Generated tool 261")
+  public int tool261(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_262", description = "Generated tool 262")
+  public boolean tool262(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_263", description = "Generated tool 263")
+  public Map<String, Object> tool263(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_264", description = "Generated tool 264")
+  public String tool264(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_265", description = "Generated tool 265")
+  public String tool265(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_266", description = "Generated tool 266")
+  public int tool266(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_267", description = "Generated tool 267")
+  public boolean tool267(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_268", description = "Generated tool 268")
+  public Map<String, Object> tool268(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_269", description = "Generated tool 269")
+  public String tool269(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_270", description = "Generated tool 270")
+  public String tool270(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_271", description = "Generated tool 271")
+  public int tool271(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_272", description = "Generated tool 272")
+  public boolean tool272(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_273", description = "Generated tool 273")
+  public Map<String, Object> tool273(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_274", description = "Generated tool 274")
+  public String tool274(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_275", description = "Generated tool 275")
+  public String tool275(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_276", description = "Generated tool 276")
+  public int tool276(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_277", description = "Generated tool 277")
+  public boolean tool277(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_278", description = "Generated tool 278")
+  public Map<String, Object> tool278(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_279", description = "Generated tool 279")
+  public String tool279(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_280", description = "Generated tool 280")
+  public String tool280(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_281", description = "Generated tool 281")
+  public int tool281(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_282", description = "Generated tool 282")
+  public boolean tool282(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_283", description = "Generated tool 283")
+  public Map<String, Object> tool283(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_284", description = "Generated tool 284")
+  public String tool284(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_285", description = "Generated tool 285")
+  public String tool285(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_286", description = "Generated tool 286")
+  public int tool286(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_287", description = "Generated tool 287")
+  public boolean tool287(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_288", description = "Generated tool 288")
+  public Map<String, Object> tool288(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_289", description = "Generated tool 289")
+  public String tool289(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_290", description = "Generated tool 290")
+  public String tool290(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_291", description = "Generated tool 291")
+  public int tool291(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_292", description = "Generated tool 292")
+  public boolean tool292(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_293", description = "Generated tool 293")
+  public Map<String, Object> tool293(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_294", description = "Generated tool 294")
+  public String tool294(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+
+  @Tool(name = "tool_295", description = "Generated tool 295")
+  public String tool295(@Property(name = "query", description = "Search query") String query, @Property(name = "limit", required = false) int limit) {
+    return query + limit;
+  }
+
+  @Tool(name = "tool_296", description = "Generated tool 296")
+  public int tool296(@Property(name = "a") int a, @Property(name = "b") long b, @Property(name = "scale") double scale) {
+    return (int) (a + b * scale);
+  }
+
+  @Tool(name = "tool_297", description = "Generated tool 297")
+  public boolean tool297(@Property(name = "flag") boolean flag, @Property(name = "name") String name) {
+    return flag && !name.isEmpty();
+  }
+
+  @Tool(name = "tool_298", description = "Generated tool 298")
+  public Map<String, Object> tool298(@Property(name = "data") Map<String, Object> data, @Property(name = "keys") List<String> keys) {
+    return data;
+  }
+
+  @Tool(name = "tool_299", description = "Generated tool 299")
+  public String tool299(@Property(name = "id") String id, @Property(name = "amount") Double amount, @Property(name = "note", required = false) String note, @Property(name = "count") Integer count) {
+    return id + amount + note + count;
+  }
+}
@@ -0,0 +1,83 @@
+package br.com.arquivolivre.mcpeasy4j.benchmarks;
+
+import br.com.arquivolivre.mcpeasy4j.invoker.MethodInvoker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Cost of {@link MethodInvoker#invoke} for each argument shape, including result conversion. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodInvokerBenchmark {
+
+  private MethodInvoker invoker;
+  private BenchmarkServer server;
+  private Method add;
+  private Method echo;
+  private Method countEntries;
+  private Method priceOrder;
+  private Map<String, Object> primitiveArgs;
+  private Map<String, Object> stringArgs;
+  private Map<String, Object> mapArgs;
+  private Map<String, Object> pojoArgs;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    invoker = new MethodInvoker(new ObjectMapper());
+    server = new BenchmarkServer();
+    add = BenchmarkServer.class.getMethod("add", int.class, int.class);
+    echo = BenchmarkServer.class.getMethod("echo", String.class);
+    countEntries = BenchmarkServer.class.getMethod("countEntries", Map.class);
+    priceOrder = BenchmarkServer.class.getMethod("priceOrder", BenchmarkServer.Order.class);
+
+    // Argument maps as the SDK deserializes them from JSON
+    primitiveArgs = Map.of("a", 20, "b", 22);
+    stringArgs = Map.of("message", "Hello, benchmark!");
+    mapArgs = Map.of("data", Map.of("a", 1, "b", "two", "c", List.of(3, 4)));
+    pojoArgs =
+        Map.of(
+            "order",
+            Map.of(
+                "id", "o-1",
+                "customer", "c-42",
+                "quantity", 3,
+                "price", 19.99,
+                "tags", List.of("express", "gift")));
+  }
+
+  @Benchmark
+  public Object primitiveArguments() throws MethodInvoker.InvocationException {
+    return invoker.invoke(add, server, primitiveArgs);
+  }
+
+  @Benchmark
+  public Object stringArgument() throws MethodInvoker.InvocationException {
+    return invoker.invoke(echo, server, stringArgs);
+  }
+
+  @Benchmark
+  public Object mapArgument() throws MethodInvoker.InvocationException {
+    return invoker.invoke(countEntries, server, mapArgs);
+  }
+
+  @Benchmark
+  public Object pojoArgument() throws MethodInvoker.InvocationException {
+    return invoker.invoke(priceOrder, server, pojoArgs);
+  }
+}
@@ -0,0 +1,84 @@
+package br.com.arquivolivre.mcpeasy4j.benchmarks;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.Tool;
+import br.com.arquivolivre.mcpeasy4j.model.ToolDefinition;
+import br.com.arquivolivre.mcpeasy4j.scanner.AnnotationScanner;
+import br.com.arquivolivre.mcpeasy4j.scanner.ComponentScan;
+import br.com.arquivolivre.mcpeasy4j.schema.SchemaGenerator;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Startup cost of discovering and describing a server with {@value ManyToolsServer#TOOL_COUNT}
+ * tools, and {@value #COMPONENT_COUNT} such classes one after the other or in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScanningBenchmark {
+
+  /** Number of component instances scanned by the multi-class benchmarks. */
+  static final int COMPONENT_COUNT = 16;
+
+  private ManyToolsServer server;
+  private AnnotationScanner scanner;
+  private SchemaGenerator schemaGenerator;
+  private Method[] toolMethods;
+  private List<Object> components;
+
+  @Setup
+  public void setUp() {
+    server = new ManyToolsServer();
+    scanner = new AnnotationScanner();
+    schemaGenerator = new SchemaGenerator();
+    toolMethods =
+        Arrays.stream(ManyToolsServer.class.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(Tool.class))
+            .toArray(Method[]::new);
+    components = new ArrayList<>();
+    for (var i = 0; i < COMPONENT_COUNT; i++) {
+      components.add(new ManyToolsServer());
+    }
+  }
+
+  @Benchmark
+  public List<ToolDefinition> scanTools() {
+    return scanner.scanTools(server);
+  }
+
+  @Benchmark
+  public void scanComponentsSequentially(Blackhole blackhole) {
+    for (var component : components) {
+      blackhole.consume(scanner.scan(component));
+    }
+  }
+
+  @Benchmark
+  public List<ComponentScan> scanComponentsInParallel() {
+    return scanner.scanAll(components);
+  }
+
+  @Benchmark
+  public void generateSchemas(Blackhole blackhole) {
+    for (var method : toolMethods) {
+      blackhole.consume(schemaGenerator.generateSchema(method));
+    }
+  }
+}
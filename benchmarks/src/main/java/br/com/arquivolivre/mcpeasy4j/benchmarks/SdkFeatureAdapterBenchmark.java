@@ -0,0 +1,110 @@
+package br.com.arquivolivre.mcpeasy4j.benchmarks;
+
+import br.com.arquivolivre.mcpeasy4j.adapter.SdkFeatureAdapter;
+import br.com.arquivolivre.mcpeasy4j.scanner.AnnotationScanner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncPromptSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncResourceSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.GetPromptRequest;
+import io.modelcontextprotocol.spec.McpSchema.GetPromptResult;
+import io.modelcontextprotocol.spec.McpSchema.ReadResourceRequest;
+import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end cost of the handler lambdas registered by {@link SdkFeatureAdapter}: admission,
+ * metrics, invocation and conversion to the protocol result. The large-result cases measure the
+ * adapter's result-to-text conversion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SdkFeatureAdapterBenchmark {
+
+  private SyncToolSpecification echo;
+  private SyncToolSpecification priceOrder;
+  private SyncToolSpecification largeResult;
+  private SyncResourceSpecification largeResource;
+  private SyncPromptSpecification review;
+  private CallToolRequest echoRequest;
+  private CallToolRequest priceOrderRequest;
+  private CallToolRequest largeResultRequest;
+  private ReadResourceRequest largeResourceRequest;
+  private GetPromptRequest reviewRequest;
+
+  @Setup
+  public void setUp() {
+    var instance = new BenchmarkServer();
+    var scanner = new AnnotationScanner();
+    var server = new CapturingServer();
+    var adapter = new SdkFeatureAdapter(new ObjectMapper());
+    adapter.registerTools(server, scanner.scanTools(instance));
+    adapter.registerResources(server, scanner.scanResources(instance));
+    adapter.registerPrompts(server, scanner.scanPrompts(instance));
+
+    echo = server.tools.get("echo");
+    priceOrder = server.tools.get("priceOrder");
+    largeResult = server.tools.get("largeResult");
+    largeResource = server.resources.get("bench://large");
+    review = server.prompts.get("review");
+
+    echoRequest = new CallToolRequest("echo", Map.of("message", "Hello, benchmark!"));
+    priceOrderRequest =
+        new CallToolRequest(
+            "priceOrder",
+            Map.of(
+                "order",
+                Map.of(
+                    "id", "o-1",
+                    "customer", "c-42",
+                    "quantity", 3,
+                    "price", 19.99,
+                    "tags", List.of("express", "gift"))));
+    largeResultRequest = new CallToolRequest("largeResult", Map.of());
+    largeResourceRequest = new ReadResourceRequest("bench://large");
+    reviewRequest = new GetPromptRequest("review", Map.of("language", "Java"));
+  }
+
+  @Benchmark
+  public CallToolResult toolWithStringResult() {
+    return echo.callHandler().apply(null, echoRequest);
+  }
+
+  @Benchmark
+  public CallToolResult toolWithPojoResult() {
+    return priceOrder.callHandler().apply(null, priceOrderRequest);
+  }
+
+  @Benchmark
+  public CallToolResult toolWithLargeResult() {
+    return largeResult.callHandler().apply(null, largeResultRequest);
+  }
+
+  @Benchmark
+  public ReadResourceResult resourceWithLargeResult() {
+    return largeResource.readHandler().apply(null, largeResourceRequest);
+  }
+
+  @Benchmark
+  public GetPromptResult prompt() {
+    return review.promptHandler().apply(null, reviewRequest);
+  }
+}
@@ -169,8 +169,8 @@ public class ExampleMcpServer {
    * Main method to start the MCP server. This demonstrates how to bootstrap the server using the
    * framework.
    */
-  public static void main(String[] args) {
+  public static void main(String[] args) throws InterruptedException {
     System.err.println("Starting Example MCP Server...");
-    McpServerBootstrap.start(ExampleMcpServer.class);
+    McpServerBootstrap.start(ExampleMcpServer.class).awaitTermination();
   }
 }
@@ -1,16 +1,59 @@
 package br.com.arquivolivre.mcpeasy4j;
 
 import br.com.arquivolivre.mcpeasy4j.adapter.SdkFeatureAdapter;
+import br.com.arquivolivre.mcpeasy4j.annotation.Completion;
 import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import br.com.arquivolivre.mcpeasy4j.annotation.PromptArgument;
+import br.com.arquivolivre.mcpeasy4j.annotation.TransportType;
+import br.com.arquivolivre.mcpeasy4j.audit.AuditLog;
+import br.com.arquivolivre.mcpeasy4j.bulkhead.BulkheadGroup;
+import br.com.arquivolivre.mcpeasy4j.bulkhead.SharedBulkheads;
+import br.com.arquivolivre.mcpeasy4j.capture.CaptureWriter;
+import br.com.arquivolivre.mcpeasy4j.completion.Completer;
+import br.com.arquivolivre.mcpeasy4j.gateway.DownstreamPool;
+import br.com.arquivolivre.mcpeasy4j.invoker.MethodInvoker;
+import br.com.arquivolivre.mcpeasy4j.lifecycle.RequestTracker;
+import br.com.arquivolivre.mcpeasy4j.logging.LogLevels;
+import br.com.arquivolivre.mcpeasy4j.metrics.MetricsRegistry;
 import br.com.arquivolivre.mcpeasy4j.model.PromptDefinition;
 import br.com.arquivolivre.mcpeasy4j.model.ResourceDefinition;
+import br.com.arquivolivre.mcpeasy4j.model.ToolDefinition;
+import br.com.arquivolivre.mcpeasy4j.registry.FeatureRegistry;
 import br.com.arquivolivre.mcpeasy4j.scanner.AnnotationScanner;
+import br.com.arquivolivre.mcpeasy4j.scanner.ClasspathScanner;
+import br.com.arquivolivre.mcpeasy4j.scanner.ComponentScan;
+import br.com.arquivolivre.mcpeasy4j.spill.SpillStore;
+import br.com.arquivolivre.mcpeasy4j.tracing.OtlpJsonFileSpanExporter;
+import br.com.arquivolivre.mcpeasy4j.tracing.Sampler;
+import br.com.arquivolivre.mcpeasy4j.tracing.SpanExporter;
+import br.com.arquivolivre.mcpeasy4j.tracing.Tracer;
+import br.com.arquivolivre.mcpeasy4j.transport.BufferedStdioServerTransportProvider;
+import br.com.arquivolivre.mcpeasy4j.transport.CapturingTransportProvider;
+import br.com.arquivolivre.mcpeasy4j.transport.CloseNotifyingTransportProvider;
+import br.com.arquivolivre.mcpeasy4j.transport.LogLevelTransportProvider;
+import br.com.arquivolivre.mcpeasy4j.transport.PaginatingTransportProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncCompletionSpecification;
 import io.modelcontextprotocol.server.McpSyncServer;
 import io.modelcontextprotocol.server.transport.StdioServerTransportProvider;
 import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Bootstrap class for initializing and starting MCP servers. Handles server lifecycle management
@@ -18,144 +61,761 @@ import java.util.List;
  */
 public class McpServerBootstrap {
 
+  /** Time the shutdown hook gives in-flight invocations to finish before closing the transport. */
+  static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+  /**
+   * JSON codec shared by every server started in this JVM. ObjectMapper is thread-safe once
+   * configured, and sharing it lets servers reuse each other's cached serializers.
+   */
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /**
+   * Method invoker shared by every server started in this JVM, so that servers on separate
+   * endpoints reuse each other's compiled invocation plans.
+   */
+  private static final MethodInvoker METHOD_INVOKER = new MethodInvoker(OBJECT_MAPPER);
+
+  private static final System.Logger LOGGER = System.getLogger(McpServerBootstrap.class.getName());
+
   /**
    * Starts an MCP server from the specified server class. Validates that the class has @McpServer
-   * annotation and creates an instance.
+   * annotation and creates an instance. Returns as soon as the server is accepting requests; call
+   * {@link ServerHandle#awaitTermination()} to keep the calling thread alive.
    *
    * @param serverClass the class annotated with @McpServer
+   * @return a handle to the running server
    * @throws IllegalArgumentException if the class is not annotated with @McpServer
    * @throws RuntimeException if the server instance cannot be created
    */
-  public static void start(Class<?> serverClass) {
+  public static ServerHandle start(Class<?> serverClass) {
+    return start(serverClass, null);
+  }
+
+  /**
+   * Starts an MCP server from the specified server class on the given transport instead of the one
+   * selected by @McpServer. Lets one JVM expose several servers, each on its own endpoint, while
+   * they share the JSON codec, schema cache, method invoker and bulkhead groups of the same name.
+   *
+   * @param serverClass the class annotated with @McpServer
+   * @param transportProvider the transport to serve on, or null to use the annotated transport
+   * @return a handle to the running server
+   * @throws IllegalArgumentException if the class or a mounted class is not annotated
+   *     with @McpServer
+   * @throws RuntimeException if the server instance cannot be created
+   */
+  public static ServerHandle start(
+      Class<?> serverClass, McpServerTransportProvider transportProvider) {
     // Validate that class has @McpServer annotation
+    var annotation = annotationOf(serverClass);
+
+    // Create bootstrap instance and initialize server
+    var bootstrap = new McpServerBootstrap(instantiate(serverClass), annotation, transportProvider);
+    return bootstrap.initialize();
+  }
+
+  /**
+   * Returns the @McpServer annotation of a server class.
+   *
+   * @param serverClass the server class
+   * @return the annotation
+   * @throws IllegalArgumentException if the class is not annotated with @McpServer
+   */
+  private static McpServer annotationOf(Class<?> serverClass) {
     var annotation = serverClass.getAnnotation(McpServer.class);
     if (annotation == null) {
       throw new IllegalArgumentException(
           "Class " + serverClass.getName() + " must be annotated with @McpServer");
     }
+    return annotation;
+  }
 
-    // Create instance of server class
-    Object serverInstance;
+  /**
+   * Creates an instance of a server class through its no-argument constructor.
+   *
+   * @param serverClass the server class
+   * @return the server instance
+   * @throws IllegalStateException if the instance cannot be created
+   */
+  private static Object instantiate(Class<?> serverClass) {
     try {
-      serverInstance = serverClass.getDeclaredConstructor().newInstance();
+      return serverClass.getDeclaredConstructor().newInstance();
     } catch (ReflectiveOperationException e) {
       throw new IllegalStateException(
           "Failed to create instance of " + serverClass.getName() + ": " + e.getMessage(), e);
     }
-
-    // Create bootstrap instance and initialize server
-    var bootstrap = new McpServerBootstrap(serverInstance, annotation);
-    bootstrap.initialize();
   }
 
   private final Object serverInstance;
   private final McpServer annotation;
+  private final McpServerTransportProvider transportProvider;
+  // Shared by every adapter of the server, so each method's argument binding is resolved once
+  private final RequestTracker requestTracker = new RequestTracker();
+  private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+  private final LogLevels logLevels = new LogLevels();
+  private Tracer tracer = Tracer.NOOP;
+  private Map<String, BulkheadGroup> bulkheads = Map.of();
+  private List<DownstreamPool> downstreams = List.of();
+  private AuditLog auditLog = AuditLog.NOOP;
+  private CaptureWriter capture;
+  private SpillStore spillStore;
+  private final Map<Completer, Long> completionRefreshes = new LinkedHashMap<>();
+  private ScheduledExecutorService completionRefresher;
+  private FeatureRegistry<McpSchema.Tool> toolRegistry;
+  private FeatureRegistry<McpSchema.Resource> resourceRegistry;
   private McpSyncServer sdkServer;
-  private StdioServerTransportProvider transport;
+  private CloseNotifyingTransportProvider transport;
+  private ServerHandle handle;
+  private Thread shutdownHook;
+
+  private List<Mounted> mounted;
+  private List<ComponentScan> scans;
 
   private McpServerBootstrap(Object serverInstance, McpServer annotation) {
+    this(serverInstance, annotation, null);
+  }
+
+  private McpServerBootstrap(
+      Object serverInstance, McpServer annotation, McpServerTransportProvider transportProvider) {
     this.serverInstance = serverInstance;
     this.annotation = annotation;
+    this.transportProvider = transportProvider;
   }
 
-  private void initialize() {
+  private ServerHandle initialize() {
+    // Create mounted servers and scan them before anything needs closing
+    scan();
+
+    // Warm up read-only tools before the transport exists, so no request reaches them cold
+    warmUp();
+
     // Create SDK server instance
     createSdkServer();
 
-    // Scan and register annotated methods
-    scanAndRegister();
+    // Register annotated methods, closing the transport if any of them is invalid
+    var registered = false;
+    try {
+      tracer = createTracer();
+      bulkheads = createBulkheads();
+      auditLog = AuditLog.of(annotation.audit(), OBJECT_MAPPER);
+      spillStore = createSpillStore();
+      completionRefresher = createCompletionRefresher();
+      downstreams = launchDownstreams();
+      scanAndRegister();
+      registered = true;
+    } finally {
+      if (!registered) {
+        shutdown();
+        releaseResources();
+      }
+    }
 
     // Start the server
-    startServer();
+    return startServer();
   }
 
   /**
    * Creates the SDK server instance with server info from @McpServer annotation. Creates the
-   * transport first, then builds the server with it.
+   * transport selected by the annotation first, then builds the server with it. List requests are
+   * answered from paginated registries once {@link #scanAndRegister()} has published them, and
+   * other requests are captured first when a capture file is set. Completions are loaded first,
+   * since the SDK only accepts them when the server is built.
+   *
+   * @throws UncheckedIOException if the capture file cannot be created
+   * @throws IllegalStateException if a completion provider cannot be created
    */
   private void createSdkServer() {
-    // Create transport with SDK's McpJsonMapper
-    transport = new StdioServerTransportProvider(McpJsonMapper.getDefault());
+    final var completions = createCompletions();
+
+    toolRegistry =
+        new FeatureRegistry<>(
+            McpSchema.Tool::name,
+            McpSchema.ListToolsResult::new,
+            OBJECT_MAPPER,
+            annotation.listPageSize());
+    resourceRegistry =
+        new FeatureRegistry<>(
+            McpSchema.Resource::uri,
+            McpSchema.ListResourcesResult::new,
+            OBJECT_MAPPER,
+            annotation.listPageSize());
 
-    // Build SDK server with transport
+    // Create the selected transport, tracking log levels and observing when its session closes
+    var delegate =
+        transportProvider != null ? transportProvider : createTransport(annotation.transport());
+    if (!annotation.captureFile().isEmpty()) {
+      capture = createCapture();
+      delegate = new CapturingTransportProvider(delegate, capture, OBJECT_MAPPER);
+    }
+    transport =
+        new CloseNotifyingTransportProvider(
+            new PaginatingTransportProvider(
+                new LogLevelTransportProvider(delegate, logLevels, OBJECT_MAPPER),
+                toolRegistry,
+                resourceRegistry));
+
+    // Build SDK server with transport, offering completions if any argument has them
+    var capabilities =
+        McpSchema.ServerCapabilities.builder()
+            .tools(true)
+            .resources(annotation.enableResources(), true)
+            .prompts(annotation.enablePrompts());
+    if (!completions.isEmpty()) {
+      capabilities.completions();
+    }
     sdkServer =
         io.modelcontextprotocol.server.McpServer.sync(transport)
             .serverInfo(annotation.name(), annotation.version())
-            .capabilities(
-                McpSchema.ServerCapabilities.builder()
-                    .tools(true)
-                    .resources(annotation.enableResources(), true)
-                    .prompts(annotation.enablePrompts())
-                    .build())
+            .capabilities(capabilities.build())
+            .completions(completions)
             .build();
   }
 
   /**
-   * Scans the server instance for annotated methods and registers them with the SDK server. Creates
-   * AnnotationScanner, scans for tools, resources, and prompts, and uses SdkFeatureAdapter to
-   * register them with the SDK.
+   * Creates a completer for every prompt argument annotated with @Completion, in the server and
+   * every mounted server and component with prompts enabled, and loads its candidates.
+   *
+   * @return the completion specifications, one per prompt with completable arguments
+   * @throws IllegalStateException if a completion provider cannot be created
+   */
+  private List<SyncCompletionSpecification> createCompletions() {
+    var completions = new ArrayList<SyncCompletionSpecification>();
+    var scans = scan().iterator();
+    for (var server : mounted()) {
+      var enabled = annotation.enablePrompts() && server.annotation().enablePrompts();
+      for (var i = 0; i <= server.components().size(); i++) {
+        var scan = scans.next();
+        if (!enabled) {
+          continue;
+        }
+        for (var prompt : scan.prompts()) {
+          var completers = completersOf(prompt.method());
+          if (!completers.isEmpty()) {
+            completions.add(
+                SdkFeatureAdapter.completionOf(server.qualify(prompt.name()), completers));
+          }
+        }
+      }
+    }
+    return completions;
+  }
+
+  /**
+   * Creates and loads the completers of the @Completion arguments of a prompt method, remembering
+   * the ones to refresh.
+   *
+   * @param method the prompt method
+   * @return the completers by argument name
+   * @throws IllegalStateException if a completion provider cannot be created
+   */
+  private Map<String, Completer> completersOf(Method method) {
+    var completers = new LinkedHashMap<String, Completer>();
+    for (var parameter : method.getParameters()) {
+      var completion = parameter.getAnnotation(Completion.class);
+      var argument = parameter.getAnnotation(PromptArgument.class);
+      if (completion == null || argument == null) {
+        continue;
+      }
+      var completer = Completer.of(completion.value());
+      completer.refresh();
+      completers.put(argument.name().isEmpty() ? parameter.getName() : argument.name(), completer);
+      if (completion.refreshSeconds() > 0) {
+        completionRefreshes.put(completer, completion.refreshSeconds());
+      }
+    }
+    return completers;
+  }
+
+  /**
+   * Schedules the background refreshes of the completers that asked for them.
+   *
+   * @return the refresh scheduler, or null if no completer is refreshed
+   */
+  private ScheduledExecutorService createCompletionRefresher() {
+    if (completionRefreshes.isEmpty()) {
+      return null;
+    }
+    var refresher =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("mcp-completion-refresher").daemon().factory());
+    completionRefreshes.forEach(
+        (completer, seconds) ->
+            refresher.scheduleWithFixedDelay(
+                completer::refresh, seconds, seconds, TimeUnit.SECONDS));
+    return refresher;
+  }
+
+  /**
+   * Creates the capture file set by @McpServer.
+   *
+   * @return the capture writer
+   * @throws UncheckedIOException if the file cannot be created
+   */
+  private CaptureWriter createCapture() {
+    try {
+      return new CaptureWriter(Path.of(annotation.captureFile()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Failed to create capture file " + annotation.captureFile() + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Creates the spill store set by @McpServer.
+   *
+   * @return the spill store, or null if spilling is disabled
+   * @throws IllegalArgumentException if spilling is enabled without resources
+   * @throws UncheckedIOException if the spill directory cannot be created
+   */
+  private SpillStore createSpillStore() {
+    var spill = annotation.spill();
+    if (spill.thresholdBytes() == 0) {
+      return null;
+    }
+    if (!annotation.enableResources()) {
+      throw new IllegalArgumentException(
+          "Spilling results requires resources to be enabled on " + annotation.name());
+    }
+    try {
+      return new SpillStore(spill);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Failed to create spill directory " + spill.directory() + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Creates the transport provider for the given transport type.
+   *
+   * @param type the transport type from @McpServer
+   * @return the transport provider
+   */
+  private McpServerTransportProvider createTransport(TransportType type) {
+    return switch (type) {
+      case STDIO -> new StdioServerTransportProvider(McpJsonMapper.getDefault());
+      case BUFFERED_STDIO -> new BufferedStdioServerTransportProvider(OBJECT_MAPPER);
+    };
+  }
+
+  /**
+   * Scans the server instance, every mounted server and their components for annotated methods on
+   * first use. All classes are scanned in parallel by one AnnotationScanner.
+   *
+   * @return the scans, each server followed by its components, in mount order
+   */
+  private List<ComponentScan> scan() {
+    if (scans == null) {
+      var instances = new ArrayList<>();
+      for (var server : mounted()) {
+        instances.add(server.instance());
+        instances.addAll(server.components());
+      }
+      scans = new AnnotationScanner().scanAll(instances);
+    }
+    return scans;
+  }
+
+  /**
+   * Calls the read-only tools of every server and component {@code warmupIterations} times, through
+   * an adapter of their own so that the calls are not counted in the server's metrics. The adapter
+   * shares the server's method invoker, so the argument bindings resolved here serve later calls.
+   *
+   * @throws IllegalArgumentException if a tool's class has an invalid scope
+   */
+  private void warmUp() {
+    var iterations = annotation.warmupIterations();
+    if (iterations <= 0) {
+      return;
+    }
+    var tools = new ArrayList<ToolDefinition>();
+    for (var scan : scan()) {
+      tools.addAll(scan.tools());
+    }
+    var start = System.nanoTime();
+    var calls =
+        SdkFeatureAdapter.builder(OBJECT_MAPPER)
+            .methodInvoker(METHOD_INVOKER)
+            .build()
+            .warmUp(tools, iterations);
+    LOGGER.log(
+        System.Logger.Level.INFO,
+        "Warmed up "
+            + annotation.name()
+            + " with "
+            + calls
+            + " tool calls in "
+            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            + " ms");
+  }
+
+  /**
+   * Scans the server instance, every mounted server and their components for annotated methods,
+   * unless {@link #scan()} already did, and registers them with the SDK server, followed by the
+   * features of the downstream servers. The definitions of a server and its components are merged
+   * and registered by one SdkFeatureAdapter per server, so each keeps its own default rate limit.
+   *
+   * @throws IllegalArgumentException if two servers define the same tool, resource or prompt
    */
   private void scanAndRegister() {
-    // Create AnnotationScanner instance
-    var scanner = new AnnotationScanner();
+    var scans = scan().iterator();
+    var owners = new HashMap<String, String>();
+
+    SdkFeatureAdapter hostAdapter = null;
+    for (var server : mounted()) {
+      var tools = new ArrayList<ToolDefinition>();
+      var resources = new ArrayList<ResourceDefinition>();
+      var prompts = new ArrayList<PromptDefinition>();
+      for (var i = 0; i <= server.components().size(); i++) {
+        var scan = scans.next();
+        var owner = scan.instance().getClass().getName();
+
+        // Collect tools, namespaced by the mount prefix
+        for (var tool : scan.tools()) {
+          var name = server.qualify(tool.name());
+          claim(owners, "tool " + name, owner);
+          tools.add(
+              new ToolDefinition(
+                  name,
+                  tool.description(),
+                  tool.inputSchema(),
+                  tool.outputSchema(),
+                  tool.method(),
+                  tool.instance()));
+        }
 
-    // Scan for tools
-    var tools = scanner.scanTools(serverInstance);
+        // Collect resources (if enabled)
+        if (annotation.enableResources() && server.annotation().enableResources()) {
+          for (var resource : scan.resources()) {
+            claim(owners, "resource " + resource.uri(), owner);
+            resources.add(resource);
+          }
+        }
 
-    // Scan for resources (if enabled)
-    List<ResourceDefinition> resources = List.of();
-    if (annotation.enableResources()) {
-      resources = scanner.scanResources(serverInstance);
+        // Collect prompts (if enabled)
+        if (annotation.enablePrompts() && server.annotation().enablePrompts()) {
+          for (var prompt : scan.prompts()) {
+            var name = server.qualify(prompt.name());
+            claim(owners, "prompt " + name, owner);
+            prompts.add(
+                new PromptDefinition(
+                    name,
+                    prompt.title(),
+                    prompt.description(),
+                    prompt.arguments(),
+                    prompt.method(),
+                    prompt.instance()));
+          }
+        }
+      }
+
+      // Register features with SDK using adapter (reuse the same ObjectMapper as transport)
+      var adapter =
+          SdkFeatureAdapter.builder(OBJECT_MAPPER)
+              .methodInvoker(METHOD_INVOKER)
+              .requestTracker(requestTracker)
+              .metricsRegistry(metricsRegistry)
+              .tracer(tracer)
+              .defaultRateLimit(server.annotation().rateLimit())
+              .bulkheads(bulkheads)
+              .auditLog(auditLog)
+              .spillStore(spillStore)
+              .logLevels(logLevels)
+              .build();
+      adapter.registerTools(sdkServer, tools);
+      adapter.registerResources(sdkServer, resources);
+      adapter.registerPrompts(sdkServer, prompts);
+      if (hostAdapter == null) {
+        hostAdapter = adapter;
+      }
+    }
+
+    // Forward the features of downstream servers to their replicas
+    for (var pool : downstreams) {
+      var owner = "downstream " + pool.name();
+      pool.tools().forEach(tool -> claim(owners, "tool " + pool.name() + "_" + tool.name(), owner));
+      pool.resources().forEach(resource -> claim(owners, "resource " + resource.uri(), owner));
+      pool.prompts()
+          .forEach(prompt -> claim(owners, "prompt " + pool.name() + "_" + prompt.name(), owner));
+      hostAdapter.registerDownstream(sdkServer, pool);
     }
 
-    // Scan for prompts (if enabled)
-    List<PromptDefinition> prompts = List.of();
-    if (annotation.enablePrompts()) {
-      prompts = scanner.scanPrompts(serverInstance);
+    // Serve spilled results (if enabled)
+    if (spillStore != null) {
+      hostAdapter.registerSpillResource(sdkServer);
     }
 
-    // Register features with SDK using adapter (reuse the same ObjectMapper as transport)
-    var adapter = new SdkFeatureAdapter(new ObjectMapper());
-    adapter.registerTools(sdkServer, tools);
-    adapter.registerResources(sdkServer, resources);
-    adapter.registerPrompts(sdkServer, prompts);
+    // Publish metrics (if enabled)
+    if (annotation.enableMetrics()) {
+      if (annotation.enableResources()) {
+        hostAdapter.registerMetricsResource(sdkServer);
+      }
+      metricsRegistry.enableJmx(serverName());
+    }
+
+    // Serve tools/list and resources/list from the registered features
+    toolRegistry.publish(sdkServer.listTools());
+    resourceRegistry.publish(sdkServer.listResources());
   }
 
   /**
-   * Starts the MCP server using SDK's StdioServerTransportProvider. The transport was already
-   * created and wired during server creation, so we just need to register shutdown hook. The server
-   * starts automatically when built.
+   * Records which server defines a feature. Features defined twice by the same server are left to
+   * the SDK, which keeps the last one, as it always has.
+   *
+   * @param owners the defining server by feature
+   * @param feature the feature kind and name
+   * @param server the server defining it
+   * @throws IllegalArgumentException if another server already defines the feature
+   */
+  private static void claim(Map<String, String> owners, String feature, String server) {
+    var owner = owners.putIfAbsent(feature, server);
+    if (owner != null && !owner.equals(server)) {
+      throw new IllegalArgumentException(
+          "Both "
+              + owner
+              + " and "
+              + server
+              + " define "
+              + feature
+              + "; mount or name one of them differently");
+    }
+  }
+
+  /**
+   * Starts the downstream servers declared in @McpServer and connects to their replicas.
+   *
+   * @return the connection pools, in declaration order
+   * @throws IllegalArgumentException if two downstream servers share a name
+   * @throws IllegalStateException if a downstream server cannot be started
+   */
+  private List<DownstreamPool> launchDownstreams() {
+    var pools = new LinkedHashMap<String, DownstreamPool>();
+    var launched = false;
+    try {
+      for (var downstream : annotation.downstreams()) {
+        if (pools.containsKey(downstream.name())) {
+          throw new IllegalArgumentException("Duplicate downstream: " + downstream.name());
+        }
+        pools.put(downstream.name(), DownstreamPool.launch(downstream));
+      }
+      launched = true;
+    } finally {
+      if (!launched) {
+        pools.values().forEach(DownstreamPool::close);
+      }
+    }
+    return List.copyOf(pools.values());
+  }
+
+  /**
+   * Returns the server instance followed by the servers mounted through {@link McpServer#mounts()},
+   * creating the mounted instances on first use.
+   *
+   * @return the hosted servers
+   * @throws IllegalArgumentException if a mounted class is not annotated with @McpServer or mounts
+   *     servers itself
+   */
+  private List<Mounted> mounted() {
+    if (mounted == null) {
+      var servers = new ArrayList<Mounted>();
+      servers.add(
+          new Mounted(serverInstance, annotation, "", components(serverInstance, annotation)));
+      for (var mount : annotation.mounts()) {
+        var mountedAnnotation = annotationOf(mount.server());
+        if (mountedAnnotation.mounts().length > 0) {
+          throw new IllegalArgumentException(
+              "Mounted server " + mount.server().getName() + " cannot mount other servers");
+        }
+        var instance = instantiate(mount.server());
+        servers.add(
+            new Mounted(
+                instance,
+                mountedAnnotation,
+                mount.prefix(),
+                components(instance, mountedAnnotation)));
+      }
+      mounted = List.copyOf(servers);
+    }
+    return mounted;
+  }
+
+  /**
+   * Creates the components of a server: the classes it lists and those found in the packages it
+   * scans, instantiated in parallel.
+   *
+   * @param instance the server instance
+   * @param server the server's @McpServer annotation
+   * @return the component instances, listed classes first and found classes by name
+   * @throws IllegalStateException if a component cannot be created
+   */
+  private static List<Object> components(Object instance, McpServer server) {
+    var classes = new LinkedHashSet<Class<?>>(List.of(server.components()));
+    if (server.scanPackages().length > 0) {
+      classes.addAll(
+          new ClasspathScanner(instance.getClass().getClassLoader())
+              .findComponents(List.of(server.scanPackages())));
+    }
+    return classes.parallelStream().map(McpServerBootstrap::instantiate).toList();
+  }
+
+  /**
+   * Creates the tracer configured by @McpServer. Tracing is off unless a sample rate is set; spans
+   * go to the first {@link SpanExporter} found through {@link ServiceLoader}, or to the bundled
+   * OTLP/JSON file exporter.
+   *
+   * @return the tracer
    */
-  private void startServer() {
-    // Register shutdown hook for graceful shutdown
+  private Tracer createTracer() {
+    if (annotation.traceSampleRate() <= 0) {
+      return Tracer.NOOP;
+    }
+    var exporter =
+        ServiceLoader.load(SpanExporter.class)
+            .findFirst()
+            .orElseGet(
+                () -> new OtlpJsonFileSpanExporter(Path.of(annotation.traceFile()), serverName()));
+    return new Tracer(Sampler.parentBasedRatio(annotation.traceSampleRate()), exporter);
+  }
+
+  /**
+   * Acquires the bulkhead groups declared in @McpServer and by the mounted servers, and adds them
+   * to the metrics registry. Groups are shared, so any hosted server's tools can join any of them,
+   * and servers started on their own endpoints that declare the same group get the same executor.
+   *
+   * @return the bulkhead groups by name
+   * @throws IllegalArgumentException if two groups share a name, a group is misconfigured, or a
+   *     running server declares a group with other settings
+   */
+  private Map<String, BulkheadGroup> createBulkheads() {
+    var groups = new LinkedHashMap<String, BulkheadGroup>();
+    var created = false;
+    try {
+      for (var server : mounted()) {
+        for (var bulkhead : server.annotation().bulkheads()) {
+          if (groups.containsKey(bulkhead.name())) {
+            throw new IllegalArgumentException("Duplicate bulkhead group: " + bulkhead.name());
+          }
+          var group = SharedBulkheads.acquire(bulkhead);
+          groups.put(bulkhead.name(), group);
+          metricsRegistry.bulkhead(group);
+        }
+      }
+      created = true;
+    } finally {
+      if (!created) {
+        groups.values().forEach(SharedBulkheads::release);
+      }
+    }
+    return groups;
+  }
+
+  /**
+   * Returns the server name from @McpServer, falling back to the server class name.
+   *
+   * @return the server name
+   */
+  private String serverName() {
+    return annotation.name().isEmpty()
+        ? serverInstance.getClass().getSimpleName()
+        : annotation.name();
+  }
+
+  /**
+   * Starts the MCP server using the configured stdio transport. The transport was already created
+   * and wired during server creation, so we just need to register the shutdown hook and create the
+   * handle. The server starts automatically when built.
+   *
+   * @return the handle to the running server
+   */
+  private ServerHandle startServer() {
+    // Register the hook first, since the handle may terminate, and remove it, right away
     registerShutdownHook();
 
-    // Server is already running (started during build), just keep process alive
-    // The transport blocks in the SDK server's message loop
+    // Server is already running (started during build), the handle tracks its lifecycle
+    handle = new ServerHandle(sdkServer, requestTracker, transport.onClose(), this::terminated);
+    return handle;
+  }
+
+  /** Cleans up once the server has terminated, however it was stopped. */
+  private void terminated() {
     try {
-      Thread.sleep(Long.MAX_VALUE);
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
+      releaseResources();
+    } finally {
+      removeShutdownHook();
+    }
+  }
+
+  /**
+   * Releases the JMX registrations, tracer, bulkhead executors, downstream connections, audit log,
+   * capture file, spilled results and completion refresher created for the server.
+   */
+  private void releaseResources() {
+    if (completionRefresher != null) {
+      completionRefresher.shutdownNow();
+    }
+    metricsRegistry.disableJmx();
+    tracer.shutdown();
+    bulkheads.values().forEach(SharedBulkheads::release);
+    downstreams.forEach(DownstreamPool::close);
+    auditLog.close();
+    if (spillStore != null) {
+      spillStore.close();
+    }
+    if (capture != null) {
+      try {
+        capture.close();
+      } catch (IOException e) {
+        LOGGER.log(System.Logger.Level.WARNING, "Failed to close capture file", e);
+      }
     }
   }
 
   /**
-   * Registers a shutdown hook for graceful shutdown. Handles Ctrl+D (EOF) and other shutdown
-   * signals. Stops SDK transport, cleans up resources, and exits application.
+   * Registers a shutdown hook for graceful shutdown. Handles SIGTERM, Ctrl+C and other shutdown
+   * signals. Drains in-flight invocations, then stops the SDK transport.
    */
   private void registerShutdownHook() {
-    Runtime.getRuntime()
-        .addShutdownHook(
-            new Thread(
-                () -> {
-                  shutdown();
-                }));
+    shutdownHook = new Thread(this::shutdown, "mcp-shutdown-" + serverName());
+    Runtime.getRuntime().addShutdownHook(shutdownHook);
   }
 
-  /** Performs graceful shutdown of the server. Stops SDK transport and cleans up resources. */
+  /**
+   * Removes the shutdown hook of a server that has terminated, so starting and stopping servers in
+   * one JVM neither accumulates hooks nor keeps stopped servers reachable.
+   */
+  private void removeShutdownHook() {
+    try {
+      Runtime.getRuntime().removeShutdownHook(shutdownHook);
+    } catch (IllegalStateException e) {
+      // The JVM is already shutting down, possibly running this very hook
+      LOGGER.log(System.Logger.Level.DEBUG, "Shutdown hook not removed during JVM shutdown", e);
+    }
+  }
+
+  /**
+   * Performs graceful shutdown of the server. Drains in-flight invocations when the server was
+   * started, then stops SDK transport and cleans up resources.
+   */
   private void shutdown() {
-    if (transport != null) {
+    if (handle != null) {
+      handle.shutdown(DEFAULT_DRAIN_TIMEOUT);
+    } else if (transport != null) {
       transport.close();
     }
   }
+
+  /**
+   * A server hosted by this bootstrap: the annotated server itself or one of its mounts.
+   *
+   * @param instance the server instance
+   * @param annotation the server's @McpServer annotation
+   * @param prefix the prefix of its tool and prompt names, empty for none
+   * @param components the instances of its component classes
+   */
+  private record Mounted(
+      Object instance, McpServer annotation, String prefix, List<Object> components) {
+
+    String qualify(String name) {
+      return prefix.isEmpty() ? name : prefix + "_" + name;
+    }
+  }
 }
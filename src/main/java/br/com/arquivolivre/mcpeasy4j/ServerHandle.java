@@ -0,0 +1,143 @@
+package br.com.arquivolivre.mcpeasy4j;
+
+import br.com.arquivolivre.mcpeasy4j.lifecycle.RequestTracker;
+import io.modelcontextprotocol.server.McpSyncServer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Handle to a running MCP server returned by {@link McpServerBootstrap#start(Class)}. Lets callers
+ * wait for the server to terminate, shut it down gracefully, and inspect its request counters.
+ */
+public final class ServerHandle {
+
+  private final McpSyncServer sdkServer;
+  private final RequestTracker tracker;
+  private final Runnable onTerminated;
+  private final Instant startedAt = Instant.now();
+  private final CountDownLatch terminated = new CountDownLatch(1);
+  private final AtomicBoolean shuttingDown = new AtomicBoolean(false);
+  private final AtomicBoolean terminating = new AtomicBoolean(false);
+
+  /**
+   * Creates a new handle. The server terminates on its own when the transport closes.
+   *
+   * @param sdkServer the running SDK server
+   * @param tracker the tracker counting in-flight invocations
+   * @param transportClosed future completed when the transport session closes
+   * @param onTerminated cleanup run once when the server terminates
+   */
+  ServerHandle(
+      McpSyncServer sdkServer,
+      RequestTracker tracker,
+      CompletableFuture<Void> transportClosed,
+      Runnable onTerminated) {
+    this.sdkServer = sdkServer;
+    this.tracker = tracker;
+    this.onTerminated = onTerminated;
+    transportClosed.thenRun(
+        () -> {
+          // The client is gone, so nothing running can deliver a response anymore
+          tracker.stopAccepting();
+          terminate();
+        });
+  }
+
+  /**
+   * Blocks until the server has terminated, either through {@link #shutdown(Duration)} or because
+   * the client closed the transport.
+   *
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public void awaitTermination() throws InterruptedException {
+    terminated.await();
+  }
+
+  /**
+   * Blocks until the server has terminated or the timeout elapses.
+   *
+   * @param timeout the maximum time to wait
+   * @return true if the server terminated, false if the timeout elapsed first
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean awaitTermination(Duration timeout) throws InterruptedException {
+    return terminated.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Shuts the server down gracefully. New requests are rejected immediately, in-flight invocations
+   * are given up to the drain timeout to finish, and then the transport is closed. Calling this
+   * again while a shutdown is in progress waits for that shutdown instead.
+   *
+   * @param drainTimeout the maximum time to wait for in-flight invocations
+   * @return true if every in-flight invocation finished before the transport was closed
+   */
+  public boolean shutdown(Duration drainTimeout) {
+    if (!shuttingDown.compareAndSet(false, true)) {
+      awaitQuietly(drainTimeout);
+      return tracker.inFlight() == 0;
+    }
+
+    tracker.stopAccepting();
+    var drained = false;
+    try {
+      drained = tracker.awaitIdle(drainTimeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      try {
+        sdkServer.closeGracefully();
+      } finally {
+        terminate();
+      }
+    }
+    return drained;
+  }
+
+  /**
+   * Returns whether the server has terminated.
+   *
+   * @return true once the server is terminated
+   */
+  public boolean isTerminated() {
+    return terminated.getCount() == 0;
+  }
+
+  /**
+   * Returns a snapshot of the server's request counters.
+   *
+   * @return the current stats
+   */
+  public ServerStats stats() {
+    return new ServerStats(
+        tracker.isAccepting(),
+        tracker.inFlight(),
+        tracker.completed(),
+        tracker.failed(),
+        tracker.rejected(),
+        Duration.between(startedAt, Instant.now()));
+  }
+
+  /** Runs the cleanup action once and releases threads waiting for termination. */
+  private void terminate() {
+    if (terminating.compareAndSet(false, true)) {
+      try {
+        onTerminated.run();
+      } finally {
+        terminated.countDown();
+      }
+    }
+  }
+
+  private void awaitQuietly(Duration timeout) {
+    try {
+      awaitTermination(timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package br.com.arquivolivre.mcpeasy4j;
+
+import java.time.Duration;
+
+/**
+ * Immutable snapshot of a running server's request counters, as returned by {@link
+ * ServerHandle#stats()}.
+ *
+ * @param accepting whether the server still accepts new requests
+ * @param inFlight number of invocations currently running
+ * @param completed number of invocations that finished successfully
+ * @param failed number of invocations that finished with an error
+ * @param rejected number of invocations rejected because the server was shutting down
+ * @param uptime time elapsed since the server was started
+ */
+public record ServerStats(
+    boolean accepting, int inFlight, long completed, long failed, long rejected, Duration uptime) {}
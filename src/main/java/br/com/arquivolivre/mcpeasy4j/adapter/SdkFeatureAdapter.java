@@ -1,27 +1,84 @@
 package br.com.arquivolivre.mcpeasy4j.adapter;
 
+import br.com.arquivolivre.mcpeasy4j.annotation.CircuitBreaker;
+import br.com.arquivolivre.mcpeasy4j.annotation.RateLimit;
+import br.com.arquivolivre.mcpeasy4j.audit.AuditLog;
+import br.com.arquivolivre.mcpeasy4j.bulkhead.BulkheadGroup;
+import br.com.arquivolivre.mcpeasy4j.circuitbreaker.Circuit;
+import br.com.arquivolivre.mcpeasy4j.completion.Completer;
+import br.com.arquivolivre.mcpeasy4j.gateway.DownstreamPool;
+import br.com.arquivolivre.mcpeasy4j.invoker.InvocationObserver;
 import br.com.arquivolivre.mcpeasy4j.invoker.MethodInvoker;
+import br.com.arquivolivre.mcpeasy4j.jfr.ResultSerializationEvent;
+import br.com.arquivolivre.mcpeasy4j.jfr.ToolInvocationEvent;
+import br.com.arquivolivre.mcpeasy4j.lifecycle.RequestTracker;
+import br.com.arquivolivre.mcpeasy4j.logging.LogLevels;
+import br.com.arquivolivre.mcpeasy4j.logging.McpLogger;
+import br.com.arquivolivre.mcpeasy4j.metrics.InvocationMetrics;
+import br.com.arquivolivre.mcpeasy4j.metrics.MetricsRegistry;
 import br.com.arquivolivre.mcpeasy4j.model.PromptDefinition;
 import br.com.arquivolivre.mcpeasy4j.model.ResourceDefinition;
 import br.com.arquivolivre.mcpeasy4j.model.ToolDefinition;
+import br.com.arquivolivre.mcpeasy4j.progress.ProgressReporter;
+import br.com.arquivolivre.mcpeasy4j.progress.ThrottledProgressReporter;
+import br.com.arquivolivre.mcpeasy4j.ratelimit.RateLimiter;
+import br.com.arquivolivre.mcpeasy4j.schema.SampleArguments;
+import br.com.arquivolivre.mcpeasy4j.scope.InstanceScope;
+import br.com.arquivolivre.mcpeasy4j.spill.SpillStore;
+import br.com.arquivolivre.mcpeasy4j.spill.SpilledResult;
+import br.com.arquivolivre.mcpeasy4j.tracing.Span;
+import br.com.arquivolivre.mcpeasy4j.tracing.Tracer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncCompletionSpecification;
 import io.modelcontextprotocol.server.McpServerFeatures.SyncPromptSpecification;
 import io.modelcontextprotocol.server.McpServerFeatures.SyncResourceSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncResourceTemplateSpecification;
 import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
 import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.BlobResourceContents;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.CompleteResult;
+import io.modelcontextprotocol.spec.McpSchema.CompleteResult.CompleteCompletion;
+import io.modelcontextprotocol.spec.McpSchema.Content;
+import io.modelcontextprotocol.spec.McpSchema.GetPromptRequest;
 import io.modelcontextprotocol.spec.McpSchema.GetPromptResult;
+import io.modelcontextprotocol.spec.McpSchema.LoggingLevel;
 import io.modelcontextprotocol.spec.McpSchema.PromptMessage;
+import io.modelcontextprotocol.spec.McpSchema.ReadResourceRequest;
 import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
 import io.modelcontextprotocol.spec.McpSchema.Resource;
+import io.modelcontextprotocol.spec.McpSchema.ResourceContents;
+import io.modelcontextprotocol.spec.McpSchema.ResourceLink;
+import io.modelcontextprotocol.spec.McpSchema.ResourceTemplate;
 import io.modelcontextprotocol.spec.McpSchema.Role;
 import io.modelcontextprotocol.spec.McpSchema.TextContent;
 import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
 import io.modelcontextprotocol.spec.McpSchema.Tool;
+import io.modelcontextprotocol.spec.McpSchema.ToolAnnotations;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Adapter that bridges annotation-based definitions to SDK feature registration. Converts
@@ -29,17 +86,78 @@ import java.util.Map;
  * with the MCP server. Uses Jackson ObjectMapper for JSON operations, consistent with the MCP SDK.
  */
 public class SdkFeatureAdapter {
+
+  /** URI of the built-in metrics resource. */
+  public static final String METRICS_RESOURCE_URI = "metrics://server";
+
+  /** URI template of the built-in resource serving spilled tool results by digest. */
+  public static final String SPILL_URI_TEMPLATE = "results://spill/{digest}";
+
+  /** Maximum number of values in one completion/complete result, as set by the protocol. */
+  public static final int MAX_COMPLETION_VALUES = 100;
+
+  /** Logger name of the logging notifications reporting circuit breaker transitions. */
+  public static final String CIRCUIT_BREAKER_LOGGER = "mcp-easy4j.circuit-breaker";
+
+  private static final System.Logger LOGGER = System.getLogger(SdkFeatureAdapter.class.getName());
+  private static final String SPILL_URI_PREFIX = "results://spill/";
+
   private final MethodInvoker methodInvoker;
   private final ObjectMapper objectMapper;
+  private final RequestTracker requestTracker;
+  private final MetricsRegistry metricsRegistry;
+  private final Tracer tracer;
+  private final RateLimit defaultRateLimit;
+  private final Map<String, BulkheadGroup> bulkheads;
+  private final AuditLog auditLog;
+  private final SpillStore spillStore;
+  private final ObjectWriter spillingWriter;
+  private final LogLevels logLevels;
+
+  // Scope of every registered instance, shared by all its features; only used while registering
+  private final Map<Object, InstanceScope> scopes = new IdentityHashMap<>();
 
   /**
-   * Creates a new SdkFeatureAdapter with the specified ObjectMapper.
+   * Creates a new SdkFeatureAdapter with the specified ObjectMapper and no other services: a
+   * private request tracker and metrics registry, no tracing, rate limit, bulkheads, audit log or
+   * spill store.
    *
    * @param objectMapper the ObjectMapper to use for JSON operations
    */
   public SdkFeatureAdapter(ObjectMapper objectMapper) {
-    this.methodInvoker = new MethodInvoker(objectMapper);
-    this.objectMapper = objectMapper;
+    this(builder(objectMapper));
+  }
+
+  private SdkFeatureAdapter(Builder builder) {
+    this.methodInvoker =
+        builder.methodInvoker != null
+            ? builder.methodInvoker
+            : new MethodInvoker(builder.objectMapper);
+    this.objectMapper = builder.objectMapper;
+    this.requestTracker =
+        builder.requestTracker != null ? builder.requestTracker : new RequestTracker();
+    this.metricsRegistry =
+        builder.metricsRegistry != null ? builder.metricsRegistry : new MetricsRegistry();
+    this.tracer = builder.tracer;
+    this.defaultRateLimit = builder.defaultRateLimit;
+    this.bulkheads = Map.copyOf(builder.bulkheads);
+    this.auditLog = builder.auditLog;
+    this.spillStore = builder.spillStore;
+    // Leaves a SpillingWriter open after writing, for the result to be committed
+    this.spillingWriter =
+        builder.objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    this.logLevels = builder.logLevels != null ? builder.logLevels : new LogLevels();
+  }
+
+  /**
+   * Starts building an adapter. Every service not set on the builder has the same default as with
+   * {@link #SdkFeatureAdapter(ObjectMapper)}.
+   *
+   * @param objectMapper the ObjectMapper to use for JSON operations
+   * @return the builder
+   */
+  public static Builder builder(ObjectMapper objectMapper) {
+    return new Builder(objectMapper);
   }
 
   /**
@@ -47,6 +165,7 @@ public class SdkFeatureAdapter {
    *
    * @param server The MCP server to register tools with
    * @param tools List of tool definitions to register
+   * @throws IllegalArgumentException if a tool belongs to a bulkhead group that was not declared
    */
   public void registerTools(McpSyncServer server, List<ToolDefinition> tools) {
     for (var toolDef : tools) {
@@ -57,26 +176,80 @@ public class SdkFeatureAdapter {
               null, // title (optional)
               toolDef.description(),
               toolDef.inputSchema(),
-              null, // outputSchema (optional)
-              null, // annotations (optional)
+              toolDef.outputSchema(),
+              isReadOnly(toolDef)
+                  ? new ToolAnnotations(null, true, null, null, null, null)
+                  : null, // annotations (optional)
               null // meta (optional)
               );
 
-      // Create specification with handler
+      // Create specification with handler, rejecting calls over the rate limit or behind an open
+      // circuit up front and running the rest in the tool's bulkhead group, if any
+      var metrics = metricsRegistry.tool(toolDef.name());
+      var rateLimiter = rateLimiterFor(toolDef);
+      var circuit = circuitFor(toolDef);
+      var circuitOpenResult =
+          createErrorResult(
+              "Circuit breaker is open for tool: " + toolDef.name() + ", failing fast",
+              Map.of("error", "circuit_open"));
+      var bulkhead = bulkheadFor(toolDef);
+      var scope = scopeFor(toolDef.instance());
+      var structured = toolDef.outputSchema() != null;
       var spec =
-          new SyncToolSpecification(
-              tool,
-              (exchange, arguments) -> {
-                try {
-                  var result =
-                      methodInvoker.invoke(toolDef.method(), toolDef.instance(), arguments);
-
-                  // Convert result to CallToolResult
-                  return createCallToolResult(result);
-                } catch (MethodInvoker.InvocationException e) {
-                  throw new RuntimeException("Tool execution failed: " + e.getMessage(), e);
-                }
-              });
+          SyncToolSpecification.builder()
+              .tool(tool)
+              .callHandler(
+                  audited(
+                      toolDef.name(),
+                      (exchange, request) -> {
+                        var retryAfterNanos =
+                            rateLimiter.tryAcquire(exchange == null ? null : exchange.sessionId());
+                        if (retryAfterNanos > 0) {
+                          metrics.recordRateLimited();
+                          return createRateLimitedResult(toolDef.name(), retryAfterNanos);
+                        }
+                        if (circuit != null && !circuit.tryAcquire()) {
+                          metrics.recordShortCircuited();
+                          return circuitOpenResult;
+                        }
+                        var progressReporter = progressReporterFor(exchange, request);
+                        var logger = loggerFor(exchange, toolDef.name());
+                        Supplier<CallToolResult> call =
+                            () ->
+                                withInstance(
+                                    scope,
+                                    instance ->
+                                        handle(
+                                            "tool",
+                                            toolDef.name(),
+                                            request.arguments(),
+                                            request.meta(),
+                                            metrics,
+                                            "Tool execution failed",
+                                            observer -> {
+                                              try {
+                                                return methodInvoker.invokeRaw(
+                                                    toolDef.method(),
+                                                    instance,
+                                                    request.arguments(),
+                                                    observer,
+                                                    progressReporter,
+                                                    logger);
+                                              } finally {
+                                                // Deliver the last coalesced update first
+                                                progressReporter.flush();
+                                              }
+                                            },
+                                            // Convert result to CallToolResult
+                                            structured
+                                                ? this::createStructuredCallToolResult
+                                                : this::createCallToolResult));
+                        var guarded = circuit == null ? call : recordingOutcome(circuit, call);
+                        return bulkhead == null
+                            ? guarded.get()
+                            : callInBulkhead(bulkhead, toolDef.name(), guarded, circuit);
+                      }))
+              .build();
 
       // Register with server
       server.addTool(spec);
@@ -93,31 +266,44 @@ public class SdkFeatureAdapter {
     for (var resourceDef : resources) {
       // Create SDK Resource specification
       var resource =
-          new Resource(
-              resourceDef.uri(),
-              resourceDef.title(),
-              resourceDef.description(),
-              resourceDef.mimeType(),
-              null // annotations (optional)
-              );
+          Resource.builder()
+              .uri(resourceDef.uri())
+              // The protocol requires a name, so untitled resources are named by their URI
+              .name(resourceDef.title().isEmpty() ? resourceDef.uri() : resourceDef.title())
+              .description(resourceDef.description())
+              .mimeType(resourceDef.mimeType())
+              .build();
 
       // Create specification with handler
+      var metrics = metricsRegistry.resource(resourceDef.uri());
+      var scope = scopeFor(resourceDef.instance());
       var spec =
           new SyncResourceSpecification(
               resource,
-              (exchange, request) -> {
-                try {
-                  // Resources don't take parameters, just invoke the method
-                  var result =
-                      methodInvoker.invoke(resourceDef.method(), resourceDef.instance(), Map.of());
-
-                  // Convert result to ReadResourceResult
-                  return createReadResourceResult(
-                      result, resourceDef.uri(), resourceDef.mimeType());
-                } catch (MethodInvoker.InvocationException e) {
-                  throw new RuntimeException("Resource read failed: " + e.getMessage(), e);
-                }
-              });
+              (exchange, request) ->
+                  withInstance(
+                      scope,
+                      instance ->
+                          handle(
+                              "resource",
+                              resourceDef.uri(),
+                              Map.of(),
+                              request == null ? null : request.meta(),
+                              metrics,
+                              "Resource read failed",
+                              // Resources don't take parameters, just invoke the method
+                              observer ->
+                                  methodInvoker.invokeRaw(
+                                      resourceDef.method(),
+                                      instance,
+                                      Map.of(),
+                                      observer,
+                                      ProgressReporter.NOOP,
+                                      McpLogger.NOOP),
+                              // Convert result to ReadResourceResult
+                              result ->
+                                  createReadResourceResult(
+                                      result, resourceDef.uri(), resourceDef.mimeType()))));
 
       // Register with server
       server.addResource(spec);
@@ -151,38 +337,867 @@ public class SdkFeatureAdapter {
               );
 
       // Create specification with handler
+      var metrics = metricsRegistry.prompt(promptDef.name());
+      var scope = scopeFor(promptDef.instance());
       var spec =
           new SyncPromptSpecification(
               prompt,
-              (exchange, request) -> {
-                try {
-                  var result =
-                      methodInvoker.invoke(
-                          promptDef.method(), promptDef.instance(), request.arguments());
-
-                  // Convert result to GetPromptResult
-                  return createGetPromptResult(result, promptDef.description());
-                } catch (MethodInvoker.InvocationException e) {
-                  throw new RuntimeException("Prompt execution failed: " + e.getMessage(), e);
-                }
-              });
+              (exchange, request) ->
+                  withInstance(
+                      scope,
+                      instance ->
+                          handle(
+                              "prompt",
+                              promptDef.name(),
+                              request.arguments(),
+                              request.meta(),
+                              metrics,
+                              "Prompt execution failed",
+                              observer ->
+                                  methodInvoker.invokeRaw(
+                                      promptDef.method(),
+                                      instance,
+                                      request.arguments(),
+                                      observer,
+                                      ProgressReporter.NOOP,
+                                      McpLogger.NOOP),
+                              // Convert result to GetPromptResult
+                              result -> createGetPromptResult(result, promptDef.description()))));
 
       // Register with server
       server.addPrompt(spec);
     }
   }
 
+  /**
+   * Creates the completion specification of a prompt, answering completion/complete requests for
+   * its arguments from their completers. Unlike other features, completions can only be given to
+   * the SDK when the server is built.
+   *
+   * @param promptName the name the prompt is registered under
+   * @param completers the completers of its completable arguments, by argument name
+   * @return the completion specification
+   */
+  public static SyncCompletionSpecification completionOf(
+      String promptName, Map<String, Completer> completers) {
+    var byArgument = Map.copyOf(completers);
+    return new SyncCompletionSpecification(
+        new McpSchema.PromptReference(promptName),
+        (exchange, request) -> {
+          var completer = byArgument.get(request.argument().name());
+          if (completer == null) {
+            return new CompleteResult(new CompleteCompletion(List.of(), 0, false));
+          }
+          var matches = completer.complete(request.argument().value(), MAX_COMPLETION_VALUES);
+          return new CompleteResult(
+              new CompleteCompletion(matches.values(), matches.total(), matches.hasMore()));
+        });
+  }
+
+  /**
+   * Registers the tools, resources and prompts of a downstream server, forwarding every call to the
+   * least loaded replica of its pool. Tools and prompts are renamed to {@code <downstream>_<name>}
+   * and resource URIs are prefixed with {@code <downstream>+}, so that downstream servers exposing
+   * the same names or URIs can be federated together. Forwarded calls are tracked, measured and
+   * traced like local ones. Read requests are forwarded under the downstream URI and the contents
+   * come back under the prefixed one; other results are returned unchanged.
+   *
+   * @param server The MCP server to register the features with
+   * @param pool The connections to the downstream server
+   */
+  public void registerDownstream(McpSyncServer server, DownstreamPool pool) {
+    for (var downstreamTool : pool.tools()) {
+      var name = pool.name() + "_" + downstreamTool.name();
+      var tool =
+          new Tool(
+              name,
+              downstreamTool.title(),
+              downstreamTool.description(),
+              downstreamTool.inputSchema(),
+              downstreamTool.outputSchema(),
+              downstreamTool.annotations(),
+              downstreamTool.meta());
+      var metrics = metricsRegistry.tool(name);
+      var spec =
+          SyncToolSpecification.builder()
+              .tool(tool)
+              .callHandler(
+                  audited(
+                      name,
+                      (exchange, request) ->
+                          handle(
+                              "tool",
+                              name,
+                              request.arguments(),
+                              request.meta(),
+                              metrics,
+                              "Tool execution failed",
+                              observer ->
+                                  pool.call(
+                                      client ->
+                                          client.callTool(
+                                              new CallToolRequest(
+                                                  downstreamTool.name(),
+                                                  request.arguments(),
+                                                  request.meta()))),
+                              CallToolResult.class::cast)))
+              .build();
+      server.addTool(spec);
+    }
+
+    for (var downstreamResource : pool.resources()) {
+      var prefix = pool.name() + "+";
+      var uri = prefix + downstreamResource.uri();
+      var resource =
+          new Resource(
+              uri,
+              downstreamResource.name(),
+              downstreamResource.title(),
+              downstreamResource.description(),
+              downstreamResource.mimeType(),
+              downstreamResource.size(),
+              downstreamResource.annotations(),
+              downstreamResource.meta());
+      var metrics = metricsRegistry.resource(uri);
+      server.addResource(
+          new SyncResourceSpecification(
+              resource,
+              (exchange, request) ->
+                  handle(
+                      "resource",
+                      uri,
+                      Map.of(),
+                      request == null ? null : request.meta(),
+                      metrics,
+                      "Resource read failed",
+                      observer ->
+                          withPrefix(
+                              prefix,
+                              pool.call(
+                                  client ->
+                                      client.readResource(
+                                          new ReadResourceRequest(
+                                              downstreamResource.uri(),
+                                              request == null ? null : request.meta())))),
+                      ReadResourceResult.class::cast)));
+    }
+
+    for (var downstreamPrompt : pool.prompts()) {
+      var name = pool.name() + "_" + downstreamPrompt.name();
+      var prompt =
+          new McpSchema.Prompt(
+              name,
+              downstreamPrompt.title(),
+              downstreamPrompt.description(),
+              downstreamPrompt.arguments(),
+              downstreamPrompt.meta());
+      var metrics = metricsRegistry.prompt(name);
+      server.addPrompt(
+          new SyncPromptSpecification(
+              prompt,
+              (exchange, request) ->
+                  handle(
+                      "prompt",
+                      name,
+                      request.arguments(),
+                      request.meta(),
+                      metrics,
+                      "Prompt execution failed",
+                      observer ->
+                          pool.call(
+                              client ->
+                                  client.getPrompt(
+                                      new GetPromptRequest(
+                                          downstreamPrompt.name(),
+                                          request.arguments(),
+                                          request.meta()))),
+                      GetPromptResult.class::cast)));
+    }
+  }
+
+  /**
+   * Prefixes the URIs of the contents read from a downstream resource.
+   *
+   * @param prefix the namespace of the downstream server
+   * @param result the downstream result
+   * @return the result under the prefixed URIs
+   */
+  private static ReadResourceResult withPrefix(String prefix, ReadResourceResult result) {
+    if (result.contents() == null) {
+      return result;
+    }
+    var contents =
+        result.contents().stream()
+            .<ResourceContents>map(
+                content ->
+                    switch (content) {
+                      case TextResourceContents text ->
+                          new TextResourceContents(
+                              prefix + text.uri(), text.mimeType(), text.text(), text.meta());
+                      case BlobResourceContents blob ->
+                          new BlobResourceContents(
+                              prefix + blob.uri(), blob.mimeType(), blob.blob(), blob.meta());
+                      default -> content;
+                    })
+            .toList();
+    return new ReadResourceResult(contents, result.meta());
+  }
+
+  /**
+   * Registers the built-in {@value #METRICS_RESOURCE_URI} resource, which returns a JSON snapshot
+   * of the request counters, of every tool, resource, and prompt's metrics, and of every bulkhead
+   * group's saturation.
+   *
+   * @param server The MCP server to register the resource with
+   */
+  public void registerMetricsResource(McpSyncServer server) {
+    var resource =
+        Resource.builder()
+            .uri(METRICS_RESOURCE_URI)
+            .name("Server Metrics")
+            .description(
+                "Call counts, error counts and latency percentiles per tool, resource and prompt")
+            .mimeType("application/json")
+            .build();
+
+    var spec =
+        new SyncResourceSpecification(
+            resource,
+            (exchange, request) -> {
+              var snapshot = new LinkedHashMap<String, Object>();
+              snapshot.put(
+                  "requests",
+                  Map.of(
+                      "inFlight", requestTracker.inFlight(),
+                      "completed", requestTracker.completed(),
+                      "failed", requestTracker.failed(),
+                      "rejected", requestTracker.rejected()));
+              snapshot.putAll(metricsRegistry.snapshot());
+              snapshot.put("bulkheads", metricsRegistry.bulkheadSnapshot());
+              return createReadResourceResult(snapshot, METRICS_RESOURCE_URI, "application/json");
+            });
+
+    server.addResource(spec);
+  }
+
+  /**
+   * Registers the built-in {@value #SPILL_URI_TEMPLATE} resource template, which serves the tool
+   * results stored in the spill store until they expire or are evicted.
+   *
+   * @param server The MCP server to register the resource template with
+   * @throws IllegalStateException if this adapter has no spill store
+   */
+  public void registerSpillResource(McpSyncServer server) {
+    if (spillStore == null) {
+      throw new IllegalStateException("No spill store to serve results from");
+    }
+    var template =
+        new ResourceTemplate(
+            SPILL_URI_TEMPLATE,
+            "Spilled Results",
+            "Tool results too large to return inline, available for a limited time",
+            null, // mime type depends on the result
+            null // annotations (optional)
+            );
+
+    var spec =
+        new SyncResourceTemplateSpecification(
+            template,
+            (exchange, request) -> {
+              var uri = request.uri();
+              var spilled =
+                  uri.startsWith(SPILL_URI_PREFIX)
+                      ? spillStore.find(uri.substring(SPILL_URI_PREFIX.length()))
+                      : null;
+              if (spilled == null) {
+                throw McpError.RESOURCE_NOT_FOUND.apply(uri);
+              }
+              try {
+                var contents =
+                    new TextResourceContents(uri, spilled.mimeType(), spillStore.read(spilled));
+                return new ReadResourceResult(List.of(contents));
+              } catch (NoSuchFileException e) {
+                // Evicted after it was found
+                throw McpError.RESOURCE_NOT_FOUND.apply(uri);
+              } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read spilled result " + uri, e);
+              }
+            });
+
+    server.addResourceTemplate(spec);
+  }
+
+  /**
+   * Calls every read-only tool the given number of times with arguments generated from its input
+   * schema, through the same conversion, invocation and serialization as a tools/call request, so
+   * the JIT compiles them before real traffic arrives. Rate limits, circuit breakers, bulkheads and
+   * the audit log are left out, while the calls are recorded in this adapter's metrics and request
+   * tracker, so warmup should use an adapter of its own. A tool that fails is no longer called.
+   *
+   * @param tools the tool definitions, of which only read-only ones are called
+   * @param iterations the number of calls per tool
+   * @return the number of calls that completed
+   * @throws IllegalArgumentException if a tool's class has an invalid scope
+   */
+  public int warmUp(List<ToolDefinition> tools, int iterations) {
+    var completed = 0;
+    for (var toolDef : tools) {
+      if (!isReadOnly(toolDef)) {
+        continue;
+      }
+      var arguments = SampleArguments.of(toolDef.inputSchema());
+      var metrics = metricsRegistry.tool(toolDef.name());
+      var scope = scopeFor(toolDef.instance());
+      Function<Object, CallToolResult> converter =
+          toolDef.outputSchema() != null
+              ? this::createStructuredCallToolResult
+              : this::createCallToolResult;
+      try {
+        for (var i = 0; i < iterations; i++) {
+          withInstance(
+              scope,
+              instance ->
+                  handle(
+                      "tool",
+                      toolDef.name(),
+                      arguments,
+                      null,
+                      metrics,
+                      "Tool execution failed",
+                      observer ->
+                          methodInvoker.invokeRaw(
+                              toolDef.method(),
+                              instance,
+                              arguments,
+                              observer,
+                              ProgressReporter.NOOP,
+                              McpLogger.NOOP),
+                      converter));
+          completed++;
+        }
+      } catch (RuntimeException e) {
+        LOGGER.log(
+            System.Logger.Level.DEBUG,
+            "Stopped warming up tool " + toolDef.name() + " after it failed",
+            e);
+      }
+    }
+    return completed;
+  }
+
+  /**
+   * Runs one invocation through admission control, timing, and error handling shared by tools,
+   * resources, and prompts. Emits a {@link ToolInvocationEvent} and a {@link
+   * ResultSerializationEvent} when those JFR events are enabled, and traces the request with a span
+   * and child spans for conversion, execution, and serialization when it is sampled.
+   *
+   * @param kind the kind of feature being invoked, used in messages
+   * @param name the name of the feature being invoked
+   * @param arguments the request arguments, only read to size the JFR event
+   * @param meta the request {@code _meta} object, which may carry the client's trace context
+   * @param metrics the metrics to record the invocation in
+   * @param failureMessage prefix of the exception message when the invocation fails
+   * @param invocation invokes the annotated method and returns its raw result
+   * @param converter converts the raw result into the protocol result
+   * @param <R> the protocol result type
+   * @return the protocol result
+   */
+  private <R> R handle(
+      String kind,
+      String name,
+      Map<String, Object> arguments,
+      Map<String, Object> meta,
+      InvocationMetrics metrics,
+      String failureMessage,
+      Invocation invocation,
+      Function<Object, R> converter) {
+    admit(kind, name);
+    var span = startSpan(kind, name, meta);
+    InvocationObserver observer = span.isRecording() ? new TracingObserver(metrics, span) : metrics;
+    var event = new ToolInvocationEvent();
+    event.begin();
+    var start = System.nanoTime();
+    var success = false;
+    R converted = null;
+    String error = null;
+    try {
+      var result = invocation.invoke(observer);
+
+      var serializationEvent = new ResultSerializationEvent();
+      serializationEvent.begin();
+      var serializationStart = System.nanoTime();
+      converted = converter.apply(result);
+      var serializationNanos = System.nanoTime() - serializationStart;
+      metrics.recordSerialization(serializationNanos);
+      span.addChild("serialize result", serializationNanos);
+      serializationEvent.end();
+      if (serializationEvent.shouldCommit()) {
+        serializationEvent.kind = kind;
+        serializationEvent.name = name;
+        serializationEvent.resultType = result == null ? null : result.getClass();
+        serializationEvent.commit();
+      }
+
+      success = true;
+      return converted;
+    } catch (MethodInvoker.InvocationException e) {
+      error = e.getMessage();
+      span.recordError(e.getCause() != null ? e.getCause() : e);
+      throw new RuntimeException(failureMessage + ": " + e.getMessage(), e);
+    } catch (RuntimeException e) {
+      error = e.toString();
+      span.recordError(e);
+      throw e;
+    } finally {
+      span.end();
+      requestTracker.exit(success);
+      metrics.recordCall(System.nanoTime() - start, success);
+      event.end();
+      if (event.shouldCommit()) {
+        event.kind = kind;
+        event.name = name;
+        event.argumentBytes = jsonSize(arguments);
+        event.resultBytes = jsonSize(converted);
+        event.error = error;
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * Starts the span of one request, named and attributed after the MCP method it serves.
+   *
+   * @param kind the kind of feature being invoked
+   * @param name the name of the feature being invoked
+   * @param meta the request {@code _meta} object
+   * @return the span, or {@link Span#NOOP} if the request is not sampled
+   */
+  private Span startSpan(String kind, String name, Map<String, Object> meta) {
+    var method =
+        switch (kind) {
+          case "tool" -> "tools/call";
+          case "resource" -> "resources/read";
+          default -> "prompts/get";
+        };
+    var nameAttribute = "resource".equals(kind) ? "mcp.resource.uri" : "mcp." + kind + ".name";
+    return tracer
+        .startSpan(method + " " + name, meta)
+        .setAttribute("mcp.method.name", method)
+        .setAttribute(nameAttribute, name);
+  }
+
+  /**
+   * Returns the size of a value serialized as JSON. Only used to fill in JFR events, so it is never
+   * called when they are disabled.
+   *
+   * @param value the value to measure
+   * @return the size in bytes, or 0 for null or unserializable values
+   */
+  private long jsonSize(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    try {
+      return objectMapper.writeValueAsBytes(value).length;
+    } catch (JsonProcessingException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Returns the scope of an instance, created from its class's annotations the first time one of
+   * its features is registered and shared by all of them, so they draw from the same pool.
+   *
+   * @param instance the instance the features were scanned from
+   * @return the scope
+   * @throws IllegalArgumentException if the class's scope is invalid
+   */
+  private synchronized InstanceScope scopeFor(Object instance) {
+    return scopes.computeIfAbsent(instance, InstanceScope::of);
+  }
+
+  /**
+   * Serves one call with an instance of the given scope, handing it back once the result has been
+   * converted, since converting can still read from the instance, as lazy streams do.
+   *
+   * @param scope the scope
+   * @param call handles the call with the instance
+   * @param <R> the protocol result type
+   * @return the protocol result
+   */
+  private static <R> R withInstance(InstanceScope scope, Function<Object, R> call) {
+    var instance = scope.acquire();
+    try {
+      return call.apply(instance);
+    } finally {
+      scope.release(instance);
+    }
+  }
+
+  /**
+   * Wraps a tool call handler so that every call, whether it succeeds, fails or is rejected, is
+   * recorded in the audit log. Returns the handler unchanged when auditing is off.
+   *
+   * @param name the tool name
+   * @param handler the call handler
+   * @return the audited handler
+   */
+  private BiFunction<McpSyncServerExchange, CallToolRequest, CallToolResult> audited(
+      String name, BiFunction<McpSyncServerExchange, CallToolRequest, CallToolResult> handler) {
+    if (!auditLog.isEnabled()) {
+      return handler;
+    }
+    return (exchange, request) -> {
+      var timestamp = System.currentTimeMillis();
+      var start = System.nanoTime();
+      var outcome = AuditLog.OUTCOME_FAILED;
+      try {
+        var result = handler.apply(exchange, request);
+        outcome = AuditLog.outcomeOf(result);
+        return result;
+      } finally {
+        auditLog.record(
+            timestamp,
+            exchange == null ? null : exchange.sessionId(),
+            name,
+            request.arguments(),
+            System.nanoTime() - start,
+            outcome);
+      }
+    };
+  }
+
+  /**
+   * Registers an invocation with the request tracker, rejecting it if the server is shutting down.
+   *
+   * @param kind the kind of feature being invoked, used in the error message
+   * @param name the name of the feature being invoked
+   * @throws IllegalStateException if the server no longer accepts requests
+   */
+  private void admit(String kind, String name) {
+    if (!requestTracker.tryEnter()) {
+      throw new IllegalStateException("Server is shutting down, rejected " + kind + ": " + name);
+    }
+  }
+
+  /**
+   * Creates the progress reporter for a tool call, throttled to one notification per {@link
+   * ThrottledProgressReporter#DEFAULT_INTERVAL}. Calls without a progress token get a reporter that
+   * ignores every update.
+   *
+   * @param exchange the exchange with the calling client, null in tests
+   * @param request the tool call request
+   * @return the progress reporter
+   */
+  private static ProgressReporter progressReporterFor(
+      McpSyncServerExchange exchange, CallToolRequest request) {
+    var progressToken = request.progressToken();
+    if (exchange == null || progressToken == null) {
+      return ProgressReporter.NOOP;
+    }
+    return new ThrottledProgressReporter(progressToken, exchange::progressNotification);
+  }
+
+  /**
+   * Creates the logger injected into a tool call, named after the tool and sending to the calling
+   * session at the level that session set.
+   *
+   * @param exchange the exchange of the call, null when called outside a session
+   * @param name the tool name
+   * @return the logger, {@link McpLogger#NOOP} without a session
+   */
+  private McpLogger loggerFor(McpSyncServerExchange exchange, String name) {
+    if (exchange == null) {
+      return McpLogger.NOOP;
+    }
+    return logLevels.loggerFor(
+        exchange.sessionId(), name, exchange::loggingNotification, objectMapper);
+  }
+
+  /**
+   * Returns the rate limiter of a tool: its own {@link RateLimit} annotation if present, otherwise
+   * the server-wide default.
+   *
+   * @param toolDef the tool definition
+   * @return the rate limiter, {@link RateLimiter#UNLIMITED} if neither sets a limit
+   */
+  private RateLimiter rateLimiterFor(ToolDefinition toolDef) {
+    var rateLimit = toolDef.method().getAnnotation(RateLimit.class);
+    return RateLimiter.of(rateLimit != null ? rateLimit : defaultRateLimit);
+  }
+
+  /**
+   * Creates the circuit breaker of a tool annotated with {@link CircuitBreaker}, reporting its
+   * transitions as logging notifications.
+   *
+   * @param toolDef the tool definition
+   * @return the circuit, or null if the tool has no circuit breaker
+   */
+  private Circuit circuitFor(ToolDefinition toolDef) {
+    var circuitBreaker = toolDef.method().getAnnotation(CircuitBreaker.class);
+    if (circuitBreaker == null) {
+      return null;
+    }
+    return new Circuit(
+        circuitBreaker,
+        (from, to, reason) -> notifyCircuitTransition(toolDef.name(), from, to, reason));
+  }
+
+  /**
+   * Wraps a tool call so its duration and outcome are recorded in the tool's circuit.
+   *
+   * @param circuit the circuit
+   * @param call the tool call
+   * @return the recording call
+   */
+  private static Supplier<CallToolResult> recordingOutcome(
+      Circuit circuit, Supplier<CallToolResult> call) {
+    return () -> {
+      var start = System.nanoTime();
+      var success = false;
+      try {
+        var result = call.get();
+        success = true;
+        return result;
+      } finally {
+        circuit.onResult(System.nanoTime() - start, success);
+      }
+    };
+  }
+
+  /**
+   * Reports a circuit breaker transition in the server log and to the clients. The circuit is
+   * shared by every session, so the notification is broadcast to each session whose log level
+   * enables it rather than sent through one session's exchange.
+   *
+   * @param name the tool name
+   * @param from the previous state
+   * @param to the new state
+   * @param reason why the state changed
+   */
+  private void notifyCircuitTransition(
+      String name, Circuit.State from, Circuit.State to, String reason) {
+    var message =
+        "Circuit breaker of tool " + name + " moved from " + from + " to " + to + ": " + reason;
+    var opened = to == Circuit.State.OPEN;
+    LOGGER.log(opened ? System.Logger.Level.WARNING : System.Logger.Level.INFO, message);
+    try {
+      logLevels.broadcast(
+          opened ? LoggingLevel.WARNING : LoggingLevel.INFO, CIRCUIT_BREAKER_LOGGER, () -> message);
+    } catch (RuntimeException e) {
+      LOGGER.log(System.Logger.Level.DEBUG, "Failed to send circuit breaker notification", e);
+    }
+  }
+
+  /**
+   * Returns whether a tool was declared free of side effects through {@code @Tool(readOnly =
+   * true)}.
+   *
+   * @param toolDef the tool definition
+   * @return true if the tool is read-only
+   */
+  private static boolean isReadOnly(ToolDefinition toolDef) {
+    var toolAnnotation =
+        toolDef.method().getAnnotation(br.com.arquivolivre.mcpeasy4j.annotation.Tool.class);
+    return toolAnnotation != null && toolAnnotation.readOnly();
+  }
+
+  /**
+   * Returns the bulkhead group a tool was assigned to through {@code @Tool(group = ...)}.
+   *
+   * @param toolDef the tool definition
+   * @return the bulkhead group, or null if the tool runs on the dispatching thread
+   * @throws IllegalArgumentException if the group was not declared
+   */
+  private BulkheadGroup bulkheadFor(ToolDefinition toolDef) {
+    var toolAnnotation =
+        toolDef.method().getAnnotation(br.com.arquivolivre.mcpeasy4j.annotation.Tool.class);
+    if (toolAnnotation == null || toolAnnotation.group().isEmpty()) {
+      return null;
+    }
+    var group = bulkheads.get(toolAnnotation.group());
+    if (group == null) {
+      throw new IllegalArgumentException(
+          "Tool " + toolDef.name() + " uses undeclared bulkhead group: " + toolAnnotation.group());
+    }
+    return group;
+  }
+
+  /**
+   * Runs a tool call on its bulkhead group and waits for the result. A saturated group rejects the
+   * call right away with an error result instead of making it wait for room.
+   *
+   * @param group the bulkhead group
+   * @param name the tool name
+   * @param call the tool call
+   * @param circuit the tool's circuit breaker, given back its permission if the call is rejected
+   * @return the call result, or an error result if the group is saturated
+   */
+  private CallToolResult callInBulkhead(
+      BulkheadGroup group, String name, Supplier<CallToolResult> call, Circuit circuit) {
+    Future<CallToolResult> future;
+    try {
+      future = group.submit(call::get);
+    } catch (RejectedExecutionException e) {
+      if (circuit != null) {
+        circuit.releasePermission();
+      }
+      return createErrorResult(
+          "Bulkhead " + group.getName() + " is saturated, rejected tool: " + name,
+          Map.of("error", "bulkhead_full", "group", group.getName()));
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for tool: " + name, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Tool execution failed: " + name, e.getCause());
+    }
+  }
+
+  /**
+   * Creates the error result of a call rejected by the rate limit. The retry-after hint is given in
+   * the text for the model and as structured content for the client.
+   *
+   * @param name the tool name
+   * @param retryAfterNanos the time until the call would be admitted
+   * @return CallToolResult flagged as an error
+   */
+  private CallToolResult createRateLimitedResult(String name, long retryAfterNanos) {
+    var retryAfterMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(retryAfterNanos + 999_999));
+    return createErrorResult(
+        "Rate limit exceeded for tool: " + name + ", retry after " + retryAfterMillis + " ms",
+        Map.of("error", "rate_limited", "retryAfterMs", retryAfterMillis));
+  }
+
+  /**
+   * Creates the error result of a call rejected before it was invoked.
+   *
+   * @param message the message for the model
+   * @param details the structured details for the client
+   * @return CallToolResult flagged as an error
+   */
+  private CallToolResult createErrorResult(String message, Map<String, ?> details) {
+    return CallToolResult.builder()
+        .addTextContent(message)
+        .isError(true)
+        .structuredContent(Map.copyOf(details))
+        .build();
+  }
+
   /**
    * Converts method result to CallToolResult. Handles different result types: - String: returned as
-   * text content - JsonElement: converted to JSON string - Other objects: serialized to JSON string
+   * text content - JsonElement: converted to JSON string - Stream, Iterator or Iterable other than
+   * a collection: serialized element by element into chunks of at most {@value
+   * StreamedResults#CHUNK_SIZE} characters, one text content each - Other objects: serialized to
+   * JSON string. Results larger than the spill threshold are replaced by a link to the spill
+   * resource; streamed results move to the store as soon as they pass it.
    *
    * @param result The result from method invocation
    * @return CallToolResult with the result as text content
    */
   private CallToolResult createCallToolResult(Object result) {
-    var resultText = convertResultToString(result);
-    var content = new TextContent(resultText);
-    return new CallToolResult(List.of(content), false);
+    List<Content> contents;
+    if (StreamedResults.isStreamed(result)) {
+      var drained =
+          StreamedResults.drain(
+              result, objectMapper.writer(), StreamedResults.CHUNK_SIZE, spillStore);
+      contents = drained.spilled() != null ? linkTo(drained.spilled()) : drained.chunks();
+    } else if (spillStore != null) {
+      contents = spillOrInline(result);
+    } else {
+      contents = List.of(new TextContent(convertResultToString(result)));
+    }
+    return CallToolResult.builder().content(contents).isError(false).build();
+  }
+
+  /**
+   * Returns the text content of a result, or a link to it in the spill store when it is larger than
+   * the threshold. Objects are serialized straight into the store once their text passes the
+   * threshold, so no more than the threshold is held in memory. A result that cannot be stored is
+   * returned inline, so spilling never fails a call.
+   *
+   * @param result the result of a tool that is not streamed
+   * @return the text content, or a description of the stored result and a link to it
+   */
+  private List<Content> spillOrInline(Object result) {
+    if (result == null || result instanceof String) {
+      var text = convertResultToString(result);
+      if (SpillingWriter.utf8Length(text, 0, text.length()) <= spillStore.thresholdBytes()) {
+        return List.of(new TextContent(text));
+      }
+      try {
+        return linkTo(
+            spillStore.put(
+                "text/plain",
+                out -> {
+                  var writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                  writer.write(text);
+                  writer.flush();
+                }));
+      } catch (IOException e) {
+        LOGGER.log(System.Logger.Level.WARNING, "Failed to spill result, returning it inline", e);
+        return List.of(new TextContent(text));
+      }
+    }
+    try (var writer = new SpillingWriter(spillStore, "application/json")) {
+      spillingWriter.writeValue(writer, result);
+      return writer.isSpilled() ? linkTo(writer.commit()) : List.of(new TextContent(writer.text()));
+    } catch (JsonProcessingException e) {
+      // Not serializable as JSON: fall back to its string form, as when spilling is off
+      return List.of(new TextContent(convertResultToString(result)));
+    } catch (IOException e) {
+      LOGGER.log(System.Logger.Level.WARNING, "Failed to spill result, returning it inline", e);
+      return List.of(new TextContent(convertResultToString(result)));
+    }
+  }
+
+  /**
+   * Describes a spilled result and links to it.
+   *
+   * @param spilled the stored result
+   * @return a text content describing the result and a link to its resource
+   */
+  private static List<Content> linkTo(SpilledResult spilled) {
+    var uri = SPILL_URI_PREFIX + spilled.digest();
+    var link =
+        ResourceLink.builder()
+            .name("result-" + spilled.digest().substring(0, 12))
+            .uri(uri)
+            .description("Tool result too large to return inline")
+            .mimeType(spilled.mimeType())
+            .size(spilled.size())
+            .build();
+    var summary =
+        new TextContent(
+            "Result of " + spilled.size() + " bytes stored as resource " + uri + ", read it there");
+    return List.of(summary, link);
+  }
+
+  /**
+   * Converts method result to a CallToolResult carrying it as structured content. The result is
+   * converted to a JSON tree with this adapter's ObjectMapper, so its modules apply, but never
+   * written out as a string here. The content list is left empty: the SDK renders the tree once
+   * while validating it against the output schema and reuses that text as the fallback for clients
+   * that ignore structured content. A null result is reported as an empty object. Structured
+   * results are never spilled, whatever their size: the protocol requires the structured content of
+   * a tool with an output schema to conform to it, which a resource link in its place would not.
+   *
+   * @param result The result from method invocation
+   * @return CallToolResult with the result as structured content
+   */
+  private CallToolResult createStructuredCallToolResult(Object result) {
+    var structuredContent =
+        result == null ? objectMapper.createObjectNode() : objectMapper.valueToTree(result);
+    return new CallToolResult(List.of(), false, structuredContent, null);
   }
 
   /**
@@ -215,6 +1230,29 @@ public class SdkFeatureAdapter {
     return new GetPromptResult(description, List.of(message));
   }
 
+  /** A single invocation of an annotated method. */
+  @FunctionalInterface
+  private interface Invocation {
+    Object invoke(InvocationObserver observer) throws MethodInvoker.InvocationException;
+  }
+
+  /** Records phase durations in the metrics and as child spans of a sampled request. */
+  private record TracingObserver(InvocationMetrics metrics, Span span)
+      implements InvocationObserver {
+
+    @Override
+    public void onConversion(long nanos) {
+      metrics.onConversion(nanos);
+      span.addChild("convert arguments", nanos);
+    }
+
+    @Override
+    public void onExecution(long nanos) {
+      metrics.onExecution(nanos);
+      span.addChild("execute", nanos);
+    }
+  }
+
   /**
    * Converts a result object to a string representation. Handles different types appropriately: -
    * null: empty string - String: returned as-is - JsonElement: converted to JSON string - Other:
@@ -233,6 +1271,11 @@ public class SdkFeatureAdapter {
     if (result instanceof JsonNode jsonNode) {
       return jsonNode.toString();
     }
+    if (StreamedResults.isStreamed(result)) {
+      // Resources and prompts hold one text, so the elements go into a single array
+      var chunks = StreamedResults.chunk(result, objectMapper.writer(), Integer.MAX_VALUE);
+      return ((TextContent) chunks.get(0)).text();
+    }
     // For other objects, serialize to JSON
     try {
       return objectMapper.writeValueAsString(result);
@@ -240,4 +1283,135 @@ public class SdkFeatureAdapter {
       return result.toString();
     }
   }
+
+  /** Builder of a {@link SdkFeatureAdapter} and the server services it reports to. */
+  public static final class Builder {
+    private final ObjectMapper objectMapper;
+    private MethodInvoker methodInvoker;
+    private RequestTracker requestTracker;
+    private MetricsRegistry metricsRegistry;
+    private Tracer tracer = Tracer.NOOP;
+    private RateLimit defaultRateLimit;
+    private Map<String, BulkheadGroup> bulkheads = Map.of();
+    private AuditLog auditLog = AuditLog.NOOP;
+    private SpillStore spillStore;
+    private LogLevels logLevels;
+
+    private Builder(ObjectMapper objectMapper) {
+      this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Invokes the annotated methods with the given invoker, so that adapters sharing it resolve the
+     * argument binding of each method once. The invoker must use the builder's ObjectMapper.
+     *
+     * @param methodInvoker the invoker of the annotated methods
+     * @return this builder
+     */
+    public Builder methodInvoker(MethodInvoker methodInvoker) {
+      this.methodInvoker = methodInvoker;
+      return this;
+    }
+
+    /**
+     * Reports every invocation to the given tracker, so the server can reject new requests and
+     * drain in-flight ones on shutdown.
+     *
+     * @param requestTracker the tracker for in-flight invocations
+     * @return this builder
+     */
+    public Builder requestTracker(RequestTracker requestTracker) {
+      this.requestTracker = requestTracker;
+      return this;
+    }
+
+    /**
+     * Records call counts and latencies in the given registry.
+     *
+     * @param metricsRegistry the registry holding per-feature metrics
+     * @return this builder
+     */
+    public Builder metricsRegistry(MetricsRegistry metricsRegistry) {
+      this.metricsRegistry = metricsRegistry;
+      return this;
+    }
+
+    /**
+     * Opens a span per tools/call, resources/read, and prompts/get request, continuing the client's
+     * trace when the request carries one.
+     *
+     * @param tracer the tracer creating request spans
+     * @return this builder
+     */
+    public Builder tracer(Tracer tracer) {
+      this.tracer = tracer;
+      return this;
+    }
+
+    /**
+     * Rate limits tools without their own {@link RateLimit} annotation.
+     *
+     * @param defaultRateLimit the server-wide rate limit, or null for none
+     * @return this builder
+     */
+    public Builder defaultRateLimit(RateLimit defaultRateLimit) {
+      this.defaultRateLimit = defaultRateLimit;
+      return this;
+    }
+
+    /**
+     * Runs tools assigned to a bulkhead group on that group's executor.
+     *
+     * @param bulkheads the bulkhead groups by name
+     * @return this builder
+     */
+    public Builder bulkheads(Map<String, BulkheadGroup> bulkheads) {
+      this.bulkheads = bulkheads;
+      return this;
+    }
+
+    /**
+     * Records every tool call, including rejected ones, in the given audit log.
+     *
+     * @param auditLog the audit log receiving a record per tool call
+     * @return this builder
+     */
+    public Builder auditLog(AuditLog auditLog) {
+      this.auditLog = auditLog;
+      return this;
+    }
+
+    /**
+     * Stores tool results above the spill store's threshold in it and returns resource links to
+     * them instead.
+     *
+     * @param spillStore the store receiving large tool results, or null to always inline them
+     * @return this builder
+     */
+    public Builder spillStore(SpillStore spillStore) {
+      this.spillStore = spillStore;
+      return this;
+    }
+
+    /**
+     * Lets tools log to their caller through {@link McpLogger}s honoring the log levels the client
+     * sessions set, and sends circuit breaker transitions to each session at its level.
+     *
+     * @param logLevels the log level of each client session
+     * @return this builder
+     */
+    public Builder logLevels(LogLevels logLevels) {
+      this.logLevels = logLevels;
+      return this;
+    }
+
+    /**
+     * Creates the adapter.
+     *
+     * @return the adapter
+     */
+    public SdkFeatureAdapter build() {
+      return new SdkFeatureAdapter(this);
+    }
+  }
 }
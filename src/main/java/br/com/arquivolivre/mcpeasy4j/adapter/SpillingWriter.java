@@ -0,0 +1,149 @@
+package br.com.arquivolivre.mcpeasy4j.adapter;
+
+import br.com.arquivolivre.mcpeasy4j.spill.SpillStore;
+import br.com.arquivolivre.mcpeasy4j.spill.SpilledResult;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writer that keeps text in memory while it fits within the spill threshold and moves it into a
+ * {@link SpillStore} as soon as it grows past it, streaming everything written afterwards straight
+ * to the store. A result is therefore held in memory only up to the threshold, whatever its size.
+ * Closing the writer discards spilled content that was not committed.
+ */
+final class SpillingWriter extends Writer {
+
+  private final SpillStore store;
+  private final String mimeType;
+  private StringBuilder memory = new StringBuilder();
+  private long bytes;
+  private SpillStore.Sink sink;
+  private Writer spilled;
+
+  /**
+   * Creates a writer spilling into the given store.
+   *
+   * @param store the store receiving text past its threshold
+   * @param mimeType the MIME type of the text
+   */
+  SpillingWriter(SpillStore store, String mimeType) {
+    this.store = store;
+    this.mimeType = mimeType;
+  }
+
+  @Override
+  public void write(char[] chars, int offset, int length) throws IOException {
+    if (spilled != null) {
+      spilled.write(chars, offset, length);
+      return;
+    }
+    var start = memory.length();
+    memory.append(chars, offset, length);
+    count(start);
+  }
+
+  @Override
+  public void write(String text, int offset, int length) throws IOException {
+    if (spilled != null) {
+      spilled.write(text, offset, length);
+      return;
+    }
+    var start = memory.length();
+    memory.append(text, offset, offset + length);
+    count(start);
+  }
+
+  /**
+   * Returns whether the text went past the threshold and is being written to the store.
+   *
+   * @return true once spilled
+   */
+  boolean isSpilled() {
+    return spilled != null;
+  }
+
+  /**
+   * Returns the text written, when it was not spilled.
+   *
+   * @return the text
+   * @throws IllegalStateException if the text was spilled
+   */
+  String text() {
+    if (spilled != null) {
+      throw new IllegalStateException("Text was spilled");
+    }
+    return memory.toString();
+  }
+
+  /**
+   * Keeps the spilled text in the store.
+   *
+   * @return the stored result
+   * @throws IOException if the text cannot be written
+   * @throws IllegalStateException if the text was not spilled
+   */
+  SpilledResult commit() throws IOException {
+    if (spilled == null) {
+      throw new IllegalStateException("Text was not spilled");
+    }
+    spilled.flush();
+    return sink.commit();
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (spilled != null) {
+      spilled.flush();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (sink != null) {
+      sink.close();
+    }
+  }
+
+  /**
+   * Returns the size of a text encoded as UTF-8, without encoding it.
+   *
+   * @param text the text
+   * @param start the index of the first character to count
+   * @param end the index after the last character to count
+   * @return the size in bytes
+   */
+  static long utf8Length(CharSequence text, int start, int end) {
+    var bytes = 0L;
+    for (var i = start; i < end; i++) {
+      var c = text.charAt(i);
+      if (c < 0x80) {
+        bytes++;
+      } else if (c < 0x800 || Character.isSurrogate(c)) {
+        // Each half of a surrogate pair accounts for two of its four bytes
+        bytes += 2;
+      } else {
+        bytes += 3;
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * Counts the text appended to memory from the given index, and moves the text to the store once
+   * it is past the threshold.
+   *
+   * @param start the length of the memory before the append
+   * @throws IOException if the store cannot receive the text
+   */
+  private void count(int start) throws IOException {
+    bytes += utf8Length(memory, start, memory.length());
+    if (bytes > store.thresholdBytes()) {
+      sink = store.open(mimeType);
+      spilled = new OutputStreamWriter(sink.stream(), StandardCharsets.UTF_8);
+      spilled.append(memory);
+      memory = null;
+    }
+  }
+}
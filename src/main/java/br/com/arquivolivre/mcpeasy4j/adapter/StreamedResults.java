@@ -0,0 +1,190 @@
+package br.com.arquivolivre.mcpeasy4j.adapter;
+
+import br.com.arquivolivre.mcpeasy4j.spill.SpillStore;
+import br.com.arquivolivre.mcpeasy4j.spill.SpilledResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.modelcontextprotocol.spec.McpSchema.Content;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.BaseStream;
+
+/**
+ * Serializes tool results returned as a {@link java.util.stream.Stream}, {@link Iterator} or {@link
+ * Iterable} one element at a time into bounded chunks. Each chunk is a self-contained JSON array of
+ * consecutive elements, returned as its own text content, so neither a list of the elements nor a
+ * JSON tree of them is built. The chunks are kept until the response is sent, which holds the whole
+ * serialized result; with a {@link SpillStore}, the chunks move to the store as soon as they pass
+ * its threshold and the remaining elements are written straight after them, so no more than the
+ * threshold is held. Collections are already materialized and keep being returned as a single JSON
+ * array.
+ */
+final class StreamedResults {
+
+  /** Size at which a chunk is closed, in characters; a larger element gets a chunk of its own. */
+  static final int CHUNK_SIZE = 64 * 1024;
+
+  private static final System.Logger LOGGER = System.getLogger(StreamedResults.class.getName());
+
+  private StreamedResults() {}
+
+  /**
+   * The chunks of a drained result, or the result stored in a spill store instead.
+   *
+   * @param chunks the chunks, as text contents, or null if the result was spilled
+   * @param spilled the stored result, or null if the result is returned in chunks
+   */
+  record Drained(List<Content> chunks, SpilledResult spilled) {}
+
+  /**
+   * Returns whether a result is produced lazily and serialized in chunks.
+   *
+   * @param result the value returned by a tool method
+   * @return true for streams, iterators and iterables that are not collections
+   */
+  static boolean isStreamed(Object result) {
+    return result instanceof BaseStream<?, ?>
+        || result instanceof Iterator<?>
+        || (result instanceof Iterable<?> && !(result instanceof Collection<?>));
+  }
+
+  /**
+   * Drains a streamed result into chunks, closing it afterwards if it holds resources.
+   *
+   * @param result the stream, iterator or iterable
+   * @param writer the writer serializing each element
+   * @param chunkSize the size at which a chunk is closed, in characters
+   * @return the chunks, as text contents; a single empty array if there are no elements
+   * @throws IllegalStateException if an element cannot be serialized
+   */
+  static List<Content> chunk(Object result, ObjectWriter writer, int chunkSize) {
+    return drain(result, writer, chunkSize, null).chunks();
+  }
+
+  /**
+   * Drains a streamed result into chunks, or into a spill store once its UTF-8 size passes the
+   * store's threshold, closing it afterwards if it holds resources. A spilled result is stored as
+   * the single JSON array its chunks split.
+   *
+   * @param result the stream, iterator or iterable
+   * @param writer the writer serializing each element
+   * @param chunkSize the size at which a chunk is closed, in characters
+   * @param store the store receiving large results, or null to always return chunks
+   * @return the chunks, or the stored result
+   * @throws IllegalStateException if an element cannot be serialized
+   * @throws UncheckedIOException if the result cannot be stored; its elements are consumed by then
+   */
+  static Drained drain(Object result, ObjectWriter writer, int chunkSize, SpillStore store) {
+    try {
+      Iterator<?> elements =
+          switch (result) {
+            case BaseStream<?, ?> stream -> stream.iterator();
+            case Iterator<?> iterator -> iterator;
+            case Iterable<?> iterable -> iterable.iterator();
+            default -> throw new IllegalArgumentException("Not a streamed result: " + result);
+          };
+      return drain(elements, writer, chunkSize, store);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill streamed result", e);
+    } finally {
+      if (result instanceof AutoCloseable closeable) {
+        closeQuietly(closeable);
+      }
+    }
+  }
+
+  private static Drained drain(
+      Iterator<?> elements, ObjectWriter writer, int chunkSize, SpillStore store)
+      throws IOException {
+    var chunks = new ArrayList<Content>();
+    var current = new StringBuilder().append('[');
+    // UTF-8 size of the chunks so far, counting the closing bracket of the current one
+    var bytes = 2L;
+    while (elements.hasNext()) {
+      var element = serialize(writer, elements.next());
+      if (current.length() > 1 && current.length() + element.length() + 1 >= chunkSize) {
+        chunks.add(new TextContent(current.append(']').toString()));
+        current.setLength(0);
+        current.append('[');
+        bytes += 2;
+      }
+      if (current.length() > 1) {
+        current.append(',');
+        bytes++;
+      }
+      current.append(element);
+      bytes += SpillingWriter.utf8Length(element, 0, element.length());
+      if (store != null && bytes > store.thresholdBytes()) {
+        return new Drained(null, spill(store, chunks, current, elements, writer));
+      }
+    }
+    if (current.length() > 1 || chunks.isEmpty()) {
+      chunks.add(new TextContent(current.append(']').toString()));
+    }
+    return new Drained(chunks, null);
+  }
+
+  /**
+   * Moves the chunks so far into a spill store as one JSON array, releasing them, and writes the
+   * remaining elements straight after them.
+   *
+   * @param store the store
+   * @param chunks the closed chunks, cleared once stored
+   * @param current the open chunk, holding at least one element, cleared once stored
+   * @param elements the remaining elements
+   * @param writer the writer serializing each element
+   * @return the stored result
+   * @throws IOException if the result cannot be stored
+   */
+  private static SpilledResult spill(
+      SpillStore store,
+      List<Content> chunks,
+      StringBuilder current,
+      Iterator<?> elements,
+      ObjectWriter writer)
+      throws IOException {
+    try (var sink = store.open("application/json")) {
+      try (var out = new OutputStreamWriter(sink.stream(), StandardCharsets.UTF_8)) {
+        out.write('[');
+        for (var chunk : chunks) {
+          var text = ((TextContent) chunk).text();
+          out.write(text, 1, text.length() - 2);
+          out.write(',');
+        }
+        out.append(current, 1, current.length());
+        chunks.clear();
+        current.setLength(0);
+        current.trimToSize();
+        while (elements.hasNext()) {
+          out.write(',');
+          out.write(serialize(writer, elements.next()));
+        }
+        out.write(']');
+      }
+      return sink.commit();
+    }
+  }
+
+  private static String serialize(ObjectWriter writer, Object element) {
+    try {
+      return writer.writeValueAsString(element);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize result element", e);
+    }
+  }
+
+  private static void closeQuietly(AutoCloseable closeable) {
+    try {
+      closeable.close();
+    } catch (Exception e) {
+      LOGGER.log(System.Logger.Level.DEBUG, "Failed to close streamed result", e);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the audit log set through {@link McpServer#audit()}. Every tool call publishes a
+ * record into a preallocated ring buffer without taking a lock; a background thread encodes the
+ * records and appends them in batches to size-bounded rolling files, one JSON object per line.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Audit {
+  /**
+   * File the records are appended to. Older files are renamed with a numeric suffix when it rolls.
+   *
+   * @return the audit file path, defaults to empty string which disables auditing
+   */
+  String file() default "";
+
+  /**
+   * The number of records buffered before the overflow policy applies, rounded up to a power of
+   * two.
+   *
+   * @return the buffer size, defaults to 8192
+   */
+  int bufferSize() default 8192;
+
+  /**
+   * What a call does when the buffer is full.
+   *
+   * @return the overflow policy, defaults to {@link OverflowPolicy#DROP}
+   */
+  OverflowPolicy overflow() default OverflowPolicy.DROP;
+
+  /**
+   * Size at which the audit file rolls over.
+   *
+   * @return the maximum file size in bytes, defaults to 10 MiB
+   */
+  long maxFileBytes() default 10L * 1024 * 1024;
+
+  /**
+   * The number of files kept, including the one being written.
+   *
+   * @return the number of files, defaults to 5
+   */
+  int maxFiles() default 5;
+
+  /**
+   * Whether records carry the call arguments. Otherwise they carry a SHA-256 hash of them.
+   *
+   * @return true to log arguments, defaults to false
+   */
+  boolean includeArguments() default false;
+
+  /**
+   * Arguments whose values are replaced by {@code "***"} when arguments are included.
+   *
+   * @return the redacted argument names, defaults to none
+   */
+  String[] redact() default {};
+}
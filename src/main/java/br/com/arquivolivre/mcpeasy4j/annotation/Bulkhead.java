@@ -0,0 +1,44 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares an isolated executor for a group of tools, listed in {@link McpServer#bulkheads()}.
+ * Tools join a group through {@link Tool#group()}. Calls run on the group's own threads and wait in
+ * its own bounded queue, so a slow dependency behind one group cannot tie up the threads serving
+ * the others. When both are full, further calls to the group are rejected immediately.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+  /**
+   * The group name referenced by {@link Tool#group()}.
+   *
+   * @return the group name
+   */
+  String name();
+
+  /**
+   * The maximum number of calls of the group running at once.
+   *
+   * @return the number of threads, defaults to 10
+   */
+  int threads() default 10;
+
+  /**
+   * The maximum number of calls waiting for a thread.
+   *
+   * @return the queue capacity, defaults to 0 which rejects calls as soon as every thread is busy
+   */
+  int queueCapacity() default 0;
+
+  /**
+   * Whether the group runs on virtual threads, which suits tools that mostly block on I/O. The
+   * thread count still caps how many calls run at once.
+   *
+   * @return true for virtual threads, defaults to false for platform threads
+   */
+  boolean virtualThreads() default false;
+}
@@ -0,0 +1,66 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Protects a tool whose backend may go down. The outcomes of the last calls are kept in a sliding
+ * window; when too many of them failed or were slow, the circuit opens and calls fail fast with an
+ * error result instead of waiting on the backend. After a while a few probe calls are let through,
+ * and the circuit closes again if they succeed.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CircuitBreaker {
+  /**
+   * The number of most recent calls the failure and slow-call rates are computed over.
+   *
+   * @return the window size, defaults to 20
+   */
+  int windowSize() default 20;
+
+  /**
+   * The number of calls the window must hold before the circuit can open.
+   *
+   * @return the minimum number of calls, defaults to 10
+   */
+  int minimumCalls() default 10;
+
+  /**
+   * The percentage of failed calls at which the circuit opens.
+   *
+   * @return the failure rate threshold, defaults to 50
+   */
+  double failureRateThreshold() default 50;
+
+  /**
+   * The duration from which a call counts as slow, even if it succeeds.
+   *
+   * @return the slow call threshold in milliseconds, defaults to 10000
+   */
+  long slowCallMillis() default 10_000;
+
+  /**
+   * The percentage of slow calls at which the circuit opens.
+   *
+   * @return the slow call rate threshold, defaults to 100
+   */
+  double slowCallRateThreshold() default 100;
+
+  /**
+   * How long the circuit stays open before letting probe calls through.
+   *
+   * @return the open duration in milliseconds, defaults to 30000
+   */
+  long openMillis() default 30_000;
+
+  /**
+   * The number of probe calls let through while half-open. The circuit closes if their failure and
+   * slow-call rates stay under the thresholds, and opens again otherwise.
+   *
+   * @return the number of probe calls, defaults to 3
+   */
+  int probeCalls() default 3;
+}
@@ -0,0 +1,31 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import br.com.arquivolivre.mcpeasy4j.completion.CompletionProvider;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Answers completion/complete requests for a prompt argument with the candidates of a provider that
+ * start with the value typed so far, ignoring case. The candidates are loaded into a prefix index
+ * on startup and, optionally, reloaded in the background.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Completion {
+  /**
+   * The provider of the candidate values, which needs a public no-argument constructor.
+   *
+   * @return the provider class
+   */
+  Class<? extends CompletionProvider> value();
+
+  /**
+   * Interval at which the candidates are reloaded in the background. Completions keep being
+   * answered from the previous candidates while they are.
+   *
+   * @return the refresh interval in seconds, defaults to 0 which loads them only on startup
+   */
+  long refreshSeconds() default 0;
+}
@@ -0,0 +1,43 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a downstream MCP server, listed in {@link McpServer#downstreams()}, whose tools,
+ * resources and prompts the server federates. Each replica is a child process started with the
+ * given command and kept connected over stdio for the server's lifetime; calls go to the replica
+ * with the fewest requests outstanding.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Downstream {
+  /**
+   * Namespace put in front of the downstream tool and prompt names, separated by an underscore.
+   *
+   * @return the downstream name
+   */
+  String name();
+
+  /**
+   * The command line starting one replica, such as {@code {"java", "-jar", "files-server.jar"}}.
+   *
+   * @return the command and its arguments
+   */
+  String[] command();
+
+  /**
+   * The number of replicas started and load balanced.
+   *
+   * @return the number of replicas, defaults to 1
+   */
+  int replicas() default 1;
+
+  /**
+   * Time a forwarded request may take before it fails.
+   *
+   * @return the request timeout in milliseconds, defaults to 20000
+   */
+  long requestTimeoutMillis() default 20_000;
+}
@@ -0,0 +1,22 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gives an example value of a tool property. The value is published in the property's input schema
+ * under {@code examples} and used as the argument of the warmup calls made on startup when {@link
+ * McpServer#warmupIterations()} is set.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Example {
+  /**
+   * The example value: the text itself for string properties, a JSON value for any other type.
+   *
+   * @return the example value
+   */
+  String value();
+}
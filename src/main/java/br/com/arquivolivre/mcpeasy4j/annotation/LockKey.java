@@ -0,0 +1,33 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Serializes the calls of tool, resource or prompt methods that receive equal values for the
+ * annotated parameter, while calls with other values run concurrently. Methods declared in the same
+ * class share the lock stripes of a key space, so a call to one method waits for a call to another
+ * with an equal key in that space. Values are hashed onto a fixed set of lock stripes, so unrelated
+ * values occasionally share a stripe. Only the first annotated parameter of a method is used.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LockKey {
+  /**
+   * The key space of the parameter. Keys of different spaces never wait for each other, even when
+   * equal, such as an account and a user with the same id.
+   *
+   * @return the key space, defaults to the unnamed space of the class
+   */
+  String value() default "";
+
+  /**
+   * The number of lock stripes of the key space, rounded up to a power of two. When methods of a
+   * class request different counts for the same space, the largest one is used.
+   *
+   * @return the stripe count, defaults to 64
+   */
+  int stripes() default 64;
+}
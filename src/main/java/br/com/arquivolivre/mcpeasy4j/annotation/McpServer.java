@@ -39,4 +39,134 @@ public @interface McpServer {
    * @return true if prompts should be enabled, defaults to true
    */
   boolean enablePrompts() default true;
+
+  /**
+   * The stdio transport implementation used to talk to the client.
+   *
+   * @return the transport type, defaults to {@link TransportType#STDIO}
+   */
+  TransportType transport() default TransportType.STDIO;
+
+  /**
+   * Whether to publish per-tool, per-resource and per-prompt metrics as the built-in
+   * "metrics://server" resource and as JMX MXBeans. Metrics are recorded either way.
+   *
+   * @return true if metrics should be published, defaults to true
+   */
+  boolean enableMetrics() default true;
+
+  /**
+   * Fraction of requests to trace, between 0 and 1. Requests whose {@code _meta} carries a sampled
+   * W3C {@code traceparent} are always traced once tracing is enabled.
+   *
+   * @return the sampling ratio, defaults to 0 which disables tracing
+   */
+  double traceSampleRate() default 0.0;
+
+  /**
+   * File the bundled exporter appends OTLP/JSON spans to. Ignored when a {@code SpanExporter} is
+   * registered through {@link java.util.ServiceLoader}.
+   *
+   * @return the trace file path, defaults to "mcp-traces.jsonl"
+   */
+  String traceFile() default "mcp-traces.jsonl";
+
+  /**
+   * Rate limit applied to every tool without its own {@link RateLimit} annotation.
+   *
+   * @return the default rate limit, defaults to unlimited
+   */
+  RateLimit rateLimit() default @RateLimit(permitsPerSecond = 0);
+
+  /**
+   * Isolated executors that tools can be assigned to through {@link Tool#group()}.
+   *
+   * @return the bulkhead groups, defaults to none
+   */
+  Bulkhead[] bulkheads() default {};
+
+  /**
+   * Maximum number of tools or resources returned per tools/list or resources/list page. Clients
+   * fetch the following pages with the returned cursor.
+   *
+   * @return the page size, defaults to 0 which returns the whole list in one page
+   */
+  int listPageSize() default 0;
+
+  /**
+   * Other @McpServer classes hosted by this server on the same transport and in the same JVM.
+   *
+   * @return the mounted servers, defaults to none
+   */
+  Mount[] mounts() default {};
+
+  /**
+   * Classes whose @Tool, @Resource and @Prompt methods are served as part of this server, without a
+   * name prefix. Each needs a no-argument constructor.
+   *
+   * @return the component classes, defaults to none
+   */
+  Class<?>[] components() default {};
+
+  /**
+   * How many instances of this class serve its tools, resources and prompts. Pooled and per-call
+   * instances are created through the no-argument constructor.
+   *
+   * @return the scope, defaults to {@link Scope#SINGLETON}
+   */
+  Scope scope() default Scope.SINGLETON;
+
+  /**
+   * The maximum number of instances of a {@link Scope#POOLED} scope. Once they are all serving
+   * calls, further calls wait for one to be released.
+   *
+   * @return the pool size, defaults to 0 for the number of available processors
+   */
+  int poolSize() default 0;
+
+  /**
+   * Packages searched on the classpath, including subpackages, for classes annotated with {@link
+   * ToolComponent}, which are served like {@link #components()}.
+   *
+   * @return the package names, defaults to none
+   */
+  String[] scanPackages() default {};
+
+  /**
+   * Downstream MCP servers whose features this server federates under their names.
+   *
+   * @return the downstream servers, defaults to none
+   */
+  Downstream[] downstreams() default {};
+
+  /**
+   * Asynchronous audit log of every tool call.
+   *
+   * @return the audit configuration, defaults to disabled
+   */
+  Audit audit() default @Audit;
+
+  /**
+   * File that incoming tools/call, resources/read and prompts/get requests are captured into, with
+   * their arrival times, for replay with {@code TrafficReplayer}. The file is replaced on startup.
+   *
+   * @return the capture file path, defaults to empty string which disables capturing
+   */
+  String captureFile() default "";
+
+  /**
+   * Stores tool results above a size threshold on disk and returns resource links to them.
+   *
+   * @return the spill configuration, defaults to disabled
+   */
+  Spill spill() default @Spill;
+
+  /**
+   * Number of times every read-only tool is called on startup, before the transport is created, so
+   * its conversion, invocation and serialization are compiled before the first request arrives.
+   * Arguments come from each property's {@link Example} or are generated from the input schema.
+   *
+   * @return the warmup iterations per tool, defaults to 0 which disables warmup
+   */
+  int warmupIterations() default 0;
 }
@@ -0,0 +1,31 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Hosts another {@link McpServer} class inside the server that lists it in {@link
+ * McpServer#mounts()}. The mounted server's tools, resources and prompts are served on the host's
+ * transport, next to the host's own, and share its executors, metrics and JSON codec. Only the
+ * mounted server's rate limit, bulkheads and enabled features apply; its transport, metrics and
+ * tracing settings are replaced by the host's.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Mount {
+  /**
+   * The mounted class. It must be annotated with @McpServer and have a no-argument constructor.
+   *
+   * @return the server class
+   */
+  Class<?> server();
+
+  /**
+   * Namespace put in front of the mounted server's tool and prompt names, separated by an
+   * underscore, so that servers defining the same names can share one endpoint.
+   *
+   * @return the name prefix, defaults to empty string (names are kept as they are)
+   */
+  String prefix() default "";
+}
@@ -0,0 +1,10 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+/** What a tool call does when the audit buffer selected via {@link Audit} is full. */
+public enum OverflowPolicy {
+  /** Drop the record and count it, so the call is never delayed by auditing. */
+  DROP,
+
+  /** Wait until the audit writer frees a slot, so no record is lost. */
+  BLOCK
+}
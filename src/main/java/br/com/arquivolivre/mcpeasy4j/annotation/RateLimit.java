@@ -0,0 +1,46 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits how often a tool can be called. Calls over the limit are rejected immediately with an
+ * error result telling the client when to retry, instead of queueing behind the ones admitted. Each
+ * client session gets its own budget, and an optional tool-wide budget caps all sessions together.
+ * On a {@code @Tool} method it overrides the server-wide default set through {@link
+ * McpServer#rateLimit()}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+  /**
+   * The sustained number of calls allowed per second.
+   *
+   * @return the permits per second, 0 or less disables the limit
+   */
+  double permitsPerSecond();
+
+  /**
+   * The number of calls that may be made back to back before the sustained rate applies.
+   *
+   * @return the burst size, defaults to 0 which allows one second's worth of permits
+   */
+  int burst() default 0;
+
+  /**
+   * The sustained number of calls allowed per second across all sessions together.
+   *
+   * @return the tool-wide permits per second, defaults to 0 which sets no tool-wide limit
+   */
+  double toolPermitsPerSecond() default 0;
+
+  /**
+   * The number of calls from all sessions together that may be made back to back before the
+   * sustained tool-wide rate applies.
+   *
+   * @return the tool-wide burst size, defaults to 0 which allows one second's worth of permits
+   */
+  int toolBurst() default 0;
+}
@@ -0,0 +1,19 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+/**
+ * How many instances of a server or component class serve its tools, resources and prompts,
+ * selected via {@link McpServer#scope()} or {@link ToolComponent#scope()}.
+ */
+public enum Scope {
+  /** One shared instance serves every call concurrently, so it must be thread-safe. */
+  SINGLETON,
+
+  /**
+   * Each call borrows an instance from a lock-free pool and returns it afterwards, so an instance
+   * never serves two calls at once. The pool holds at most its pool size of instances.
+   */
+  POOLED,
+
+  /** Each call gets a new instance, created through a cached constructor handle. */
+  PER_CALL
+}
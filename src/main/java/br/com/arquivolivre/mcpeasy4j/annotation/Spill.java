@@ -0,0 +1,45 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures spilling set through {@link McpServer#spill()}. A tool result larger than the
+ * threshold is not inlined in the tool response: it is written to a content-addressed file store
+ * and the response carries a {@code resource_link} to it instead. The client reads it through the
+ * built-in {@code results://spill/{digest}} resource template until it expires or is evicted.
+ * Spilling requires resources to be enabled.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Spill {
+  /**
+   * Size above which a tool result is spilled, measured in UTF-8 bytes of its text content.
+   *
+   * @return the threshold in bytes, defaults to 0 which disables spilling
+   */
+  long thresholdBytes() default 0;
+
+  /**
+   * Directory spilled results are stored in. A temporary directory is created and deleted on
+   * shutdown when none is set; spilled files are deleted on shutdown either way.
+   *
+   * @return the directory path, defaults to empty string for a temporary directory
+   */
+  String directory() default "";
+
+  /**
+   * How long a spilled result can be read after it was last spilled.
+   *
+   * @return the time to live in seconds, defaults to 900
+   */
+  long ttlSeconds() default 900;
+
+  /**
+   * Total size of the stored results above which the oldest ones are evicted.
+   *
+   * @return the maximum total size in bytes, defaults to 256 MiB
+   */
+  long maxTotalBytes() default 256L * 1024 * 1024;
+}
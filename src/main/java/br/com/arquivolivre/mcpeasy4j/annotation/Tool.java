@@ -25,4 +25,19 @@ public @interface Tool {
    * @return the tool description, defaults to empty string
    */
   String description() default "";
+
+  /**
+   * The bulkhead group the tool runs in, which must be declared in {@link McpServer#bulkheads()}.
+   *
+   * @return the group name, defaults to empty string (runs on the thread dispatching the request)
+   */
+  String group() default "";
+
+  /**
+   * Whether the tool only reads state, without side effects. Read-only tools are advertised with
+   * the {@code readOnlyHint} tool annotation and are the only tools called during warmup.
+   *
+   * @return true if the tool has no side effects, defaults to false
+   */
+  boolean readOnly() default false;
 }
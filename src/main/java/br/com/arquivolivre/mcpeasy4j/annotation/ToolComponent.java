@@ -0,0 +1,30 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose @Tool, @Resource and @Prompt methods belong to the server that scans its
+ * package through {@link McpServer#scanPackages()}. Components are served as part of that server,
+ * without a name prefix, and must have a no-argument constructor.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ToolComponent {
+  /**
+   * How many instances of the component serve its tools, resources and prompts.
+   *
+   * @return the scope, defaults to {@link Scope#SINGLETON}
+   */
+  Scope scope() default Scope.SINGLETON;
+
+  /**
+   * The maximum number of instances of a {@link Scope#POOLED} scope. Once they are all serving
+   * calls, further calls wait for one to be released.
+   *
+   * @return the pool size, defaults to 0 for the number of available processors
+   */
+  int poolSize() default 0;
+}
@@ -0,0 +1,13 @@
+package br.com.arquivolivre.mcpeasy4j.annotation;
+
+/** Transport implementations that can be selected for an MCP server via @McpServer. */
+public enum TransportType {
+  /** The MCP SDK's StdioServerTransportProvider, reading and writing one line at a time. */
+  STDIO,
+
+  /**
+   * The framework's BufferedStdioServerTransportProvider, which frames messages directly from a
+   * large channel buffer and coalesces outbound writes into one flush per batch.
+   */
+  BUFFERED_STDIO
+}
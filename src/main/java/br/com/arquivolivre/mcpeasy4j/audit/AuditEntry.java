@@ -0,0 +1,39 @@
+package br.com.arquivolivre.mcpeasy4j.audit;
+
+import java.util.Map;
+
+/**
+ * One preallocated slot of the {@link AuditRingBuffer}. Producers fill it in place and the drain
+ * thread clears it after encoding, so recording a call allocates nothing.
+ */
+final class AuditEntry {
+  long timestampMillis;
+  String sessionId;
+  String tool;
+  Map<String, Object> arguments;
+  long durationNanos;
+  String outcome;
+
+  void set(
+      long timestampMillis,
+      String sessionId,
+      String tool,
+      Map<String, Object> arguments,
+      long durationNanos,
+      String outcome) {
+    this.timestampMillis = timestampMillis;
+    this.sessionId = sessionId;
+    this.tool = tool;
+    this.arguments = arguments;
+    this.durationNanos = durationNanos;
+    this.outcome = outcome;
+  }
+
+  /** Drops the references held by the slot so encoded arguments can be collected. */
+  void clear() {
+    sessionId = null;
+    tool = null;
+    arguments = null;
+    outcome = null;
+  }
+}
@@ -0,0 +1,292 @@
+package br.com.arquivolivre.mcpeasy4j.audit;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.Audit;
+import br.com.arquivolivre.mcpeasy4j.annotation.OverflowPolicy;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records every tool call without slowing it down. Calls publish a compact record into an {@link
+ * AuditRingBuffer}, copying only references; hashing or redacting the arguments, encoding the
+ * record as a JSON line and writing it happen on a background thread, which appends each batch to a
+ * {@link RollingFileWriter} with a single write. When the buffer is full, records are dropped or
+ * the call waits for a free slot, depending on the {@link OverflowPolicy}.
+ */
+public final class AuditLog implements AutoCloseable {
+
+  /** Audit log that records nothing and has no writer thread. */
+  public static final AuditLog NOOP = new AuditLog();
+
+  /** Outcome of a call that threw instead of returning a result. */
+  public static final String OUTCOME_FAILED = "failed";
+
+  private static final int MAX_BATCH_SIZE = 1024;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+  private static final String REDACTED = "***";
+  private static final HexFormat HEX = HexFormat.of();
+  private static final System.Logger LOGGER = System.getLogger(AuditLog.class.getName());
+
+  private final AuditRingBuffer buffer;
+  private final RollingFileWriter writer;
+  private final OverflowPolicy overflow;
+  private final boolean includeArguments;
+  private final Set<String> redacted;
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter hashWriter;
+  private final ByteArrayOutputStream batch = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+  private final MessageDigest digest;
+  private final LongAdder dropped = new LongAdder();
+  private final Thread writerThread;
+  private volatile boolean running = true;
+
+  /**
+   * Creates an audit log and starts its writer thread.
+   *
+   * @param writer the files receiving the records
+   * @param bufferSize the number of records buffered, rounded up to a power of two
+   * @param overflow what a call does when the buffer is full
+   * @param includeArguments whether records carry the arguments rather than their hash
+   * @param redacted argument names whose values are masked when arguments are included
+   * @param objectMapper the mapper encoding the records
+   * @throws IllegalArgumentException if the buffer size is not positive
+   */
+  public AuditLog(
+      RollingFileWriter writer,
+      int bufferSize,
+      OverflowPolicy overflow,
+      boolean includeArguments,
+      Set<String> redacted,
+      ObjectMapper objectMapper) {
+    this.buffer = new AuditRingBuffer(bufferSize);
+    this.writer = writer;
+    this.overflow = overflow;
+    this.includeArguments = includeArguments;
+    this.redacted = Set.copyOf(redacted);
+    this.objectMapper = objectMapper;
+    // Sorted keys, so that equal arguments hash alike whatever order the client sent them in
+    this.hashWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    this.digest = sha256();
+    this.writerThread = Thread.ofPlatform().name("mcp-audit-writer").daemon().start(this::run);
+  }
+
+  private AuditLog() {
+    this.buffer = null;
+    this.writer = null;
+    this.overflow = OverflowPolicy.DROP;
+    this.includeArguments = false;
+    this.redacted = Set.of();
+    this.objectMapper = null;
+    this.hashWriter = null;
+    this.digest = null;
+    this.writerThread = null;
+    this.running = false;
+  }
+
+  /**
+   * Creates the audit log described by an annotation.
+   *
+   * @param audit the annotation
+   * @param objectMapper the mapper encoding the records
+   * @return the audit log, or {@link #NOOP} if no file is configured
+   */
+  public static AuditLog of(Audit audit, ObjectMapper objectMapper) {
+    if (audit.file().isEmpty()) {
+      return NOOP;
+    }
+    return new AuditLog(
+        new RollingFileWriter(Path.of(audit.file()), audit.maxFileBytes(), audit.maxFiles()),
+        audit.bufferSize(),
+        audit.overflow(),
+        audit.includeArguments(),
+        Set.of(audit.redact()),
+        objectMapper);
+  }
+
+  /**
+   * Returns the outcome recorded for a tool result: "ok", or the error code of an error result,
+   * such as "rate_limited", or "error" when it has none.
+   *
+   * @param result the tool result
+   * @return the outcome
+   */
+  public static String outcomeOf(CallToolResult result) {
+    if (result == null || !Boolean.TRUE.equals(result.isError())) {
+      return "ok";
+    }
+    return result.structuredContent() instanceof Map<?, ?> details
+            && details.get("error") instanceof String code
+        ? code
+        : "error";
+  }
+
+  /**
+   * Returns whether records are being written.
+   *
+   * @return false for {@link #NOOP} and after {@link #close()}
+   */
+  public boolean isEnabled() {
+    return running;
+  }
+
+  /**
+   * Records a finished tool call. Only references are copied; the arguments must not be modified
+   * afterwards.
+   *
+   * @param timestampMillis when the call started, in milliseconds since the epoch
+   * @param sessionId the client session, may be null
+   * @param tool the tool name
+   * @param arguments the call arguments, may be null
+   * @param durationNanos how long the call took
+   * @param outcome the call outcome
+   */
+  public void record(
+      long timestampMillis,
+      String sessionId,
+      String tool,
+      Map<String, Object> arguments,
+      long durationNanos,
+      String outcome) {
+    while (running) {
+      if (buffer.tryPublish(timestampMillis, sessionId, tool, arguments, durationNanos, outcome)) {
+        return;
+      }
+      if (overflow == OverflowPolicy.DROP) {
+        break;
+      }
+      // Wake the writer in case it is idling, then give it time to free a slot
+      LockSupport.unpark(writerThread);
+      LockSupport.parkNanos(FULL_PARK_NANOS);
+    }
+    dropped.increment();
+  }
+
+  /**
+   * Returns how many records were dropped because the buffer was full or the log was closed.
+   *
+   * @return the number of dropped records
+   */
+  public long dropped() {
+    return dropped.sum();
+  }
+
+  /** Stops recording, writes the records still buffered, and closes the file. */
+  @Override
+  public void close() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    LockSupport.unpark(writerThread);
+    try {
+      writerThread.join(SHUTDOWN_TIMEOUT);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Writer loop: drains whatever is buffered, parking briefly when there is nothing. */
+  private void run() {
+    while (running) {
+      if (buffer.drain(this::encode, MAX_BATCH_SIZE) > 0) {
+        flush();
+      } else {
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+      }
+    }
+
+    // Calls that published before the flag flipped are still written
+    while (buffer.drain(this::encode, MAX_BATCH_SIZE) > 0) {
+      flush();
+    }
+    try {
+      writer.close();
+    } catch (IOException e) {
+      LOGGER.log(System.Logger.Level.WARNING, "Failed to close audit file", e);
+    }
+  }
+
+  private void flush() {
+    try {
+      writer.write(batch.toByteArray(), batch.size());
+    } catch (IOException e) {
+      LOGGER.log(System.Logger.Level.WARNING, "Failed to write audit records", e);
+    } finally {
+      batch.reset();
+    }
+  }
+
+  /**
+   * Appends one record to the current batch as a JSON line. A record that cannot be encoded is
+   * counted as dropped rather than leaving a partial line in the file.
+   *
+   * @param entry the record
+   */
+  private void encode(AuditEntry entry) {
+    line.reset();
+    try (JsonGenerator json = objectMapper.createGenerator(line)) {
+      json.writeStartObject();
+      json.writeStringField("timestamp", Instant.ofEpochMilli(entry.timestampMillis).toString());
+      json.writeStringField("session", entry.sessionId);
+      json.writeStringField("tool", entry.tool);
+      if (includeArguments) {
+        json.writeFieldName("arguments");
+        objectMapper.writeValue(json, redact(entry.arguments));
+      } else {
+        json.writeStringField("argumentsSha256", hash(entry.arguments));
+      }
+      json.writeNumberField("durationMicros", TimeUnit.NANOSECONDS.toMicros(entry.durationNanos));
+      json.writeStringField("outcome", entry.outcome);
+      json.writeEndObject();
+    } catch (IOException | RuntimeException e) {
+      dropped.increment();
+      LOGGER.log(System.Logger.Level.DEBUG, "Failed to encode audit record", e);
+      return;
+    }
+    batch.writeBytes(line.toByteArray());
+    batch.write('\n');
+  }
+
+  private Map<String, Object> redact(Map<String, Object> arguments) {
+    if (arguments == null || redacted.isEmpty()) {
+      return arguments;
+    }
+    var copy = new LinkedHashMap<>(arguments);
+    copy.replaceAll((name, value) -> redacted.contains(name) ? REDACTED : value);
+    return copy;
+  }
+
+  private String hash(Map<String, Object> arguments) throws IOException {
+    if (arguments == null) {
+      return null;
+    }
+    return HEX.formatHex(digest.digest(hashWriter.writeValueAsBytes(arguments)));
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
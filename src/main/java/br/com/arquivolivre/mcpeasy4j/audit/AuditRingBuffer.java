@@ -0,0 +1,118 @@
+package br.com.arquivolivre.mcpeasy4j.audit;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring of preallocated {@link AuditEntry} slots. Producers
+ * claim a sequence number with a compare-and-set, fill the slot and publish it by storing the
+ * sequence in the slot's marker; the consumer reads slots in sequence order as long as their marker
+ * matches, then releases them all at once by advancing its cursor. No locks are taken on either
+ * side.
+ */
+final class AuditRingBuffer {
+
+  private final AuditEntry[] slots;
+  private final AtomicLongArray published;
+  private final int mask;
+  private final AtomicLong claimed = new AtomicLong();
+  private final AtomicLong consumed = new AtomicLong();
+
+  /**
+   * Creates a ring buffer.
+   *
+   * @param requestedCapacity the minimum number of slots, rounded up to a power of two
+   * @throws IllegalArgumentException if the capacity is not positive or too large
+   */
+  AuditRingBuffer(int requestedCapacity) {
+    if (requestedCapacity < 1 || requestedCapacity > 1 << 30) {
+      throw new IllegalArgumentException("Invalid audit buffer size: " + requestedCapacity);
+    }
+    var capacity = Integer.highestOneBit(requestedCapacity);
+    if (capacity < requestedCapacity) {
+      capacity <<= 1;
+    }
+    this.slots = new AuditEntry[capacity];
+    this.published = new AtomicLongArray(capacity);
+    for (var i = 0; i < capacity; i++) {
+      slots[i] = new AuditEntry();
+      // Nothing is published yet, and slot i first receives sequence i
+      published.set(i, i - (long) capacity);
+    }
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Returns the number of slots.
+   *
+   * @return the capacity
+   */
+  int capacity() {
+    return slots.length;
+  }
+
+  /**
+   * Publishes a record if a slot is free.
+   *
+   * @return true if the record was published, false if the buffer is full
+   */
+  boolean tryPublish(
+      long timestampMillis,
+      String sessionId,
+      String tool,
+      Map<String, Object> arguments,
+      long durationNanos,
+      String outcome) {
+    long sequence;
+    do {
+      sequence = claimed.get();
+      if (sequence - consumed.get() >= slots.length) {
+        return false;
+      }
+    } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+    var index = (int) sequence & mask;
+    slots[index].set(timestampMillis, sessionId, tool, arguments, durationNanos, outcome);
+    published.set(index, sequence);
+    return true;
+  }
+
+  /**
+   * Hands published records to the sink in order, then frees their slots. Must only be called from
+   * one thread at a time.
+   *
+   * @param sink receives each record; it must not keep the entry after returning
+   * @param maxRecords the maximum number of records to drain
+   * @return the number of records drained
+   */
+  int drain(Consumer<AuditEntry> sink, int maxRecords) {
+    var next = consumed.get();
+    var count = 0;
+    while (count < maxRecords) {
+      var index = (int) next & mask;
+      if (published.get(index) != next) {
+        break;
+      }
+      var entry = slots[index];
+      sink.accept(entry);
+      entry.clear();
+      next++;
+      count++;
+    }
+    if (count > 0) {
+      consumed.set(next);
+    }
+    return count;
+  }
+
+  /**
+   * Returns whether every published record has been drained.
+   *
+   * @return true if the buffer holds no records
+   */
+  boolean isEmpty() {
+    return consumed.get() == claimed.get();
+  }
+}
@@ -0,0 +1,98 @@
+package br.com.arquivolivre.mcpeasy4j.audit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends batches of lines to a file that rolls over once it would exceed a size limit. On rollover
+ * {@code audit.log} becomes {@code audit.log.1}, {@code audit.log.1} becomes {@code audit.log.2},
+ * and so on; the oldest file beyond the limit is deleted. A batch is never split across files. Not
+ * thread-safe; the audit log writes from a single thread.
+ */
+public final class RollingFileWriter implements AutoCloseable {
+
+  private final Path file;
+  private final long maxFileBytes;
+  private final int maxFiles;
+  private OutputStream out;
+  private long size;
+
+  /**
+   * Creates a writer. The file is opened lazily on the first write.
+   *
+   * @param file the file to append to
+   * @param maxFileBytes the size at which the file rolls over
+   * @param maxFiles the number of files kept, including the one being written
+   * @throws IllegalArgumentException if the size or the number of files is not positive
+   */
+  public RollingFileWriter(Path file, long maxFileBytes, int maxFiles) {
+    if (maxFileBytes < 1 || maxFiles < 1) {
+      throw new IllegalArgumentException(
+          "Audit files need a positive size and count: " + maxFileBytes + ", " + maxFiles);
+    }
+    this.file = file;
+    this.maxFileBytes = maxFileBytes;
+    this.maxFiles = maxFiles;
+  }
+
+  /**
+   * Appends a batch and flushes it, rolling the file over first if the batch would not fit.
+   *
+   * @param bytes the buffer holding the batch
+   * @param length the number of bytes of the batch
+   * @throws IOException if the file cannot be written or rolled over
+   */
+  public void write(byte[] bytes, int length) throws IOException {
+    if (out == null) {
+      open();
+    }
+    if (size > 0 && size + length > maxFileBytes) {
+      roll();
+    }
+    out.write(bytes, 0, length);
+    out.flush();
+    size += length;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (out != null) {
+      out.close();
+      out = null;
+    }
+  }
+
+  private void open() throws IOException {
+    var parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    size = Files.size(file);
+  }
+
+  private void roll() throws IOException {
+    close();
+    Files.deleteIfExists(rolled(maxFiles - 1));
+    for (var i = maxFiles - 2; i >= 1; i--) {
+      var source = rolled(i);
+      if (Files.exists(source)) {
+        Files.move(source, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    if (maxFiles > 1) {
+      Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+    } else {
+      Files.delete(file);
+    }
+    open();
+  }
+
+  private Path rolled(int index) {
+    return file.resolveSibling(file.getFileName() + "." + index);
+  }
+}
@@ -0,0 +1,138 @@
+package br.com.arquivolivre.mcpeasy4j.bulkhead;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.Bulkhead;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size executor with a bounded queue that isolates one group of tools from the others. A call
+ * submitted while every thread is busy and the queue is full is rejected rather than waiting, which
+ * caps the number of dispatching threads a slow group can hold at its threads plus its queue.
+ */
+public final class BulkheadGroup implements BulkheadGroupMxBean {
+
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private final String name;
+  private final int queueCapacity;
+  private final ThreadPoolExecutor executor;
+  private final LongAdder rejected = new LongAdder();
+
+  /**
+   * Creates a bulkhead group. Idle threads are released after a minute.
+   *
+   * @param name the group name
+   * @param threads the maximum number of calls running at once
+   * @param queueCapacity the maximum number of calls waiting for a thread
+   * @param virtualThreads whether to run calls on virtual threads
+   * @throws IllegalArgumentException if threads is not positive or the queue capacity is negative
+   */
+  public BulkheadGroup(String name, int threads, int queueCapacity, boolean virtualThreads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException(
+          "Bulkhead " + name + " needs at least one thread: " + threads);
+    }
+    if (queueCapacity < 0) {
+      throw new IllegalArgumentException(
+          "Bulkhead " + name + " queue capacity must not be negative: " + queueCapacity);
+    }
+    this.name = name;
+    this.queueCapacity = queueCapacity;
+    BlockingQueue<Runnable> queue =
+        queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+    var threadPrefix = "mcp-bulkhead-" + name + "-";
+    var threadFactory =
+        virtualThreads
+            ? Thread.ofVirtual().name(threadPrefix, 0).factory()
+            : Thread.ofPlatform().name(threadPrefix, 0).daemon().factory();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue, threadFactory);
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Creates the bulkhead group described by an annotation.
+   *
+   * @param bulkhead the annotation
+   * @return the bulkhead group
+   */
+  public static BulkheadGroup of(Bulkhead bulkhead) {
+    return new BulkheadGroup(
+        bulkhead.name(), bulkhead.threads(), bulkhead.queueCapacity(), bulkhead.virtualThreads());
+  }
+
+  /**
+   * Submits a call to the group without waiting for room.
+   *
+   * @param call the call to run
+   * @param <T> the result type
+   * @return the future result of the call
+   * @throws RejectedExecutionException if the group is saturated or shut down
+   */
+  public <T> Future<T> submit(Callable<T> call) {
+    try {
+      return executor.submit(call);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw e;
+    }
+  }
+
+  /**
+   * Takes a point-in-time snapshot of the group.
+   *
+   * @return the snapshot
+   */
+  public BulkheadSnapshot snapshot() {
+    return new BulkheadSnapshot(
+        getThreads(), queueCapacity, getActive(), getQueueDepth(), getCompleted(), getRejected());
+  }
+
+  /** Stops accepting calls and lets the ones already submitted finish. */
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public int getThreads() {
+    return executor.getMaximumPoolSize();
+  }
+
+  @Override
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  @Override
+  public int getActive() {
+    return executor.getActiveCount();
+  }
+
+  @Override
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  @Override
+  public long getCompleted() {
+    return executor.getCompletedTaskCount();
+  }
+
+  @Override
+  public long getRejected() {
+    return rejected.sum();
+  }
+}
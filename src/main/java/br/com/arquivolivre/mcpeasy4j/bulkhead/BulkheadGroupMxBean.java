@@ -0,0 +1,57 @@
+package br.com.arquivolivre.mcpeasy4j.bulkhead;
+
+import javax.management.MXBean;
+
+/** JMX view of a bulkhead group's saturation. */
+@MXBean
+public interface BulkheadGroupMxBean {
+
+  /**
+   * Returns the group name.
+   *
+   * @return the group name
+   */
+  String getName();
+
+  /**
+   * Returns the maximum number of calls running at once.
+   *
+   * @return the thread count
+   */
+  int getThreads();
+
+  /**
+   * Returns the maximum number of calls waiting for a thread.
+   *
+   * @return the queue capacity
+   */
+  int getQueueCapacity();
+
+  /**
+   * Returns the number of calls running now.
+   *
+   * @return the active call count
+   */
+  int getActive();
+
+  /**
+   * Returns the number of calls waiting for a thread now.
+   *
+   * @return the queue depth
+   */
+  int getQueueDepth();
+
+  /**
+   * Returns the number of calls that finished running.
+   *
+   * @return the completed call count
+   */
+  long getCompleted();
+
+  /**
+   * Returns the number of calls rejected because the group was saturated.
+   *
+   * @return the rejected call count
+   */
+  long getRejected();
+}
@@ -0,0 +1,14 @@
+package br.com.arquivolivre.mcpeasy4j.bulkhead;
+
+/**
+ * Point-in-time view of a bulkhead group.
+ *
+ * @param threads maximum number of calls running at once
+ * @param queueCapacity maximum number of calls waiting for a thread
+ * @param active calls running
+ * @param queueDepth calls waiting for a thread
+ * @param completed calls that finished running
+ * @param rejected calls rejected because the group was saturated
+ */
+public record BulkheadSnapshot(
+    int threads, int queueCapacity, int active, int queueDepth, long completed, long rejected) {}
@@ -0,0 +1,69 @@
+package br.com.arquivolivre.mcpeasy4j.bulkhead;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.Bulkhead;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bulkhead groups shared by every server started in the JVM, by name. The first server declaring a
+ * group creates it, later servers declaring the same group get the same executor, and the group is
+ * shut down once the last of them releases it. Servers on separate endpoints therefore draw from
+ * one set of threads per group instead of one per server.
+ */
+public final class SharedBulkheads {
+
+  private static final Map<String, Shared> GROUPS = new HashMap<>();
+
+  private SharedBulkheads() {}
+
+  /**
+   * Returns the group described by an annotation, creating it if no running server uses it yet.
+   *
+   * @param bulkhead the annotation
+   * @return the shared bulkhead group
+   * @throws IllegalArgumentException if a running server declares the group with other settings, or
+   *     the group is misconfigured
+   */
+  public static synchronized BulkheadGroup acquire(Bulkhead bulkhead) {
+    var shared = GROUPS.get(bulkhead.name());
+    if (shared == null) {
+      shared = new Shared(bulkhead, BulkheadGroup.of(bulkhead));
+      GROUPS.put(bulkhead.name(), shared);
+    } else if (!shared.declaration.equals(bulkhead)) {
+      throw new IllegalArgumentException(
+          "Bulkhead " + bulkhead.name() + " is already declared with other settings");
+    }
+    shared.users++;
+    return shared.group;
+  }
+
+  /**
+   * Releases a group returned by {@link #acquire(Bulkhead)}, shutting it down if no other server
+   * uses it.
+   *
+   * @param group the bulkhead group
+   */
+  public static synchronized void release(BulkheadGroup group) {
+    var shared = GROUPS.get(group.getName());
+    if (shared == null || shared.group != group) {
+      return;
+    }
+    if (--shared.users == 0) {
+      GROUPS.remove(group.getName());
+      group.shutdown();
+    }
+  }
+
+  /** A group with the declaration it was created from and the number of servers using it. */
+  private static final class Shared {
+
+    private final Bulkhead declaration;
+    private final BulkheadGroup group;
+    private int users;
+
+    private Shared(Bulkhead declaration, BulkheadGroup group) {
+      this.declaration = declaration;
+      this.group = group;
+    }
+  }
+}
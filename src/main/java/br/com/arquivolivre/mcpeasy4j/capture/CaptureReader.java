@@ -0,0 +1,69 @@
+package br.com.arquivolivre.mcpeasy4j.capture;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Reads the requests recorded by a {@link CaptureWriter}. */
+public final class CaptureReader {
+
+  private CaptureReader() {}
+
+  /**
+   * Reads every request of a capture file, in arrival order. Reading stops at the end of the file
+   * or at the zero-filled tail left by a capture that was not closed.
+   *
+   * @param file the capture file
+   * @return the captured requests
+   * @throws IOException if the file cannot be read, is not a capture file, or ends mid-record
+   */
+  public static List<CapturedRequest> read(Path file) throws IOException {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      int magic;
+      int version;
+      try {
+        magic = in.readInt();
+        version = in.readInt();
+      } catch (EOFException e) {
+        throw new IOException("Not a capture file: " + file, e);
+      }
+      if (magic != CaptureWriter.MAGIC) {
+        throw new IOException("Not a capture file: " + file);
+      }
+      if (version != CaptureWriter.VERSION) {
+        throw new IOException("Unsupported capture version " + version + ": " + file);
+      }
+
+      var requests = new ArrayList<CapturedRequest>();
+      var header = new byte[CaptureWriter.RECORD_HEADER_BYTES];
+      while (in.readNBytes(header, 0, header.length) == header.length) {
+        var record = ByteBuffer.wrap(header);
+        var code = record.get(Long.BYTES);
+        if (code == 0) {
+          break;
+        }
+        var method = CapturedRequest.methodOf(code);
+        if (method == null) {
+          throw new IOException("Unknown method code " + code + " in capture file: " + file);
+        }
+        var length = record.getInt(Long.BYTES + 1);
+        if (length < 0) {
+          throw new IOException("Corrupt record in capture file: " + file);
+        }
+        var params = new byte[length];
+        in.readFully(params);
+        requests.add(
+            new CapturedRequest(
+                record.getLong(0), method, new String(params, StandardCharsets.UTF_8)));
+      }
+      return List.copyOf(requests);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package br.com.arquivolivre.mcpeasy4j.capture;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends captured requests to a compact binary file through memory-mapped segments, so recording a
+ * request is a few stores into mapped memory rather than a system call. The file starts with a
+ * magic number and a format version; each record then holds the arrival time in nanoseconds since
+ * the capture started, a one-byte method code, and the length-prefixed JSON parameters. Segments
+ * are mapped past the end of the data and zero-filled, so a capture cut short by a crash simply
+ * ends at the first zero method code; a clean {@link #close()} trims the file to the data.
+ */
+public final class CaptureWriter implements AutoCloseable {
+
+  /** Default size of each mapped segment in bytes. */
+  public static final int DEFAULT_SEGMENT_BYTES = 4 * 1024 * 1024;
+
+  static final int MAGIC = 0x4D435043; // "MCPC"
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 2 * Integer.BYTES;
+  static final int RECORD_HEADER_BYTES = Long.BYTES + 1 + Integer.BYTES;
+
+  private static final System.Logger LOGGER = System.getLogger(CaptureWriter.class.getName());
+
+  private final FileChannel channel;
+  private final int segmentBytes;
+  private final long startNanos;
+  private MappedByteBuffer segment;
+  private long written;
+  private boolean closed;
+
+  /**
+   * Creates a capture file with the default segment size, replacing any existing file.
+   *
+   * @param file the capture file
+   * @throws IOException if the file cannot be created or mapped
+   */
+  public CaptureWriter(Path file) throws IOException {
+    this(file, DEFAULT_SEGMENT_BYTES);
+  }
+
+  /**
+   * Creates a capture file, replacing any existing file. Capture time starts now.
+   *
+   * @param file the capture file
+   * @param segmentBytes the size of each mapped segment; larger records get a segment of their own
+   * @throws IllegalArgumentException if the segment cannot hold the file header
+   * @throws IOException if the file cannot be created or mapped
+   */
+  public CaptureWriter(Path file, int segmentBytes) throws IOException {
+    if (segmentBytes < HEADER_BYTES) {
+      throw new IllegalArgumentException("Capture segments are too small: " + segmentBytes);
+    }
+    var parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    this.segmentBytes = segmentBytes;
+    this.channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    var opened = false;
+    try {
+      reserve(HEADER_BYTES);
+      segment.putInt(MAGIC).putInt(VERSION);
+      written = HEADER_BYTES;
+      opened = true;
+    } finally {
+      if (!opened) {
+        channel.close();
+      }
+    }
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * Returns whether requests of a method are captured.
+   *
+   * @param method the JSON-RPC method
+   * @return true for tools/call, resources/read and prompts/get
+   */
+  public static boolean captures(String method) {
+    return CapturedRequest.codeOf(method) != 0;
+  }
+
+  /**
+   * Appends a request, stamped with the time elapsed since the capture started. Requests of other
+   * methods than those listed in {@link CapturedRequest} are ignored, as are requests arriving
+   * after {@link #close()}.
+   *
+   * @param method the JSON-RPC method
+   * @param params the request parameters as UTF-8 JSON
+   * @return whether the request was recorded
+   * @throws IOException if the next segment cannot be mapped
+   */
+  public synchronized boolean record(String method, byte[] params) throws IOException {
+    var code = CapturedRequest.codeOf(method);
+    if (closed || code == 0) {
+      return false;
+    }
+    var offsetNanos = System.nanoTime() - startNanos;
+    reserve(RECORD_HEADER_BYTES + params.length);
+    segment.putLong(offsetNanos).put(code).putInt(params.length).put(params);
+    written += RECORD_HEADER_BYTES + params.length;
+    return true;
+  }
+
+  /**
+   * Returns the number of bytes captured so far, including the file header.
+   *
+   * @return the captured size
+   */
+  public synchronized long size() {
+    return written;
+  }
+
+  /** Flushes the mapped segment, trims the file to the captured data and closes it. */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      segment.force();
+      segment = null;
+      try {
+        channel.truncate(written);
+      } catch (IOException e) {
+        // Some platforms refuse to truncate a mapped file; readers stop at the zero-filled tail
+        LOGGER.log(System.Logger.Level.DEBUG, "Failed to trim capture file", e);
+      }
+    } finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * Makes sure the current segment has room for the given number of bytes, mapping a new segment at
+   * the end of the data if it has not.
+   *
+   * @param bytes the number of bytes about to be written
+   * @throws IOException if the segment cannot be mapped
+   */
+  private void reserve(int bytes) throws IOException {
+    if (segment != null && segment.remaining() >= bytes) {
+      return;
+    }
+    if (segment != null) {
+      segment.force();
+    }
+    segment = channel.map(FileChannel.MapMode.READ_WRITE, written, Math.max(segmentBytes, bytes));
+  }
+}
@@ -0,0 +1,43 @@
+package br.com.arquivolivre.mcpeasy4j.capture;
+
+import io.modelcontextprotocol.spec.McpSchema;
+
+/**
+ * One captured {@code tools/call}, {@code resources/read} or {@code prompts/get} request.
+ *
+ * @param offsetNanos when the request arrived, in nanoseconds since the capture started
+ * @param method the JSON-RPC method
+ * @param params the request parameters as JSON
+ */
+public record CapturedRequest(long offsetNanos, String method, String params) {
+
+  /**
+   * Returns the code a method is stored under in capture files.
+   *
+   * @param method the JSON-RPC method
+   * @return the method code, or 0 if requests of this method are not captured
+   */
+  static byte codeOf(String method) {
+    return switch (method) {
+      case McpSchema.METHOD_TOOLS_CALL -> 1;
+      case McpSchema.METHOD_RESOURCES_READ -> 2;
+      case McpSchema.METHOD_PROMPT_GET -> 3;
+      default -> 0;
+    };
+  }
+
+  /**
+   * Returns the method stored under a code in capture files.
+   *
+   * @param code the method code
+   * @return the JSON-RPC method, or null if the code is unknown
+   */
+  static String methodOf(byte code) {
+    return switch (code) {
+      case 1 -> McpSchema.METHOD_TOOLS_CALL;
+      case 2 -> McpSchema.METHOD_RESOURCES_READ;
+      case 3 -> McpSchema.METHOD_PROMPT_GET;
+      default -> null;
+    };
+  }
+}
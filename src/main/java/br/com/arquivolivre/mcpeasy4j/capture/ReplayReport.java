@@ -0,0 +1,27 @@
+package br.com.arquivolivre.mcpeasy4j.capture;
+
+import br.com.arquivolivre.mcpeasy4j.metrics.HistogramSnapshot;
+import java.time.Duration;
+
+/**
+ * Outcome of replaying a capture.
+ *
+ * @param requests number of requests sent
+ * @param responses number of responses received before the replay timed out
+ * @param errors number of responses that were JSON-RPC errors or error results
+ * @param elapsed time from the first request sent to the last response received
+ * @param latency time from sending each request to receiving its response
+ */
+public record ReplayReport(
+    int requests, int responses, int errors, Duration elapsed, HistogramSnapshot latency) {
+
+  /**
+   * Returns the rate at which responses were received.
+   *
+   * @return responses per second, or 0 if the replay took no measurable time
+   */
+  public double throughputPerSecond() {
+    var nanos = elapsed.toNanos();
+    return nanos == 0 ? 0 : responses * 1e9 / nanos;
+  }
+}
@@ -0,0 +1,268 @@
+package br.com.arquivolivre.mcpeasy4j.capture;
+
+import br.com.arquivolivre.mcpeasy4j.McpServerBootstrap;
+import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import br.com.arquivolivre.mcpeasy4j.metrics.LatencyHistogram;
+import br.com.arquivolivre.mcpeasy4j.transport.BufferedStdioServerTransportProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.ProtocolVersions;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Feeds captured requests into a server started by {@link McpServerBootstrap}, over an in-memory
+ * pipe rather than stdin, and measures how long each response takes. Requests are pipelined: each
+ * one is sent when its turn comes, without waiting for earlier responses, so replaying at original
+ * speed reproduces the concurrency of the captured traffic and replaying at maximum speed measures
+ * peak throughput. Replaying the same capture before and after a change compares both on identical
+ * traffic.
+ */
+public final class TrafficReplayer {
+
+  /** How fast captured requests are sent. */
+  public enum Speed {
+    /** Keeps the gaps between requests as they were captured. */
+    ORIGINAL,
+    /** Sends every request as soon as the previous one was written. */
+    MAXIMUM
+  }
+
+  /** Time to wait for outstanding responses once every request has been sent. */
+  static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(30);
+
+  private static final String INITIALIZE_ID = "replay-initialize";
+  private static final int PIPE_BYTES = 1024 * 1024;
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final System.Logger LOGGER = System.getLogger(TrafficReplayer.class.getName());
+
+  private final List<CapturedRequest> requests;
+  private final Path source;
+
+  /**
+   * Creates a replayer for the given requests.
+   *
+   * @param requests the requests, in arrival order
+   */
+  public TrafficReplayer(List<CapturedRequest> requests) {
+    this(requests, null);
+  }
+
+  private TrafficReplayer(List<CapturedRequest> requests, Path source) {
+    this.requests = List.copyOf(requests);
+    this.source = source;
+  }
+
+  /**
+   * Creates a replayer for the requests of a capture file.
+   *
+   * @param capture the capture file
+   * @return the replayer
+   * @throws IOException if the capture cannot be read
+   */
+  public static TrafficReplayer load(Path capture) throws IOException {
+    return new TrafficReplayer(CaptureReader.read(capture), capture);
+  }
+
+  /**
+   * Starts a server, replays every request into it and shuts it down again.
+   *
+   * @param serverClass the class annotated with @McpServer
+   * @param speed how fast requests are sent
+   * @return the replay report
+   * @throws IllegalArgumentException if the server would capture into the file being replayed
+   * @throws IllegalStateException if the server does not answer the initialize request
+   * @throws IOException if the requests cannot be encoded or sent
+   * @throws InterruptedException if interrupted while waiting to send or for responses
+   */
+  public ReplayReport replay(Class<?> serverClass, Speed speed)
+      throws IOException, InterruptedException {
+    checkNotCapturingInto(serverClass);
+    var lines = encode();
+
+    var clientOut = new PipedOutputStream();
+    var serverIn = new PipedInputStream(clientOut, PIPE_BYTES);
+    var serverOut = new PipedOutputStream();
+    var clientIn = new PipedInputStream(serverOut, PIPE_BYTES);
+    var responses = new Responses(lines.length);
+    var reader =
+        Thread.ofPlatform()
+            .name("mcp-replay-reader")
+            .daemon()
+            .start(() -> responses.readFrom(clientIn));
+    var handle =
+        McpServerBootstrap.start(
+            serverClass,
+            new BufferedStdioServerTransportProvider(OBJECT_MAPPER, serverIn, serverOut));
+    try {
+      send(clientOut, initializeRequest());
+      if (!responses.initialized.await(RESPONSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new IllegalStateException("Server did not answer the initialize request");
+      }
+      send(
+          clientOut,
+          OBJECT_MAPPER.writeValueAsBytes(
+              new McpSchema.JSONRPCNotification(
+                  McpSchema.JSONRPC_VERSION, McpSchema.METHOD_NOTIFICATION_INITIALIZED, null)));
+
+      var start = System.nanoTime();
+      var firstOffset = requests.isEmpty() ? 0 : requests.get(0).offsetNanos();
+      for (var i = 0; i < lines.length; i++) {
+        if (speed == Speed.ORIGINAL) {
+          waitUntil(start + requests.get(i).offsetNanos() - firstOffset);
+        }
+        responses.sent.set(i, System.nanoTime());
+        send(clientOut, lines[i]);
+      }
+      if (!responses.answered.await(RESPONSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        LOGGER.log(
+            System.Logger.Level.WARNING,
+            "Replay timed out with " + responses.answered.getCount() + " responses missing");
+      }
+
+      var received = lines.length - (int) responses.answered.getCount();
+      var elapsed = received == 0 ? 0 : Math.max(0, responses.lastResponse.get() - start);
+      return new ReplayReport(
+          lines.length,
+          received,
+          responses.errors.get(),
+          Duration.ofNanos(elapsed),
+          responses.latency.snapshot());
+    } finally {
+      handle.shutdown(Duration.ZERO);
+      clientOut.close();
+      clientIn.close();
+      reader.interrupt();
+    }
+  }
+
+  /**
+   * Refuses to replay a capture file into a server configured to capture into that same file, which
+   * would truncate it.
+   *
+   * @param serverClass the server class
+   * @throws IllegalArgumentException if the server would overwrite the capture
+   */
+  private void checkNotCapturingInto(Class<?> serverClass) {
+    var annotation = serverClass.getAnnotation(McpServer.class);
+    if (source == null || annotation == null || annotation.captureFile().isEmpty()) {
+      return;
+    }
+    var target = Path.of(annotation.captureFile()).toAbsolutePath().normalize();
+    if (target.equals(source.toAbsolutePath().normalize())) {
+      throw new IllegalArgumentException(
+          "Server " + serverClass.getName() + " would overwrite the capture being replayed");
+    }
+  }
+
+  /**
+   * Encodes every request as a JSON-RPC message up front, so the replay loop only writes bytes.
+   * Requests are numbered by their position.
+   *
+   * @return the encoded requests
+   * @throws IOException if captured parameters are not valid JSON
+   */
+  private byte[][] encode() throws IOException {
+    var lines = new byte[requests.size()][];
+    for (var i = 0; i < lines.length; i++) {
+      var request = requests.get(i);
+      var message = OBJECT_MAPPER.createObjectNode();
+      message.put("jsonrpc", McpSchema.JSONRPC_VERSION);
+      message.put("id", i);
+      message.put("method", request.method());
+      message.set("params", OBJECT_MAPPER.readTree(request.params()));
+      lines[i] = OBJECT_MAPPER.writeValueAsBytes(message);
+    }
+    return lines;
+  }
+
+  private static byte[] initializeRequest() throws IOException {
+    return OBJECT_MAPPER.writeValueAsBytes(
+        new McpSchema.JSONRPCRequest(
+            McpSchema.JSONRPC_VERSION,
+            McpSchema.METHOD_INITIALIZE,
+            INITIALIZE_ID,
+            new McpSchema.InitializeRequest(
+                ProtocolVersions.MCP_2025_06_18,
+                McpSchema.ClientCapabilities.builder().build(),
+                new McpSchema.Implementation("mcp-easy4j-replay", "1.0.0"))));
+  }
+
+  private static void send(OutputStream out, byte[] line) throws IOException {
+    out.write(line);
+    out.write('\n');
+    out.flush();
+  }
+
+  private static void waitUntil(long deadlineNanos) throws InterruptedException {
+    long remaining;
+    while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+    }
+  }
+
+  /** Matches responses to the requests they answer, by id. */
+  private static final class Responses {
+    final AtomicLongArray sent;
+    final LatencyHistogram latency = new LatencyHistogram();
+    final AtomicInteger errors = new AtomicInteger();
+    final AtomicLong lastResponse = new AtomicLong();
+    final CountDownLatch initialized = new CountDownLatch(1);
+    final CountDownLatch answered;
+
+    Responses(int requests) {
+      this.sent = new AtomicLongArray(requests);
+      this.answered = new CountDownLatch(requests);
+    }
+
+    /**
+     * Reads server messages until the pipe closes. Notifications and unknown ids are skipped.
+     *
+     * @param in the server output
+     */
+    void readFrom(InputStream in) {
+      try (var lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = lines.readLine()) != null) {
+          var received = System.nanoTime();
+          var message = OBJECT_MAPPER.readTree(line);
+          var id = message.get("id");
+          if (id == null) {
+            continue;
+          }
+          if (INITIALIZE_ID.equals(id.asText())) {
+            initialized.countDown();
+          } else if (id.canConvertToInt() && id.asInt() >= 0 && id.asInt() < sent.length()) {
+            latency.record(received - sent.get(id.asInt()));
+            if (message.has("error") || message.path("result").path("isError").asBoolean()) {
+              errors.incrementAndGet();
+            }
+            lastResponse.set(received);
+            answered.countDown();
+          }
+        }
+      } catch (IOException e) {
+        // The pipe is closed once the replay is over
+        LOGGER.log(System.Logger.Level.DEBUG, "Stopped reading replay responses", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package br.com.arquivolivre.mcpeasy4j.circuitbreaker;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.CircuitBreaker;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker state of a single tool over a count-based sliding window. While closed, admitting
+ * a call is a single volatile read; the window itself is updated under the breaker's lock, which is
+ * only held to record an outcome. Transitions are reported to a {@link Listener} outside the lock.
+ */
+public final class Circuit {
+
+  /** Circuit state. */
+  public enum State {
+    /** Calls go through and their outcomes are recorded. */
+    CLOSED,
+    /** Calls fail fast until the open duration elapses. */
+    OPEN,
+    /** A limited number of probe calls go through to test the backend. */
+    HALF_OPEN
+  }
+
+  /** Receives state transitions. */
+  @FunctionalInterface
+  public interface Listener {
+    /**
+     * Called after the circuit changed state.
+     *
+     * @param from the previous state
+     * @param to the new state
+     * @param reason why the state changed
+     */
+    void onTransition(State from, State to, String reason);
+  }
+
+  private static final byte FAILED = 1;
+  private static final byte SLOW = 2;
+
+  private final int minimumCalls;
+  private final double failureRateThreshold;
+  private final long slowCallNanos;
+  private final double slowCallRateThreshold;
+  private final long openNanos;
+  private final int probeCalls;
+  private final Listener listener;
+  private final LongSupplier clock;
+
+  // Sliding window of outcomes, guarded by this
+  private final byte[] window;
+  private int next;
+  private int recorded;
+  private int failures;
+  private int slowCalls;
+  private long openedAt;
+  private int probesAdmitted;
+  private volatile State state = State.CLOSED;
+
+  /**
+   * Creates a closed circuit breaker.
+   *
+   * @param annotation the thresholds
+   * @param listener receives state transitions
+   */
+  public Circuit(CircuitBreaker annotation, Listener listener) {
+    this(annotation, listener, System::nanoTime);
+  }
+
+  /**
+   * Creates a closed circuit breaker reading time from the given clock.
+   *
+   * @param annotation the thresholds
+   * @param listener receives state transitions
+   * @param clock the nanosecond clock
+   * @throws IllegalArgumentException if a size or duration is not positive
+   */
+  Circuit(CircuitBreaker annotation, Listener listener, LongSupplier clock) {
+    if (annotation.windowSize() < 1 || annotation.probeCalls() < 1) {
+      throw new IllegalArgumentException("Circuit breaker window and probe calls must be positive");
+    }
+    if (annotation.openMillis() < 1 || annotation.slowCallMillis() < 1) {
+      throw new IllegalArgumentException("Circuit breaker durations must be positive");
+    }
+    this.window = new byte[annotation.windowSize()];
+    this.minimumCalls = Math.max(1, Math.min(annotation.minimumCalls(), annotation.windowSize()));
+    this.failureRateThreshold = annotation.failureRateThreshold();
+    this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(annotation.slowCallMillis());
+    this.slowCallRateThreshold = annotation.slowCallRateThreshold();
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(annotation.openMillis());
+    this.probeCalls = annotation.probeCalls();
+    this.listener = listener;
+    this.clock = clock;
+  }
+
+  /**
+   * Asks whether a call may go through. A call that was admitted must be followed by exactly one
+   * {@link #onResult(long, boolean)} or {@link #releasePermission()}.
+   *
+   * @return true if the call may go through, false if it must fail fast
+   */
+  public boolean tryAcquire() {
+    if (state == State.CLOSED) {
+      return true;
+    }
+    String reason = null;
+    boolean admitted;
+    synchronized (this) {
+      if (state == State.OPEN) {
+        if (clock.getAsLong() - openedAt < openNanos) {
+          return false;
+        }
+        reason = "open for " + TimeUnit.NANOSECONDS.toMillis(openNanos) + " ms, probing";
+        moveTo(State.HALF_OPEN);
+      }
+      admitted = state == State.CLOSED || probesAdmitted < probeCalls;
+      if (admitted && state == State.HALF_OPEN) {
+        probesAdmitted++;
+      }
+    }
+    if (reason != null) {
+      listener.onTransition(State.OPEN, State.HALF_OPEN, reason);
+    }
+    return admitted;
+  }
+
+  /**
+   * Records the outcome of an admitted call.
+   *
+   * @param durationNanos how long the call took
+   * @param success whether the call succeeded
+   */
+  public void onResult(long durationNanos, boolean success) {
+    State from;
+    State to;
+    String reason;
+    synchronized (this) {
+      from = state;
+      if (from == State.OPEN) {
+        return; // Admitted before the circuit opened, the window was already judged
+      }
+      record(success, durationNanos >= slowCallNanos);
+      reason = from == State.CLOSED ? evaluateClosed() : evaluateHalfOpen();
+      to = state;
+    }
+    if (reason != null) {
+      listener.onTransition(from, to, reason);
+    }
+  }
+
+  /** Gives back the permission of an admitted call that never ran. */
+  public synchronized void releasePermission() {
+    if (state == State.HALF_OPEN && probesAdmitted > recorded) {
+      probesAdmitted--;
+    }
+  }
+
+  /**
+   * Returns the current state.
+   *
+   * @return the state
+   */
+  public State state() {
+    return state;
+  }
+
+  private void record(boolean success, boolean slow) {
+    if (recorded == window.length) {
+      var evicted = window[next];
+      failures -= evicted & FAILED;
+      slowCalls -= (evicted & SLOW) >> 1;
+    } else {
+      recorded++;
+    }
+    var outcome = (byte) ((success ? 0 : FAILED) | (slow ? SLOW : 0));
+    window[next] = outcome;
+    next = (next + 1) % window.length;
+    failures += outcome & FAILED;
+    slowCalls += (outcome & SLOW) >> 1;
+  }
+
+  private String evaluateClosed() {
+    if (recorded < minimumCalls) {
+      return null;
+    }
+    var reason = thresholdExceeded();
+    if (reason != null) {
+      open();
+    }
+    return reason;
+  }
+
+  private String evaluateHalfOpen() {
+    if (recorded < probeCalls) {
+      return null;
+    }
+    var reason = thresholdExceeded();
+    if (reason != null) {
+      open();
+      return "probe " + reason;
+    }
+    moveTo(State.CLOSED);
+    return "probe calls succeeded";
+  }
+
+  private String thresholdExceeded() {
+    var failureRate = 100.0 * failures / recorded;
+    if (failureRate >= failureRateThreshold) {
+      return String.format(
+          "failure rate %.1f%% reached threshold %.1f%%", failureRate, failureRateThreshold);
+    }
+    var slowCallRate = 100.0 * slowCalls / recorded;
+    if (slowCallRate >= slowCallRateThreshold) {
+      return String.format(
+          "slow call rate %.1f%% reached threshold %.1f%%", slowCallRate, slowCallRateThreshold);
+    }
+    return null;
+  }
+
+  private void open() {
+    openedAt = clock.getAsLong();
+    moveTo(State.OPEN);
+  }
+
+  private void moveTo(State to) {
+    next = 0;
+    recorded = 0;
+    failures = 0;
+    slowCalls = 0;
+    probesAdmitted = 0;
+    state = to;
+  }
+}
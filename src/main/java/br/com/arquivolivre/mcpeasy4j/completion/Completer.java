@@ -0,0 +1,79 @@
+package br.com.arquivolivre.mcpeasy4j.completion;
+
+/**
+ * Completes the values of one argument from a {@link PrefixIndex} over the candidates of a {@link
+ * CompletionProvider}. Refreshing builds a new index off to the side and then swaps it in, so
+ * lookups are never blocked and always see a complete index.
+ */
+public final class Completer {
+
+  private static final System.Logger LOGGER = System.getLogger(Completer.class.getName());
+
+  private final CompletionProvider provider;
+  private volatile PrefixIndex index = PrefixIndex.EMPTY;
+
+  /**
+   * Creates a completer with an empty index; call {@link #refresh()} to fill it.
+   *
+   * @param provider the provider of the candidate values
+   */
+  public Completer(CompletionProvider provider) {
+    this.provider = provider;
+  }
+
+  /**
+   * Creates a completer for a provider class through its no-argument constructor.
+   *
+   * @param providerClass the provider class
+   * @return the completer, with an empty index
+   * @throws IllegalStateException if the provider cannot be created
+   */
+  public static Completer of(Class<? extends CompletionProvider> providerClass) {
+    try {
+      return new Completer(providerClass.getDeclaredConstructor().newInstance());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          "Failed to create completion provider " + providerClass.getName() + ": " + e.getMessage(),
+          e);
+    }
+  }
+
+  /**
+   * Rebuilds the index from the provider's current candidates. Concurrent refreshes run one at a
+   * time. A provider that fails leaves the previous index in place.
+   *
+   * @return true if the index was rebuilt
+   */
+  public synchronized boolean refresh() {
+    try (var candidates = provider.candidates()) {
+      index = PrefixIndex.of(candidates);
+      return true;
+    } catch (RuntimeException e) {
+      LOGGER.log(
+          System.Logger.Level.WARNING,
+          "Failed to refresh completions from " + provider.getClass().getName(),
+          e);
+      return false;
+    }
+  }
+
+  /**
+   * Finds the candidates starting with a prefix, ignoring case.
+   *
+   * @param prefix the value typed so far
+   * @param limit the maximum number of values returned
+   * @return the matching candidates
+   */
+  public PrefixIndex.Matches complete(String prefix, int limit) {
+    return index.lookup(prefix, limit);
+  }
+
+  /**
+   * Returns the number of candidates in the current index.
+   *
+   * @return the candidate count
+   */
+  public int size() {
+    return index.size();
+  }
+}
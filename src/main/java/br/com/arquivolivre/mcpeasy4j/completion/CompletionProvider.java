@@ -0,0 +1,20 @@
+package br.com.arquivolivre.mcpeasy4j.completion;
+
+import java.util.stream.Stream;
+
+/**
+ * Supplies the candidate values of a completable argument, named by {@link
+ * br.com.arquivolivre.mcpeasy4j.annotation.Completion}. Implementations need a public no-argument
+ * constructor.
+ */
+@FunctionalInterface
+public interface CompletionProvider {
+
+  /**
+   * Returns every candidate value. Called once on startup and again on every refresh, from a
+   * background thread after startup; the stream is closed once it has been read.
+   *
+   * @return the candidate values, in any order
+   */
+  Stream<String> candidates();
+}
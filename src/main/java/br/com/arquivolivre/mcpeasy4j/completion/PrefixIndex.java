@@ -0,0 +1,174 @@
+package br.com.arquivolivre.mcpeasy4j.completion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, case-insensitive prefix index over a set of strings. Values are sorted ignoring case
+ * and packed into a single character array with an offset per value, so millions of candidates cost
+ * little more than their characters, and a lookup is two binary searches followed by a copy of the
+ * values returned. Values equal ignoring case are all kept; exact duplicates are dropped.
+ */
+public final class PrefixIndex {
+
+  /** An index without values. */
+  public static final PrefixIndex EMPTY = new PrefixIndex(new char[0], new int[] {0});
+
+  private final char[] chars;
+  // Start of every value in chars, followed by the end of the last one
+  private final int[] offsets;
+
+  private PrefixIndex(char[] chars, int[] offsets) {
+    this.chars = chars;
+    this.offsets = offsets;
+  }
+
+  /**
+   * Builds an index from candidate values. Null values are skipped.
+   *
+   * @param values the candidate values, in any order
+   * @return the index
+   */
+  public static PrefixIndex of(Stream<String> values) {
+    var sorted =
+        values
+            .filter(value -> value != null)
+            .sorted(PrefixIndex::compareIgnoringCase)
+            .toArray(String[]::new);
+    if (sorted.length == 0) {
+      return EMPTY;
+    }
+    var offsets = new int[sorted.length + 1];
+    var length = 0L;
+    var count = 0;
+    for (var i = 0; i < sorted.length; i++) {
+      if (i > 0 && sorted[i].equals(sorted[i - 1])) {
+        continue;
+      }
+      sorted[count++] = sorted[i];
+      length += sorted[i].length();
+    }
+    if (length > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many characters to index: " + length);
+    }
+    var chars = new char[(int) length];
+    var position = 0;
+    for (var i = 0; i < count; i++) {
+      offsets[i] = position;
+      sorted[i].getChars(0, sorted[i].length(), chars, position);
+      position += sorted[i].length();
+    }
+    offsets[count] = position;
+    return new PrefixIndex(chars, Arrays.copyOf(offsets, count + 1));
+  }
+
+  /**
+   * Returns the number of values.
+   *
+   * @return the value count
+   */
+  public int size() {
+    return offsets.length - 1;
+  }
+
+  /**
+   * Finds the values starting with a prefix, ignoring case.
+   *
+   * @param prefix the prefix; empty or null matches every value
+   * @param limit the maximum number of values returned
+   * @return the first matching values in index order and the number of matching values
+   */
+  public Matches lookup(String prefix, int limit) {
+    var key = prefix == null ? "" : prefix;
+    var from = search(key, false);
+    var to = search(key, true);
+    var values = new ArrayList<String>(Math.min(Math.max(limit, 0), to - from));
+    for (var i = from; i < to && values.size() < limit; i++) {
+      values.add(new String(chars, offsets[i], offsets[i + 1] - offsets[i]));
+    }
+    return new Matches(List.copyOf(values), to - from);
+  }
+
+  /**
+   * Binary search for the first value that sorts after the prefix: either at or after the values
+   * starting with it, or only after them.
+   *
+   * @param prefix the prefix
+   * @param after true to skip the values starting with the prefix
+   * @return the position of the value
+   */
+  private int search(String prefix, boolean after) {
+    var low = 0;
+    var high = size();
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+      var comparison = comparePrefix(middle, prefix);
+      if (comparison < 0 || (after && comparison == 0)) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Compares the start of a value with a prefix, ignoring case.
+   *
+   * @param index the position of the value
+   * @param prefix the prefix
+   * @return 0 if the value starts with the prefix, otherwise the order of the value
+   */
+  private int comparePrefix(int index, String prefix) {
+    var start = offsets[index];
+    var length = offsets[index + 1] - start;
+    var common = Math.min(length, prefix.length());
+    for (var i = 0; i < common; i++) {
+      var difference = fold(chars[start + i]) - fold(prefix.charAt(i));
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return length < prefix.length() ? -1 : 0;
+  }
+
+  /**
+   * Orders strings ignoring case, consistently with the lookups, and then exactly, so that equal
+   * strings end up next to each other.
+   */
+  private static int compareIgnoringCase(String left, String right) {
+    var common = Math.min(left.length(), right.length());
+    for (var i = 0; i < common; i++) {
+      var difference = fold(left.charAt(i)) - fold(right.charAt(i));
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    var difference = left.length() - right.length();
+    return difference != 0 ? difference : left.compareTo(right);
+  }
+
+  private static char fold(char c) {
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+
+  /**
+   * Values found by a lookup.
+   *
+   * @param values the first matching values, at most the requested limit
+   * @param total the number of matching values
+   */
+  public record Matches(List<String> values, int total) {
+
+    /**
+     * Returns whether more values match than were returned.
+     *
+     * @return true if the lookup was cut off by its limit
+     */
+    public boolean hasMore() {
+      return total > values.size();
+    }
+  }
+}
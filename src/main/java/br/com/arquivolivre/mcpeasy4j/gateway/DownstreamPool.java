@@ -0,0 +1,405 @@
+package br.com.arquivolivre.mcpeasy4j.gateway;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.Downstream;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.client.transport.StdioClientTransport;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Persistent client connections to the replicas of one downstream MCP server. Requests go to the
+ * replica with the fewest requests outstanding, with ties broken round robin, so a replica stuck on
+ * a slow call stops receiving new ones while the others absorb the load. The catalog of the
+ * downstream server is fetched once, when the pool is created.
+ *
+ * <p>A replica whose connection fails, for instance because its process exited, is taken out of
+ * rotation and reconnected in the background, retrying with a growing delay until it is back. Error
+ * responses and timeouts leave the replica in rotation, since the server is still answering or only
+ * slow. Pools without a way to reconnect only eject failed replicas.
+ */
+public final class DownstreamPool implements AutoCloseable {
+
+  private static final System.Logger LOGGER = System.getLogger(DownstreamPool.class.getName());
+
+  private static final long FIRST_RETRY_MILLIS = 500;
+  private static final long MAX_RETRY_MILLIS = 30_000;
+
+  private final String name;
+  private final AtomicReferenceArray<McpSyncClient> replicas;
+  private final AtomicIntegerArray outstanding;
+  private final AtomicIntegerArray failed;
+  private final Supplier<McpSyncClient> connector;
+  private volatile boolean closed;
+  private final AtomicInteger nextStart = new AtomicInteger();
+  private final List<McpSchema.Tool> tools;
+  private final List<McpSchema.Resource> resources;
+  private final List<McpSchema.Prompt> prompts;
+
+  /**
+   * Creates a pool over initialized clients and fetches the downstream catalog from the first one.
+   * Resources and prompts are only listed when the downstream server declares them.
+   *
+   * @param name the downstream name
+   * @param replicas the initialized clients, one per replica
+   * @throws IllegalArgumentException if there are no replicas
+   */
+  public DownstreamPool(String name, List<McpSyncClient> replicas) {
+    this(name, replicas, null);
+  }
+
+  /**
+   * Creates a pool over initialized clients that replaces failed replicas with clients from the
+   * given connector, and fetches the downstream catalog from the first one.
+   *
+   * @param name the downstream name
+   * @param replicas the initialized clients, one per replica
+   * @param connector starts and initializes a new replica, or null to only eject failed ones
+   * @throws IllegalArgumentException if there are no replicas
+   */
+  public DownstreamPool(
+      String name, List<McpSyncClient> replicas, Supplier<McpSyncClient> connector) {
+    if (replicas.isEmpty()) {
+      throw new IllegalArgumentException("Downstream " + name + " needs at least one replica");
+    }
+    this.name = name;
+    this.replicas = new AtomicReferenceArray<>(replicas.toArray(McpSyncClient[]::new));
+    this.outstanding = new AtomicIntegerArray(replicas.size());
+    this.failed = new AtomicIntegerArray(replicas.size());
+    this.connector = connector;
+
+    var client = replicas.get(0);
+    var capabilities = client.getServerCapabilities();
+    this.tools =
+        listAll(
+            client::listTools,
+            McpSchema.ListToolsResult::tools,
+            McpSchema.ListToolsResult::nextCursor);
+    this.resources =
+        capabilities != null && capabilities.resources() != null
+            ? listAll(
+                client::listResources,
+                McpSchema.ListResourcesResult::resources,
+                McpSchema.ListResourcesResult::nextCursor)
+            : List.of();
+    this.prompts =
+        capabilities != null && capabilities.prompts() != null
+            ? listAll(
+                client::listPrompts,
+                McpSchema.ListPromptsResult::prompts,
+                McpSchema.ListPromptsResult::nextCursor)
+            : List.of();
+  }
+
+  /**
+   * Starts the replicas of a downstream server as child processes and connects to each of them.
+   *
+   * @param downstream the downstream declaration
+   * @return the connected pool
+   * @throws IllegalArgumentException if the command is empty or there are no replicas
+   * @throws IllegalStateException if a replica cannot be started or initialized
+   */
+  public static DownstreamPool launch(Downstream downstream) {
+    var command = downstream.command();
+    if (command.length == 0) {
+      throw new IllegalArgumentException("Downstream " + downstream.name() + " has no command");
+    }
+    var parameters =
+        ServerParameters.builder(command[0])
+            .args(Arrays.asList(command).subList(1, command.length))
+            .build();
+    Supplier<McpSyncClient> connector = () -> connect(parameters, downstream);
+    var clients = new ArrayList<McpSyncClient>();
+    var connected = false;
+    try {
+      for (var i = 0; i < downstream.replicas(); i++) {
+        clients.add(connector.get());
+      }
+      var pool = new DownstreamPool(downstream.name(), clients, connector);
+      connected = true;
+      return pool;
+    } catch (RuntimeException e) {
+      throw new IllegalStateException(
+          "Failed to start downstream " + downstream.name() + ": " + e.getMessage(), e);
+    } finally {
+      if (!connected) {
+        clients.forEach(DownstreamPool::closeQuietly);
+      }
+    }
+  }
+
+  /**
+   * Starts one replica as a child process and initializes the connection to it.
+   *
+   * @param parameters the command starting the replica
+   * @param downstream the downstream declaration
+   * @return the initialized client
+   */
+  private static McpSyncClient connect(ServerParameters parameters, Downstream downstream) {
+    var client =
+        McpClient.sync(new StdioClientTransport(parameters, McpJsonMapper.getDefault()))
+            .requestTimeout(Duration.ofMillis(downstream.requestTimeoutMillis()))
+            .build();
+    try {
+      client.initialize();
+      return client;
+    } catch (RuntimeException e) {
+      closeQuietly(client);
+      throw e;
+    }
+  }
+
+  /**
+   * Sends a request to the healthy replica with the fewest requests outstanding. A failure of the
+   * connection takes the replica out of rotation before it is rethrown.
+   *
+   * @param request sends the request through the given client and returns its result
+   * @param <T> the result type
+   * @return the result of the request
+   * @throws IllegalStateException if no replica is healthy
+   */
+  public <T> T call(Function<McpSyncClient, T> request) {
+    var replica = select();
+    var client = replicas.get(replica);
+    outstanding.incrementAndGet(replica);
+    try {
+      return request.apply(client);
+    } catch (RuntimeException e) {
+      if (isConnectionFailure(e)) {
+        fail(replica, client, e);
+      }
+      throw e;
+    } finally {
+      outstanding.decrementAndGet(replica);
+    }
+  }
+
+  /**
+   * Picks the least loaded healthy replica, scanning from a rotating start so that idle replicas
+   * share the load evenly. Counts may change during the scan; an approximate choice is fine.
+   *
+   * @return the replica index
+   * @throws IllegalStateException if no replica is healthy
+   */
+  private int select() {
+    var size = replicas.length();
+    var start = Math.floorMod(nextStart.getAndIncrement(), size);
+    var best = -1;
+    var bestCount = Integer.MAX_VALUE;
+    for (var i = 0; i < size && bestCount > 0; i++) {
+      var candidate = (start + i) % size;
+      var count = outstanding.get(candidate);
+      if (failed.get(candidate) == 0 && count < bestCount) {
+        best = candidate;
+        bestCount = count;
+      }
+    }
+    if (best < 0) {
+      throw new IllegalStateException("No replica of downstream " + name + " is available");
+    }
+    return best;
+  }
+
+  /**
+   * Returns whether a request failed because the connection to the replica is broken, rather than
+   * because the server answered with an error or took too long.
+   *
+   * @param e the failure
+   * @return true for transport failures
+   */
+  private static boolean isConnectionFailure(RuntimeException e) {
+    if (e instanceof McpError) {
+      return false;
+    }
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof TimeoutException) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Takes a replica out of rotation and starts reconnecting it, unless it already failed or was
+   * replaced since the request was sent.
+   *
+   * @param replica the replica index
+   * @param client the client the request failed on
+   * @param cause the failure
+   */
+  private void fail(int replica, McpSyncClient client, RuntimeException cause) {
+    if (closed || replicas.get(replica) != client || !failed.compareAndSet(replica, 0, 1)) {
+      return;
+    }
+    LOGGER.log(
+        System.Logger.Level.WARNING,
+        "Replica " + replica + " of downstream " + name + " failed: " + cause.getMessage());
+    closeQuietly(client);
+    if (connector != null) {
+      Thread.ofPlatform()
+          .name("mcp-downstream-" + name + "-" + replica)
+          .daemon()
+          .start(() -> reconnect(replica));
+    }
+  }
+
+  /**
+   * Replaces a failed replica with a new connection, retrying with a doubling delay until it
+   * succeeds or the pool is closed.
+   *
+   * @param replica the replica index
+   */
+  private void reconnect(int replica) {
+    var delay = FIRST_RETRY_MILLIS;
+    while (!closed) {
+      try {
+        var client = connector.get();
+        replicas.set(replica, client);
+        failed.set(replica, 0);
+        if (closed) {
+          closeQuietly(client);
+        }
+        LOGGER.log(
+            System.Logger.Level.INFO, "Reconnected replica " + replica + " of downstream " + name);
+        return;
+      } catch (RuntimeException e) {
+        LOGGER.log(
+            System.Logger.Level.WARNING,
+            "Failed to reconnect replica "
+                + replica
+                + " of downstream "
+                + name
+                + ", retrying in "
+                + delay
+                + " ms: "
+                + e.getMessage());
+      }
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      delay = Math.min(delay * 2, MAX_RETRY_MILLIS);
+    }
+  }
+
+  /**
+   * Returns the downstream name, used as the namespace of its tools and prompts.
+   *
+   * @return the downstream name
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Returns the number of replicas.
+   *
+   * @return the replica count
+   */
+  public int size() {
+    return replicas.length();
+  }
+
+  /**
+   * Returns the number of requests currently sent to a replica and not answered yet.
+   *
+   * @param replica the replica index
+   * @return the outstanding request count
+   */
+  public int outstanding(int replica) {
+    return outstanding.get(replica);
+  }
+
+  /**
+   * Returns whether a replica is in rotation, that is, its connection has not failed or has been
+   * restored.
+   *
+   * @param replica the replica index
+   * @return true if requests may be sent to the replica
+   */
+  public boolean isHealthy(int replica) {
+    return failed.get(replica) == 0;
+  }
+
+  /**
+   * Returns the tools of the downstream server.
+   *
+   * @return the tools, under their downstream names
+   */
+  public List<McpSchema.Tool> tools() {
+    return tools;
+  }
+
+  /**
+   * Returns the resources of the downstream server.
+   *
+   * @return the resources, under their downstream URIs
+   */
+  public List<McpSchema.Resource> resources() {
+    return resources;
+  }
+
+  /**
+   * Returns the prompts of the downstream server.
+   *
+   * @return the prompts, under their downstream names
+   */
+  public List<McpSchema.Prompt> prompts() {
+    return prompts;
+  }
+
+  /** Closes the connection to every replica, which stops their processes. */
+  @Override
+  public void close() {
+    closed = true;
+    for (var i = 0; i < replicas.length(); i++) {
+      closeQuietly(replicas.get(i));
+    }
+  }
+
+  private static void closeQuietly(McpSyncClient client) {
+    try {
+      client.closeGracefully();
+    } catch (RuntimeException e) {
+      LOGGER.log(System.Logger.Level.DEBUG, "Failed to close downstream connection", e);
+    }
+  }
+
+  /**
+   * Follows list cursors until the last page.
+   *
+   * @param fetch fetches the page after a cursor, null for the first page
+   * @param entries extracts the entries of a page
+   * @param nextCursor extracts the cursor of the next page
+   * @param <R> the list result type
+   * @param <T> the entry type
+   * @return every entry
+   */
+  private static <R, T> List<T> listAll(
+      Function<String, R> fetch, Function<R, List<T>> entries, Function<R, String> nextCursor) {
+    var all = new ArrayList<T>();
+    String cursor = null;
+    do {
+      var page = fetch.apply(cursor);
+      if (entries.apply(page) != null) {
+        all.addAll(entries.apply(page));
+      }
+      cursor = nextCursor.apply(page);
+    } while (cursor != null);
+    return List.copyOf(all);
+  }
+}
@@ -0,0 +1,242 @@
+package br.com.arquivolivre.mcpeasy4j.invoker;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.LockKey;
+import br.com.arquivolivre.mcpeasy4j.annotation.PromptArgument;
+import br.com.arquivolivre.mcpeasy4j.annotation.Property;
+import br.com.arquivolivre.mcpeasy4j.logging.McpLogger;
+import br.com.arquivolivre.mcpeasy4j.progress.ProgressReporter;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Precomputed plan for binding call arguments to the parameters of one method: the argument name,
+ * declared type and position of every parameter, resolved once instead of on every call. Arguments
+ * are bound from the map the SDK deserializes the request into. A method with a {@link LockKey}
+ * parameter also holds the lock stripes of its key space, which live in a static table per
+ * declaring class and are shared by every method of that class and every instance in the JVM.
+ */
+final class ArgumentBinder {
+
+  /**
+   * Lock stripes of each class by {@link LockKey#value() key space}, shared by all of its methods
+   * so that calls to different methods with an equal key in the same space also run one at a time.
+   */
+  private static final ClassValue<Map<String, Lock[]>> STRIPES =
+      new ClassValue<>() {
+        @Override
+        protected Map<String, Lock[]> computeValue(Class<?> type) {
+          return stripesOf(type);
+        }
+      };
+
+  private final ObjectMapper objectMapper;
+  private final String[] names;
+  private final Class<?>[] rawTypes;
+  private final JavaType[] types;
+  private final boolean[] convertAlways;
+  private final boolean[] progressReporters;
+  private final boolean[] loggers;
+  private final int lockKey;
+  private final Lock[] stripes;
+
+  private ArgumentBinder(ObjectMapper objectMapper, Method method) {
+    var parameters = method.getParameters();
+    this.objectMapper = objectMapper;
+    this.names = new String[parameters.length];
+    this.rawTypes = new Class<?>[parameters.length];
+    this.types = new JavaType[parameters.length];
+    this.convertAlways = new boolean[parameters.length];
+    this.progressReporters = new boolean[parameters.length];
+    this.loggers = new boolean[parameters.length];
+    LockKey firstLockKey = null;
+    var lockKeySlot = -1;
+    for (var i = 0; i < parameters.length; i++) {
+      var parameter = parameters[i];
+      rawTypes[i] = parameter.getType();
+      if (rawTypes[i] == ProgressReporter.class) {
+        progressReporters[i] = true;
+        continue;
+      }
+      if (rawTypes[i] == McpLogger.class) {
+        loggers[i] = true;
+        continue;
+      }
+      names[i] = nameOf(parameter);
+      types[i] = objectMapper.getTypeFactory().constructType(parameter.getParameterizedType());
+      convertAlways[i] = hasTypedElements(types[i]);
+      var lockKeyAnnotation = parameter.getAnnotation(LockKey.class);
+      if (lockKeyAnnotation != null && firstLockKey == null) {
+        firstLockKey = lockKeyAnnotation;
+        lockKeySlot = i;
+      }
+    }
+    this.lockKey = lockKeySlot;
+    this.stripes =
+        firstLockKey == null
+            ? null
+            : STRIPES.get(method.getDeclaringClass()).get(firstLockKey.value());
+  }
+
+  /**
+   * Resolves the binding plan of a method.
+   *
+   * @param method the method
+   * @param objectMapper the ObjectMapper converting argument values
+   * @return the binder
+   */
+  static ArgumentBinder of(Method method, ObjectMapper objectMapper) {
+    return new ArgumentBinder(objectMapper, method);
+  }
+
+  /**
+   * Returns the number of parameters.
+   *
+   * @return the parameter count
+   */
+  int size() {
+    return names.length;
+  }
+
+  /**
+   * Returns the lock serializing calls with the same {@link LockKey} argument as the given bound
+   * arguments.
+   *
+   * @param args the bound arguments
+   * @return the lock stripe, or null if the method has no lock key
+   */
+  Lock lockFor(Object[] args) {
+    if (stripes == null) {
+      return null;
+    }
+    var hash = Objects.hashCode(args[lockKey]);
+    // Spread the high bits, which the mask would otherwise ignore
+    hash ^= hash >>> 16;
+    return stripes[hash & (stripes.length - 1)];
+  }
+
+  /**
+   * Binds arguments deserialized into a map. Values that already have the parameter type are passed
+   * as they are; others, and collections or maps whose elements are declared with a specific type,
+   * are converted with the ObjectMapper.
+   *
+   * @param arguments the arguments by name, may be null
+   * @param progressReporter the reporter injected into {@link ProgressReporter} parameters
+   * @param logger the logger injected into {@link McpLogger} parameters
+   * @return the argument array
+   */
+  Object[] bind(
+      Map<String, Object> arguments, ProgressReporter progressReporter, McpLogger logger) {
+    var args = new Object[names.length];
+    for (var i = 0; i < args.length; i++) {
+      if (progressReporters[i] || loggers[i]) {
+        args[i] = progressReporters[i] ? progressReporter : logger;
+        continue;
+      }
+      var value = arguments == null ? null : arguments.get(names[i]);
+      if (value != null) {
+        args[i] =
+            !convertAlways[i] && rawTypes[i].isInstance(value)
+                ? value
+                : objectMapper.convertValue(value, types[i]);
+      }
+    }
+    return args;
+  }
+
+  /**
+   * Returns whether a container type declares elements that the SDK's maps and lists of JSON values
+   * may not hold, such as {@code List<Order>}, so that a matching container must still be
+   * converted.
+   *
+   * @param type the parameter type
+   * @return true for collections, maps and arrays whose elements or keys are not plain objects
+   */
+  private static boolean hasTypedElements(JavaType type) {
+    if (!type.isContainerType()) {
+      return false;
+    }
+    var keyType = type.getKeyType();
+    return type.getContentType().getRawClass() != Object.class
+        || keyType != null
+            && keyType.getRawClass() != Object.class
+            && keyType.getRawClass() != String.class;
+  }
+
+  /**
+   * Creates the lock stripes of a class, one set per key space used by its methods, as many as the
+   * largest count requested in that space.
+   *
+   * @param type the class declaring the methods
+   * @return the stripes by key space
+   * @throws IllegalArgumentException if a requested count is not positive or too large
+   */
+  private static Map<String, Lock[]> stripesOf(Class<?> type) {
+    var counts = new HashMap<String, Integer>();
+    for (var method : type.getDeclaredMethods()) {
+      for (var parameter : method.getParameters()) {
+        var lockKey = parameter.getAnnotation(LockKey.class);
+        if (lockKey != null) {
+          counts.merge(lockKey.value(), stripeCount(lockKey.stripes()), Math::max);
+          break;
+        }
+      }
+    }
+    var stripes = new HashMap<String, Lock[]>();
+    counts.forEach((space, count) -> stripes.put(space, createStripes(count)));
+    return Map.copyOf(stripes);
+  }
+
+  /**
+   * Validates a requested stripe count and rounds it up to a power of two.
+   *
+   * @param requested the requested stripe count
+   * @return the stripe count
+   * @throws IllegalArgumentException if the count is not positive or too large
+   */
+  private static int stripeCount(int requested) {
+    if (requested < 1 || requested > 1 << 16) {
+      throw new IllegalArgumentException("Invalid lock stripe count: " + requested);
+    }
+    var count = Integer.highestOneBit(requested);
+    return count < requested ? count << 1 : count;
+  }
+
+  private static Lock[] createStripes(int count) {
+    var stripes = new Lock[count];
+    for (var i = 0; i < count; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+    return stripes;
+  }
+
+  /**
+   * Gets the parameter name from @Property or @PromptArgument annotation, or falls back to the
+   * parameter's actual name.
+   *
+   * @param param The parameter
+   * @return The parameter name to use for lookup
+   */
+  private static String nameOf(Parameter param) {
+    // Check for @Property annotation
+    var property = param.getAnnotation(Property.class);
+    if (property != null && !property.name().isEmpty()) {
+      return property.name();
+    }
+
+    // Check for @PromptArgument annotation
+    var promptArg = param.getAnnotation(PromptArgument.class);
+    if (promptArg != null && !promptArg.name().isEmpty()) {
+      return promptArg.name();
+    }
+
+    // Fall back to parameter name from reflection
+    return param.getName();
+  }
+}
@@ -0,0 +1,25 @@
+package br.com.arquivolivre.mcpeasy4j.invoker;
+
+/**
+ * Receives the duration of each phase of a method invocation performed by {@link MethodInvoker}.
+ * Callbacks run on the invoking thread, so implementations must be cheap and thread-safe.
+ */
+public interface InvocationObserver {
+
+  /** Observer that ignores every callback. */
+  InvocationObserver NOOP = new InvocationObserver() {};
+
+  /**
+   * Called after the parameter map has been converted to the method's argument array.
+   *
+   * @param nanos time spent converting arguments, in nanoseconds
+   */
+  default void onConversion(long nanos) {}
+
+  /**
+   * Called after the target method has returned or thrown.
+   *
+   * @param nanos time spent inside the target method, in nanoseconds
+   */
+  default void onExecution(long nanos) {}
+}
@@ -1,12 +1,13 @@
 package br.com.arquivolivre.mcpeasy4j.invoker;
 
-import br.com.arquivolivre.mcpeasy4j.annotation.PromptArgument;
-import br.com.arquivolivre.mcpeasy4j.annotation.Property;
+import br.com.arquivolivre.mcpeasy4j.jfr.ArgumentConversionEvent;
+import br.com.arquivolivre.mcpeasy4j.logging.McpLogger;
+import br.com.arquivolivre.mcpeasy4j.progress.ProgressReporter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles method invocation with parameter conversion and result serialization. Uses Jackson
@@ -14,6 +15,7 @@ import java.util.Map;
  */
 public class MethodInvoker {
   private final ObjectMapper objectMapper;
+  private final ConcurrentHashMap<Method, ArgumentBinder> binders = new ConcurrentHashMap<>();
 
   /**
    * Creates a new MethodInvoker with the specified ObjectMapper.
@@ -35,96 +37,86 @@ public class MethodInvoker {
    */
   public Object invoke(Method method, Object instance, Map<String, Object> params)
       throws InvocationException {
+    var result =
+        invokeRaw(
+            method,
+            instance,
+            params,
+            InvocationObserver.NOOP,
+            ProgressReporter.NOOP,
+            McpLogger.NOOP);
     try {
-      // Convert parameters from Map to Object array
-      var args = convertParameters(method, params);
-
-      // Invoke the method
-      var result = method.invoke(instance, args);
-
       // Serialize the result to JSON
       return convertToJson(result);
-    } catch (IllegalAccessException e) {
-      throw new InvocationException("Method is not accessible: " + method.getName(), e);
-    } catch (InvocationTargetException e) {
-      // Unwrap the actual exception thrown by the method
-      var cause = e.getCause();
-      throw new InvocationException("Method invocation failed: " + cause.getMessage(), cause);
     } catch (Exception e) {
       throw new InvocationException("Failed to invoke method: " + e.getMessage(), e);
     }
   }
 
   /**
-   * Converts a map of parameters to an array of objects matching method parameter types. Uses
-   * parameter names to match map keys to method parameters. Tries @Property or @PromptArgument
-   * annotation name first, then falls back to parameter name.
+   * Invokes a method with the given parameters and returns its raw return value, without converting
+   * it to JSON. The progress reporter is passed to every parameter of type {@link ProgressReporter}
+   * and the logger to every parameter of type {@link McpLogger}. The time spent converting
+   * arguments and executing the method is reported to the observer. The binding time is also
+   * recorded in an {@link ArgumentConversionEvent} when that JFR event is enabled. Calls with equal
+   * {@link br.com.arquivolivre.mcpeasy4j.annotation.LockKey} arguments run one at a time; the wait
+   * counts as execution time.
    *
-   * @param method The method whose parameters to convert
-   * @param params The parameter map
-   * @return Array of converted parameter values
+   * @param method The method to invoke
+   * @param instance The instance to invoke the method on
+   * @param params The parameters as a map of parameter names to values
+   * @param observer The observer notified of each phase duration
+   * @param progressReporter The reporter injected into {@link ProgressReporter} parameters
+   * @param logger The logger injected into {@link McpLogger} parameters
+   * @return The value returned by the method
+   * @throws InvocationException if invocation fails
    */
-  private Object[] convertParameters(Method method, Map<String, Object> params) {
-    var parameters = method.getParameters();
-    var args = new Object[parameters.length];
-
-    for (var i = 0; i < parameters.length; i++) {
-      var param = parameters[i];
-
-      // Try to get parameter name from annotation first
-      var paramName = getParameterName(param);
-      var value = params.get(paramName);
-
-      if (value == null) {
-        args[i] = null;
-      } else {
-        args[i] = convertParameter(value, param.getType());
+  public Object invokeRaw(
+      Method method,
+      Object instance,
+      Map<String, Object> params,
+      InvocationObserver observer,
+      ProgressReporter progressReporter,
+      McpLogger logger)
+      throws InvocationException {
+    try {
+      // Convert arguments to the parameter array
+      final var conversionStart = System.nanoTime();
+      var event = new ArgumentConversionEvent();
+      event.begin();
+      var binder = binders.computeIfAbsent(method, m -> ArgumentBinder.of(m, objectMapper));
+      final var args = binder.bind(params, progressReporter, logger);
+      event.end();
+      if (event.shouldCommit()) {
+        event.method = method.getDeclaringClass().getName() + "." + method.getName();
+        event.parameterCount = binder.size();
+        event.commit();
       }
-    }
-
-    return args;
-  }
+      var executionStart = System.nanoTime();
+      observer.onConversion(executionStart - conversionStart);
 
-  /**
-   * Gets the parameter name from @Property or @PromptArgument annotation, or falls back to the
-   * parameter's actual name.
-   *
-   * @param param The parameter
-   * @return The parameter name to use for lookup
-   */
-  private String getParameterName(Parameter param) {
-    // Check for @Property annotation
-    var property = param.getAnnotation(Property.class);
-    if (property != null && !property.name().isEmpty()) {
-      return property.name();
-    }
-
-    // Check for @PromptArgument annotation
-    var promptArg = param.getAnnotation(PromptArgument.class);
-    if (promptArg != null && !promptArg.name().isEmpty()) {
-      return promptArg.name();
-    }
-
-    // Fall back to parameter name from reflection
-    return param.getName();
-  }
-
-  /**
-   * Converts a single parameter value to the target type. Uses pattern matching for switch (Java
-   * 21) to handle different type conversions.
-   *
-   * @param value The value to convert
-   * @param targetType The target type
-   * @return The converted value
-   */
-  private Object convertParameter(Object value, Class<?> targetType) {
-    // If value is already the correct type, return it
-    if (targetType.isInstance(value)) {
-      return value;
+      // Invoke the method, holding the lock stripe of its lock key if it has one
+      var lock = binder.lockFor(args);
+      if (lock != null) {
+        lock.lock();
+      }
+      try {
+        return method.invoke(instance, args);
+      } finally {
+        if (lock != null) {
+          lock.unlock();
+        }
+        observer.onExecution(System.nanoTime() - executionStart);
+      }
+    } catch (IllegalAccessException e) {
+      throw new InvocationException("Method is not accessible: " + method.getName(), e);
+    } catch (InvocationTargetException e) {
+      // Unwrap the actual exception thrown by the method
+      var cause = e.getCause();
+      throw new InvocationException("Method invocation failed: " + cause.getMessage(), cause);
+    } catch (Exception e) {
+      throw new InvocationException("Failed to invoke method: " + e.getMessage(), e);
     }
-
-    // Convert using Jackson for complex objects
-    return objectMapper.convertValue(value, targetType);
   }
 
   /**
@@ -0,0 +1,33 @@
+package br.com.arquivolivre.mcpeasy4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event covering one scan of a server class for a single MCP annotation. */
+@Name(AnnotationScanEvent.NAME)
+@Label("MCP Annotation Scan")
+@Category({"MCP Easy4J", "Startup"})
+@Description("Scan of a server class for @Tool, @Resource or @Prompt methods")
+@StackTrace(false)
+public final class AnnotationScanEvent extends Event {
+
+  /** The event name to use in JFR settings. */
+  public static final String NAME = "br.com.arquivolivre.mcpeasy4j.AnnotationScan";
+
+  @Label("Scanned Class")
+  public Class<?> scannedClass;
+
+  @Label("Annotation")
+  @Description("Simple name of the annotation scanned for")
+  public String annotation;
+
+  @Label("Methods Scanned")
+  public int methodsScanned;
+
+  @Label("Definitions Found")
+  public int definitionsFound;
+}
@@ -0,0 +1,27 @@
+package br.com.arquivolivre.mcpeasy4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event covering the conversion of JSON arguments into the parameters of a Java method. */
+@Name(ArgumentConversionEvent.NAME)
+@Label("MCP Argument Conversion")
+@Category({"MCP Easy4J", "Invocation"})
+@Description("Conversion of request arguments into Java method parameters")
+@StackTrace(false)
+public final class ArgumentConversionEvent extends Event {
+
+  /** The event name to use in JFR settings. */
+  public static final String NAME = "br.com.arquivolivre.mcpeasy4j.ArgumentConversion";
+
+  @Label("Method")
+  @Description("Declaring class and name of the invoked method")
+  public String method;
+
+  @Label("Parameter Count")
+  public int parameterCount;
+}
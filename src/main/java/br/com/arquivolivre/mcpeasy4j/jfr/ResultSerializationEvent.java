@@ -0,0 +1,31 @@
+package br.com.arquivolivre.mcpeasy4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event covering the conversion of a method's return value into the protocol result. */
+@Name(ResultSerializationEvent.NAME)
+@Label("MCP Result Serialization")
+@Category({"MCP Easy4J", "Invocation"})
+@Description("Serialization of a method's return value into a tool, resource or prompt result")
+@StackTrace(false)
+public final class ResultSerializationEvent extends Event {
+
+  /** The event name to use in JFR settings. */
+  public static final String NAME = "br.com.arquivolivre.mcpeasy4j.ResultSerialization";
+
+  @Label("Kind")
+  public String kind;
+
+  @Label("Name")
+  @Description("Tool or prompt name, or resource URI")
+  public String name;
+
+  @Label("Result Type")
+  @Description("Runtime type of the value returned by the method")
+  public Class<?> resultType;
+}
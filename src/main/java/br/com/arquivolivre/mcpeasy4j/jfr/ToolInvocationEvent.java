@@ -0,0 +1,47 @@
+package br.com.arquivolivre.mcpeasy4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one complete tool, resource, or prompt invocation, from admission to the
+ * protocol result. Argument and result sizes are only computed when the event is going to be
+ * committed, so a disabled event costs no more than its begin and end calls.
+ */
+@Name(ToolInvocationEvent.NAME)
+@Label("MCP Invocation")
+@Category({"MCP Easy4J", "Invocation"})
+@Description("A tool call, resource read or prompt request handled by an annotated method")
+@StackTrace(false)
+public final class ToolInvocationEvent extends Event {
+
+  /** The event name to use in JFR settings. */
+  public static final String NAME = "br.com.arquivolivre.mcpeasy4j.ToolInvocation";
+
+  @Label("Kind")
+  @Description("Whether a tool, resource or prompt was invoked")
+  public String kind;
+
+  @Label("Name")
+  @Description("Tool or prompt name, or resource URI")
+  public String name;
+
+  @Label("Argument Bytes")
+  @Description("Size of the arguments serialized as JSON")
+  @DataAmount
+  public long argumentBytes;
+
+  @Label("Result Bytes")
+  @Description("Size of the protocol result serialized as JSON")
+  @DataAmount
+  public long resultBytes;
+
+  @Label("Error")
+  @Description("Failure message, or null when the invocation succeeded")
+  public String error;
+}
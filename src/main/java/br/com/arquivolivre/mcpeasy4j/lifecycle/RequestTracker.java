@@ -0,0 +1,144 @@
+package br.com.arquivolivre.mcpeasy4j.lifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks in-flight tool, resource, and prompt invocations so the server can stop accepting work and
+ * drain what is already running before the transport is closed. Entering and leaving are lock-free
+ * on the happy path; the lock is only used to wake up a thread waiting for the server to drain.
+ */
+public class RequestTracker {
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final ReentrantLock idleLock = new ReentrantLock();
+  private final Condition idle = idleLock.newCondition();
+  private volatile boolean accepting = true;
+
+  /**
+   * Registers a new invocation if the server is still accepting requests. Every successful call
+   * must be paired with {@link #exit(boolean)}.
+   *
+   * @return true if the invocation may proceed, false if the server is shutting down
+   */
+  public boolean tryEnter() {
+    // Increment before checking so a concurrent drain either sees this call or rejects it
+    inFlight.incrementAndGet();
+    if (!accepting) {
+      leave();
+      rejected.increment();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Marks an invocation started with {@link #tryEnter()} as finished.
+   *
+   * @param success whether the invocation completed without error
+   */
+  public void exit(boolean success) {
+    if (success) {
+      completed.increment();
+    } else {
+      failed.increment();
+    }
+    leave();
+  }
+
+  /** Stops accepting new invocations. Invocations already in flight are unaffected. */
+  public void stopAccepting() {
+    accepting = false;
+  }
+
+  /**
+   * Waits until no invocations are in flight or the timeout elapses.
+   *
+   * @param timeout the maximum time to wait
+   * @return true if the tracker drained, false if the timeout elapsed first
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean awaitIdle(Duration timeout) throws InterruptedException {
+    var remaining = timeout.toNanos();
+    idleLock.lock();
+    try {
+      while (inFlight.get() > 0) {
+        if (remaining <= 0) {
+          return false;
+        }
+        remaining = idle.awaitNanos(remaining);
+      }
+      return true;
+    } finally {
+      idleLock.unlock();
+    }
+  }
+
+  /**
+   * Returns whether new invocations are accepted.
+   *
+   * @return true until {@link #stopAccepting()} is called
+   */
+  public boolean isAccepting() {
+    return accepting;
+  }
+
+  /**
+   * Returns the number of invocations currently running.
+   *
+   * @return the in-flight count
+   */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Returns the number of invocations that finished successfully.
+   *
+   * @return the completed count
+   */
+  public long completed() {
+    return completed.sum();
+  }
+
+  /**
+   * Returns the number of invocations that finished with an error.
+   *
+   * @return the failed count
+   */
+  public long failed() {
+    return failed.sum();
+  }
+
+  /**
+   * Returns the number of invocations rejected because the server was shutting down.
+   *
+   * @return the rejected count
+   */
+  public long rejected() {
+    return rejected.sum();
+  }
+
+  /** Decrements the in-flight count and wakes up a draining thread when it reaches zero. */
+  private void leave() {
+    if (inFlight.decrementAndGet() == 0 && !accepting) {
+      signalIdle();
+    }
+  }
+
+  /** Wakes up every thread waiting in {@link #awaitIdle(Duration)}. */
+  private void signalIdle() {
+    idleLock.lock();
+    try {
+      idle.signalAll();
+    } finally {
+      idleLock.unlock();
+    }
+  }
+}
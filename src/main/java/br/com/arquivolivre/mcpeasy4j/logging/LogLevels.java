@@ -0,0 +1,123 @@
+package br.com.arquivolivre.mcpeasy4j.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema.LoggingLevel;
+import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The minimum log level each client session asked for with {@code logging/setLevel}, kept where
+ * {@link McpLogger}s can check it without asking the SDK. Each session's level lives in a volatile
+ * field that the loggers of its calls hold on to, so a level change applies to calls already
+ * running and a check is a single read. Sessions registered with a sink also receive messages
+ * {@linkplain #broadcast broadcast} to every session, each at its own level.
+ */
+public final class LogLevels {
+
+  /** Level of sessions that have not set one, as in the SDK. */
+  public static final LoggingLevel DEFAULT_LEVEL = LoggingLevel.INFO;
+
+  private final Map<String, Threshold> sessions = new ConcurrentHashMap<>();
+
+  /**
+   * Sets the minimum level of a session.
+   *
+   * @param sessionId the session id
+   * @param level the lowest level sent to the session
+   */
+  public void setLevel(String sessionId, LoggingLevel level) {
+    thresholdOf(sessionId).level = level;
+  }
+
+  /**
+   * Returns the minimum level of a session.
+   *
+   * @param sessionId the session id
+   * @return the lowest level sent to the session
+   */
+  public LoggingLevel levelOf(String sessionId) {
+    var threshold = sessions.get(sessionId);
+    return threshold == null ? DEFAULT_LEVEL : threshold.level;
+  }
+
+  /**
+   * Registers the sink sending notifications to a session, making it a target of {@link
+   * #broadcast}.
+   *
+   * @param sessionId the session id
+   * @param sink sends the notifications to the session
+   */
+  public void register(String sessionId, Consumer<LoggingMessageNotification> sink) {
+    thresholdOf(sessionId).sink = sink;
+  }
+
+  /**
+   * Sends a message to every registered session whose level enables it. The message is built at
+   * most once, and only if some session enables it.
+   *
+   * @param level the level
+   * @param name the logger name
+   * @param message supplies the message
+   */
+  public void broadcast(LoggingLevel level, String name, Supplier<String> message) {
+    LoggingMessageNotification notification = null;
+    for (var threshold : sessions.values()) {
+      var sink = threshold.sink;
+      if (sink == null || level.level() < threshold.level.level()) {
+        continue;
+      }
+      if (notification == null) {
+        notification =
+            LoggingMessageNotification.builder()
+                .level(level)
+                .logger(name)
+                .data(message.get())
+                .build();
+      }
+      sink.accept(notification);
+    }
+  }
+
+  /**
+   * Forgets a closed session.
+   *
+   * @param sessionId the session id
+   */
+  public void remove(String sessionId) {
+    sessions.remove(sessionId);
+  }
+
+  /**
+   * Creates the logger of one call.
+   *
+   * @param sessionId the id of the calling session, null for a call outside any session, which logs
+   *     at the default level
+   * @param name the logger name sent with every message
+   * @param sink sends the notifications to the session
+   * @param objectMapper the ObjectMapper serializing structured data
+   * @return the logger
+   */
+  public McpLogger loggerFor(
+      String sessionId,
+      String name,
+      Consumer<LoggingMessageNotification> sink,
+      ObjectMapper objectMapper) {
+    return new NotifyingLogger(thresholdOf(sessionId), name, sink, objectMapper);
+  }
+
+  private Threshold thresholdOf(String sessionId) {
+    if (sessionId == null) {
+      return new Threshold();
+    }
+    return sessions.computeIfAbsent(sessionId, id -> new Threshold());
+  }
+
+  /** The minimum level of one session, and where broadcasts to it are sent. */
+  static final class Threshold {
+    volatile LoggingLevel level = DEFAULT_LEVEL;
+    volatile Consumer<LoggingMessageNotification> sink;
+  }
+}
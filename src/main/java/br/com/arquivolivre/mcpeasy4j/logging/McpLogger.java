@@ -0,0 +1,137 @@
+package br.com.arquivolivre.mcpeasy4j.logging;
+
+import io.modelcontextprotocol.spec.McpSchema.LoggingLevel;
+import java.util.function.Supplier;
+
+/**
+ * Sends log messages to the client of a tool call as {@code notifications/message}. Declare a
+ * parameter of this type on a {@code @Tool} method to have one injected; it is not part of the
+ * tool's input schema. Messages below the level the client set with {@code logging/setLevel},
+ * {@code info} until it sets one, are dropped after a single volatile read: suppliers are not
+ * called and nothing is formatted or serialized, so disabled debug logging in a hot tool costs next
+ * to nothing.
+ */
+public interface McpLogger {
+
+  /** Logger that drops every message. */
+  McpLogger NOOP =
+      new McpLogger() {
+        @Override
+        public boolean isEnabled(LoggingLevel level) {
+          return false;
+        }
+
+        @Override
+        public void log(LoggingLevel level, String message) {}
+
+        @Override
+        public void log(LoggingLevel level, Supplier<String> message) {}
+
+        @Override
+        public void logData(LoggingLevel level, Supplier<?> data) {}
+      };
+
+  /**
+   * Returns whether messages of a level reach the client.
+   *
+   * @param level the level
+   * @return true if the client asked for messages of that level or lower
+   */
+  boolean isEnabled(LoggingLevel level);
+
+  /**
+   * Sends a message if its level is enabled.
+   *
+   * @param level the level
+   * @param message the message
+   */
+  void log(LoggingLevel level, String message);
+
+  /**
+   * Sends a message built only if its level is enabled.
+   *
+   * @param level the level
+   * @param message supplies the message
+   */
+  void log(LoggingLevel level, Supplier<String> message);
+
+  /**
+   * Sends structured data, serialized as JSON, built and serialized only if its level is enabled.
+   *
+   * @param level the level
+   * @param data supplies the data
+   */
+  void logData(LoggingLevel level, Supplier<?> data);
+
+  /**
+   * Sends a debug message.
+   *
+   * @param message the message
+   */
+  default void debug(String message) {
+    log(LoggingLevel.DEBUG, message);
+  }
+
+  /**
+   * Sends a debug message built only if debug messages are enabled.
+   *
+   * @param message supplies the message
+   */
+  default void debug(Supplier<String> message) {
+    log(LoggingLevel.DEBUG, message);
+  }
+
+  /**
+   * Sends an info message.
+   *
+   * @param message the message
+   */
+  default void info(String message) {
+    log(LoggingLevel.INFO, message);
+  }
+
+  /**
+   * Sends an info message built only if info messages are enabled.
+   *
+   * @param message supplies the message
+   */
+  default void info(Supplier<String> message) {
+    log(LoggingLevel.INFO, message);
+  }
+
+  /**
+   * Sends a warning message.
+   *
+   * @param message the message
+   */
+  default void warning(String message) {
+    log(LoggingLevel.WARNING, message);
+  }
+
+  /**
+   * Sends a warning message built only if warning messages are enabled.
+   *
+   * @param message supplies the message
+   */
+  default void warning(Supplier<String> message) {
+    log(LoggingLevel.WARNING, message);
+  }
+
+  /**
+   * Sends an error message.
+   *
+   * @param message the message
+   */
+  default void error(String message) {
+    log(LoggingLevel.ERROR, message);
+  }
+
+  /**
+   * Sends an error message built only if error messages are enabled.
+   *
+   * @param message supplies the message
+   */
+  default void error(Supplier<String> message) {
+    log(LoggingLevel.ERROR, message);
+  }
+}
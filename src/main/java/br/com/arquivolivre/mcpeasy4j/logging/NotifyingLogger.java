@@ -0,0 +1,65 @@
+package br.com.arquivolivre.mcpeasy4j.logging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema.LoggingLevel;
+import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/** Logger of one call, checking its session's level before building any notification. */
+final class NotifyingLogger implements McpLogger {
+
+  private static final System.Logger LOGGER = System.getLogger(NotifyingLogger.class.getName());
+
+  private final LogLevels.Threshold threshold;
+  private final String name;
+  private final Consumer<LoggingMessageNotification> sink;
+  private final ObjectMapper objectMapper;
+
+  NotifyingLogger(
+      LogLevels.Threshold threshold,
+      String name,
+      Consumer<LoggingMessageNotification> sink,
+      ObjectMapper objectMapper) {
+    this.threshold = threshold;
+    this.name = name;
+    this.sink = sink;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public boolean isEnabled(LoggingLevel level) {
+    return level.level() >= threshold.level.level();
+  }
+
+  @Override
+  public void log(LoggingLevel level, String message) {
+    if (isEnabled(level)) {
+      send(level, message);
+    }
+  }
+
+  @Override
+  public void log(LoggingLevel level, Supplier<String> message) {
+    if (isEnabled(level)) {
+      send(level, message.get());
+    }
+  }
+
+  @Override
+  public void logData(LoggingLevel level, Supplier<?> data) {
+    if (!isEnabled(level)) {
+      return;
+    }
+    try {
+      send(level, objectMapper.writeValueAsString(data.get()));
+    } catch (JsonProcessingException e) {
+      LOGGER.log(System.Logger.Level.DEBUG, "Failed to serialize log data for " + name, e);
+    }
+  }
+
+  private void send(LoggingLevel level, String data) {
+    sink.accept(LoggingMessageNotification.builder().level(level).logger(name).data(data).build());
+  }
+}
@@ -0,0 +1,25 @@
+package br.com.arquivolivre.mcpeasy4j.metrics;
+
+/**
+ * Immutable summary of a {@link LatencyHistogram}. All latencies are in microseconds.
+ *
+ * @param count number of recorded values
+ * @param meanMicros mean latency
+ * @param p50Micros median latency
+ * @param p90Micros 90th percentile latency
+ * @param p99Micros 99th percentile latency
+ * @param p999Micros 99.9th percentile latency
+ * @param maxMicros highest recorded latency
+ */
+public record HistogramSnapshot(
+    long count,
+    double meanMicros,
+    double p50Micros,
+    double p90Micros,
+    double p99Micros,
+    double p999Micros,
+    double maxMicros) {
+
+  /** Snapshot of a histogram with no recorded values. */
+  public static final HistogramSnapshot EMPTY = new HistogramSnapshot(0, 0, 0, 0, 0, 0, 0);
+}
@@ -0,0 +1,164 @@
+package br.com.arquivolivre.mcpeasy4j.metrics;
+
+import br.com.arquivolivre.mcpeasy4j.invoker.InvocationObserver;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call counters and latency histograms for a single tool, resource, or prompt. Receives argument
+ * conversion and method execution timings from the invoker, and end-to-end and serialization
+ * timings from the adapter. Recording is lock-free and allocation-free.
+ */
+public class InvocationMetrics implements InvocationObserver, InvocationMetricsMxBean {
+
+  private final String kind;
+  private final String name;
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder rateLimited = new LongAdder();
+  private final LongAdder shortCircuited = new LongAdder();
+  private final LatencyHistogram latency = new LatencyHistogram();
+  private final LatencyHistogram conversion = new LatencyHistogram();
+  private final LatencyHistogram execution = new LatencyHistogram();
+  private final LatencyHistogram serialization = new LatencyHistogram();
+
+  /**
+   * Creates empty metrics for a feature.
+   *
+   * @param kind the feature kind: "tool", "resource", or "prompt"
+   * @param name the feature name, or the URI for resources
+   */
+  public InvocationMetrics(String kind, String name) {
+    this.kind = kind;
+    this.name = name;
+  }
+
+  /**
+   * Records a completed invocation.
+   *
+   * @param nanos end-to-end handler latency in nanoseconds
+   * @param success whether the invocation succeeded
+   */
+  public void recordCall(long nanos, boolean success) {
+    calls.increment();
+    if (!success) {
+      errors.increment();
+    }
+    latency.record(nanos);
+  }
+
+  /** Records a call rejected by the rate limit before it was invoked. */
+  public void recordRateLimited() {
+    rateLimited.increment();
+  }
+
+  /** Records a call rejected by an open circuit breaker before it was invoked. */
+  public void recordShortCircuited() {
+    shortCircuited.increment();
+  }
+
+  /**
+   * Records the time spent converting a return value into the protocol result.
+   *
+   * @param nanos serialization time in nanoseconds
+   */
+  public void recordSerialization(long nanos) {
+    serialization.record(nanos);
+  }
+
+  @Override
+  public void onConversion(long nanos) {
+    conversion.record(nanos);
+  }
+
+  @Override
+  public void onExecution(long nanos) {
+    execution.record(nanos);
+  }
+
+  /**
+   * Takes a point-in-time snapshot of all counters and histograms.
+   *
+   * @return the snapshot
+   */
+  public InvocationMetricsSnapshot snapshot() {
+    return new InvocationMetricsSnapshot(
+        calls.sum(),
+        errors.sum(),
+        rateLimited.sum(),
+        shortCircuited.sum(),
+        latency.snapshot(),
+        conversion.snapshot(),
+        execution.snapshot(),
+        serialization.snapshot());
+  }
+
+  @Override
+  public String getKind() {
+    return kind;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public long getCalls() {
+    return calls.sum();
+  }
+
+  @Override
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  @Override
+  public long getRateLimited() {
+    return rateLimited.sum();
+  }
+
+  @Override
+  public long getShortCircuited() {
+    return shortCircuited.sum();
+  }
+
+  @Override
+  public double getMeanMicros() {
+    return latency.snapshot().meanMicros();
+  }
+
+  @Override
+  public double getP50Micros() {
+    return latency.snapshot().p50Micros();
+  }
+
+  @Override
+  public double getP99Micros() {
+    return latency.snapshot().p99Micros();
+  }
+
+  @Override
+  public double getP999Micros() {
+    return latency.snapshot().p999Micros();
+  }
+
+  @Override
+  public double getMaxMicros() {
+    return latency.snapshot().maxMicros();
+  }
+
+  @Override
+  public double getConversionP99Micros() {
+    return conversion.snapshot().p99Micros();
+  }
+
+  @Override
+  public double getExecutionP99Micros() {
+    return execution.snapshot().p99Micros();
+  }
+
+  @Override
+  public double getSerializationP99Micros() {
+    return serialization.snapshot().p99Micros();
+  }
+}
@@ -0,0 +1,109 @@
+package br.com.arquivolivre.mcpeasy4j.metrics;
+
+import javax.management.MXBean;
+
+/**
+ * JMX view of the metrics recorded for one tool, resource, or prompt. Latencies are in
+ * microseconds.
+ */
+@MXBean
+public interface InvocationMetricsMxBean {
+
+  /**
+   * Returns the feature kind.
+   *
+   * @return "tool", "resource", or "prompt"
+   */
+  String getKind();
+
+  /**
+   * Returns the feature name, or the URI for resources.
+   *
+   * @return the feature name
+   */
+  String getName();
+
+  /**
+   * Returns the number of completed invocations.
+   *
+   * @return the call count
+   */
+  long getCalls();
+
+  /**
+   * Returns the number of failed invocations.
+   *
+   * @return the error count
+   */
+  long getErrors();
+
+  /**
+   * Returns the number of calls rejected by the rate limit.
+   *
+   * @return the rate-limited call count
+   */
+  long getRateLimited();
+
+  /**
+   * Returns the number of calls rejected by an open circuit breaker.
+   *
+   * @return the short-circuited call count
+   */
+  long getShortCircuited();
+
+  /**
+   * Returns the mean end-to-end latency.
+   *
+   * @return the mean latency in microseconds
+   */
+  double getMeanMicros();
+
+  /**
+   * Returns the median end-to-end latency.
+   *
+   * @return the median latency in microseconds
+   */
+  double getP50Micros();
+
+  /**
+   * Returns the 99th percentile end-to-end latency.
+   *
+   * @return the p99 latency in microseconds
+   */
+  double getP99Micros();
+
+  /**
+   * Returns the 99.9th percentile end-to-end latency.
+   *
+   * @return the p99.9 latency in microseconds
+   */
+  double getP999Micros();
+
+  /**
+   * Returns the highest end-to-end latency.
+   *
+   * @return the maximum latency in microseconds
+   */
+  double getMaxMicros();
+
+  /**
+   * Returns the 99th percentile argument conversion time.
+   *
+   * @return the p99 conversion time in microseconds
+   */
+  double getConversionP99Micros();
+
+  /**
+   * Returns the 99th percentile method execution time.
+   *
+   * @return the p99 execution time in microseconds
+   */
+  double getExecutionP99Micros();
+
+  /**
+   * Returns the 99th percentile result serialization time.
+   *
+   * @return the p99 serialization time in microseconds
+   */
+  double getSerializationP99Micros();
+}
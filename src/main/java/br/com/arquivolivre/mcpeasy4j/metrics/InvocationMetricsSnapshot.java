@@ -0,0 +1,23 @@
+package br.com.arquivolivre.mcpeasy4j.metrics;
+
+/**
+ * Immutable summary of the metrics recorded for one tool, resource, or prompt.
+ *
+ * @param calls number of completed invocations, successful or not
+ * @param errors number of invocations that failed
+ * @param rateLimited number of calls rejected by the rate limit, which are not counted as calls
+ * @param shortCircuited number of calls rejected by an open circuit breaker, also not counted
+ * @param latency end-to-end handler latency
+ * @param conversion time spent converting arguments
+ * @param execution time spent inside the annotated method
+ * @param serialization time spent converting the return value into the protocol result
+ */
+public record InvocationMetricsSnapshot(
+    long calls,
+    long errors,
+    long rateLimited,
+    long shortCircuited,
+    HistogramSnapshot latency,
+    HistogramSnapshot conversion,
+    HistogramSnapshot execution,
+    HistogramSnapshot serialization) {}
@@ -0,0 +1,119 @@
+package br.com.arquivolivre.mcpeasy4j.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with HDR-style logarithmic buckets. Every power of two is split into
+ * eight linear sub-buckets, bounding the relative error of any reported percentile to 12.5%. Values
+ * are recorded in nanoseconds with a single atomic increment and no allocation, so it is safe to
+ * call from every request on the hot path.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  /** Highest tracked power of two; 2^36 ns is roughly 69 seconds. */
+  private static final int MAX_EXPONENT = 36;
+
+  private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records a duration. Negative values are treated as zero and values beyond the tracked range
+   * land in the last bucket, although the exact maximum is still kept.
+   *
+   * @param nanos the duration in nanoseconds
+   */
+  public void record(long nanos) {
+    var value = Math.max(0, nanos);
+    buckets.incrementAndGet(bucketIndex(value));
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Takes a point-in-time snapshot of the histogram. Concurrent recordings may or may not be
+   * included, but the snapshot is internally consistent.
+   *
+   * @return the snapshot
+   */
+  public HistogramSnapshot snapshot() {
+    var counts = new long[BUCKET_COUNT];
+    var count = 0L;
+    for (var i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      count += counts[i];
+    }
+    if (count == 0) {
+      return HistogramSnapshot.EMPTY;
+    }
+
+    var maxNanos = max.get();
+    return new HistogramSnapshot(
+        count,
+        toMicros(sum.sum() / (double) count),
+        toMicros(Math.min(valueAtPercentile(counts, count, 50.0), maxNanos)),
+        toMicros(Math.min(valueAtPercentile(counts, count, 90.0), maxNanos)),
+        toMicros(Math.min(valueAtPercentile(counts, count, 99.0), maxNanos)),
+        toMicros(Math.min(valueAtPercentile(counts, count, 99.9), maxNanos)),
+        toMicros(maxNanos));
+  }
+
+  /**
+   * Maps a value to its bucket. Values below the sub-bucket count map to themselves; larger values
+   * map to their power of two and the top sub-bucket bits below the leading one.
+   *
+   * @param value the non-negative value
+   * @return the bucket index
+   */
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    var exponent = 63 - Long.numberOfLeadingZeros(value);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKET_COUNT - 1;
+    }
+    var subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * Returns the midpoint of the values covered by a bucket.
+   *
+   * @param index the bucket index
+   * @return the representative value in nanoseconds
+   */
+  static long bucketMidpoint(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    var exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    var subBucket = index % SUB_BUCKET_COUNT;
+    var width = 1L << (exponent - SUB_BUCKET_BITS);
+    var lower = (SUB_BUCKET_COUNT + subBucket) * width;
+    return lower + width / 2;
+  }
+
+  private static long valueAtPercentile(long[] counts, long total, double percentile) {
+    var target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+    var seen = 0L;
+    for (var i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= target) {
+        return bucketMidpoint(i);
+      }
+    }
+    return bucketMidpoint(counts.length - 1);
+  }
+
+  private static double toMicros(double nanos) {
+    return Math.round(nanos / 100.0) / 10.0;
+  }
+}
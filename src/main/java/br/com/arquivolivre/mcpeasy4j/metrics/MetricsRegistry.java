@@ -0,0 +1,227 @@
+package br.com.arquivolivre.mcpeasy4j.metrics;
+
+import br.com.arquivolivre.mcpeasy4j.bulkhead.BulkheadGroup;
+import br.com.arquivolivre.mcpeasy4j.bulkhead.BulkheadSnapshot;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Holds the {@link InvocationMetrics} of every registered tool, resource, and prompt, and the
+ * server's bulkhead groups. Metrics are created once at registration time and captured by the
+ * handlers, so recording never touches the registry. Optionally publishes every entry as a JMX
+ * MXBean under the {@value #JMX_DOMAIN} domain.
+ */
+public class MetricsRegistry {
+
+  /** JMX domain under which metrics MXBeans are registered. */
+  public static final String JMX_DOMAIN = "br.com.arquivolivre.mcpeasy4j";
+
+  private static final System.Logger LOGGER = System.getLogger(MetricsRegistry.class.getName());
+
+  // Instance numbers in use by each server name across the JVM, guarded by itself
+  private static final Map<String, BitSet> INSTANCES = new HashMap<>();
+
+  private final ConcurrentMap<String, InvocationMetrics> tools = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, InvocationMetrics> resources = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, InvocationMetrics> prompts = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, BulkheadGroup> bulkheads = new ConcurrentHashMap<>();
+  private final List<ObjectName> registeredNames = new ArrayList<>();
+  private volatile String jmxServerName;
+  private int jmxInstance;
+
+  /**
+   * Returns the metrics for a tool, creating them on first use.
+   *
+   * @param name the tool name
+   * @return the tool metrics
+   */
+  public InvocationMetrics tool(String name) {
+    return getOrCreate(tools, "tool", name);
+  }
+
+  /**
+   * Returns the metrics for a resource, creating them on first use.
+   *
+   * @param uri the resource URI
+   * @return the resource metrics
+   */
+  public InvocationMetrics resource(String uri) {
+    return getOrCreate(resources, "resource", uri);
+  }
+
+  /**
+   * Returns the metrics for a prompt, creating them on first use.
+   *
+   * @param name the prompt name
+   * @return the prompt metrics
+   */
+  public InvocationMetrics prompt(String name) {
+    return getOrCreate(prompts, "prompt", name);
+  }
+
+  /**
+   * Adds a bulkhead group, publishing it if JMX is enabled.
+   *
+   * @param group the bulkhead group
+   */
+  public synchronized void bulkhead(BulkheadGroup group) {
+    if (bulkheads.putIfAbsent(group.getName(), group) == null && jmxServerName != null) {
+      publish(group, "bulkhead", group.getName());
+    }
+  }
+
+  /**
+   * Takes a snapshot of every bulkhead group, sorted by name.
+   *
+   * @return map from group name to its snapshot
+   */
+  public Map<String, BulkheadSnapshot> bulkheadSnapshot() {
+    var result = new TreeMap<String, BulkheadSnapshot>();
+    bulkheads.forEach((name, group) -> result.put(name, group.snapshot()));
+    return result;
+  }
+
+  /**
+   * Takes a snapshot of every entry, grouped by kind and sorted by name.
+   *
+   * @return map with "tools", "resources", and "prompts" sections
+   */
+  public Map<String, Map<String, InvocationMetricsSnapshot>> snapshot() {
+    var result = new LinkedHashMap<String, Map<String, InvocationMetricsSnapshot>>();
+    result.put("tools", snapshotOf(tools));
+    result.put("resources", snapshotOf(resources));
+    result.put("prompts", snapshotOf(prompts));
+    return result;
+  }
+
+  /**
+   * Publishes every existing and future entry as an MXBean named {@code
+   * br.com.arquivolivre.mcpeasy4j:type=<kind>,server=<server>,name=<name>}. While another registry
+   * in the JVM publishes under the same server name, as when the same server class is started
+   * twice, the names get an {@code instance=<n>} property numbering the registries from 2 so they
+   * do not collide. Registration failures are logged and do not prevent the server from starting.
+   *
+   * @param serverName the server name used in the object names
+   */
+  public synchronized void enableJmx(String serverName) {
+    if (jmxServerName != null) {
+      releaseInstance();
+    }
+    jmxInstance = acquireInstance(serverName);
+    jmxServerName = serverName;
+    for (var metrics : tools.values()) {
+      publish(metrics);
+    }
+    for (var metrics : resources.values()) {
+      publish(metrics);
+    }
+    for (var metrics : prompts.values()) {
+      publish(metrics);
+    }
+    for (var group : bulkheads.values()) {
+      publish(group, "bulkhead", group.getName());
+    }
+  }
+
+  /** Unregisters every MXBean published by {@link #enableJmx(String)}. */
+  public synchronized void disableJmx() {
+    var server = ManagementFactory.getPlatformMBeanServer();
+    for (var objectName : registeredNames) {
+      try {
+        server.unregisterMBean(objectName);
+      } catch (JMException e) {
+        LOGGER.log(System.Logger.Level.DEBUG, "Failed to unregister " + objectName, e);
+      }
+    }
+    registeredNames.clear();
+    if (jmxServerName != null) {
+      releaseInstance();
+    }
+    jmxServerName = null;
+  }
+
+  /**
+   * Takes the lowest instance number not in use for a server name.
+   *
+   * @param serverName the server name
+   * @return the instance number, 1 for the first registry publishing under the name
+   */
+  private static int acquireInstance(String serverName) {
+    synchronized (INSTANCES) {
+      var used = INSTANCES.computeIfAbsent(serverName, name -> new BitSet());
+      var instance = used.nextClearBit(1);
+      used.set(instance);
+      return instance;
+    }
+  }
+
+  private void releaseInstance() {
+    synchronized (INSTANCES) {
+      var used = INSTANCES.get(jmxServerName);
+      used.clear(jmxInstance);
+      if (used.isEmpty()) {
+        INSTANCES.remove(jmxServerName);
+      }
+    }
+  }
+
+  private InvocationMetrics getOrCreate(
+      ConcurrentMap<String, InvocationMetrics> metrics, String kind, String name) {
+    var existing = metrics.get(name);
+    if (existing != null) {
+      return existing;
+    }
+    // Create under the registry lock so enableJmx never misses an entry
+    synchronized (this) {
+      return metrics.computeIfAbsent(
+          name,
+          key -> {
+            var created = new InvocationMetrics(kind, key);
+            if (jmxServerName != null) {
+              publish(created);
+            }
+            return created;
+          });
+    }
+  }
+
+  private void publish(InvocationMetrics metrics) {
+    publish(metrics, metrics.getKind(), metrics.getName());
+  }
+
+  private void publish(Object mxBean, String type, String name) {
+    try {
+      var objectName =
+          new ObjectName(
+              JMX_DOMAIN
+                  + ":type="
+                  + type
+                  + ",server="
+                  + ObjectName.quote(jmxServerName)
+                  + (jmxInstance > 1 ? ",instance=" + jmxInstance : "")
+                  + ",name="
+                  + ObjectName.quote(name));
+      ManagementFactory.getPlatformMBeanServer().registerMBean(mxBean, objectName);
+      registeredNames.add(objectName);
+    } catch (JMException e) {
+      LOGGER.log(System.Logger.Level.WARNING, "Failed to register metrics MXBean for " + name, e);
+    }
+  }
+
+  private static Map<String, InvocationMetricsSnapshot> snapshotOf(
+      Map<String, InvocationMetrics> metrics) {
+    var result = new TreeMap<String, InvocationMetricsSnapshot>();
+    metrics.forEach((name, entry) -> result.put(name, entry.snapshot()));
+    return result;
+  }
+}
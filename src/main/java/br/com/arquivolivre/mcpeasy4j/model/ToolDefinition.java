@@ -2,14 +2,36 @@ package br.com.arquivolivre.mcpeasy4j.model;
 
 import io.modelcontextprotocol.spec.McpSchema;
 import java.lang.reflect.Method;
+import java.util.Map;
 
 /**
- * Immutable record representing a registered MCP tool. Contains tool metadata, input schema, and
- * the method to invoke. Uses MCP SDK's JsonSchema for protocol compliance.
+ * Immutable record representing a registered MCP tool. Contains tool metadata, input schema, the
+ * optional output schema, and the method to invoke. Uses MCP SDK's JsonSchema for protocol
+ * compliance. Tools without an output schema return their results as text.
  */
 public record ToolDefinition(
     String name,
     String description,
     McpSchema.JsonSchema inputSchema,
+    Map<String, Object> outputSchema,
     Method method,
-    Object instance) {}
+    Object instance) {
+
+  /**
+   * Creates a tool definition without an output schema, whose results are returned as text.
+   *
+   * @param name the tool name
+   * @param description the tool description
+   * @param inputSchema the schema of the tool arguments
+   * @param method the method to invoke
+   * @param instance the instance to invoke the method on
+   */
+  public ToolDefinition(
+      String name,
+      String description,
+      McpSchema.JsonSchema inputSchema,
+      Method method,
+      Object instance) {
+    this(name, description, inputSchema, null, method, instance);
+  }
+}
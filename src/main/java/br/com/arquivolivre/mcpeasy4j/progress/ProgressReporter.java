@@ -0,0 +1,49 @@
+package br.com.arquivolivre.mcpeasy4j.progress;
+
+/**
+ * Reports the progress of a long-running tool call to the client. Declare a parameter of this type
+ * on a {@code @Tool} method to have one injected; it is not part of the tool's input schema. When
+ * the client did not ask for progress, the injected reporter ignores every update.
+ *
+ * <p>Updates may be sent far more often than the transport can carry: they are coalesced so the
+ * client receives at most one notification per interval, always with the latest values.
+ */
+public interface ProgressReporter {
+
+  /** Reporter that ignores every update. */
+  ProgressReporter NOOP = (progress, total, message) -> {};
+
+  /**
+   * Reports progress without a known total.
+   *
+   * @param progress the progress so far, which must increase with every call
+   */
+  default void report(double progress) {
+    report(progress, null, null);
+  }
+
+  /**
+   * Reports progress towards a known total.
+   *
+   * @param progress the progress so far, which must increase with every call
+   * @param total the total amount of work
+   */
+  default void report(double progress, double total) {
+    report(progress, total, null);
+  }
+
+  /**
+   * Reports progress with an optional total and a human-readable message.
+   *
+   * @param progress the progress so far, which must increase with every call
+   * @param total the total amount of work, or null if unknown
+   * @param message a description of the current step, or null
+   */
+  void report(double progress, Double total, String message);
+
+  /**
+   * Sends the latest coalesced update right away. The framework calls this when the tool returns,
+   * so tools rarely need to.
+   */
+  default void flush() {}
+}
@@ -0,0 +1,134 @@
+package br.com.arquivolivre.mcpeasy4j.progress;
+
+import io.modelcontextprotocol.spec.McpSchema.ProgressNotification;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Progress reporter that sends {@code notifications/progress} for one request, at most once per
+ * interval. Updates arriving within the interval only overwrite the pending values, so a tight loop
+ * costs a lock and a few field writes per call. The latest pending update goes out as soon as the
+ * interval has passed, sent by a shared scheduler thread if no later report comes first, so a tool
+ * that goes quiet after reporting does not leave the client showing stale progress. {@link
+ * #flush()} sends it right away.
+ *
+ * <p>Updates whose progress does not exceed the last reported value are ignored, as the protocol
+ * requires progress to increase with every notification. Once sending fails, typically because the
+ * client went away, later updates are dropped instead of failing the tool.
+ */
+public final class ThrottledProgressReporter implements ProgressReporter {
+
+  /** Minimum time between two notifications unless specified otherwise. */
+  public static final Duration DEFAULT_INTERVAL = Duration.ofMillis(100);
+
+  private static final System.Logger LOGGER =
+      System.getLogger(ThrottledProgressReporter.class.getName());
+
+  private static final ScheduledExecutorService SCHEDULER =
+      Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().name("mcp-progress-sender").daemon().factory());
+
+  private final Object progressToken;
+  private final Consumer<ProgressNotification> sender;
+  private final long intervalNanos;
+  private final LongSupplier clock;
+  private final ScheduledExecutorService scheduler;
+
+  private boolean sentAny;
+  private long lastSentAt;
+  private double lastProgress = Double.NEGATIVE_INFINITY;
+  private boolean pending;
+  private double pendingProgress;
+  private Double pendingTotal;
+  private String pendingMessage;
+  private boolean failed;
+  private boolean scheduled;
+
+  /**
+   * Creates a reporter sending at most one notification every {@link #DEFAULT_INTERVAL}.
+   *
+   * @param progressToken the token the client attached to the request
+   * @param sender sends a notification to the client
+   */
+  public ThrottledProgressReporter(Object progressToken, Consumer<ProgressNotification> sender) {
+    this(progressToken, sender, DEFAULT_INTERVAL);
+  }
+
+  /**
+   * Creates a reporter.
+   *
+   * @param progressToken the token the client attached to the request
+   * @param sender sends a notification to the client
+   * @param interval the minimum time between two notifications
+   */
+  public ThrottledProgressReporter(
+      Object progressToken, Consumer<ProgressNotification> sender, Duration interval) {
+    this(progressToken, sender, interval, System::nanoTime, SCHEDULER);
+  }
+
+  ThrottledProgressReporter(
+      Object progressToken,
+      Consumer<ProgressNotification> sender,
+      Duration interval,
+      LongSupplier clock,
+      ScheduledExecutorService scheduler) {
+    this.progressToken = progressToken;
+    this.sender = sender;
+    this.intervalNanos = interval.toNanos();
+    this.clock = clock;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public synchronized void report(double progress, Double total, String message) {
+    if (failed || !(progress > lastProgress)) {
+      return;
+    }
+    lastProgress = progress;
+    pending = true;
+    pendingProgress = progress;
+    pendingTotal = total;
+    pendingMessage = message;
+
+    var now = clock.getAsLong();
+    if (!sentAny || now - lastSentAt >= intervalNanos) {
+      sendPending(now);
+    } else if (!scheduled) {
+      scheduled = true;
+      scheduler.schedule(
+          this::sendTrailing, lastSentAt + intervalNanos - now, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /** Sends the pending update, if any, regardless of the interval. */
+  @Override
+  public synchronized void flush() {
+    if (pending && !failed) {
+      sendPending(clock.getAsLong());
+    }
+  }
+
+  /** Sends the update still pending once the interval has passed, unless it went out already. */
+  private synchronized void sendTrailing() {
+    scheduled = false;
+    flush();
+  }
+
+  private void sendPending(long now) {
+    pending = false;
+    sentAny = true;
+    lastSentAt = now;
+    try {
+      sender.accept(
+          new ProgressNotification(progressToken, pendingProgress, pendingTotal, pendingMessage));
+    } catch (RuntimeException e) {
+      failed = true;
+      LOGGER.log(
+          System.Logger.Level.DEBUG, "Dropping progress updates for token " + progressToken, e);
+    }
+  }
+}
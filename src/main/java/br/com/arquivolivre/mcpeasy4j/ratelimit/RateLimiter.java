@@ -0,0 +1,181 @@
+package br.com.arquivolivre.mcpeasy4j.ratelimit;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.RateLimit;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate limit of a single tool. Every client session draws from its own {@link TokenBucket}, so one
+ * runaway agent cannot use up the budget of the others; over stdio there is only one session. An
+ * optional tool-wide bucket additionally caps all sessions together. Buckets of sessions that have
+ * gone quiet are dropped once there are many of them, since a full bucket behaves exactly like a
+ * new one. They are dropped by a sweep on a background thread, at most once per {@link
+ * #SWEEP_INTERVAL}, so calls never scan the sessions themselves.
+ */
+public final class RateLimiter {
+
+  /** Limiter that admits every call. */
+  public static final RateLimiter UNLIMITED = new RateLimiter(0, 0);
+
+  /** Number of session buckets above which full ones are evicted. */
+  static final int EVICTION_THRESHOLD = 1024;
+
+  /** Minimum time between two sweeps of the same limiter. */
+  static final Duration SWEEP_INTERVAL = Duration.ofSeconds(1);
+
+  private static final Executor SWEEPER =
+      Executors.newSingleThreadExecutor(
+          Thread.ofPlatform().name("mcp-rate-limit-sweeper").daemon().factory());
+
+  private final double permitsPerSecond;
+  private final int burst;
+  private final TokenBucket toolBucket;
+  private final Executor sweeper;
+  private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final AtomicLong lastSweep = new AtomicLong(Long.MIN_VALUE);
+
+  /**
+   * Creates a rate limiter with per-session budgets only.
+   *
+   * @param permitsPerSecond the sustained calls per second, 0 or less for no limit
+   * @param burst the calls allowed back to back, 0 for one second's worth of permits
+   * @throws IllegalArgumentException if the burst is negative
+   */
+  public RateLimiter(double permitsPerSecond, int burst) {
+    this(permitsPerSecond, burst, 0, 0);
+  }
+
+  /**
+   * Creates a rate limiter with per-session budgets and a tool-wide budget.
+   *
+   * @param permitsPerSecond the sustained calls per second of each session, 0 or less for no limit
+   * @param burst the calls each session may make back to back, 0 for one second's worth of permits
+   * @param toolPermitsPerSecond the sustained calls per second of all sessions together, 0 or less
+   *     for no limit
+   * @param toolBurst the calls all sessions together may make back to back, 0 for one second's
+   *     worth of permits
+   * @throws IllegalArgumentException if a burst is negative
+   */
+  public RateLimiter(
+      double permitsPerSecond, int burst, double toolPermitsPerSecond, int toolBurst) {
+    this(permitsPerSecond, burst, toolPermitsPerSecond, toolBurst, SWEEPER);
+  }
+
+  RateLimiter(
+      double permitsPerSecond,
+      int burst,
+      double toolPermitsPerSecond,
+      int toolBurst,
+      Executor sweeper) {
+    this.permitsPerSecond = permitsPerSecond;
+    this.burst = burstOf(permitsPerSecond, burst);
+    var toolCapacity = burstOf(toolPermitsPerSecond, toolBurst);
+    this.toolBucket =
+        toolPermitsPerSecond > 0 ? new TokenBucket(toolPermitsPerSecond, toolCapacity) : null;
+    this.sweeper = sweeper;
+  }
+
+  /**
+   * Creates the rate limiter described by an annotation.
+   *
+   * @param rateLimit the annotation, or null for no limit
+   * @return the rate limiter, or {@link #UNLIMITED} if the annotation sets no limit
+   */
+  public static RateLimiter of(RateLimit rateLimit) {
+    if (rateLimit == null
+        || (rateLimit.permitsPerSecond() <= 0 && rateLimit.toolPermitsPerSecond() <= 0)) {
+      return UNLIMITED;
+    }
+    return new RateLimiter(
+        rateLimit.permitsPerSecond(),
+        rateLimit.burst(),
+        rateLimit.toolPermitsPerSecond(),
+        rateLimit.toolBurst());
+  }
+
+  /**
+   * Takes a permit for a call from the given session, without waiting.
+   *
+   * @param sessionId the client session, or null when the transport has none
+   * @return 0 if the call is admitted, otherwise the nanoseconds until it would be
+   */
+  public long tryAcquire(String sessionId) {
+    return tryAcquire(sessionId, System.nanoTime());
+  }
+
+  /**
+   * Takes a permit at the given time. The session's budget is checked first, so calls a session
+   * makes over its own limit do not use up the tool-wide budget. A call the tool-wide budget
+   * rejects gives its session permit back, so sessions do not pay for calls that never ran.
+   *
+   * @param sessionId the client session, or null when the transport has none
+   * @param nowNanos the current {@link System#nanoTime()}
+   * @return 0 if the call is admitted, otherwise the nanoseconds until it would be
+   */
+  long tryAcquire(String sessionId, long nowNanos) {
+    TokenBucket sessionBucket = null;
+    if (permitsPerSecond > 0) {
+      sessionBucket = sessionBucket(sessionId, nowNanos);
+      var waitNanos = sessionBucket.tryAcquire(nowNanos);
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+    }
+    if (toolBucket == null) {
+      return 0;
+    }
+    var waitNanos = toolBucket.tryAcquire(nowNanos);
+    if (waitNanos > 0 && sessionBucket != null) {
+      sessionBucket.release();
+    }
+    return waitNanos;
+  }
+
+  /**
+   * Returns the number of sessions currently tracked.
+   *
+   * @return the number of session buckets
+   */
+  int sessions() {
+    return buckets.size();
+  }
+
+  private TokenBucket sessionBucket(String sessionId, long nowNanos) {
+    var key = sessionId == null ? "" : sessionId;
+    var bucket = buckets.get(key);
+    if (bucket == null) {
+      if (buckets.size() >= EVICTION_THRESHOLD) {
+        scheduleSweep(nowNanos);
+      }
+      bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(permitsPerSecond, burst));
+    }
+    return bucket;
+  }
+
+  /**
+   * Hands a sweep of the full buckets to the sweeper, unless this limiter was swept less than
+   * {@link #SWEEP_INTERVAL} ago.
+   *
+   * @param nowNanos the current {@link System#nanoTime()}
+   */
+  private void scheduleSweep(long nowNanos) {
+    var last = lastSweep.get();
+    if (last != Long.MIN_VALUE && nowNanos - last < SWEEP_INTERVAL.toNanos()) {
+      return;
+    }
+    if (lastSweep.compareAndSet(last, nowNanos)) {
+      sweeper.execute(() -> buckets.values().removeIf(bucket -> bucket.isFull(nowNanos)));
+    }
+  }
+
+  private static int burstOf(double permitsPerSecond, int burst) {
+    if (burst < 0) {
+      throw new IllegalArgumentException("Burst must not be negative: " + burst);
+    }
+    return burst > 0 ? burst : (int) Math.max(1, Math.ceil(permitsPerSecond));
+  }
+}
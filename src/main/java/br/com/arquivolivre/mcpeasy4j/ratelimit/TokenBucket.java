@@ -0,0 +1,66 @@
+package br.com.arquivolivre.mcpeasy4j.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as a generic cell rate algorithm. Instead of a token count and
+ * a refill timestamp, it keeps a single theoretical arrival time: the instant at which the bucket
+ * would be full again. A call is admitted while that instant is no further ahead than the burst
+ * allows, and pushes it forward by one emission interval with a compare-and-set.
+ */
+final class TokenBucket {
+
+  private final long intervalNanos;
+  private final long toleranceNanos;
+  private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+  /**
+   * Creates a full bucket.
+   *
+   * @param permitsPerSecond the sustained rate, must be positive
+   * @param burst the bucket capacity, must be positive
+   */
+  TokenBucket(double permitsPerSecond, int burst) {
+    this.intervalNanos = Math.max(1, Math.round(1_000_000_000 / permitsPerSecond));
+    this.toleranceNanos = (burst - 1) * intervalNanos;
+  }
+
+  /**
+   * Takes a permit if one is available.
+   *
+   * @param nowNanos the current {@link System#nanoTime()}
+   * @return 0 if the permit was taken, otherwise the nanoseconds until one becomes available
+   */
+  long tryAcquire(long nowNanos) {
+    while (true) {
+      var arrival = theoreticalArrival.get();
+      var base = Math.max(arrival, nowNanos);
+      var waitNanos = base - nowNanos - toleranceNanos;
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+      if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * Gives back a permit taken by {@link #tryAcquire(long)} for a call that was not made after all.
+   * Permits taken since then stay taken, since each of them moved the arrival time by its own
+   * interval.
+   */
+  void release() {
+    theoreticalArrival.addAndGet(-intervalNanos);
+  }
+
+  /**
+   * Returns whether the bucket has refilled completely, making it indistinguishable from a new one.
+   *
+   * @param nowNanos the current {@link System#nanoTime()}
+   * @return true if every permit is available
+   */
+  boolean isFull(long nowNanos) {
+    return theoreticalArrival.get() <= nowNanos;
+  }
+}
@@ -0,0 +1,192 @@
+package br.com.arquivolivre.mcpeasy4j.registry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Immutable, versioned catalog of tools or resources served as paginated list results. Every {@link
+ * #publish(Collection)} replaces the catalog with a new snapshot sorted by key, so readers never
+ * lock and always see a consistent listing. Each page is serialized once per snapshot and then
+ * returned as raw JSON, so repeated list requests cost a map lookup instead of rebuilding and
+ * serializing the whole catalog.
+ *
+ * <p>Cursors are the opaque, encoded key of the last entry of the previous page. A page starts
+ * after that key, so clients paging through the catalog while it is republished neither skip nor
+ * repeat entries that did not change.
+ *
+ * @param <T> the type of the catalog entries
+ */
+public final class FeatureRegistry<T> {
+
+  private final Function<T, String> keyFunction;
+  private final BiFunction<List<T>, String, Object> pageFactory;
+  private final ObjectMapper objectMapper;
+  private final int pageSize;
+  private volatile Snapshot<T> snapshot;
+
+  /**
+   * Creates an empty registry. Nothing is served until the first {@link #publish(Collection)}.
+   *
+   * @param keyFunction extracts the unique key entries are sorted and looked up by
+   * @param pageFactory builds the list result of one page from its entries and next cursor
+   * @param objectMapper the ObjectMapper serializing pages
+   * @param pageSize the maximum number of entries per page, or 0 to return everything at once
+   * @throws IllegalArgumentException if the page size is negative
+   */
+  public FeatureRegistry(
+      Function<T, String> keyFunction,
+      BiFunction<List<T>, String, Object> pageFactory,
+      ObjectMapper objectMapper,
+      int pageSize) {
+    if (pageSize < 0) {
+      throw new IllegalArgumentException("Page size must not be negative: " + pageSize);
+    }
+    this.keyFunction = keyFunction;
+    this.pageFactory = pageFactory;
+    this.objectMapper = objectMapper;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Replaces the catalog with the given entries. When two entries share a key, the last one wins.
+   *
+   * @param entries the entries to serve
+   */
+  public synchronized void publish(Collection<? extends T> entries) {
+    var byKey = new HashMap<String, T>();
+    for (var entry : entries) {
+      byKey.put(keyFunction.apply(entry), entry);
+    }
+    var sorted = new ArrayList<>(byKey.values());
+    sorted.sort(Comparator.comparing(keyFunction));
+    var keys = sorted.stream().map(keyFunction).toArray(String[]::new);
+    var current = snapshot;
+    var version = current == null ? 1 : current.version() + 1;
+    snapshot = new Snapshot<>(version, List.copyOf(sorted), keys, Map.copyOf(byKey));
+  }
+
+  /**
+   * Returns whether the catalog has been published at least once.
+   *
+   * @return true once entries are being served
+   */
+  public boolean isPublished() {
+    return snapshot != null;
+  }
+
+  /**
+   * Returns the version of the current snapshot, incremented by every publish.
+   *
+   * @return the version, or 0 before the first publish
+   */
+  public long version() {
+    var current = snapshot;
+    return current == null ? 0 : current.version();
+  }
+
+  /**
+   * Returns the number of entries in the current snapshot.
+   *
+   * @return the entry count
+   */
+  public int size() {
+    var current = snapshot;
+    return current == null ? 0 : current.entries().size();
+  }
+
+  /**
+   * Looks an entry up by key in constant time.
+   *
+   * @param key the entry key
+   * @return the entry, or null if there is none
+   */
+  public T find(String key) {
+    var current = snapshot;
+    return current == null ? null : current.byKey().get(key);
+  }
+
+  /**
+   * Returns one page of the catalog as raw JSON, ready to be embedded in a JSON-RPC response.
+   *
+   * @param cursor the cursor from the previous page, or null for the first page
+   * @return the serialized list result
+   * @throws IllegalStateException if the catalog has not been published yet
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  public RawValue page(String cursor) {
+    var current = snapshot;
+    if (current == null) {
+      throw new IllegalStateException("Registry has not been published yet");
+    }
+    // Pages are cached by start index rather than by cursor, so made-up cursors cannot grow the
+    // cache beyond one entry per position. Concurrent misses may serialize a page twice.
+    var start = startOf(current, cursor);
+    var cached = current.pages().get(start);
+    if (cached != null) {
+      return cached;
+    }
+    var page = serialize(current, start);
+    var raced = current.pages().putIfAbsent(start, page);
+    return raced == null ? page : raced;
+  }
+
+  private int startOf(Snapshot<T> current, String cursor) {
+    if (cursor == null) {
+      return 0;
+    }
+    String afterKey;
+    try {
+      afterKey = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+    }
+    var index = Arrays.binarySearch(current.keys(), afterKey);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  private RawValue serialize(Snapshot<T> current, int start) {
+    var entries = current.entries();
+    var end = pageSize == 0 ? entries.size() : Math.min(entries.size(), start + pageSize);
+    var pageEntries = entries.subList(start, Math.max(start, end));
+    String nextCursor = null;
+    if (end < entries.size()) {
+      var lastKey = current.keys()[end - 1];
+      nextCursor =
+          Base64.getUrlEncoder()
+              .withoutPadding()
+              .encodeToString(lastKey.getBytes(StandardCharsets.UTF_8));
+    }
+    try {
+      return new RawValue(
+          objectMapper.writeValueAsString(pageFactory.apply(pageEntries, nextCursor)));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize catalog page", e);
+    }
+  }
+
+  /** One published version of the catalog, with the pages serialized from it so far. */
+  private record Snapshot<T>(
+      long version,
+      List<T> entries,
+      String[] keys,
+      Map<String, T> byKey,
+      ConcurrentHashMap<Integer, RawValue> pages) {
+
+    Snapshot(long version, List<T> entries, String[] keys, Map<String, T> byKey) {
+      this(version, entries, keys, byKey, new ConcurrentHashMap<>());
+    }
+  }
+}
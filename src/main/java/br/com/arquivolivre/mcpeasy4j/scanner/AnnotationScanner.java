@@ -4,17 +4,20 @@ import br.com.arquivolivre.mcpeasy4j.annotation.Prompt;
 import br.com.arquivolivre.mcpeasy4j.annotation.PromptArgument;
 import br.com.arquivolivre.mcpeasy4j.annotation.Resource;
 import br.com.arquivolivre.mcpeasy4j.annotation.Tool;
+import br.com.arquivolivre.mcpeasy4j.jfr.AnnotationScanEvent;
 import br.com.arquivolivre.mcpeasy4j.model.PromptDefinition;
 import br.com.arquivolivre.mcpeasy4j.model.ResourceDefinition;
 import br.com.arquivolivre.mcpeasy4j.model.ToolDefinition;
 import br.com.arquivolivre.mcpeasy4j.schema.SchemaGenerator;
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Scans classes for MCP annotations and creates definition objects. Discovers @Tool, @Resource,
  * and @Prompt annotated methods and generates the corresponding definition records for
- * registration.
+ * registration. Each scan emits an {@link AnnotationScanEvent} when that JFR event is enabled. A
+ * scanner holds no mutable state, so one instance can scan several classes concurrently.
  */
 public class AnnotationScanner {
 
@@ -25,6 +28,29 @@ public class AnnotationScanner {
     this.schemaGenerator = new SchemaGenerator();
   }
 
+  /**
+   * Scans an instance for @Tool, @Resource and @Prompt annotated methods.
+   *
+   * @param instance the object instance to scan
+   * @return the definitions found
+   */
+  public ComponentScan scan(Object instance) {
+    return new ComponentScan(
+        instance, scanTools(instance), scanResources(instance), scanPrompts(instance));
+  }
+
+  /**
+   * Scans many instances in parallel on the common fork-join pool, each class's discovery, schema
+   * generation and definition building running as its own task. Results are merged back in the
+   * order of the instances, so registration is as deterministic as a sequential scan.
+   *
+   * @param instances the object instances to scan
+   * @return the definitions found, one scan per instance in the same order
+   */
+  public List<ComponentScan> scanAll(List<?> instances) {
+    return instances.parallelStream().map(this::scan).toList();
+  }
+
   /**
    * Scans an instance for @Tool annotated methods. Extracts tool metadata and generates input
    * schemas.
@@ -33,6 +59,8 @@ public class AnnotationScanner {
    * @return list of ToolDefinition records
    */
   public List<ToolDefinition> scanTools(Object instance) {
+    var event = new AnnotationScanEvent();
+    event.begin();
     var tools = new ArrayList<ToolDefinition>();
     var clazz = instance.getClass();
 
@@ -46,16 +74,19 @@ public class AnnotationScanner {
         // Extract description
         var description = toolAnnotation.description();
 
-        // Generate input schema using SchemaGenerator
+        // Generate input and output schemas using SchemaGenerator
         var inputSchema = schemaGenerator.generateSchema(method);
+        var outputSchema = schemaGenerator.generateOutputSchema(method);
 
         // Create ToolDefinition
-        var toolDef = new ToolDefinition(toolName, description, inputSchema, method, instance);
+        var toolDef =
+            new ToolDefinition(toolName, description, inputSchema, outputSchema, method, instance);
 
         tools.add(toolDef);
       }
     }
 
+    commit(event, clazz, Tool.class, tools.size());
     return tools;
   }
 
@@ -66,6 +97,8 @@ public class AnnotationScanner {
    * @return list of ResourceDefinition records
    */
   public List<ResourceDefinition> scanResources(Object instance) {
+    var event = new AnnotationScanEvent();
+    event.begin();
     var resources = new ArrayList<ResourceDefinition>();
     var clazz = instance.getClass();
 
@@ -87,6 +120,7 @@ public class AnnotationScanner {
       }
     }
 
+    commit(event, clazz, Resource.class, resources.size());
     return resources;
   }
 
@@ -98,6 +132,8 @@ public class AnnotationScanner {
    * @return list of PromptDefinition records
    */
   public List<PromptDefinition> scanPrompts(Object instance) {
+    var event = new AnnotationScanEvent();
+    event.begin();
     var prompts = new ArrayList<PromptDefinition>();
     var clazz = instance.getClass();
 
@@ -141,6 +177,30 @@ public class AnnotationScanner {
       }
     }
 
+    commit(event, clazz, Prompt.class, prompts.size());
     return prompts;
   }
+
+  /**
+   * Commits a scan event if it is enabled and exceeds its threshold.
+   *
+   * @param event the started event
+   * @param clazz the scanned class
+   * @param annotation the annotation scanned for
+   * @param found the number of definitions found
+   */
+  private static void commit(
+      AnnotationScanEvent event,
+      Class<?> clazz,
+      Class<? extends Annotation> annotation,
+      int found) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.scannedClass = clazz;
+      event.annotation = annotation.getSimpleName();
+      event.methodsScanned = clazz.getDeclaredMethods().length;
+      event.definitionsFound = found;
+      event.commit();
+    }
+  }
 }
@@ -0,0 +1,131 @@
+package br.com.arquivolivre.mcpeasy4j.scanner;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.ToolComponent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Finds the classes annotated with {@link ToolComponent} in packages on the classpath, in
+ * directories and in jar files alike. Class files are listed first; the classes are then loaded,
+ * without being initialized, in parallel on the common fork-join pool. As with any lookup through
+ * {@link ClassLoader#getResources(String)}, jar files must contain directory entries for their
+ * packages to be found, which jar and build tools write by default.
+ */
+public class ClasspathScanner {
+
+  private static final System.Logger LOGGER = System.getLogger(ClasspathScanner.class.getName());
+  private static final String CLASS_SUFFIX = ".class";
+
+  private final ClassLoader classLoader;
+
+  /** Creates a scanner searching the class loader that loaded the framework. */
+  public ClasspathScanner() {
+    this(ClasspathScanner.class.getClassLoader());
+  }
+
+  /**
+   * Creates a scanner searching the given class loader.
+   *
+   * @param classLoader the class loader
+   */
+  public ClasspathScanner(ClassLoader classLoader) {
+    this.classLoader = classLoader;
+  }
+
+  /**
+   * Finds the component classes in the given packages and their subpackages. Classes that cannot be
+   * loaded are skipped.
+   *
+   * @param packages the package names
+   * @return the component classes, sorted by name
+   * @throws UncheckedIOException if the classpath cannot be read
+   */
+  public List<Class<?>> findComponents(List<String> packages) {
+    var classNames = new TreeSet<String>();
+    for (var packageName : packages) {
+      var path = packageName.replace('.', '/');
+      try {
+        var roots = classLoader.getResources(path);
+        while (roots.hasMoreElements()) {
+          collectClassNames(roots.nextElement(), path, classNames);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to scan package " + packageName, e);
+      }
+    }
+    return classNames.parallelStream()
+        .map(this::load)
+        .filter(Objects::nonNull)
+        .filter(type -> type.isAnnotationPresent(ToolComponent.class))
+        .sorted(Comparator.comparing(Class::getName))
+        .toList();
+  }
+
+  /**
+   * Lists the class files under a package root, as class names.
+   *
+   * @param root the URL of the package directory or jar entry
+   * @param path the package path
+   * @param classNames receives the class names
+   * @throws IOException if the directory or jar file cannot be read
+   */
+  private static void collectClassNames(URL root, String path, TreeSet<String> classNames)
+      throws IOException {
+    switch (root.getProtocol()) {
+      case "file" -> {
+        Path directory;
+        try {
+          directory = Path.of(root.toURI());
+        } catch (URISyntaxException e) {
+          throw new IOException("Invalid classpath entry " + root, e);
+        }
+        try (var walk = Files.walk(directory)) {
+          walk.filter(Files::isRegularFile)
+              .map(file -> directory.relativize(file).toString().replace('\\', '/'))
+              .forEach(file -> addClassName(path + "/" + file, classNames));
+        }
+      }
+      case "jar" -> {
+        var connection = (JarURLConnection) root.openConnection();
+        connection.setUseCaches(false);
+        try (var jar = connection.getJarFile()) {
+          var entries = jar.entries();
+          while (entries.hasMoreElements()) {
+            var entry = entries.nextElement().getName();
+            if (entry.startsWith(path + "/")) {
+              addClassName(entry, classNames);
+            }
+          }
+        }
+      }
+      default -> LOGGER.log(System.Logger.Level.DEBUG, "Skipping classpath entry " + root);
+    }
+  }
+
+  private static void addClassName(String resource, TreeSet<String> classNames) {
+    if (resource.endsWith(CLASS_SUFFIX)
+        && !resource.endsWith("module-info.class")
+        && !resource.endsWith("package-info.class")) {
+      classNames.add(
+          resource.substring(0, resource.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+    }
+  }
+
+  private Class<?> load(String className) {
+    try {
+      return Class.forName(className, false, classLoader);
+    } catch (ClassNotFoundException | LinkageError e) {
+      LOGGER.log(System.Logger.Level.DEBUG, "Skipping class " + className, e);
+      return null;
+    }
+  }
+}
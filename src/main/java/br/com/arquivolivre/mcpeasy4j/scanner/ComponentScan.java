@@ -0,0 +1,20 @@
+package br.com.arquivolivre.mcpeasy4j.scanner;
+
+import br.com.arquivolivre.mcpeasy4j.model.PromptDefinition;
+import br.com.arquivolivre.mcpeasy4j.model.ResourceDefinition;
+import br.com.arquivolivre.mcpeasy4j.model.ToolDefinition;
+import java.util.List;
+
+/**
+ * The tools, resources and prompts found on one instance.
+ *
+ * @param instance the scanned instance
+ * @param tools the tool definitions
+ * @param resources the resource definitions
+ * @param prompts the prompt definitions
+ */
+public record ComponentScan(
+    Object instance,
+    List<ToolDefinition> tools,
+    List<ResourceDefinition> resources,
+    List<PromptDefinition> prompts) {}
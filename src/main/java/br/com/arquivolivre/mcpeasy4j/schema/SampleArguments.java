@@ -0,0 +1,92 @@
+package br.com.arquivolivre.mcpeasy4j.schema;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthesizes tool arguments that satisfy an input schema, for calls made without a client such as
+ * warmup. A property's first {@code examples} entry is used when it has one, then its first {@code
+ * enum} constant; otherwise a fixed value of its type is generated, shaped by its {@code format}
+ * for strings. Optional properties are filled in too, so every parameter gets converted.
+ */
+public final class SampleArguments {
+
+  private SampleArguments() {}
+
+  /**
+   * Generates one argument map for an input schema.
+   *
+   * @param schema the input schema of a tool
+   * @return the arguments by property name, in schema order; empty if the schema has no properties
+   */
+  public static Map<String, Object> of(McpSchema.JsonSchema schema) {
+    var arguments = new LinkedHashMap<String, Object>();
+    if (schema == null || schema.properties() == null) {
+      return arguments;
+    }
+    schema
+        .properties()
+        .forEach(
+            (name, property) ->
+                arguments.put(name, property instanceof Map<?, ?> map ? valueOf(map) : Map.of()));
+    return arguments;
+  }
+
+  /**
+   * Generates the value of one property.
+   *
+   * @param property the property schema
+   * @return the value, which may be null if that is the property's example
+   */
+  private static Object valueOf(Map<?, ?> property) {
+    if (property.get("examples") instanceof List<?> examples && !examples.isEmpty()) {
+      return examples.get(0);
+    }
+    if (property.get("enum") instanceof List<?> constants && !constants.isEmpty()) {
+      return constants.get(0);
+    }
+    return switch (typeOf(property.get("type"))) {
+      case "string" -> stringOf(property.get("format"));
+      case "integer" -> 1;
+      case "number" -> 1.0;
+      case "boolean" -> true;
+      case "array" -> List.of();
+      case "null" -> null;
+      default -> Map.of();
+    };
+  }
+
+  /**
+   * Picks the type of a property, which may be a list of types such as {@code ["string", "null"]}.
+   *
+   * @param type the {@code type} keyword
+   * @return the first type other than null, or "object" if the property accepts anything
+   */
+  private static String typeOf(Object type) {
+    if (type instanceof String name) {
+      return name;
+    }
+    if (type instanceof List<?> names) {
+      for (var name : names) {
+        if (name instanceof String value && !"null".equals(value)) {
+          return value;
+        }
+      }
+    }
+    return "object";
+  }
+
+  private static String stringOf(Object format) {
+    return switch (format instanceof String name ? name : "") {
+      case "date-time" -> "2024-01-01T00:00:00Z";
+      case "date" -> "2024-01-01";
+      case "time" -> "00:00:00";
+      case "email" -> "user@example.com";
+      case "uri", "url" -> "https://example.com";
+      case "uuid" -> "00000000-0000-0000-0000-000000000000";
+      default -> "sample";
+    };
+  }
+}
@@ -1,13 +1,24 @@
 package br.com.arquivolivre.mcpeasy4j.schema;
 
+import br.com.arquivolivre.mcpeasy4j.annotation.Example;
 import br.com.arquivolivre.mcpeasy4j.annotation.Property;
+import br.com.arquivolivre.mcpeasy4j.logging.McpLogger;
+import br.com.arquivolivre.mcpeasy4j.progress.ProgressReporter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.modelcontextprotocol.spec.McpSchema;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SequencedMap;
+import java.util.Set;
+import java.util.stream.BaseStream;
 
 /**
  * Generates JSON schemas from Java method signatures. Uses Java 21 pattern matching for type
@@ -15,6 +26,35 @@ import java.util.SequencedMap;
  */
 public class SchemaGenerator {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /** Types whose JSON representation {@link #mapJavaTypeToJsonType(Class)} describes exactly. */
+  private static final Set<Class<?>> SCALAR_TYPES =
+      Set.of(
+          String.class,
+          int.class,
+          Integer.class,
+          long.class,
+          Long.class,
+          double.class,
+          Double.class,
+          float.class,
+          Float.class,
+          boolean.class,
+          Boolean.class);
+
+  /**
+   * Output schemas by return type, shared by every generator in the JVM so that servers hosted
+   * together describe a common result type once. Cached schemas are immutable.
+   */
+  private static final ClassValue<Map<String, Object>> OUTPUT_SCHEMAS =
+      new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+          return new SchemaGenerator().outputSchemaOf(type);
+        }
+      };
+
   /**
    * Maps a Java type to its corresponding JSON Schema type. Uses pattern matching for switch (Java
    * 21) to simplify type checking.
@@ -40,11 +80,13 @@ public class SchemaGenerator {
 
   /**
    * Generates a complete JSON schema from a method's parameters. Extracts @Property annotations and
-   * builds property definitions. Uses SequencedMap to maintain parameter order. Returns MCP SDK's
-   * JsonSchema for protocol compliance.
+   * builds property definitions, skipping injected {@link ProgressReporter} and {@link McpLogger}
+   * parameters. Uses SequencedMap to maintain parameter order. Returns MCP SDK's JsonSchema for
+   * protocol compliance.
    *
    * @param method the method to generate schema for
    * @return the complete McpSchema.JsonSchema record
+   * @throws IllegalArgumentException if an @Example value is not valid JSON
    */
   public McpSchema.JsonSchema generateSchema(Method method) {
     SequencedMap<String, Object> properties = new LinkedHashMap<>();
@@ -55,7 +97,7 @@ public class SchemaGenerator {
     for (var parameter : parameters) {
       var propertyAnnotation = parameter.getAnnotation(Property.class);
 
-      if (propertyAnnotation != null) {
+      if (propertyAnnotation != null && !isInjected(parameter.getType())) {
         // Map Java type to JSON type
         var jsonType = mapJavaTypeToJsonType(parameter.getType());
 
@@ -77,6 +119,13 @@ public class SchemaGenerator {
           propertySchema.put("format", propertyAnnotation.format());
         }
 
+        // Add example if present
+        var example = parameter.getAnnotation(Example.class);
+        if (example != null) {
+          propertySchema.put(
+              "examples", Collections.singletonList(exampleValue(parameter, jsonType, example)));
+        }
+
         properties.put(propertyName, propertySchema);
 
         // Add to required list if marked as required
@@ -96,4 +145,113 @@ public class SchemaGenerator {
         null // definitions
         );
   }
+
+  /**
+   * Reads the value of an @Example annotation: the text itself for string properties, parsed as
+   * JSON for any other type.
+   *
+   * @param parameter the annotated parameter
+   * @param jsonType the JSON type of the property
+   * @param example the annotation
+   * @return the example value
+   * @throws IllegalArgumentException if the value is not valid JSON
+   */
+  private static Object exampleValue(Parameter parameter, String jsonType, Example example) {
+    if ("string".equals(jsonType)) {
+      return example.value();
+    }
+    try {
+      return OBJECT_MAPPER.readValue(example.value(), Object.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(
+          "Invalid @Example for parameter "
+              + parameter.getName()
+              + " of "
+              + parameter.getDeclaringExecutable().getName()
+              + ": "
+              + example.value(),
+          e);
+    }
+  }
+
+  /**
+   * Generates the output schema of a method from its return type. Only types serialized as JSON
+   * objects get one, since the protocol requires structured tool results to be objects. Records are
+   * described component by component; maps and other application classes are described as open
+   * objects.
+   *
+   * @param method the method to generate the output schema for
+   * @return the output schema, or null if the method does not return a JSON object
+   */
+  public Map<String, Object> generateOutputSchema(Method method) {
+    return OUTPUT_SCHEMAS.get(method.getReturnType());
+  }
+
+  private Map<String, Object> outputSchemaOf(Class<?> type) {
+    if (Iterable.class.isAssignableFrom(type)
+        || Iterator.class.isAssignableFrom(type)
+        || BaseStream.class.isAssignableFrom(type)) {
+      // Returned as arrays, in chunks for lazily produced ones, never as one object
+      return null;
+    }
+    if (type.isRecord()) {
+      SequencedMap<String, Object> properties = new LinkedHashMap<>();
+      for (var component : type.getRecordComponents()) {
+        properties.put(component.getName(), componentSchema(component.getType()));
+      }
+      return Map.of(
+          "type", "object", "properties", Collections.unmodifiableSequencedMap(properties));
+    }
+    if (Map.class.isAssignableFrom(type) || isApplicationClass(type)) {
+      return Map.of("type", "object");
+    }
+    return null;
+  }
+
+  /**
+   * Describes a record component. Types whose JSON form is not known up front, such as dates or
+   * enums with custom serializers, accept any value rather than risk rejecting valid results.
+   * Reference types may also be null.
+   *
+   * @param type the component type
+   * @return the component schema
+   */
+  private Map<String, Object> componentSchema(Class<?> type) {
+    var known =
+        SCALAR_TYPES.contains(type)
+            || type.isRecord()
+            || type.isArray() && type != byte[].class
+            || Map.class.isAssignableFrom(type)
+            || List.class.isAssignableFrom(type);
+    if (!known) {
+      return Map.of();
+    }
+    var jsonType = mapJavaTypeToJsonType(type);
+    return Map.of("type", type.isPrimitive() ? jsonType : List.of(jsonType, "null"));
+  }
+
+  /**
+   * Returns whether a parameter type is injected by the framework rather than given by the client.
+   *
+   * @param type the parameter type
+   * @return true for {@link ProgressReporter} and {@link McpLogger}
+   */
+  private static boolean isInjected(Class<?> type) {
+    return type == ProgressReporter.class || type == McpLogger.class;
+  }
+
+  /**
+   * Returns whether a type is an application class that Jackson serializes as a JSON object.
+   *
+   * @param type the type to check
+   * @return true for concrete classes outside the JDK that are not enums or JSON trees
+   */
+  private static boolean isApplicationClass(Class<?> type) {
+    return !type.isPrimitive()
+        && !type.isArray()
+        && !type.isEnum()
+        && !type.isInterface()
+        && !type.getPackageName().startsWith("java.")
+        && !JsonNode.class.isAssignableFrom(type);
+  }
 }
@@ -0,0 +1,63 @@
+package br.com.arquivolivre.mcpeasy4j.scope;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import br.com.arquivolivre.mcpeasy4j.annotation.Scope;
+import br.com.arquivolivre.mcpeasy4j.annotation.ToolComponent;
+
+/**
+ * Provides the instance a call is served by. Every {@link #acquire()} is paired with a {@link
+ * #release(Object)} once the call, including the serialization of its result, is over.
+ */
+public interface InstanceScope {
+
+  /**
+   * Returns an instance to serve one call.
+   *
+   * @return the instance
+   * @throws IllegalStateException if a new instance cannot be created
+   */
+  Object acquire();
+
+  /**
+   * Hands back an instance once its call is over.
+   *
+   * @param instance the instance returned by {@link #acquire()}
+   */
+  void release(Object instance);
+
+  /**
+   * Creates the scope declared by the {@link ToolComponent} or {@link McpServer} annotation of an
+   * instance's class; classes with neither are singletons.
+   *
+   * @param prototype the instance created at startup, which serves singleton calls and is the first
+   *     pooled instance
+   * @return the scope
+   * @throws IllegalArgumentException if the pool size is negative, or a pooled or per-call class
+   *     has no accessible no-argument constructor
+   */
+  static InstanceScope of(Object prototype) {
+    var type = prototype.getClass();
+    var scope = Scope.SINGLETON;
+    var poolSize = 0;
+    var component = type.getAnnotation(ToolComponent.class);
+    var server = type.getAnnotation(McpServer.class);
+    if (component != null) {
+      scope = component.scope();
+      poolSize = component.poolSize();
+    } else if (server != null) {
+      scope = server.scope();
+      poolSize = server.poolSize();
+    }
+    if (poolSize < 0) {
+      throw new IllegalArgumentException(
+          "Invalid pool size of " + type.getName() + ": " + poolSize);
+    }
+    return switch (scope) {
+      case SINGLETON -> new SingletonScope(prototype);
+      case POOLED ->
+          new PooledScope(
+              prototype, poolSize == 0 ? Runtime.getRuntime().availableProcessors() : poolSize);
+      case PER_CALL -> new PerCallScope(type);
+    };
+  }
+}
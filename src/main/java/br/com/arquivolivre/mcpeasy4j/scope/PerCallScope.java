@@ -0,0 +1,73 @@
+package br.com.arquivolivre.mcpeasy4j.scope;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Serves every call with a new instance. The no-argument constructor is resolved once into a method
+ * handle, so creating an instance costs a direct constructor call rather than a reflective lookup.
+ */
+final class PerCallScope implements InstanceScope {
+
+  private final Class<?> type;
+  private final MethodHandle constructor;
+
+  /**
+   * Creates a scope instantiating the given class.
+   *
+   * @param type the class
+   * @throws IllegalArgumentException if the class has no accessible no-argument constructor
+   */
+  PerCallScope(Class<?> type) {
+    this.type = type;
+    this.constructor = constructorOf(type);
+  }
+
+  @Override
+  public Object acquire() {
+    return create(constructor, type);
+  }
+
+  @Override
+  public void release(Object instance) {
+    // The instance is discarded
+  }
+
+  /**
+   * Resolves the no-argument constructor of a class into a handle returning Object.
+   *
+   * @param type the class
+   * @return the constructor handle
+   * @throws IllegalArgumentException if the class has no accessible no-argument constructor
+   */
+  static MethodHandle constructorOf(Class<?> type) {
+    try {
+      return MethodHandles.publicLookup()
+          .findConstructor(type, MethodType.methodType(void.class))
+          .asType(MethodType.methodType(Object.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new IllegalArgumentException(
+          "Class " + type.getName() + " needs a public no-argument constructor", e);
+    }
+  }
+
+  /**
+   * Creates an instance through a constructor handle.
+   *
+   * @param constructor the handle from {@link #constructorOf(Class)}
+   * @param type the class, for error messages
+   * @return the instance
+   * @throws IllegalStateException if the constructor throws a checked exception
+   */
+  static Object create(MethodHandle constructor, Class<?> type) {
+    try {
+      return (Object) constructor.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(
+          "Failed to create instance of " + type.getName() + ": " + e.getMessage(), e);
+    }
+  }
+}
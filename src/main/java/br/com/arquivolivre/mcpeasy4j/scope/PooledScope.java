@@ -0,0 +1,157 @@
+package br.com.arquivolivre.mcpeasy4j.scope;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Serves each call with an instance borrowed from a pool of at most the pool size of instances.
+ * Idle instances sit in a fixed array of slots that calls claim and refill with atomic swaps,
+ * starting at a random slot so that concurrent calls rarely contend for the same one. Instances are
+ * created on demand until the pool is full; once every instance is in use, calls wait for one to be
+ * released, so the pool size bounds the resources the instances hold.
+ */
+final class PooledScope implements InstanceScope {
+
+  private final Class<?> type;
+  private final MethodHandle constructor;
+  private final AtomicReferenceArray<Object> idle;
+  private final Semaphore available;
+  private final AtomicInteger created = new AtomicInteger(1);
+
+  /**
+   * Creates a pool holding the prototype.
+   *
+   * @param prototype the first idle instance
+   * @param size the maximum number of instances
+   * @throws IllegalArgumentException if the class has no accessible no-argument constructor
+   */
+  PooledScope(Object prototype, int size) {
+    this.type = prototype.getClass();
+    this.constructor = PerCallScope.constructorOf(type);
+    this.idle = new AtomicReferenceArray<>(size);
+    this.available = new Semaphore(size);
+    idle.set(0, prototype);
+  }
+
+  /**
+   * Borrows an idle instance, creates one if the pool is not full yet, and otherwise waits until
+   * one is released.
+   *
+   * @return the instance
+   * @throws IllegalStateException if a new instance cannot be created, or the thread is interrupted
+   *     while waiting
+   */
+  @Override
+  public Object acquire() {
+    try {
+      available.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(
+          "Interrupted while waiting for an instance of " + type.getName(), e);
+    }
+    var acquired = false;
+    try {
+      while (true) {
+        var instance = takeIdle();
+        if (instance == null) {
+          instance = createIfNotFull();
+        }
+        if (instance != null) {
+          acquired = true;
+          return instance;
+        }
+        // The permit guarantees an instance that is idle or about to be
+        Thread.onSpinWait();
+      }
+    } finally {
+      if (!acquired) {
+        available.release();
+      }
+    }
+  }
+
+  @Override
+  public void release(Object instance) {
+    // There are never more instances than slots, so a free slot always turns up
+    var slots = idle.length();
+    while (true) {
+      var start = ThreadLocalRandom.current().nextInt(slots);
+      for (var i = 0; i < slots; i++) {
+        if (idle.compareAndSet((start + i) % slots, null, instance)) {
+          available.release();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Claims an idle instance, if any.
+   *
+   * @return the instance, or null if every slot is empty
+   */
+  private Object takeIdle() {
+    var slots = idle.length();
+    var start = ThreadLocalRandom.current().nextInt(slots);
+    for (var i = 0; i < slots; i++) {
+      var slot = (start + i) % slots;
+      // Read before swapping, so empty slots are skipped without a write
+      if (idle.get(slot) != null) {
+        var instance = idle.getAndSet(slot, null);
+        if (instance != null) {
+          return instance;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Creates a new instance unless the pool already holds as many as it may.
+   *
+   * @return the instance, or null if the pool is full
+   */
+  private Object createIfNotFull() {
+    var count = created.get();
+    if (count >= idle.length() || !created.compareAndSet(count, count + 1)) {
+      return null;
+    }
+    Object instance = null;
+    try {
+      instance = PerCallScope.create(constructor, type);
+      return instance;
+    } finally {
+      if (instance == null) {
+        created.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Returns the number of idle instances.
+   *
+   * @return the idle count
+   */
+  int idleCount() {
+    var count = 0;
+    for (var i = 0; i < idle.length(); i++) {
+      if (idle.get(i) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of instances created, idle or in use.
+   *
+   * @return the instance count
+   */
+  int size() {
+    return created.get();
+  }
+}
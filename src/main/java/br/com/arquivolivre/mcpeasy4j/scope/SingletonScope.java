@@ -0,0 +1,21 @@
+package br.com.arquivolivre.mcpeasy4j.scope;
+
+/** Serves every call with the same instance. */
+final class SingletonScope implements InstanceScope {
+
+  private final Object instance;
+
+  SingletonScope(Object instance) {
+    this.instance = instance;
+  }
+
+  @Override
+  public Object acquire() {
+    return instance;
+  }
+
+  @Override
+  public void release(Object instance) {
+    // The instance is shared
+  }
+}
@@ -0,0 +1,297 @@
+package br.com.arquivolivre.mcpeasy4j.spill;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.Spill;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Content-addressed file store for results too large to inline in a response. Content is streamed
+ * to a file named after its SHA-256 digest, so it is never held in memory as a whole and storing
+ * the same content twice keeps one file. Reads map the file instead of copying it onto the heap.
+ * Results expire a fixed time after they were last stored, and the oldest are evicted once the
+ * store exceeds its total size.
+ */
+public final class SpillStore implements AutoCloseable {
+
+  /** Writes content into the store. */
+  @FunctionalInterface
+  public interface ContentWriter {
+    /**
+     * Writes the content.
+     *
+     * @param out the stream receiving the content
+     * @throws IOException if the content cannot be written
+     */
+    void writeTo(OutputStream out) throws IOException;
+  }
+
+  private static final System.Logger LOGGER = System.getLogger(SpillStore.class.getName());
+
+  private final long thresholdBytes;
+  private final Path directory;
+  private final boolean ownsDirectory;
+  private final long ttlNanos;
+  private final long maxTotalBytes;
+  private final LongSupplier clock;
+
+  // Stored results from least to most recently stored, guarded by this
+  private final Map<String, Entry> entries = new LinkedHashMap<>();
+  private long totalBytes;
+
+  /**
+   * Creates the store described by an annotation.
+   *
+   * @param spill the annotation
+   * @throws IOException if the directory cannot be created
+   * @throws IllegalArgumentException if a size or duration is not positive
+   */
+  public SpillStore(Spill spill) throws IOException {
+    this(spill, System::nanoTime);
+  }
+
+  /**
+   * Creates the store described by an annotation, reading time from the given clock.
+   *
+   * @param spill the annotation
+   * @param clock the nanosecond clock
+   * @throws IOException if the directory cannot be created
+   * @throws IllegalArgumentException if a size or duration is not positive
+   */
+  SpillStore(Spill spill, LongSupplier clock) throws IOException {
+    if (spill.thresholdBytes() < 1 || spill.ttlSeconds() < 1 || spill.maxTotalBytes() < 1) {
+      throw new IllegalArgumentException("Spill threshold, TTL and total size must be positive");
+    }
+    this.thresholdBytes = spill.thresholdBytes();
+    this.ownsDirectory = spill.directory().isEmpty();
+    this.directory =
+        ownsDirectory
+            ? Files.createTempDirectory("mcp-easy4j-spill")
+            : Files.createDirectories(Path.of(spill.directory()));
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(spill.ttlSeconds());
+    this.maxTotalBytes = spill.maxTotalBytes();
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the size above which results are spilled.
+   *
+   * @return the threshold in bytes
+   */
+  public long thresholdBytes() {
+    return thresholdBytes;
+  }
+
+  /**
+   * Streams content into the store. Older results are evicted first when the store would exceed its
+   * total size, so a result larger than the total size is still kept, alone.
+   *
+   * @param mimeType the MIME type of the content
+   * @param writer writes the content
+   * @return the stored result
+   * @throws IOException if the content cannot be written
+   */
+  public SpilledResult put(String mimeType, ContentWriter writer) throws IOException {
+    try (var sink = open(mimeType)) {
+      writer.writeTo(sink.stream());
+      return sink.commit();
+    }
+  }
+
+  /**
+   * Opens a sink streaming content into the store, for producers that only find out part way
+   * through that their content has to be stored. The content is kept once the sink is committed,
+   * and discarded if it is closed without being committed.
+   *
+   * @param mimeType the MIME type of the content
+   * @return the sink
+   * @throws IOException if the file receiving the content cannot be created
+   */
+  public Sink open(String mimeType) throws IOException {
+    return new Sink(mimeType, Files.createTempFile(directory, "spill", ".tmp"));
+  }
+
+  /**
+   * Adds a fully written file to the store under its digest, holding the lock.
+   *
+   * @param temp the written file
+   * @param hex the digest of its content
+   * @param mimeType the MIME type of the content
+   * @return the stored result
+   * @throws IOException if the file cannot be moved into place
+   */
+  private synchronized SpilledResult add(Path temp, String hex, String mimeType)
+      throws IOException {
+    var size = Files.size(temp);
+    Files.move(temp, directory.resolve(hex), StandardCopyOption.REPLACE_EXISTING);
+    var previous = entries.remove(hex);
+    if (previous != null) {
+      totalBytes -= previous.result().size();
+    }
+    evict(size);
+    var result = new SpilledResult(hex, mimeType, size);
+    entries.put(hex, new Entry(result, clock.getAsLong()));
+    totalBytes += size;
+    return result;
+  }
+
+  /**
+   * Looks up a stored result.
+   *
+   * @param digest the digest of the result
+   * @return the result, or null if it was never stored, has expired or was evicted
+   */
+  public synchronized SpilledResult find(String digest) {
+    evict(0);
+    var entry = entries.get(digest);
+    return entry == null ? null : entry.result();
+  }
+
+  /**
+   * Reads a stored result as UTF-8 text, decoding it straight from a mapping of its file.
+   *
+   * @param result the result
+   * @return the content
+   * @throws IOException if the result was evicted since it was found, or cannot be read
+   */
+  public String read(SpilledResult result) throws IOException {
+    try (var channel =
+        FileChannel.open(directory.resolve(result.digest()), StandardOpenOption.READ)) {
+      var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return StandardCharsets.UTF_8.decode(mapped).toString();
+    }
+  }
+
+  /**
+   * Returns the total size of the stored results.
+   *
+   * @return the size in bytes
+   */
+  public synchronized long totalBytes() {
+    return totalBytes;
+  }
+
+  /** Deletes every stored result, and the directory if the store created it. */
+  @Override
+  public synchronized void close() {
+    entries.keySet().forEach(this::delete);
+    entries.clear();
+    totalBytes = 0;
+    if (ownsDirectory) {
+      try {
+        Files.deleteIfExists(directory);
+      } catch (IOException e) {
+        LOGGER.log(System.Logger.Level.DEBUG, "Failed to delete spill directory " + directory, e);
+      }
+    }
+  }
+
+  /**
+   * Removes expired results, then the oldest ones until the given size fits, holding the lock.
+   *
+   * @param incoming the size of a result about to be added
+   */
+  private void evict(long incoming) {
+    var now = clock.getAsLong();
+    var oldest = entries.entrySet().iterator();
+    while (oldest.hasNext()) {
+      var entry = oldest.next().getValue();
+      if (now - entry.storedAt() < ttlNanos && totalBytes + incoming <= maxTotalBytes) {
+        break;
+      }
+      oldest.remove();
+      totalBytes -= entry.result().size();
+      delete(entry.result().digest());
+    }
+  }
+
+  private void delete(String digest) {
+    try {
+      Files.deleteIfExists(directory.resolve(digest));
+    } catch (IOException e) {
+      LOGGER.log(System.Logger.Level.DEBUG, "Failed to delete spilled result " + digest, e);
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /** Content being streamed into the store. */
+  public final class Sink implements AutoCloseable {
+    private final String mimeType;
+    private final Path temp;
+    private final MessageDigest digest = sha256();
+    private final OutputStream out;
+    private boolean committed;
+
+    private Sink(String mimeType, Path temp) throws IOException {
+      this.mimeType = mimeType;
+      this.temp = temp;
+      this.out =
+          new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)), digest);
+    }
+
+    /**
+     * Returns the stream receiving the content. It is buffered and closed by the sink.
+     *
+     * @return the content stream
+     */
+    public OutputStream stream() {
+      return out;
+    }
+
+    /**
+     * Keeps the content written so far under its digest.
+     *
+     * @return the stored result
+     * @throws IOException if the content cannot be written
+     * @throws IllegalStateException if the sink was already committed
+     */
+    public SpilledResult commit() throws IOException {
+      if (committed) {
+        throw new IllegalStateException("Spilled content already committed");
+      }
+      out.close();
+      var result = add(temp, HexFormat.of().formatHex(digest.digest()), mimeType);
+      committed = true;
+      return result;
+    }
+
+    /**
+     * Discards the content unless it was committed.
+     *
+     * @throws IOException if the partial content cannot be deleted
+     */
+    @Override
+    public void close() throws IOException {
+      if (!committed) {
+        try {
+          out.close();
+        } finally {
+          Files.deleteIfExists(temp);
+        }
+      }
+    }
+  }
+
+  private record Entry(SpilledResult result, long storedAt) {}
+}
@@ -0,0 +1,10 @@
+package br.com.arquivolivre.mcpeasy4j.spill;
+
+/**
+ * A result stored in a {@link SpillStore}.
+ *
+ * @param digest the hex-encoded SHA-256 digest of the content, which identifies it
+ * @param mimeType the MIME type of the content
+ * @param size the size of the content in bytes
+ */
+public record SpilledResult(String digest, String mimeType, long size) {}
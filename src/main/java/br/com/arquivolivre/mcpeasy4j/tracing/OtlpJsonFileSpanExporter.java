@@ -0,0 +1,110 @@
+package br.com.arquivolivre.mcpeasy4j.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bundled exporter that appends each batch to a file as one line of OTLP/JSON, the format of the
+ * OpenTelemetry Collector's file exporter. The file can be replayed into any OTLP backend with the
+ * collector's {@code otlpjsonfile} receiver. The file is opened lazily on the first batch.
+ */
+public class OtlpJsonFileSpanExporter implements SpanExporter {
+
+  /** OTLP span kind for a span handling an incoming request. */
+  private static final int SPAN_KIND_SERVER = 2;
+
+  /** OTLP span kind for an in-process operation. */
+  private static final int SPAN_KIND_INTERNAL = 1;
+
+  private static final int STATUS_CODE_ERROR = 2;
+
+  private final Path file;
+  private final String serviceName;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private OutputStream out;
+
+  /**
+   * Creates an exporter writing to the given file.
+   *
+   * @param file the file to append to, created if missing
+   * @param serviceName the {@code service.name} resource attribute
+   */
+  public OtlpJsonFileSpanExporter(Path file, String serviceName) {
+    this.file = file;
+    this.serviceName = serviceName;
+  }
+
+  @Override
+  public void export(List<SpanData> spans) throws IOException {
+    if (out == null) {
+      out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+    out.write(objectMapper.writeValueAsBytes(toRequest(spans)));
+    out.write('\n');
+    out.flush();
+  }
+
+  @Override
+  public void shutdown() throws IOException {
+    if (out != null) {
+      out.close();
+    }
+  }
+
+  /**
+   * Builds an OTLP {@code ExportTraceServiceRequest} holding the batch.
+   *
+   * @param spans the spans to include
+   * @return the request as a JSON tree
+   */
+  ObjectNode toRequest(List<SpanData> spans) {
+    var request = objectMapper.createObjectNode();
+    var resourceSpans = request.putArray("resourceSpans").addObject();
+    attributes(resourceSpans.putObject("resource"), Map.of("service.name", serviceName));
+    var scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+    scopeSpans.putObject("scope").put("name", "mcp-easy4j");
+    var spanArray = scopeSpans.putArray("spans");
+    for (var span : spans) {
+      var node = spanArray.addObject();
+      node.put("traceId", span.traceId());
+      node.put("spanId", span.spanId());
+      if (span.parentSpanId() != null) {
+        node.put("parentSpanId", span.parentSpanId());
+      }
+      node.put("name", span.name());
+      node.put("kind", span.kind() == SpanData.Kind.SERVER ? SPAN_KIND_SERVER : SPAN_KIND_INTERNAL);
+      // OTLP/JSON encodes 64-bit integers as strings
+      node.put("startTimeUnixNano", Long.toString(span.startEpochNanos()));
+      node.put("endTimeUnixNano", Long.toString(span.endEpochNanos()));
+      attributes(node, span.attributes());
+      if (span.error() != null) {
+        node.putObject("status").put("code", STATUS_CODE_ERROR).put("message", span.error());
+      }
+    }
+    return request;
+  }
+
+  private static void attributes(ObjectNode target, Map<String, Object> attributes) {
+    ArrayNode array = target.putArray("attributes");
+    for (var entry : attributes.entrySet()) {
+      var attribute = array.addObject();
+      attribute.put("key", entry.getKey());
+      var value = attribute.putObject("value");
+      switch (entry.getValue()) {
+        case Boolean b -> value.put("boolValue", b);
+        case Integer i -> value.put("intValue", Integer.toString(i));
+        case Long l -> value.put("intValue", Long.toString(l));
+        case Double d -> value.put("doubleValue", d);
+        default -> value.put("stringValue", String.valueOf(entry.getValue()));
+      }
+    }
+  }
+}
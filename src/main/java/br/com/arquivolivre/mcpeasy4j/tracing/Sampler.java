@@ -0,0 +1,37 @@
+package br.com.arquivolivre.mcpeasy4j.tracing;
+
+/**
+ * Head-based sampling decision taken once when a request's root span starts. Spans that are not
+ * sampled are never recorded, so their cost is a single decision.
+ */
+@FunctionalInterface
+public interface Sampler {
+
+  /**
+   * Decides whether to record a new trace.
+   *
+   * @param parent the context propagated by the client, or null if none was sent
+   * @param traceIdLow the low 64 bits of the trace id the span will use
+   * @return true to record the span and its children
+   */
+  boolean shouldSample(TraceContext parent, long traceIdLow);
+
+  /**
+   * Returns a sampler that follows the client's decision when it propagates one, and otherwise
+   * samples the given fraction of traces. The decision is derived from the trace id, so every
+   * service sampling at the same ratio keeps the same traces.
+   *
+   * @param ratio the fraction of traces to sample, between 0 and 1
+   * @return the sampler
+   */
+  static Sampler parentBasedRatio(double ratio) {
+    if (ratio <= 0) {
+      return (parent, traceIdLow) -> parent != null && parent.sampled();
+    }
+    if (ratio >= 1) {
+      return (parent, traceIdLow) -> parent == null || parent.sampled();
+    }
+    var bound = (long) (ratio * Long.MAX_VALUE);
+    return (parent, traceIdLow) -> parent != null ? parent.sampled() : (traceIdLow >>> 1) < bound;
+  }
+}
@@ -0,0 +1,134 @@
+package br.com.arquivolivre.mcpeasy4j.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A timed operation within a trace. Spans are created by {@link Tracer#startSpan} and belong to the
+ * thread handling one request, so they are not thread-safe. A span that was not sampled is the
+ * shared {@link #NOOP} instance, on which every method does nothing.
+ */
+public final class Span {
+
+  /** Span returned for unsampled requests. */
+  public static final Span NOOP = new Span(null, null, null, null, null, 0);
+
+  private final Tracer tracer;
+  private final String traceId;
+  private final String spanId;
+  private final String parentSpanId;
+  private final String name;
+  private final long startEpochNanos;
+  private final Map<String, Object> attributes = new LinkedHashMap<>();
+  private String error;
+  private boolean ended;
+
+  Span(
+      Tracer tracer,
+      String traceId,
+      String spanId,
+      String parentSpanId,
+      String name,
+      long startEpochNanos) {
+    this.tracer = tracer;
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.parentSpanId = parentSpanId;
+    this.name = name;
+    this.startEpochNanos = startEpochNanos;
+  }
+
+  /**
+   * Returns whether this span is sampled and will be exported.
+   *
+   * @return false for the no-op span
+   */
+  public boolean isRecording() {
+    return tracer != null;
+  }
+
+  /**
+   * Returns the trace id.
+   *
+   * @return the trace id, or null for the no-op span
+   */
+  public String traceId() {
+    return traceId;
+  }
+
+  /**
+   * Returns the span id.
+   *
+   * @return the span id, or null for the no-op span
+   */
+  public String spanId() {
+    return spanId;
+  }
+
+  /**
+   * Sets an attribute, replacing any previous value for the key.
+   *
+   * @param key the attribute key
+   * @param value a string, number, or boolean
+   * @return this span
+   */
+  public Span setAttribute(String key, Object value) {
+    if (isRecording()) {
+      attributes.put(key, value);
+    }
+    return this;
+  }
+
+  /**
+   * Marks the span as failed.
+   *
+   * @param error the failure
+   */
+  public void recordError(Throwable error) {
+    if (isRecording()) {
+      this.error = error.toString();
+    }
+  }
+
+  /**
+   * Records a child span that ended just now after running for the given duration. Used for phases
+   * that are only reported as durations, such as argument conversion.
+   *
+   * @param childName the child span name
+   * @param durationNanos how long the child ran, in nanoseconds
+   */
+  public void addChild(String childName, long durationNanos) {
+    if (isRecording()) {
+      var end = tracer.epochNanos();
+      tracer.enqueue(
+          new SpanData(
+              traceId,
+              tracer.newSpanId(),
+              spanId,
+              childName,
+              SpanData.Kind.INTERNAL,
+              end - durationNanos,
+              end,
+              Map.of(),
+              null));
+    }
+  }
+
+  /** Ends the span and queues it for export. Calling this more than once has no effect. */
+  public void end() {
+    if (isRecording() && !ended) {
+      ended = true;
+      tracer.enqueue(
+          new SpanData(
+              traceId,
+              spanId,
+              parentSpanId,
+              name,
+              SpanData.Kind.SERVER,
+              startEpochNanos,
+              tracer.epochNanos(),
+              Map.copyOf(attributes),
+              error));
+    }
+  }
+}
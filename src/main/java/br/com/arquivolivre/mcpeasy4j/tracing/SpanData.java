@@ -0,0 +1,41 @@
+package br.com.arquivolivre.mcpeasy4j.tracing;
+
+import java.util.Map;
+
+/**
+ * Immutable record of a finished span, handed to the {@link SpanExporter}.
+ *
+ * @param traceId 32 hex characters identifying the trace
+ * @param spanId 16 hex characters identifying the span
+ * @param parentSpanId id of the parent span, or null for a trace root
+ * @param name the span name
+ * @param kind whether the span handles a request or an operation within one
+ * @param startEpochNanos start time in nanoseconds since the epoch
+ * @param endEpochNanos end time in nanoseconds since the epoch
+ * @param attributes the span attributes
+ * @param error the failure description, or null if the span succeeded
+ */
+public record SpanData(
+    String traceId,
+    String spanId,
+    String parentSpanId,
+    String name,
+    Kind kind,
+    long startEpochNanos,
+    long endEpochNanos,
+    Map<String, Object> attributes,
+    String error) {
+
+  /** Copies the attributes so the record stays immutable. */
+  public SpanData {
+    attributes = Map.copyOf(attributes);
+  }
+
+  /** Role of a span within the trace. */
+  public enum Kind {
+    /** Handling of an incoming request. */
+    SERVER,
+    /** An operation within a request. */
+    INTERNAL
+  }
+}
@@ -0,0 +1,28 @@
+package br.com.arquivolivre.mcpeasy4j.tracing;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Service provider interface for shipping finished spans. Exporters are called from a single
+ * background thread with batches of spans, never from request threads. Implementations found
+ * through {@link java.util.ServiceLoader} take precedence over the bundled {@link
+ * OtlpJsonFileSpanExporter}.
+ */
+public interface SpanExporter {
+
+  /**
+   * Exports a batch of finished spans.
+   *
+   * @param spans the spans, in the order they finished
+   * @throws IOException if the batch could not be exported; the batch is dropped
+   */
+  void export(List<SpanData> spans) throws IOException;
+
+  /**
+   * Releases the exporter's resources. Called once after the last batch.
+   *
+   * @throws IOException if the exporter could not be closed cleanly
+   */
+  default void shutdown() throws IOException {}
+}
@@ -0,0 +1,76 @@
+package br.com.arquivolivre.mcpeasy4j.tracing;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * W3C trace context propagated by a client in the request {@code _meta} object, using the same
+ * {@code traceparent} format as the HTTP header.
+ *
+ * @param traceId 32 lowercase hex characters identifying the trace
+ * @param spanId 16 lowercase hex characters identifying the client's span
+ * @param sampled whether the client sampled the trace
+ */
+public record TraceContext(String traceId, String spanId, boolean sampled) {
+
+  /** Key of the W3C trace parent in the request {@code _meta} object. */
+  public static final String TRACEPARENT = "traceparent";
+
+  private static final Pattern TRACEPARENT_PATTERN =
+      Pattern.compile("[0-9a-f]{2}-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})");
+
+  private static final String INVALID_TRACE_ID = "0".repeat(32);
+  private static final String INVALID_SPAN_ID = "0".repeat(16);
+
+  /**
+   * Extracts the trace context from a request's {@code _meta} object.
+   *
+   * @param meta the request metadata, may be null
+   * @return the trace context, or null if absent or malformed
+   */
+  public static TraceContext fromMeta(Map<String, Object> meta) {
+    if (meta == null || !(meta.get(TRACEPARENT) instanceof String traceparent)) {
+      return null;
+    }
+    return parse(traceparent);
+  }
+
+  /**
+   * Parses a W3C {@code traceparent} value.
+   *
+   * @param traceparent the value, e.g. {@code
+   *     00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}
+   * @return the trace context, or null if the value is malformed or uses all-zero ids
+   */
+  public static TraceContext parse(String traceparent) {
+    var matcher = TRACEPARENT_PATTERN.matcher(traceparent.trim());
+    if (!matcher.matches()) {
+      return null;
+    }
+    var traceId = matcher.group(1);
+    var spanId = matcher.group(2);
+    if (traceId.equals(INVALID_TRACE_ID) || spanId.equals(INVALID_SPAN_ID)) {
+      return null;
+    }
+    var sampled = (Integer.parseInt(matcher.group(3), 16) & 1) == 1;
+    return new TraceContext(traceId, spanId, sampled);
+  }
+
+  /**
+   * Returns the low 64 bits of the trace id, the ones random trace ids are sampled on.
+   *
+   * @return the last 16 hex characters of the trace id as a number
+   */
+  public long traceIdLow() {
+    return Long.parseUnsignedLong(traceId, 16, 32, 16);
+  }
+
+  /**
+   * Formats this context as a W3C {@code traceparent} value.
+   *
+   * @return the traceparent value
+   */
+  public String traceparent() {
+    return "00-" + traceId + "-" + spanId + (sampled ? "-01" : "-00");
+  }
+}
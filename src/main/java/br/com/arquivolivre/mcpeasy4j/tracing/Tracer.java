@@ -0,0 +1,238 @@
+package br.com.arquivolivre.mcpeasy4j.tracing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creates spans for incoming requests and exports finished ones in batches from a background
+ * thread. Sampling is decided once per request by the {@link Sampler}, on the low half of a trace
+ * id drawn as a number and only formatted once the span is recorded, so unsampled requests without
+ * a propagated trace context get {@link Span#NOOP} and allocate nothing. Finished spans go to a
+ * bounded queue and are dropped, never blocking a request, when the exporter falls behind.
+ */
+public class Tracer {
+
+  /** Tracer that never samples and has no exporter thread. */
+  public static final Tracer NOOP = new Tracer();
+
+  private static final int DEFAULT_QUEUE_CAPACITY = 2048;
+  private static final int DEFAULT_MAX_BATCH_SIZE = 512;
+  private static final Duration DEFAULT_EXPORT_INTERVAL = Duration.ofSeconds(1);
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+  private static final HexFormat HEX = HexFormat.of();
+  private static final System.Logger LOGGER = System.getLogger(Tracer.class.getName());
+
+  /** Queued by {@link #shutdown()} to wake the export thread; never exported. */
+  private static final SpanData SHUTDOWN_SIGNAL =
+      new SpanData(null, null, null, null, SpanData.Kind.INTERNAL, 0, 0, Map.of(), null);
+
+  private final Sampler sampler;
+  private final SpanExporter exporter;
+  private final BlockingQueue<SpanData> queue;
+  private final int maxBatchSize;
+  private final long exportIntervalNanos;
+  private final long epochNanosAtStart;
+  private final long nanoTimeAtStart;
+  private final LongAdder dropped = new LongAdder();
+  private final Thread exportThread;
+  private volatile boolean running = true;
+
+  /**
+   * Creates a tracer with a 2048-span queue, exporting up to 512 spans at least once per second.
+   *
+   * @param sampler decides which requests are traced
+   * @param exporter receives finished spans
+   */
+  public Tracer(Sampler sampler, SpanExporter exporter) {
+    this(
+        sampler, exporter, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_BATCH_SIZE, DEFAULT_EXPORT_INTERVAL);
+  }
+
+  /**
+   * Creates a tracer.
+   *
+   * @param sampler decides which requests are traced
+   * @param exporter receives finished spans
+   * @param queueCapacity finished spans buffered before new ones are dropped
+   * @param maxBatchSize maximum spans handed to the exporter at once
+   * @param exportInterval maximum time a finished span waits before being exported
+   */
+  public Tracer(
+      Sampler sampler,
+      SpanExporter exporter,
+      int queueCapacity,
+      int maxBatchSize,
+      Duration exportInterval) {
+    this.sampler = sampler;
+    this.exporter = exporter;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.maxBatchSize = maxBatchSize;
+    this.exportIntervalNanos = exportInterval.toNanos();
+    var now = Instant.now();
+    this.nanoTimeAtStart = System.nanoTime();
+    this.epochNanosAtStart = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    this.exportThread = Thread.ofPlatform().name("mcp-span-exporter").daemon().start(this::run);
+  }
+
+  private Tracer() {
+    this.sampler = (parent, traceIdLow) -> false;
+    this.exporter = null;
+    this.queue = null;
+    this.maxBatchSize = 0;
+    this.exportIntervalNanos = 0;
+    this.epochNanosAtStart = 0;
+    this.nanoTimeAtStart = 0;
+    this.exportThread = null;
+    this.running = false;
+  }
+
+  /**
+   * Starts the root span of a request, continuing the client's trace when its {@code _meta} carries
+   * a W3C {@code traceparent}.
+   *
+   * @param name the span name
+   * @param meta the request {@code _meta} object, may be null
+   * @return the span, or {@link Span#NOOP} if the request is not sampled
+   */
+  public Span startSpan(String name, Map<String, Object> meta) {
+    if (!running) {
+      return Span.NOOP;
+    }
+    var parent = TraceContext.fromMeta(meta);
+    var traceIdLow = parent != null ? parent.traceIdLow() : nonZeroRandom();
+    if (!sampler.shouldSample(parent, traceIdLow)) {
+      return Span.NOOP;
+    }
+    var traceId = parent != null ? parent.traceId() : newTraceId(traceIdLow);
+    return new Span(
+        this, traceId, newSpanId(), parent != null ? parent.spanId() : null, name, epochNanos());
+  }
+
+  /**
+   * Returns how many finished spans were dropped because the export queue was full.
+   *
+   * @return the number of dropped spans
+   */
+  public long dropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * Stops tracing, exports the spans still queued, and shuts the exporter down. Spans ending after
+   * this call are discarded.
+   */
+  public void shutdown() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    if (!queue.offer(SHUTDOWN_SIGNAL)) {
+      // The export thread is busy draining a full queue and will see the flag on its own
+      LOGGER.log(System.Logger.Level.DEBUG, "Span queue full at shutdown, flushing");
+    }
+    try {
+      exportThread.join(SHUTDOWN_TIMEOUT);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns the current wall-clock time with nanosecond resolution, derived from the monotonic
+   * clock so span durations are never negative.
+   *
+   * @return nanoseconds since the epoch
+   */
+  long epochNanos() {
+    return epochNanosAtStart + (System.nanoTime() - nanoTimeAtStart);
+  }
+
+  /**
+   * Generates a random non-zero span id.
+   *
+   * @return 16 hex characters
+   */
+  String newSpanId() {
+    return HEX.toHexDigits(nonZeroRandom());
+  }
+
+  /**
+   * Queues a finished span for export, dropping it if the queue is full or tracing has stopped.
+   *
+   * @param span the finished span
+   */
+  void enqueue(SpanData span) {
+    if (!running || !queue.offer(span)) {
+      dropped.increment();
+    }
+  }
+
+  /**
+   * Formats a new trace id around its already drawn low half.
+   *
+   * @param low the low 64 bits, non-zero so the id is valid
+   * @return 32 hex characters
+   */
+  private static String newTraceId(long low) {
+    return HEX.toHexDigits(ThreadLocalRandom.current().nextLong()) + HEX.toHexDigits(low);
+  }
+
+  private static long nonZeroRandom() {
+    var random = ThreadLocalRandom.current();
+    long value;
+    do {
+      value = random.nextLong();
+    } while (value == 0);
+    return value;
+  }
+
+  /** Export loop: waits for the first span of a batch, then drains whatever else is queued. */
+  private void run() {
+    var batch = new ArrayList<SpanData>(maxBatchSize);
+    try {
+      while (running) {
+        var first = queue.poll(exportIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first != null) {
+          batch.add(first);
+          queue.drainTo(batch, maxBatchSize - 1);
+          export(batch);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    while (queue.drainTo(batch, maxBatchSize) > 0) {
+      export(batch);
+    }
+    try {
+      exporter.shutdown();
+    } catch (Exception e) {
+      LOGGER.log(System.Logger.Level.WARNING, "Failed to shut down span exporter", e);
+    }
+  }
+
+  private void export(List<SpanData> batch) {
+    batch.remove(SHUTDOWN_SIGNAL);
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      exporter.export(List.copyOf(batch));
+    } catch (Exception e) {
+      dropped.add(batch.size());
+      LOGGER.log(System.Logger.Level.WARNING, "Failed to export " + batch.size() + " spans", e);
+    } finally {
+      batch.clear();
+    }
+  }
+}
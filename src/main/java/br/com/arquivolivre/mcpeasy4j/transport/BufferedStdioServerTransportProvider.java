@@ -0,0 +1,398 @@
+package br.com.arquivolivre.mcpeasy4j.transport;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCNotification;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCRequest;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCResponse;
+import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpServerTransport;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import reactor.core.publisher.Mono;
+
+/**
+ * High-throughput alternative to the SDK's StdioServerTransportProvider. Inbound bytes are read
+ * through a large channel buffer and newline-delimited messages are parsed straight from the
+ * buffer, without building an intermediate String per line. Outbound messages go into a bounded
+ * ring buffer drained by a single writer thread, which serializes a whole batch and flushes once,
+ * so the number of write syscalls tracks the number of batches rather than the number of messages.
+ * A peer sending a message larger than the maximum message size, or no newline at all, ends the
+ * session instead of growing the inbound buffer without bound.
+ */
+public final class BufferedStdioServerTransportProvider implements McpServerTransportProvider {
+
+  /** Default size of the inbound channel buffer in bytes. */
+  public static final int DEFAULT_READ_BUFFER_SIZE = 64 * 1024;
+
+  /** Default capacity of the outbound ring buffer in messages. */
+  public static final int DEFAULT_OUTBOUND_CAPACITY = 1024;
+
+  /** Default maximum size of an inbound message, newline included, in bytes. */
+  public static final int DEFAULT_MAX_MESSAGE_SIZE = 16 * 1024 * 1024;
+
+  private static final System.Logger LOGGER =
+      System.getLogger(BufferedStdioServerTransportProvider.class.getName());
+
+  private static final int MAX_BATCH_SIZE = 256;
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+  private static final long POLL_INTERVAL_MILLIS = 50;
+  private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter objectWriter;
+  private final ReadableByteChannel input;
+  private final OutputStream output;
+  private final int readBufferSize;
+  private final int maxMessageSize;
+  private final ArrayBlockingQueue<JSONRPCMessage> outbound;
+  private final AtomicBoolean closing = new AtomicBoolean(false);
+  private volatile boolean writerStopped;
+  private volatile McpServerSession session;
+  private Thread writerThread;
+
+  /**
+   * Creates a new provider bound to the process stdin and stdout file descriptors, with default
+   * buffer sizes.
+   *
+   * @param objectMapper the ObjectMapper to use for JSON-RPC serialization
+   */
+  public BufferedStdioServerTransportProvider(ObjectMapper objectMapper) {
+    this(
+        objectMapper,
+        new FileInputStream(FileDescriptor.in).getChannel(),
+        new FileOutputStream(FileDescriptor.out),
+        DEFAULT_READ_BUFFER_SIZE,
+        DEFAULT_OUTBOUND_CAPACITY);
+  }
+
+  /**
+   * Creates a new provider reading from and writing to the given streams, with default buffer
+   * sizes.
+   *
+   * @param objectMapper the ObjectMapper to use for JSON-RPC serialization
+   * @param inputStream the stream to read client messages from
+   * @param outputStream the stream to write server messages to
+   */
+  public BufferedStdioServerTransportProvider(
+      ObjectMapper objectMapper, InputStream inputStream, OutputStream outputStream) {
+    this(
+        objectMapper,
+        Channels.newChannel(inputStream),
+        outputStream,
+        DEFAULT_READ_BUFFER_SIZE,
+        DEFAULT_OUTBOUND_CAPACITY);
+  }
+
+  /**
+   * Creates a new provider with explicit buffer sizing.
+   *
+   * @param objectMapper the ObjectMapper to use for JSON-RPC serialization
+   * @param input the channel to read client messages from
+   * @param outputStream the stream to write server messages to
+   * @param readBufferSize initial size of the inbound buffer in bytes; grows for larger messages
+   * @param outboundCapacity maximum number of messages waiting to be written
+   * @throws IllegalArgumentException if a size is not positive
+   */
+  public BufferedStdioServerTransportProvider(
+      ObjectMapper objectMapper,
+      ReadableByteChannel input,
+      OutputStream outputStream,
+      int readBufferSize,
+      int outboundCapacity) {
+    this(
+        objectMapper,
+        input,
+        outputStream,
+        readBufferSize,
+        outboundCapacity,
+        Math.max(readBufferSize, DEFAULT_MAX_MESSAGE_SIZE));
+  }
+
+  /**
+   * Creates a new provider with explicit buffer sizing and message size limit.
+   *
+   * @param objectMapper the ObjectMapper to use for JSON-RPC serialization
+   * @param input the channel to read client messages from
+   * @param outputStream the stream to write server messages to
+   * @param readBufferSize initial size of the inbound buffer in bytes; grows for larger messages
+   * @param outboundCapacity maximum number of messages waiting to be written
+   * @param maxMessageSize maximum size of an inbound message in bytes, newline included; the
+   *     session ends when a message exceeds it
+   * @throws IllegalArgumentException if a size is not positive, or the read buffer is larger than
+   *     the maximum message size
+   */
+  public BufferedStdioServerTransportProvider(
+      ObjectMapper objectMapper,
+      ReadableByteChannel input,
+      OutputStream outputStream,
+      int readBufferSize,
+      int outboundCapacity,
+      int maxMessageSize) {
+    if (readBufferSize <= 0 || outboundCapacity <= 0) {
+      throw new IllegalArgumentException("Buffer sizes must be positive");
+    }
+    if (maxMessageSize < readBufferSize) {
+      throw new IllegalArgumentException(
+          "Maximum message size must be at least the read buffer size");
+    }
+    this.objectMapper = objectMapper;
+    this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.input = input;
+    this.output = new BufferedOutputStream(outputStream, WRITE_BUFFER_SIZE);
+    this.readBufferSize = readBufferSize;
+    this.maxMessageSize = maxMessageSize;
+    this.outbound = new ArrayBlockingQueue<>(outboundCapacity);
+  }
+
+  @Override
+  public void setSessionFactory(McpServerSession.Factory sessionFactory) {
+    // Stdio carries exactly one session
+    var transport = new SessionTransport();
+    this.session = sessionFactory.create(transport);
+
+    writerThread = Thread.ofPlatform().name("mcp-stdio-writer").daemon().start(this::writeLoop);
+    Thread.ofPlatform().name("mcp-stdio-reader").daemon().start(this::readLoop);
+  }
+
+  @Override
+  public Mono<Void> notifyClients(String method, Object params) {
+    var current = session;
+    if (current == null) {
+      return Mono.error(new IllegalStateException("No session to notify"));
+    }
+    return current.sendNotification(method, params);
+  }
+
+  @Override
+  public Mono<Void> closeGracefully() {
+    var current = session;
+    if (current == null) {
+      return Mono.fromRunnable(this::stop);
+    }
+    return current.closeGracefully();
+  }
+
+  /**
+   * Reads the input channel until EOF, dispatching every complete line to the session. Partial
+   * messages are compacted to the front of the buffer, and the buffer doubles when a single message
+   * does not fit, up to the maximum message size. A larger message closes the session.
+   */
+  private void readLoop() {
+    var buffer = ByteBuffer.allocate(readBufferSize);
+    var scanFrom = 0;
+    try {
+      while (!closing.get()) {
+        if (!buffer.hasRemaining()) {
+          if (buffer.capacity() >= maxMessageSize) {
+            throw new IOException("Inbound message exceeds " + maxMessageSize + " bytes");
+          }
+          var grown =
+              ByteBuffer.allocate((int) Math.min((long) buffer.capacity() * 2, maxMessageSize));
+          buffer.flip();
+          grown.put(buffer);
+          buffer = grown;
+        }
+
+        if (input.read(buffer) < 0) {
+          break;
+        }
+
+        // Scan only the newly read bytes for frame delimiters
+        var array = buffer.array();
+        var limit = buffer.position();
+        var frameStart = 0;
+        for (var i = scanFrom; i < limit; i++) {
+          if (array[i] == '\n') {
+            var frameEnd = i > frameStart && array[i - 1] == '\r' ? i - 1 : i;
+            if (frameEnd > frameStart) {
+              dispatch(array, frameStart, frameEnd - frameStart);
+            }
+            frameStart = i + 1;
+          }
+        }
+
+        // Move the trailing partial message to the front of the buffer
+        var remaining = limit - frameStart;
+        if (frameStart > 0) {
+          System.arraycopy(array, frameStart, array, 0, remaining);
+          buffer.position(remaining);
+        }
+        scanFrom = remaining;
+      }
+    } catch (IOException e) {
+      logIfNotClosing("Error reading from stdin", e);
+    } finally {
+      closing.set(true);
+      var current = session;
+      if (current != null) {
+        current.close();
+      }
+    }
+  }
+
+  /**
+   * Parses one framed message directly from the read buffer and hands it to the session.
+   *
+   * @param array the read buffer
+   * @param offset start of the message
+   * @param length length of the message in bytes
+   */
+  private void dispatch(byte[] array, int offset, int length) {
+    try {
+      var message = deserialize(objectMapper.readTree(array, offset, length));
+      session
+          .handle(message)
+          .subscribe(null, e -> logIfNotClosing("Error handling inbound message", e));
+    } catch (IOException | IllegalArgumentException e) {
+      logIfNotClosing("Error processing inbound message", e);
+    }
+  }
+
+  /**
+   * Determines the JSON-RPC message type from the parsed tree, following the same rules as the SDK.
+   *
+   * @param node the parsed message
+   * @return the typed JSON-RPC message
+   * @throws IOException if the tree cannot be bound to the message type
+   */
+  private JSONRPCMessage deserialize(JsonNode node) throws IOException {
+    if (node.has("method") && node.has("id")) {
+      return objectMapper.treeToValue(node, JSONRPCRequest.class);
+    }
+    if (node.has("method")) {
+      return objectMapper.treeToValue(node, JSONRPCNotification.class);
+    }
+    if (node.has("result") || node.has("error")) {
+      return objectMapper.treeToValue(node, JSONRPCResponse.class);
+    }
+    throw new IllegalArgumentException("Cannot deserialize JSONRPCMessage: " + node);
+  }
+
+  /**
+   * Drains the outbound ring buffer in batches. Every message of a batch is serialized into the
+   * shared generator, then the batch is flushed once. Exits when closing and the buffer is empty,
+   * or when the output fails, in which case the transport closes and pending messages are dropped
+   * so that no producer stays blocked on a full buffer.
+   */
+  private void writeLoop() {
+    var batch = new ArrayList<JSONRPCMessage>(MAX_BATCH_SIZE);
+    try (var generator = objectMapper.getFactory().createGenerator(output)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+
+      while (true) {
+        var first = outbound.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          if (closing.get()) {
+            break;
+          }
+          continue;
+        }
+
+        batch.add(first);
+        outbound.drainTo(batch, MAX_BATCH_SIZE - 1);
+        for (var message : batch) {
+          // Compact output never contains raw newlines, so no escaping is needed
+          objectWriter.writeValue(generator, message);
+          generator.writeRaw('\n');
+        }
+        generator.flush();
+        batch.clear();
+      }
+    } catch (IOException e) {
+      logIfNotClosing("Error writing to stdout", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      closing.set(true);
+      writerStopped = true;
+      outbound.clear();
+    }
+  }
+
+  /** Stops accepting input and waits for the writer to drain pending messages. */
+  private void stop() {
+    closing.set(true);
+    var writer = writerThread;
+    if (writer != null && writer != Thread.currentThread()) {
+      try {
+        writer.join(CLOSE_TIMEOUT_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void logIfNotClosing(String message, Throwable e) {
+    if (!closing.get()) {
+      LOGGER.log(System.Logger.Level.ERROR, message, e);
+    }
+  }
+
+  /** McpServerTransport for the single stdio session, backed by the outbound ring buffer. */
+  private class SessionTransport implements McpServerTransport {
+
+    @Override
+    public Mono<Void> sendMessage(JSONRPCMessage message) {
+      return Mono.fromRunnable(
+          () -> {
+            if (closing.get()) {
+              throw new IllegalStateException("Transport is closed");
+            }
+            // Fast path when there is room; otherwise block the producer for backpressure,
+            // giving up once the transport closes and nothing drains the buffer anymore
+            if (!outbound.offer(message)) {
+              try {
+                while (!outbound.offer(message, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                  if (closing.get()) {
+                    throw new IllegalStateException("Transport is closed");
+                  }
+                }
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while enqueuing message");
+              }
+            }
+            // The writer may have stopped and cleared the buffer while the message went in
+            if (writerStopped && outbound.remove(message)) {
+              throw new IllegalStateException("Transport is closed");
+            }
+          });
+    }
+
+    @Override
+    public <T> T unmarshalFrom(Object data, TypeRef<T> typeRef) {
+      return objectMapper.convertValue(
+          data, objectMapper.getTypeFactory().constructType(typeRef.getType()));
+    }
+
+    @Override
+    public Mono<Void> closeGracefully() {
+      return Mono.fromRunnable(BufferedStdioServerTransportProvider.this::stop);
+    }
+
+    @Override
+    public void close() {
+      stop();
+    }
+  }
+}
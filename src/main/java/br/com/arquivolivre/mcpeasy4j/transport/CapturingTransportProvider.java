@@ -0,0 +1,70 @@
+package br.com.arquivolivre.mcpeasy4j.transport;
+
+import br.com.arquivolivre.mcpeasy4j.capture.CaptureWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCRequest;
+import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpServerTransport;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import java.io.IOException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decorates a transport provider and records every {@code tools/call}, {@code resources/read} and
+ * {@code prompts/get} request in a {@link CaptureWriter} as it arrives, before the SDK handles it.
+ * A request that cannot be recorded is still served; capturing never fails a request.
+ */
+public class CapturingTransportProvider extends ForwardingTransportProvider {
+
+  private static final System.Logger LOGGER =
+      System.getLogger(CapturingTransportProvider.class.getName());
+
+  private final CaptureWriter capture;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Creates a new decorator around the given provider.
+   *
+   * @param delegate the provider to decorate
+   * @param capture the capture receiving the requests
+   * @param objectMapper the ObjectMapper serializing request parameters
+   */
+  public CapturingTransportProvider(
+      McpServerTransportProvider delegate, CaptureWriter capture, ObjectMapper objectMapper) {
+    super(delegate);
+    this.capture = capture;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void setSessionFactory(McpServerSession.Factory sessionFactory) {
+    delegate()
+        .setSessionFactory(
+            transport -> new CapturingSession(sessionFactory.create(transport), transport));
+  }
+
+  private void record(JSONRPCRequest request) {
+    try {
+      capture.record(request.method(), objectMapper.writeValueAsBytes(request.params()));
+    } catch (IOException e) {
+      LOGGER.log(System.Logger.Level.WARNING, "Failed to capture " + request.method(), e);
+    }
+  }
+
+  /** Server session that records requests before forwarding them. */
+  private class CapturingSession extends ForwardingServerSession {
+
+    CapturingSession(McpServerSession session, McpServerTransport transport) {
+      super(session, transport);
+    }
+
+    @Override
+    public Mono<Void> handle(JSONRPCMessage message) {
+      if (message instanceof JSONRPCRequest request && CaptureWriter.captures(request.method())) {
+        record(request);
+      }
+      return super.handle(message);
+    }
+  }
+}
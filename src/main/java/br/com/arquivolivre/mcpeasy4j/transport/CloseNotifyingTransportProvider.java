@@ -0,0 +1,82 @@
+package br.com.arquivolivre.mcpeasy4j.transport;
+
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
+import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpServerTransport;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decorates a transport provider and completes a future when its session transport is closed,
+ * whether the client hung up (stdin EOF) or the server closed it. Lets the bootstrap observe
+ * termination of transports, such as the SDK's, that expose no callback of their own.
+ */
+public class CloseNotifyingTransportProvider extends ForwardingTransportProvider {
+
+  private final CompletableFuture<Void> closed = new CompletableFuture<>();
+
+  /**
+   * Creates a new decorator around the given provider.
+   *
+   * @param delegate the provider to decorate
+   */
+  public CloseNotifyingTransportProvider(McpServerTransportProvider delegate) {
+    super(delegate);
+  }
+
+  /**
+   * Returns a future completed once the session transport has been closed.
+   *
+   * @return the close future
+   */
+  public CompletableFuture<Void> onClose() {
+    return closed;
+  }
+
+  @Override
+  public void setSessionFactory(McpServerSession.Factory sessionFactory) {
+    delegate()
+        .setSessionFactory(transport -> sessionFactory.create(new SessionTransport(transport)));
+  }
+
+  /** Session transport that forwards everything and reports when it is closed. */
+  private class SessionTransport implements McpServerTransport {
+    private final McpServerTransport transport;
+
+    SessionTransport(McpServerTransport transport) {
+      this.transport = transport;
+    }
+
+    @Override
+    public Mono<Void> sendMessage(JSONRPCMessage message) {
+      return transport.sendMessage(message);
+    }
+
+    @Override
+    public <T> T unmarshalFrom(Object data, TypeRef<T> typeRef) {
+      return transport.unmarshalFrom(data, typeRef);
+    }
+
+    @Override
+    public Mono<Void> closeGracefully() {
+      return transport.closeGracefully().doFinally(signal -> closed.complete(null));
+    }
+
+    @Override
+    public void close() {
+      try {
+        transport.close();
+      } finally {
+        closed.complete(null);
+      }
+    }
+
+    @Override
+    public List<String> protocolVersions() {
+      return transport.protocolVersions();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package br.com.arquivolivre.mcpeasy4j.transport;
+
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
+import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpServerTransport;
+import java.time.Duration;
+import java.util.Map;
+import reactor.core.publisher.Mono;
+
+/**
+ * Server session that forwards everything to the session created by the SDK, for transport
+ * decorators to override {@link #handle(JSONRPCMessage)}. It extends {@link McpServerSession} only
+ * because providers hand sessions to the SDK by that type; none of the inherited state is used.
+ */
+class ForwardingServerSession extends McpServerSession {
+  private final McpServerSession session;
+
+  ForwardingServerSession(McpServerSession session, McpServerTransport transport) {
+    super(session.getId(), Duration.ZERO, transport, null, Map.of(), Map.of());
+    this.session = session;
+  }
+
+  @Override
+  public Mono<Void> handle(JSONRPCMessage message) {
+    return session.handle(message);
+  }
+
+  @Override
+  public String getId() {
+    return session.getId();
+  }
+
+  @Override
+  public void init(
+      McpSchema.ClientCapabilities clientCapabilities, McpSchema.Implementation clientInfo) {
+    session.init(clientCapabilities, clientInfo);
+  }
+
+  @Override
+  public void setMinLoggingLevel(McpSchema.LoggingLevel minLoggingLevel) {
+    session.setMinLoggingLevel(minLoggingLevel);
+  }
+
+  @Override
+  public boolean isNotificationForLevelAllowed(McpSchema.LoggingLevel loggingLevel) {
+    return session.isNotificationForLevelAllowed(loggingLevel);
+  }
+
+  @Override
+  public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
+    return session.sendRequest(method, requestParams, typeRef);
+  }
+
+  @Override
+  public Mono<Void> sendNotification(String method, Object params) {
+    return session.sendNotification(method, params);
+  }
+
+  @Override
+  public Mono<Void> closeGracefully() {
+    return session.closeGracefully();
+  }
+
+  @Override
+  public void close() {
+    session.close();
+  }
+}
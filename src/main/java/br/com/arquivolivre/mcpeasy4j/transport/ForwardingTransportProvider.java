@@ -0,0 +1,46 @@
+package br.com.arquivolivre.mcpeasy4j.transport;
+
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+/**
+ * Transport provider that forwards everything to another provider, for transport decorators to
+ * implement {@link #setSessionFactory} by wrapping the sessions or transports the delegate creates.
+ */
+abstract class ForwardingTransportProvider implements McpServerTransportProvider {
+  private final McpServerTransportProvider delegate;
+
+  ForwardingTransportProvider(McpServerTransportProvider delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Returns the decorated provider.
+   *
+   * @return the delegate provider
+   */
+  public McpServerTransportProvider delegate() {
+    return delegate;
+  }
+
+  @Override
+  public Mono<Void> notifyClients(String method, Object params) {
+    return delegate.notifyClients(method, params);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public Mono<Void> closeGracefully() {
+    return delegate.closeGracefully();
+  }
+
+  @Override
+  public List<String> protocolVersions() {
+    return delegate.protocolVersions();
+  }
+}
@@ -0,0 +1,102 @@
+package br.com.arquivolivre.mcpeasy4j.transport;
+
+import br.com.arquivolivre.mcpeasy4j.logging.LogLevels;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCRequest;
+import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
+import io.modelcontextprotocol.spec.McpSchema.SetLevelRequest;
+import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpServerTransport;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decorates a transport provider and records the level each client sets with {@code
+ * logging/setLevel} in {@link LogLevels} as the request arrives, then lets the SDK answer it as
+ * usual. The SDK keeps the level inside the session where tool code cannot read it; mirroring it
+ * lets the loggers injected into tools drop a message before building it. Each session is also
+ * registered as a target of {@link LogLevels#broadcast}. A session's level is forgotten when the
+ * session closes.
+ */
+public class LogLevelTransportProvider extends ForwardingTransportProvider {
+
+  private static final System.Logger LOGGER =
+      System.getLogger(LogLevelTransportProvider.class.getName());
+
+  private final LogLevels levels;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Creates a new decorator around the given provider.
+   *
+   * @param delegate the provider to decorate
+   * @param levels the levels receiving each session's level
+   * @param objectMapper the ObjectMapper reading request parameters
+   */
+  public LogLevelTransportProvider(
+      McpServerTransportProvider delegate, LogLevels levels, ObjectMapper objectMapper) {
+    super(delegate);
+    this.levels = levels;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void setSessionFactory(McpServerSession.Factory sessionFactory) {
+    delegate()
+        .setSessionFactory(
+            transport -> new LogLevelSession(sessionFactory.create(transport), transport));
+  }
+
+  /** Server session that records log levels before forwarding requests. */
+  private class LogLevelSession extends ForwardingServerSession {
+
+    LogLevelSession(McpServerSession session, McpServerTransport transport) {
+      super(session, transport);
+      levels.register(session.getId(), this::send);
+    }
+
+    @Override
+    public Mono<Void> handle(JSONRPCMessage message) {
+      if (message instanceof JSONRPCRequest request
+          && McpSchema.METHOD_LOGGING_SET_LEVEL.equals(request.method())) {
+        record(request);
+      }
+      return super.handle(message);
+    }
+
+    @Override
+    public Mono<Void> closeGracefully() {
+      return super.closeGracefully().doFinally(signal -> levels.remove(getId()));
+    }
+
+    @Override
+    public void close() {
+      try {
+        super.close();
+      } finally {
+        levels.remove(getId());
+      }
+    }
+
+    private void send(LoggingMessageNotification notification) {
+      sendNotification(McpSchema.METHOD_NOTIFICATION_MESSAGE, notification)
+          .subscribe(
+              null,
+              error -> LOGGER.log(System.Logger.Level.DEBUG, "Failed to send log message", error));
+    }
+
+    private void record(JSONRPCRequest request) {
+      try {
+        var setLevel = objectMapper.convertValue(request.params(), SetLevelRequest.class);
+        if (setLevel != null && setLevel.level() != null) {
+          levels.setLevel(getId(), setLevel.level());
+        }
+      } catch (IllegalArgumentException e) {
+        // The SDK answers malformed requests with an error of its own
+        LOGGER.log(System.Logger.Level.DEBUG, "Ignoring malformed " + request.method(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package br.com.arquivolivre.mcpeasy4j.transport;
+
+import br.com.arquivolivre.mcpeasy4j.registry.FeatureRegistry;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCRequest;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCResponse;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCResponse.JSONRPCError;
+import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpServerTransport;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import java.util.Map;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decorates a transport provider and answers {@code tools/list} and {@code resources/list} requests
+ * from {@link FeatureRegistry} snapshots, one cached page at a time, instead of letting the SDK
+ * rebuild the full list on every request. Every other message, and list requests arriving before a
+ * registry is published, go to the SDK session unchanged.
+ */
+public class PaginatingTransportProvider extends ForwardingTransportProvider {
+
+  private final FeatureRegistry<McpSchema.Tool> tools;
+  private final FeatureRegistry<McpSchema.Resource> resources;
+
+  /**
+   * Creates a new decorator around the given provider.
+   *
+   * @param delegate the provider to decorate
+   * @param tools the registry serving tools/list
+   * @param resources the registry serving resources/list
+   */
+  public PaginatingTransportProvider(
+      McpServerTransportProvider delegate,
+      FeatureRegistry<McpSchema.Tool> tools,
+      FeatureRegistry<McpSchema.Resource> resources) {
+    super(delegate);
+    this.tools = tools;
+    this.resources = resources;
+  }
+
+  @Override
+  public void setSessionFactory(McpServerSession.Factory sessionFactory) {
+    delegate()
+        .setSessionFactory(
+            transport -> new PaginatingSession(sessionFactory.create(transport), transport));
+  }
+
+  /**
+   * Returns the registry serving the given list method, if it has been published.
+   *
+   * @param method the JSON-RPC method
+   * @return the registry, or null if the SDK should handle the request
+   */
+  private FeatureRegistry<?> registryFor(String method) {
+    var registry =
+        switch (method) {
+          case McpSchema.METHOD_TOOLS_LIST -> tools;
+          case McpSchema.METHOD_RESOURCES_LIST -> resources;
+          default -> null;
+        };
+    return registry != null && registry.isPublished() ? registry : null;
+  }
+
+  /** Server session that answers list requests itself and forwards everything else. */
+  private class PaginatingSession extends ForwardingServerSession {
+    private final McpServerTransport transport;
+
+    PaginatingSession(McpServerSession session, McpServerTransport transport) {
+      super(session, transport);
+      this.transport = transport;
+    }
+
+    @Override
+    public Mono<Void> handle(JSONRPCMessage message) {
+      if (message instanceof JSONRPCRequest request) {
+        var registry = registryFor(request.method());
+        if (registry != null) {
+          return Mono.defer(() -> transport.sendMessage(listResponse(registry, request)));
+        }
+      }
+      return super.handle(message);
+    }
+
+    private JSONRPCResponse listResponse(FeatureRegistry<?> registry, JSONRPCRequest request) {
+      var cursor =
+          request.params() instanceof Map<?, ?> params && params.get("cursor") instanceof String c
+              ? c
+              : null;
+      try {
+        return new JSONRPCResponse(
+            McpSchema.JSONRPC_VERSION, request.id(), registry.page(cursor), null);
+      } catch (IllegalArgumentException e) {
+        return new JSONRPCResponse(
+            McpSchema.JSONRPC_VERSION,
+            request.id(),
+            null,
+            new JSONRPCError(McpSchema.ErrorCodes.INVALID_PARAMS, e.getMessage(), null));
+      }
+    }
+  }
+}
@@ -1,17 +1,38 @@
 package br.com.arquivolivre.mcpeasy4j;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
+import br.com.arquivolivre.mcpeasy4j.annotation.Completion;
+import br.com.arquivolivre.mcpeasy4j.annotation.Example;
 import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import br.com.arquivolivre.mcpeasy4j.annotation.Mount;
 import br.com.arquivolivre.mcpeasy4j.annotation.Prompt;
 import br.com.arquivolivre.mcpeasy4j.annotation.PromptArgument;
 import br.com.arquivolivre.mcpeasy4j.annotation.Property;
 import br.com.arquivolivre.mcpeasy4j.annotation.Resource;
+import br.com.arquivolivre.mcpeasy4j.annotation.Spill;
 import br.com.arquivolivre.mcpeasy4j.annotation.Tool;
+import br.com.arquivolivre.mcpeasy4j.annotation.ToolComponent;
+import br.com.arquivolivre.mcpeasy4j.completion.CompletionProvider;
+import br.com.arquivolivre.mcpeasy4j.lifecycle.RequestTracker;
+import br.com.arquivolivre.mcpeasy4j.transport.BufferedStdioServerTransportProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.McpSyncServer;
+import java.io.ByteArrayOutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 /** Tests for McpServerBootstrap with SDK integration. */
@@ -44,6 +65,66 @@ class McpServerBootstrapTest {
     }
   }
 
+  @McpServer(name = "weather-server")
+  public static class WeatherServer {
+    @Tool(name = "forecast", description = "Weather forecast")
+    public String forecast() {
+      return "sunny";
+    }
+  }
+
+  @McpServer(name = "market-server")
+  public static class MarketServer {
+    @Tool(name = "forecast", description = "Market forecast")
+    public String forecast() {
+      return "bullish";
+    }
+  }
+
+  @McpServer(
+      name = "host-server",
+      enableMetrics = false,
+      mounts = {
+        @Mount(server = WeatherServer.class, prefix = "weather"),
+        @Mount(server = MarketServer.class, prefix = "market")
+      })
+  public static class HostServer {
+    @Tool(name = "status", description = "Host status")
+    public String status() {
+      return "ok";
+    }
+  }
+
+  @McpServer(
+      name = "component-host-server",
+      enableMetrics = false,
+      components = AlertTools.class,
+      scanPackages = "br.com.arquivolivre.mcpeasy4j.scanner",
+      mounts = @Mount(server = WeatherServer.class, prefix = "weather"))
+  public static class ComponentHostServer {
+    @Tool(name = "status", description = "Host status")
+    public String status() {
+      return "ok";
+    }
+  }
+
+  @ToolComponent
+  public static class AlertTools {
+    @Tool(name = "alerts", description = "Active alerts")
+    public List<String> alerts() {
+      return List.of();
+    }
+  }
+
+  @McpServer(
+      name = "clashing-host-server",
+      enableMetrics = false,
+      mounts = {@Mount(server = WeatherServer.class), @Mount(server = MarketServer.class)})
+  public static class ClashingHostServer {}
+
+  @McpServer(mounts = @Mount(server = NonAnnotatedServer.class))
+  public static class InvalidMountHostServer {}
+
   public static class NonAnnotatedServer {
     public String method() {
       return "test";
@@ -413,7 +494,7 @@ class McpServerBootstrapTest {
 
   @Test
   void testStartServerMethod() throws Exception {
-    // Test the startServer method which starts the transport
+    // Test the startServer method which returns a handle without blocking
     var serverInstance = new TestServer();
     var annotation = TestServer.class.getAnnotation(McpServer.class);
 
@@ -432,30 +513,320 @@ class McpServerBootstrapTest {
     scanAndRegisterMethod.setAccessible(true);
     scanAndRegisterMethod.invoke(bootstrap);
 
-    // Test startServer in a separate thread since it blocks
+    // Test startServer returns a running handle
     var startServerMethod = McpServerBootstrap.class.getDeclaredMethod("startServer");
     startServerMethod.setAccessible(true);
+    var handle = (ServerHandle) startServerMethod.invoke(bootstrap);
+
+    assertNotNull(handle, "startServer should return a handle");
+    assertFalse(handle.isTerminated(), "Server should be running");
+    assertTrue(handle.stats().accepting());
+    assertEquals(0, handle.stats().inFlight());
+
+    // Shut down with nothing in flight
+    assertTrue(handle.shutdown(Duration.ofMillis(100)));
+    assertTrue(handle.isTerminated());
+    assertTrue(handle.awaitTermination(Duration.ofMillis(100)));
+    assertFalse(handle.stats().accepting());
+
+    // The stopped server no longer holds a shutdown hook
+    var shutdownHookField = McpServerBootstrap.class.getDeclaredField("shutdownHook");
+    shutdownHookField.setAccessible(true);
+    var hook = (Thread) shutdownHookField.get(bootstrap);
+    assertFalse(Runtime.getRuntime().removeShutdownHook(hook));
+  }
 
-    var serverThread =
+  @Test
+  void testShutdownWaitsForInFlightInvocations() throws Exception {
+    var tracker = new RequestTracker();
+    var sdkServer = mock(McpSyncServer.class);
+    var handle = new ServerHandle(sdkServer, tracker, new CompletableFuture<>(), () -> {});
+    assertTrue(tracker.tryEnter());
+
+    // Finish the in-flight invocation shortly after shutdown starts draining
+    var worker =
         new Thread(
             () -> {
               try {
-                startServerMethod.invoke(bootstrap);
-              } catch (Exception e) {
-                // Expected - thread will be interrupted
+                Thread.sleep(100);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
               }
+              tracker.exit(true);
             });
+    worker.start();
 
-    serverThread.start();
+    assertTrue(handle.shutdown(Duration.ofSeconds(5)));
+    assertFalse(tracker.tryEnter(), "New invocations should be rejected");
+    verify(sdkServer).closeGracefully();
 
-    // Give it time to start
-    Thread.sleep(100);
+    var stats = handle.stats();
+    assertEquals(1, stats.completed());
+    assertEquals(1, stats.rejected());
+    worker.join(1000);
+  }
 
-    // Verify thread is running (blocked in sleep)
-    assertTrue(serverThread.isAlive(), "Server thread should be running");
+  @Test
+  void testShutdownClosesTransportAfterDrainTimeout() {
+    var tracker = new RequestTracker();
+    var sdkServer = mock(McpSyncServer.class);
+    var handle = new ServerHandle(sdkServer, tracker, new CompletableFuture<>(), () -> {});
+    assertTrue(tracker.tryEnter());
+
+    assertFalse(handle.shutdown(Duration.ofMillis(50)));
+    verify(sdkServer).closeGracefully();
+    assertTrue(handle.isTerminated());
+    assertEquals(1, handle.stats().inFlight());
+  }
 
-    // Interrupt and clean up
-    serverThread.interrupt();
-    serverThread.join(1000);
+  @Test
+  void testTransportCloseTerminatesHandle() throws Exception {
+    var transportClosed = new CompletableFuture<Void>();
+    var cleanups = new AtomicInteger();
+    var handle =
+        new ServerHandle(
+            mock(McpSyncServer.class),
+            new RequestTracker(),
+            transportClosed,
+            cleanups::incrementAndGet);
+
+    transportClosed.complete(null);
+
+    assertTrue(handle.awaitTermination(Duration.ofSeconds(1)));
+    assertFalse(handle.stats().accepting());
+
+    // A later shutdown does not run the cleanup again
+    handle.shutdown(Duration.ZERO);
+    assertEquals(1, cleanups.get());
+  }
+
+  @Test
+  void testHostsMountedServersUnderPrefixes() throws Exception {
+    // Arrange
+    var input = new PipedOutputStream();
+    var output = new ByteArrayOutputStream();
+    var transport =
+        new BufferedStdioServerTransportProvider(
+            new ObjectMapper(), new PipedInputStream(input), output);
+
+    // Act
+    var handle = McpServerBootstrap.start(HostServer.class, transport);
+    try {
+      input.write(
+          "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"tools/list\",\"params\":{}}\n"
+              .getBytes(StandardCharsets.UTF_8));
+      input.flush();
+      var response = awaitResponse(output);
+
+      // Assert
+      var names = new ArrayList<String>();
+      response.get("result").get("tools").forEach(tool -> names.add(tool.get("name").asText()));
+      assertEquals(List.of("market_forecast", "status", "weather_forecast"), names);
+    } finally {
+      handle.shutdown(Duration.ZERO);
+      input.close();
+    }
+  }
+
+  @Test
+  void testServesListedAndScannedComponents() throws Exception {
+    // Arrange
+    var input = new PipedOutputStream();
+    var output = new ByteArrayOutputStream();
+    var transport =
+        new BufferedStdioServerTransportProvider(
+            new ObjectMapper(), new PipedInputStream(input), output);
+
+    // Act
+    var handle = McpServerBootstrap.start(ComponentHostServer.class, transport);
+    try {
+      input.write(
+          "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"tools/list\",\"params\":{}}\n"
+              .getBytes(StandardCharsets.UTF_8));
+      input.flush();
+      var response = awaitResponse(output);
+
+      // Assert
+      var names = new ArrayList<String>();
+      response.get("result").get("tools").forEach(tool -> names.add(tool.get("name").asText()));
+      assertEquals(List.of("alerts", "price", "status", "stock", "weather_forecast"), names);
+    } finally {
+      handle.shutdown(Duration.ZERO);
+      input.close();
+    }
+  }
+
+  @Test
+  void testRejectsFeatureDefinedByTwoMountedServers() throws Exception {
+    // Arrange
+    var input = new PipedOutputStream();
+    var transport =
+        new BufferedStdioServerTransportProvider(
+            new ObjectMapper(), new PipedInputStream(input), new ByteArrayOutputStream());
+
+    // Act
+    var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> McpServerBootstrap.start(ClashingHostServer.class, transport));
+    input.close();
+
+    // Assert
+    assertTrue(exception.getMessage().contains("tool forecast"));
+  }
+
+  @Test
+  void testRejectsMountedClassWithoutAnnotation() {
+    // Act & Assert
+    var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> McpServerBootstrap.start(InvalidMountHostServer.class));
+    assertTrue(exception.getMessage().contains("must be annotated with @McpServer"));
+  }
+
+  @Test
+  void testWarmsUpReadOnlyToolsBeforeServing() throws Exception {
+    // Arrange
+    var input = new PipedOutputStream();
+    var transport =
+        new BufferedStdioServerTransportProvider(
+            new ObjectMapper(), new PipedInputStream(input), new ByteArrayOutputStream());
+    WarmedUpServer.LOOKUPS.set(0);
+    WarmedUpServer.ORDERS.set(0);
+
+    // Act
+    var handle = McpServerBootstrap.start(WarmedUpServer.class, transport);
+    try {
+      // Assert
+      assertEquals(4, WarmedUpServer.LOOKUPS.get());
+      assertEquals(0, WarmedUpServer.ORDERS.get(), "Tools with side effects are not warmed up");
+      assertEquals(0, handle.stats().completed(), "Warmup calls are not counted as requests");
+    } finally {
+      handle.shutdown(Duration.ZERO);
+      input.close();
+    }
+  }
+
+  @McpServer(name = "warmed-up", warmupIterations = 4)
+  public static class WarmedUpServer {
+    static final AtomicInteger LOOKUPS = new AtomicInteger();
+    static final AtomicInteger ORDERS = new AtomicInteger();
+
+    @Tool(readOnly = true)
+    public int stock(@Property(name = "sku") @Example("ABC-1") String sku) {
+      LOOKUPS.incrementAndGet();
+      return sku.length();
+    }
+
+    @Tool
+    public String order(@Property(name = "sku") String sku) {
+      ORDERS.incrementAndGet();
+      return sku;
+    }
+  }
+
+  @Test
+  void testCompletesPromptArguments() throws Exception {
+    // Arrange
+    var input = new PipedOutputStream();
+    var output = new ByteArrayOutputStream();
+    var transport =
+        new BufferedStdioServerTransportProvider(
+            new ObjectMapper(), new PipedInputStream(input), output);
+
+    // Act
+    var handle = McpServerBootstrap.start(CompletingServer.class, transport);
+    try {
+      input.write(
+          ("{\"jsonrpc\":\"2.0\",\"id\":0,\"method\":\"initialize\",\"params\":"
+                  + "{\"protocolVersion\":\"2025-06-18\",\"capabilities\":{},"
+                  + "\"clientInfo\":{\"name\":\"test\",\"version\":\"1.0\"}}}\n"
+                  + "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}\n")
+              .getBytes(StandardCharsets.UTF_8));
+      input.write(
+          ("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"completion/complete\",\"params\":"
+                  + "{\"ref\":{\"type\":\"ref/prompt\",\"name\":\"plan_trip\"},"
+                  + "\"argument\":{\"name\":\"city\",\"value\":\"li\"}}}\n")
+              .getBytes(StandardCharsets.UTF_8));
+      input.flush();
+      var response = awaitResponse(output, 1);
+
+      // Assert
+      var completion = response.get("result").get("completion");
+      var values = new ArrayList<String>();
+      completion.get("values").forEach(value -> values.add(value.asText()));
+      assertEquals(List.of("Lima", "Lisbon"), values);
+      assertEquals(2, completion.get("total").asInt());
+      assertFalse(completion.get("hasMore").asBoolean());
+    } finally {
+      handle.shutdown(Duration.ZERO);
+      input.close();
+    }
+  }
+
+  @McpServer(name = "completing")
+  public static class CompletingServer {
+    @Prompt(name = "plan_trip", description = "Plans a trip")
+    public String planTrip(
+        @PromptArgument(name = "city") @Completion(Cities.class) String city,
+        @PromptArgument(name = "days", required = false) String days) {
+      return "Plan a trip to " + city;
+    }
+  }
+
+  public static class Cities implements CompletionProvider {
+    @Override
+    public Stream<String> candidates() {
+      return Stream.of("Lisbon", "London", "Lima", "Porto");
+    }
+  }
+
+  @Test
+  void testRejectsSpillingWithoutResources() throws Exception {
+    // Arrange
+    var input = new PipedOutputStream();
+    var transport =
+        new BufferedStdioServerTransportProvider(
+            new ObjectMapper(), new PipedInputStream(input), new ByteArrayOutputStream());
+
+    // Act
+    var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> McpServerBootstrap.start(SpillWithoutResourcesServer.class, transport));
+    input.close();
+
+    // Assert
+    assertTrue(exception.getMessage().contains("requires resources"));
+  }
+
+  @McpServer(
+      name = "spill-without-resources",
+      enableResources = false,
+      spill = @Spill(thresholdBytes = 1024))
+  public static class SpillWithoutResourcesServer {}
+
+  private static JsonNode awaitResponse(ByteArrayOutputStream output) throws Exception {
+    return awaitResponse(output, -1);
+  }
+
+  private static JsonNode awaitResponse(ByteArrayOutputStream output, int id) throws Exception {
+    var deadline = System.nanoTime() + 2_000_000_000L;
+    while (System.nanoTime() < deadline) {
+      // Skip list_changed notifications and a line still being written
+      var written = output.toString(StandardCharsets.UTF_8);
+      var complete = written.substring(0, written.lastIndexOf('\n') + 1);
+      for (var line : complete.split("\n")) {
+        if (!line.isBlank()) {
+          var message = new ObjectMapper().readTree(line);
+          if (message.has("id") && (id < 0 || message.get("id").asInt() == id)) {
+            return message;
+          }
+        }
+      }
+      Thread.sleep(10);
+    }
+    return fail("No response to tools/list");
   }
 }
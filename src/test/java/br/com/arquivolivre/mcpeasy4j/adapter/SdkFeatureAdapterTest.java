@@ -4,29 +4,80 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import br.com.arquivolivre.mcpeasy4j.annotation.CircuitBreaker;
+import br.com.arquivolivre.mcpeasy4j.annotation.Example;
+import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import br.com.arquivolivre.mcpeasy4j.annotation.OverflowPolicy;
+import br.com.arquivolivre.mcpeasy4j.annotation.Property;
+import br.com.arquivolivre.mcpeasy4j.annotation.RateLimit;
+import br.com.arquivolivre.mcpeasy4j.annotation.Scope;
+import br.com.arquivolivre.mcpeasy4j.annotation.Spill;
+import br.com.arquivolivre.mcpeasy4j.annotation.Tool;
+import br.com.arquivolivre.mcpeasy4j.annotation.ToolComponent;
+import br.com.arquivolivre.mcpeasy4j.audit.AuditLog;
+import br.com.arquivolivre.mcpeasy4j.audit.RollingFileWriter;
+import br.com.arquivolivre.mcpeasy4j.bulkhead.BulkheadGroup;
+import br.com.arquivolivre.mcpeasy4j.completion.Completer;
+import br.com.arquivolivre.mcpeasy4j.gateway.DownstreamPool;
+import br.com.arquivolivre.mcpeasy4j.invoker.MethodInvoker;
+import br.com.arquivolivre.mcpeasy4j.lifecycle.RequestTracker;
+import br.com.arquivolivre.mcpeasy4j.logging.LogLevels;
+import br.com.arquivolivre.mcpeasy4j.logging.McpLogger;
+import br.com.arquivolivre.mcpeasy4j.metrics.MetricsRegistry;
 import br.com.arquivolivre.mcpeasy4j.model.PromptArgument;
 import br.com.arquivolivre.mcpeasy4j.model.PromptDefinition;
 import br.com.arquivolivre.mcpeasy4j.model.ResourceDefinition;
 import br.com.arquivolivre.mcpeasy4j.model.ToolDefinition;
+import br.com.arquivolivre.mcpeasy4j.progress.ProgressReporter;
+import br.com.arquivolivre.mcpeasy4j.schema.SchemaGenerator;
+import br.com.arquivolivre.mcpeasy4j.spill.SpillStore;
+import br.com.arquivolivre.mcpeasy4j.tracing.Sampler;
+import br.com.arquivolivre.mcpeasy4j.tracing.SpanData;
+import br.com.arquivolivre.mcpeasy4j.tracing.Tracer;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.client.McpSyncClient;
 import io.modelcontextprotocol.server.McpServerFeatures.SyncPromptSpecification;
 import io.modelcontextprotocol.server.McpServerFeatures.SyncResourceSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncResourceTemplateSpecification;
 import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
 import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.GetPromptRequest;
 import io.modelcontextprotocol.spec.McpSchema.GetPromptResult;
+import io.modelcontextprotocol.spec.McpSchema.LoggingLevel;
+import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
+import io.modelcontextprotocol.spec.McpSchema.ProgressNotification;
+import io.modelcontextprotocol.spec.McpSchema.ReadResourceRequest;
 import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
+import io.modelcontextprotocol.spec.McpSchema.ResourceLink;
 import io.modelcontextprotocol.spec.McpSchema.Role;
 import io.modelcontextprotocol.spec.McpSchema.TextContent;
 import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -92,7 +143,7 @@ class SdkFeatureAdapterTest {
 
     // Act
     Map<String, Object> params = Map.of("message", "Hello");
-    var result = spec.call().apply(null, params);
+    var result = spec.callHandler().apply(null, new CallToolRequest("echo", params));
 
     // Assert
     assertNotNull(result);
@@ -237,7 +288,7 @@ class SdkFeatureAdapterTest {
 
     // Act
     Map<String, Object> params = Map.of("data", Map.of("key", "value"));
-    CallToolResult result = spec.call().apply(null, params);
+    CallToolResult result = spec.callHandler().apply(null, new CallToolRequest("complex", params));
 
     // Assert
     assertNotNull(result);
@@ -264,7 +315,7 @@ class SdkFeatureAdapterTest {
     SyncToolSpecification spec = specCaptor.getValue();
 
     // Act
-    CallToolResult result = spec.call().apply(null, Map.of());
+    CallToolResult result = spec.callHandler().apply(null, new CallToolRequest("null", Map.of()));
 
     // Assert
     assertNotNull(result);
@@ -290,8 +341,818 @@ class SdkFeatureAdapterTest {
     verify(mockServer, times(2)).addTool(any(SyncToolSpecification.class));
   }
 
+  @Test
+  void testToolCallbackRejectedWhenNotAccepting() throws Exception {
+    // Arrange
+    var tracker = new RequestTracker();
+    adapter = SdkFeatureAdapter.builder(objectMapper).requestTracker(tracker).build();
+    var method = TestService.class.getMethod("echoTool", String.class);
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer, List.of(new ToolDefinition("echo", "Echo tool", schema, method, testService)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var handler = specCaptor.getValue().callHandler();
+
+    // Act
+    handler.apply(null, new CallToolRequest("echo", Map.of("message", "Hello")));
+    tracker.stopAccepting();
+
+    // Assert
+    assertThrows(
+        IllegalStateException.class,
+        () -> handler.apply(null, new CallToolRequest("echo", Map.of("message", "Hi"))));
+    assertEquals(1, tracker.completed());
+    assertEquals(1, tracker.rejected());
+    assertEquals(0, tracker.inFlight());
+  }
+
+  @Test
+  void testToolCallbackRecordsMetrics() throws Exception {
+    // Arrange
+    var registry = new MetricsRegistry();
+    adapter = SdkFeatureAdapter.builder(objectMapper).metricsRegistry(registry).build();
+    var echo = TestService.class.getMethod("echoTool", String.class);
+    var failing = TestService.class.getMethod("failingTool");
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer,
+        List.of(
+            new ToolDefinition("echo", "Echo tool", schema, echo, testService),
+            new ToolDefinition("fail", "Failing tool", schema, failing, testService)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer, times(2)).addTool(specCaptor.capture());
+    var echoHandler = specCaptor.getAllValues().get(0).callHandler();
+    var failHandler = specCaptor.getAllValues().get(1).callHandler();
+
+    // Act
+    echoHandler.apply(null, new CallToolRequest("echo", Map.of("message", "Hello")));
+    echoHandler.apply(null, new CallToolRequest("echo", Map.of("message", "Again")));
+    assertThrows(
+        RuntimeException.class,
+        () -> failHandler.apply(null, new CallToolRequest("fail", Map.of())));
+
+    // Assert
+    var echoMetrics = registry.snapshot().get("tools").get("echo");
+    assertEquals(2, echoMetrics.calls());
+    assertEquals(0, echoMetrics.errors());
+    assertEquals(2, echoMetrics.conversion().count());
+    assertEquals(2, echoMetrics.execution().count());
+    assertEquals(2, echoMetrics.serialization().count());
+    var failMetrics = registry.snapshot().get("tools").get("fail");
+    assertEquals(1, failMetrics.calls());
+    assertEquals(1, failMetrics.errors());
+    assertEquals(0, failMetrics.serialization().count());
+  }
+
+  @Test
+  void testToolCallbackRejectsCallsOverRateLimit() throws Exception {
+    // Arrange
+    var registry = new MetricsRegistry();
+    adapter = SdkFeatureAdapter.builder(objectMapper).metricsRegistry(registry).build();
+    var method = TestService.class.getMethod("limitedTool");
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer,
+        List.of(new ToolDefinition("limited", "Limited tool", schema, method, testService)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var handler = specCaptor.getValue().callHandler();
+    var request = new CallToolRequest("limited", Map.of());
+
+    // Act
+    var first = handler.apply(null, request);
+    var second = handler.apply(null, request);
+    var rejected = handler.apply(null, request);
+
+    // Assert
+    assertFalse(first.isError());
+    assertFalse(second.isError());
+    assertTrue(rejected.isError());
+    var text = ((TextContent) rejected.content().get(0)).text();
+    assertTrue(text.startsWith("Rate limit exceeded for tool: limited, retry after "));
+    var structured = (Map<?, ?>) rejected.structuredContent();
+    assertEquals("rate_limited", structured.get("error"));
+    assertTrue(((Long) structured.get("retryAfterMs")) > 0);
+    var metrics = registry.snapshot().get("tools").get("limited");
+    assertEquals(2, metrics.calls());
+    assertEquals(1, metrics.rateLimited());
+  }
+
+  @Test
+  void testToolCallbackAppliesDefaultRateLimit() throws Exception {
+    // Arrange
+    var defaultRateLimit =
+        TestService.class.getMethod("limitedTool").getAnnotation(RateLimit.class);
+    adapter = SdkFeatureAdapter.builder(objectMapper).defaultRateLimit(defaultRateLimit).build();
+    var method = TestService.class.getMethod("echoTool", String.class);
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer, List.of(new ToolDefinition("echo", "Echo tool", schema, method, testService)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var handler = specCaptor.getValue().callHandler();
+    var request = new CallToolRequest("echo", Map.of("message", "Hello"));
+
+    // Act
+    handler.apply(null, request);
+    handler.apply(null, request);
+    var rejected = handler.apply(null, request);
+
+    // Assert
+    assertTrue(rejected.isError());
+  }
+
+  @Test
+  void testToolCallbackRunsInBulkheadAndRejectsWhenSaturated() throws Exception {
+    // Arrange
+    var group = new BulkheadGroup("slow", 1, 0, false);
+    adapter = SdkFeatureAdapter.builder(objectMapper).bulkheads(Map.of("slow", group)).build();
+    var service = new GroupedService();
+    var method = GroupedService.class.getMethod("slowTool");
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer, List.of(new ToolDefinition("slow", "Slow tool", schema, method, service)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var handler = specCaptor.getValue().callHandler();
+    var request = new CallToolRequest("slow", Map.of());
+
+    try {
+      // Act
+      var running = CompletableFuture.supplyAsync(() -> handler.apply(null, request));
+      assertTrue(service.started.await(5, TimeUnit.SECONDS));
+      var rejected = handler.apply(null, request);
+      service.release.countDown();
+      var completed = running.get(5, TimeUnit.SECONDS);
+
+      // Assert
+      assertTrue(rejected.isError());
+      var structured = (Map<?, ?>) rejected.structuredContent();
+      assertEquals("bulkhead_full", structured.get("error"));
+      assertEquals("slow", structured.get("group"));
+      assertFalse(completed.isError());
+      var text = ((TextContent) completed.content().get(0)).text();
+      assertTrue(text.startsWith("mcp-bulkhead-slow-"));
+      assertEquals(1, group.getRejected());
+    } finally {
+      group.shutdown();
+    }
+  }
+
+  @Test
+  void testRegisterToolsRejectsUndeclaredBulkhead() throws Exception {
+    // Arrange
+    var method = GroupedService.class.getMethod("slowTool");
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    var toolDef = new ToolDefinition("slow", "Slow tool", schema, method, new GroupedService());
+
+    // Act & Assert
+    var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> adapter.registerTools(mockServer, List.of(toolDef)));
+    assertTrue(exception.getMessage().contains("slow"));
+  }
+
+  @Test
+  void testToolCallbackFailsFastWhileCircuitIsOpen() throws Exception {
+    // Arrange
+    var registry = new MetricsRegistry();
+    var levels = new LogLevels();
+    var watching = new ArrayList<LoggingMessageNotification>();
+    var quiet = new ArrayList<LoggingMessageNotification>();
+    levels.register("watching", watching::add);
+    levels.register("quiet", quiet::add);
+    levels.setLevel("quiet", LoggingLevel.ERROR);
+    adapter =
+        SdkFeatureAdapter.builder(objectMapper).metricsRegistry(registry).logLevels(levels).build();
+    var method = TestService.class.getMethod("guardedTool");
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer,
+        List.of(new ToolDefinition("guarded", "Guarded tool", schema, method, testService)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var handler = specCaptor.getValue().callHandler();
+    var request = new CallToolRequest("guarded", Map.of());
+
+    // Act
+    assertThrows(RuntimeException.class, () -> handler.apply(null, request));
+    assertThrows(RuntimeException.class, () -> handler.apply(null, request));
+    var first = handler.apply(null, request);
+    var second = handler.apply(null, request);
+
+    // Assert
+    assertTrue(first.isError());
+    assertSame(first, second);
+    assertEquals("circuit_open", ((Map<?, ?>) first.structuredContent()).get("error"));
+    var metrics = registry.snapshot().get("tools").get("guarded");
+    assertEquals(2, metrics.calls());
+    assertEquals(2, metrics.shortCircuited());
+    // Only the session whose level enables warnings is notified
+    assertEquals(1, watching.size());
+    assertEquals(LoggingLevel.WARNING, watching.get(0).level());
+    assertEquals(SdkFeatureAdapter.CIRCUIT_BREAKER_LOGGER, watching.get(0).logger());
+    assertTrue(watching.get(0).data().contains("guarded moved from CLOSED to OPEN"));
+    assertTrue(quiet.isEmpty());
+  }
+
+  @Test
+  void testToolWithOutputSchemaReturnsStructuredContent() throws Exception {
+    // Arrange
+    var method = TestService.class.getMethod("structuredTool", String.class);
+    var inputSchema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    Map<String, Object> outputSchema = Map.of("type", "object");
+    adapter.registerTools(
+        mockServer,
+        List.of(
+            new ToolDefinition(
+                "structured", "Structured tool", inputSchema, outputSchema, method, testService)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var spec = specCaptor.getValue();
+
+    // Act
+    var result =
+        spec.callHandler().apply(null, new CallToolRequest("structured", Map.of("name", "ada")));
+    var nullResult = spec.callHandler().apply(null, new CallToolRequest("structured", Map.of()));
+
+    // Assert
+    assertSame(outputSchema, spec.tool().outputSchema());
+    assertFalse(result.isError());
+    assertEquals(
+        objectMapper.valueToTree(Map.of("name", "ada", "length", 3)), result.structuredContent());
+    // The text fallback is left to the SDK, which renders the result while validating it
+    assertTrue(result.content().isEmpty());
+    assertEquals(objectMapper.createObjectNode(), nullResult.structuredContent());
+  }
+
+  @Test
+  void testToolCallbackSendsThrottledProgressNotifications() throws Exception {
+    // Arrange
+    var method = TestService.class.getMethod("progressTool", int.class, ProgressReporter.class);
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer,
+        List.of(new ToolDefinition("progress", "Progress tool", schema, method, testService)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var handler = specCaptor.getValue().callHandler();
+    var exchange = mock(McpSyncServerExchange.class);
+
+    // Act
+    var untracked = handler.apply(exchange, new CallToolRequest("progress", Map.of("steps", 500)));
+    var tracked =
+        handler.apply(
+            exchange,
+            new CallToolRequest(
+                "progress", Map.of("steps", 500), Map.of("progressToken", "call-1")));
+
+    // Assert
+    assertFalse(untracked.isError());
+    assertFalse(tracked.isError());
+    var notifications = ArgumentCaptor.forClass(ProgressNotification.class);
+    verify(exchange, atLeast(2)).progressNotification(notifications.capture());
+    var sent = notifications.getAllValues();
+    assertTrue(sent.size() < 500);
+    assertEquals(1.0, sent.get(0).progress());
+    assertEquals(500.0, sent.get(sent.size() - 1).progress());
+    assertTrue(sent.stream().allMatch(n -> "call-1".equals(n.progressToken())));
+  }
+
+  @Test
+  void testToolCallbackLogsAtSessionLevel() throws Exception {
+    // Arrange
+    var levels = new LogLevels();
+    adapter = SdkFeatureAdapter.builder(objectMapper).logLevels(levels).build();
+    var method = TestService.class.getMethod("loggingTool", int.class, McpLogger.class);
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer,
+        List.of(new ToolDefinition("logging", "Logging tool", schema, method, testService)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var handler = specCaptor.getValue().callHandler();
+    var exchange = mock(McpSyncServerExchange.class);
+    when(exchange.sessionId()).thenReturn("session-1");
+    var request = new CallToolRequest("logging", Map.of("steps", 3));
+
+    // Act
+    var quiet = handler.apply(exchange, request);
+    levels.setLevel("session-1", LoggingLevel.DEBUG);
+    var verbose = handler.apply(exchange, request);
+
+    // Assert
+    assertFalse(quiet.isError());
+    assertFalse(verbose.isError());
+    var notifications = ArgumentCaptor.forClass(LoggingMessageNotification.class);
+    verify(exchange, times(3)).loggingNotification(notifications.capture());
+    var sent = notifications.getAllValues();
+    assertEquals(List.of("step 1", "step 2", "step 3"), sent.stream().map(n -> n.data()).toList());
+    assertTrue(sent.stream().allMatch(n -> "logging".equals(n.logger())));
+  }
+
+  @Test
+  void testToolCallbackTracesSampledRequests() throws Exception {
+    // Arrange
+    var spans = new CopyOnWriteArrayList<SpanData>();
+    var tracer = new Tracer(Sampler.parentBasedRatio(0.0), spans::addAll);
+    adapter = SdkFeatureAdapter.builder(objectMapper).tracer(tracer).build();
+    var method = TestService.class.getMethod("echoTool", String.class);
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer, List.of(new ToolDefinition("echo", "Echo tool", schema, method, testService)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var handler = specCaptor.getValue().callHandler();
+    var traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    // Act
+    handler.apply(null, new CallToolRequest("echo", Map.of("message", "untraced")));
+    handler.apply(
+        null,
+        new CallToolRequest(
+            "echo", Map.of("message", "traced"), Map.of("traceparent", traceparent)));
+    tracer.shutdown();
+
+    // Assert
+    assertEquals(
+        List.of("convert arguments", "execute", "serialize result", "tools/call echo"),
+        spans.stream().map(SpanData::name).toList());
+    var root = spans.get(3);
+    assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", root.traceId());
+    assertEquals("00f067aa0ba902b7", root.parentSpanId());
+    assertEquals("tools/call", root.attributes().get("mcp.method.name"));
+    assertEquals("echo", root.attributes().get("mcp.tool.name"));
+    assertTrue(spans.subList(0, 3).stream().allMatch(s -> root.spanId().equals(s.parentSpanId())));
+  }
+
+  @Test
+  void testMetricsResource() throws Exception {
+    // Arrange
+    var registry = new MetricsRegistry();
+    adapter = SdkFeatureAdapter.builder(objectMapper).metricsRegistry(registry).build();
+    registry.tool("echo").recordCall(1_000, true);
+    adapter.registerMetricsResource(mockServer);
+
+    var specCaptor = ArgumentCaptor.forClass(SyncResourceSpecification.class);
+    verify(mockServer).addResource(specCaptor.capture());
+    var spec = specCaptor.getValue();
+
+    // Act
+    var result = spec.readHandler().apply(null, null);
+
+    // Assert
+    assertEquals(SdkFeatureAdapter.METRICS_RESOURCE_URI, spec.resource().uri());
+    var content = (TextResourceContents) result.contents().get(0);
+    assertEquals("application/json", content.mimeType());
+    var json = objectMapper.readTree(content.text());
+    assertEquals(0, json.get("requests").get("inFlight").asInt());
+    assertEquals(1, json.get("tools").get("echo").get("calls").asLong());
+    assertTrue(json.get("tools").get("echo").get("latency").has("p99Micros"));
+  }
+
+  @Test
+  void testAuditsToolCallsIncludingRejectedOnes(@TempDir Path directory) throws Exception {
+    // Arrange
+    var auditFile = directory.resolve("audit.log");
+    var auditLog =
+        new AuditLog(
+            new RollingFileWriter(auditFile, 1024 * 1024, 1),
+            16,
+            OverflowPolicy.BLOCK,
+            false,
+            Set.of(),
+            objectMapper);
+    adapter = SdkFeatureAdapter.builder(objectMapper).auditLog(auditLog).build();
+    var method = TestService.class.getMethod("limitedTool");
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer,
+        List.of(new ToolDefinition("limited", "Limited tool", schema, method, testService)));
+
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var handler = specCaptor.getValue().callHandler();
+    var request = new CallToolRequest("limited", Map.of());
+
+    // Act
+    for (var i = 0; i < 3; i++) {
+      handler.apply(null, request);
+    }
+    auditLog.close();
+
+    // Assert
+    var outcomes =
+        Files.readAllLines(auditFile).stream()
+            .map(line -> readTree(line).get("outcome").asText())
+            .toList();
+    assertEquals(List.of("ok", "ok", "rate_limited"), outcomes);
+  }
+
+  @Test
+  void testToolReturningStreamIsSerializedInBoundedChunks() throws Exception {
+    // Arrange
+    var method = TestService.class.getMethod("rows", int.class);
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer, List.of(new ToolDefinition("rows", "Rows", schema, method, testService)));
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+
+    // Act
+    var result =
+        specCaptor
+            .getValue()
+            .callHandler()
+            .apply(null, new CallToolRequest("rows", Map.of("count", 5000)));
+
+    // Assert: every chunk is a JSON array of consecutive rows within the size bound
+    assertFalse(result.isError());
+    assertTrue(result.content().size() > 1, "Rows are split across several chunks");
+    var next = 0;
+    for (var content : result.content()) {
+      var text = ((TextContent) content).text();
+      assertTrue(text.length() <= StreamedResults.CHUNK_SIZE);
+      for (var row : objectMapper.readTree(text)) {
+        assertEquals(next++, row.get("id").asInt());
+      }
+    }
+    assertEquals(5000, next);
+    assertTrue(testService.rowsClosed.get(), "The stream is closed once drained");
+  }
+
+  @Test
+  void testStreamedResultMovesToSpillStorePastThreshold() throws Exception {
+    // Arrange
+    try (var store = new SpillStore(SpillingServer.class.getAnnotation(McpServer.class).spill())) {
+      adapter = SdkFeatureAdapter.builder(objectMapper).spillStore(store).build();
+      var method = TestService.class.getMethod("rows", int.class);
+      var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+      adapter.registerTools(
+          mockServer, List.of(new ToolDefinition("rows", "Rows", schema, method, testService)));
+      var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+      verify(mockServer).addTool(specCaptor.capture());
+      var handler = specCaptor.getValue().callHandler();
+
+      // Act
+      var small = handler.apply(null, new CallToolRequest("rows", Map.of("count", 2)));
+      var large = handler.apply(null, new CallToolRequest("rows", Map.of("count", 5000)));
+
+      // Assert: the large result is stored as the one array its chunks would have split
+      assertEquals(2, objectMapper.readTree(((TextContent) small.content().get(0)).text()).size());
+      var link = (ResourceLink) large.content().get(1);
+      assertEquals("application/json", link.mimeType());
+      var rows =
+          objectMapper.readTree(
+              store.read(store.find(link.uri().substring("results://spill/".length()))));
+      assertEquals(5000, rows.size());
+      for (var i = 0; i < rows.size(); i++) {
+        assertEquals(i, rows.get(i).get("id").asInt());
+      }
+      assertTrue(testService.rowsClosed.get(), "The stream is closed once drained");
+    }
+  }
+
+  @Test
+  void testLargeToolResultIsSpilledAndServedAsResource() throws Exception {
+    // Arrange
+    try (var store = new SpillStore(SpillingServer.class.getAnnotation(McpServer.class).spill())) {
+      adapter = SdkFeatureAdapter.builder(objectMapper).spillStore(store).build();
+      var method = TestService.class.getMethod("echoTool", String.class);
+      var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+      adapter.registerTools(
+          mockServer, List.of(new ToolDefinition("echo", "Echo", schema, method, testService)));
+      adapter.registerSpillResource(mockServer);
+      var toolCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+      verify(mockServer).addTool(toolCaptor.capture());
+      var templateCaptor = ArgumentCaptor.forClass(SyncResourceTemplateSpecification.class);
+      verify(mockServer).addResourceTemplate(templateCaptor.capture());
+      var handler = toolCaptor.getValue().callHandler();
+      var readHandler = templateCaptor.getValue().readHandler();
+
+      // Act
+      var small = handler.apply(null, new CallToolRequest("echo", Map.of("message", "hi")));
+      var large =
+          handler.apply(null, new CallToolRequest("echo", Map.of("message", "x".repeat(2000))));
+
+      // Assert: only the large result is replaced by a link
+      assertEquals("Echo: hi", ((TextContent) small.content().get(0)).text());
+      assertEquals(2, large.content().size());
+      var link = (ResourceLink) large.content().get(1);
+      assertEquals(2006L, link.size());
+      assertEquals("text/plain", link.mimeType());
+      assertTrue(link.uri().startsWith("results://spill/"));
+      var read = readHandler.apply(null, new McpSchema.ReadResourceRequest(link.uri()));
+      var contents = (TextResourceContents) read.contents().get(0);
+      assertEquals("Echo: " + "x".repeat(2000), contents.text());
+      assertThrows(
+          McpError.class,
+          () -> readHandler.apply(null, new McpSchema.ReadResourceRequest("results://spill/gone")));
+    }
+  }
+
+  @Test
+  void testLargeObjectResultIsSerializedIntoSpillStore() throws Exception {
+    // Arrange
+    try (var store = new SpillStore(SpillingServer.class.getAnnotation(McpServer.class).spill())) {
+      adapter = SdkFeatureAdapter.builder(objectMapper).spillStore(store).build();
+      var method = TestService.class.getMethod("structuredTool", String.class);
+      var inputSchema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+      adapter.registerTools(
+          mockServer,
+          List.of(
+              new ToolDefinition("plain", "Plain", inputSchema, method, testService),
+              new ToolDefinition(
+                  "structured",
+                  "Structured",
+                  inputSchema,
+                  Map.of("type", "object"),
+                  method,
+                  testService)));
+      var toolCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+      verify(mockServer, times(2)).addTool(toolCaptor.capture());
+      var plain = toolCaptor.getAllValues().get(0).callHandler();
+      var structured = toolCaptor.getAllValues().get(1).callHandler();
+      var name = "x".repeat(2000);
+
+      // Act
+      var small = plain.apply(null, new CallToolRequest("plain", Map.of("name", "ada")));
+      var large = plain.apply(null, new CallToolRequest("plain", Map.of("name", name)));
+      var inline = structured.apply(null, new CallToolRequest("structured", Map.of("name", name)));
+
+      // Assert: the object is stored as JSON, while structured results always stay inline
+      assertEquals(
+          "{\"name\":\"ada\",\"length\":3}", ((TextContent) small.content().get(0)).text());
+      var link = (ResourceLink) large.content().get(1);
+      assertEquals("application/json", link.mimeType());
+      var spilled = store.find(link.uri().substring("results://spill/".length()));
+      assertEquals(objectMapper.writeValueAsString(new Greeting(name, 2000)), store.read(spilled));
+      assertEquals(objectMapper.valueToTree(new Greeting(name, 2000)), inline.structuredContent());
+      assertEquals(link.size(), store.totalBytes(), "Only the plain result was spilled");
+    }
+  }
+
+  @Test
+  void testToolOfPerCallComponentRunsOnNewInstances() throws Exception {
+    // Arrange
+    var prototype = new PerCallService();
+    var method = PerCallService.class.getMethod("instanceId");
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    adapter.registerTools(
+        mockServer, List.of(new ToolDefinition("instanceId", "Id", schema, method, prototype)));
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var handler = specCaptor.getValue().callHandler();
+
+    // Act
+    var first = handler.apply(null, new CallToolRequest("instanceId", Map.of()));
+    var second = handler.apply(null, new CallToolRequest("instanceId", Map.of()));
+
+    // Assert
+    var ids =
+        Set.of(
+            String.valueOf(prototype.instanceId()),
+            ((TextContent) first.content().get(0)).text(),
+            ((TextContent) second.content().get(0)).text());
+    assertEquals(3, ids.size(), "Each call gets an instance of its own");
+  }
+
+  @Test
+  void testWarmUpCallsOnlyReadOnlyTools() throws Exception {
+    // Arrange
+    var service = new WarmupService();
+    var tools = new ArrayList<ToolDefinition>();
+    for (var name : List.of("lookup", "book", "broken")) {
+      var method =
+          Arrays.stream(WarmupService.class.getMethods())
+              .filter(m -> m.getName().equals(name))
+              .findFirst()
+              .orElseThrow();
+      tools.add(
+          new ToolDefinition(
+              name, name, new SchemaGenerator().generateSchema(method), method, service));
+    }
+
+    // Act
+    var calls = adapter.warmUp(tools, 5);
+
+    // Assert
+    assertEquals(5, calls, "The failing tool is called once and not counted");
+    assertEquals(
+        List.of("Lisbon:1", "Lisbon:1", "Lisbon:1", "Lisbon:1", "Lisbon:1"), service.lookups);
+    assertEquals(0, service.bookings.get(), "Tools with side effects are never warmed up");
+  }
+
+  @Test
+  void testCallsThroughTheGivenMethodInvoker() throws Exception {
+    // Arrange
+    var invoker = spy(new MethodInvoker(objectMapper));
+    var service = new WarmupService();
+    var lookup = WarmupService.class.getMethod("lookup", String.class, int.class);
+    adapter = SdkFeatureAdapter.builder(objectMapper).methodInvoker(invoker).build();
+
+    // Act
+    adapter.warmUp(
+        List.of(
+            new ToolDefinition(
+                "lookup", "Lookup", new SchemaGenerator().generateSchema(lookup), lookup, service)),
+        2);
+
+    // Assert
+    verify(invoker, times(2)).invokeRaw(eq(lookup), eq(service), any(), any(), any(), any());
+  }
+
+  @Test
+  void testRegisterToolsMarksReadOnlyTools() throws Exception {
+    // Arrange
+    var service = new WarmupService();
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    var lookup = WarmupService.class.getMethod("lookup", String.class, int.class);
+    var book = WarmupService.class.getMethod("book", String.class);
+
+    // Act
+    adapter.registerTools(
+        mockServer,
+        List.of(
+            new ToolDefinition("lookup", "Lookup", schema, lookup, service),
+            new ToolDefinition("book", "Book", schema, book, service)));
+
+    // Assert
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer, times(2)).addTool(specCaptor.capture());
+    assertTrue(specCaptor.getAllValues().get(0).tool().annotations().readOnlyHint());
+    assertNull(specCaptor.getAllValues().get(1).tool().annotations());
+  }
+
+  @Test
+  void testCompletionOfAnswersFromArgumentCompleter() {
+    // Arrange
+    var completer = new Completer(() -> IntStream.range(0, 150).mapToObj(i -> "topic-" + i));
+    completer.refresh();
+    var spec = SdkFeatureAdapter.completionOf("summarize", Map.of("topic", completer));
+
+    // Act
+    var result =
+        spec.completionHandler()
+            .apply(
+                null,
+                new McpSchema.CompleteRequest(
+                    new McpSchema.PromptReference("summarize"),
+                    new McpSchema.CompleteRequest.CompleteArgument("topic", "TOPIC-")));
+    var unknown =
+        spec.completionHandler()
+            .apply(
+                null,
+                new McpSchema.CompleteRequest(
+                    new McpSchema.PromptReference("summarize"),
+                    new McpSchema.CompleteRequest.CompleteArgument("style", "b")));
+
+    // Assert
+    assertEquals(new McpSchema.PromptReference("summarize"), spec.referenceKey());
+    assertEquals(SdkFeatureAdapter.MAX_COMPLETION_VALUES, result.completion().values().size());
+    assertEquals(150, result.completion().total());
+    assertTrue(result.completion().hasMore());
+    assertTrue(unknown.completion().values().isEmpty());
+  }
+
+  @Test
+  void testRegisterDownstreamForwardsToolCallsUnderNamespace() throws Exception {
+    // Arrange
+    var registry = new MetricsRegistry();
+    adapter = SdkFeatureAdapter.builder(objectMapper).metricsRegistry(registry).build();
+    var client = mock(McpSyncClient.class);
+    var schema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+    when(client.listTools(null))
+        .thenReturn(
+            new McpSchema.ListToolsResult(
+                List.of(McpSchema.Tool.builder().name("read").inputSchema(schema).build()), null));
+    var downstreamResult = new CallToolResult(List.of(new TextContent("contents")), false);
+    when(client.callTool(any())).thenReturn(downstreamResult);
+    var pool = new DownstreamPool("files", List.of(client));
+
+    adapter.registerDownstream(mockServer, pool);
+    var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+    verify(mockServer).addTool(specCaptor.capture());
+    var spec = specCaptor.getValue();
+
+    // Act
+    var result =
+        spec.callHandler().apply(null, new CallToolRequest("files_read", Map.of("path", "/tmp/a")));
+
+    // Assert
+    assertEquals("files_read", spec.tool().name());
+    assertSame(downstreamResult, result);
+    var requestCaptor = ArgumentCaptor.forClass(CallToolRequest.class);
+    verify(client).callTool(requestCaptor.capture());
+    assertEquals("read", requestCaptor.getValue().name());
+    assertEquals(Map.of("path", "/tmp/a"), requestCaptor.getValue().arguments());
+    assertEquals(1, registry.snapshot().get("tools").get("files_read").calls());
+  }
+
+  @Test
+  void testRegisterDownstreamPrefixesResourceUris() {
+    // Arrange
+    var client = mock(McpSyncClient.class);
+    when(client.getServerCapabilities())
+        .thenReturn(McpSchema.ServerCapabilities.builder().resources(false, false).build());
+    when(client.listTools(null)).thenReturn(new McpSchema.ListToolsResult(List.of(), null));
+    when(client.listResources(null))
+        .thenReturn(
+            new McpSchema.ListResourcesResult(
+                List.of(
+                    McpSchema.Resource.builder().uri("file:///README.md").name("readme").build()),
+                null));
+    when(client.readResource(any(ReadResourceRequest.class)))
+        .thenReturn(
+            new ReadResourceResult(
+                List.of(new TextResourceContents("file:///README.md", "text/markdown", "# Hi"))));
+    var pool = new DownstreamPool("files", List.of(client));
+
+    adapter.registerDownstream(mockServer, pool);
+    var specCaptor = ArgumentCaptor.forClass(SyncResourceSpecification.class);
+    verify(mockServer).addResource(specCaptor.capture());
+    var spec = specCaptor.getValue();
+
+    // Act
+    var result = spec.readHandler().apply(null, new ReadResourceRequest("files+file:///README.md"));
+
+    // Assert
+    assertEquals("files+file:///README.md", spec.resource().uri());
+    var requestCaptor = ArgumentCaptor.forClass(ReadResourceRequest.class);
+    verify(client).readResource(requestCaptor.capture());
+    assertEquals("file:///README.md", requestCaptor.getValue().uri());
+    var contents = (TextResourceContents) result.contents().get(0);
+    assertEquals("files+file:///README.md", contents.uri());
+    assertEquals("# Hi", contents.text());
+  }
+
+  private JsonNode readTree(String json) {
+    try {
+      return objectMapper.readTree(json);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   // Test service class with methods to be invoked
+  @McpServer(name = "spilling", spill = @Spill(thresholdBytes = 1024))
+  static class SpillingServer {}
+
+  @ToolComponent(scope = Scope.PER_CALL)
+  public static class PerCallService {
+    private static final AtomicInteger CREATED = new AtomicInteger();
+    private final int id = CREATED.incrementAndGet();
+
+    public int instanceId() {
+      return id;
+    }
+  }
+
+  public static class WarmupService {
+    final List<String> lookups = new CopyOnWriteArrayList<>();
+    final AtomicInteger bookings = new AtomicInteger();
+
+    @Tool(readOnly = true)
+    public String lookup(
+        @Property(name = "city") @Example("Lisbon") String city,
+        @Property(name = "days") int days) {
+      lookups.add(city + ":" + days);
+      return city;
+    }
+
+    @Tool
+    public String book(@Property(name = "city") String city) {
+      bookings.incrementAndGet();
+      return city;
+    }
+
+    @Tool(readOnly = true)
+    public String broken() {
+      throw new IllegalStateException("backend down");
+    }
+  }
+
   public static class TestService {
+    final AtomicBoolean rowsClosed = new AtomicBoolean();
+
+    public Stream<Map<String, Object>> rows(int count) {
+      return IntStream.range(0, count)
+          .mapToObj(i -> Map.<String, Object>of("id", i, "name", "row-" + i))
+          .onClose(() -> rowsClosed.set(true));
+    }
+
     public String echoTool(String message) {
       return "Echo: " + message;
     }
@@ -311,5 +1172,53 @@ class SdkFeatureAdapterTest {
     public String nullTool() {
       return null;
     }
+
+    public String failingTool() {
+      throw new IllegalStateException("backend down");
+    }
+
+    @RateLimit(permitsPerSecond = 0.001, burst = 2)
+    public String limitedTool() {
+      return "limited";
+    }
+
+    @CircuitBreaker(windowSize = 2, minimumCalls = 2, openMillis = 60_000)
+    public String guardedTool() {
+      throw new IllegalStateException("backend down");
+    }
+
+    public Greeting structuredTool(String name) {
+      return name == null ? null : new Greeting(name, name.length());
+    }
+
+    public String loggingTool(int steps, McpLogger logger) {
+      for (var i = 1; i <= steps; i++) {
+        var step = i;
+        logger.debug(() -> "step " + step);
+      }
+      return "done";
+    }
+
+    public String progressTool(int steps, ProgressReporter progress) {
+      for (var i = 1; i <= steps; i++) {
+        progress.report(i, steps);
+      }
+      return "done";
+    }
+  }
+
+  public record Greeting(String name, int length) {}
+
+  // Test service whose tool runs in a bulkhead group and blocks until released
+  public static class GroupedService {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    @Tool(group = "slow")
+    public String slowTool() throws InterruptedException {
+      started.countDown();
+      release.await();
+      return Thread.currentThread().getName();
+    }
   }
 }
@@ -0,0 +1,57 @@
+package br.com.arquivolivre.mcpeasy4j.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class StreamedResultsTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void testSplitsElementsIntoChunksAtElementBoundaries() {
+    // Arrange
+    var elements = List.of("a", "b", "c", "a-much-longer-element", "d").iterator();
+
+    // Act: a chunk closes before it would reach 12 characters
+    var chunks = StreamedResults.chunk(elements, objectMapper.writer(), 12);
+
+    // Assert: the oversized element gets a chunk of its own
+    assertEquals(
+        List.of("[\"a\",\"b\"]", "[\"c\"]", "[\"a-much-longer-element\"]", "[\"d\"]"),
+        texts(chunks));
+  }
+
+  @Test
+  void testReturnsEmptyArrayForEmptyResult() {
+    // Act
+    var chunks = StreamedResults.chunk(Stream.empty(), objectMapper.writer(), 12);
+
+    // Assert
+    assertEquals(List.of("[]"), texts(chunks));
+  }
+
+  @Test
+  void testOnlyLazyResultsAreStreamed() {
+    // Arrange
+    Iterable<String> iterable = () -> List.of("a").iterator();
+
+    // Act & Assert
+    assertTrue(StreamedResults.isStreamed(Stream.of(1)));
+    assertTrue(StreamedResults.isStreamed(List.of(1).iterator()));
+    assertTrue(StreamedResults.isStreamed(iterable));
+    assertFalse(StreamedResults.isStreamed(List.of(1)), "Collections are returned whole");
+    assertFalse(StreamedResults.isStreamed("text"));
+  }
+
+  private static List<String> texts(List<?> chunks) {
+    var texts = new ArrayList<String>();
+    chunks.forEach(chunk -> texts.add(((TextContent) chunk).text()));
+    return texts;
+  }
+}
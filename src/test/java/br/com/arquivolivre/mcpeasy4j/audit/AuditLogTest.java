@@ -0,0 +1,168 @@
+package br.com.arquivolivre.mcpeasy4j.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.OverflowPolicy;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditLogTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @TempDir Path directory;
+
+  @Test
+  void testWritesRecordWithArgumentHash() throws Exception {
+    // Arrange
+    var auditLog = auditLog(16, OverflowPolicy.DROP, false, Set.of());
+
+    // Act
+    auditLog.record(0, "session-1", "echo", Map.of("message", "secret"), 1_500_000, "ok");
+    auditLog.close();
+
+    // Assert
+    var record = records().get(0);
+    assertEquals("1970-01-01T00:00:00Z", record.get("timestamp").asText());
+    assertEquals("session-1", record.get("session").asText());
+    assertEquals("echo", record.get("tool").asText());
+    assertEquals(64, record.get("argumentsSha256").asText().length());
+    assertFalse(record.toString().contains("secret"));
+    assertEquals(1500, record.get("durationMicros").asLong());
+    assertEquals("ok", record.get("outcome").asText());
+  }
+
+  @Test
+  void testHashIgnoresArgumentOrder() throws Exception {
+    // Arrange
+    var auditLog = auditLog(16, OverflowPolicy.DROP, false, Set.of());
+    var sent = new LinkedHashMap<String, Object>();
+    sent.put("b", 2);
+    sent.put("a", orderedMap("y", "x"));
+    var reordered = new LinkedHashMap<String, Object>();
+    reordered.put("a", orderedMap("x", "y"));
+    reordered.put("b", 2);
+
+    // Act
+    auditLog.record(0, null, "echo", sent, 0, "ok");
+    auditLog.record(0, null, "echo", reordered, 0, "ok");
+    auditLog.close();
+
+    // Assert
+    var records = records();
+    assertEquals(
+        records.get(0).get("argumentsSha256").asText(),
+        records.get(1).get("argumentsSha256").asText());
+  }
+
+  @Test
+  void testRedactsIncludedArguments() throws Exception {
+    // Arrange
+    var auditLog = auditLog(16, OverflowPolicy.DROP, true, Set.of("password"));
+
+    // Act
+    auditLog.record(0, null, "login", Map.of("user", "ana", "password", "hunter2"), 0, "ok");
+    auditLog.close();
+
+    // Assert
+    var arguments = records().get(0).get("arguments");
+    assertEquals("ana", arguments.get("user").asText());
+    assertEquals("***", arguments.get("password").asText());
+  }
+
+  @Test
+  void testBlockPolicyLosesNoRecords() throws Exception {
+    // Arrange
+    var auditLog = auditLog(2, OverflowPolicy.BLOCK, false, Set.of());
+
+    // Act
+    var threads = new ArrayList<Thread>();
+    for (var t = 0; t < 4; t++) {
+      threads.add(
+          Thread.ofPlatform()
+              .start(
+                  () -> {
+                    for (var i = 0; i < 500; i++) {
+                      auditLog.record(0, null, "tool", null, 0, "ok");
+                    }
+                  }));
+    }
+    for (var thread : threads) {
+      thread.join();
+    }
+    auditLog.close();
+
+    // Assert
+    assertEquals(0, auditLog.dropped());
+    assertEquals(2000, records().size());
+  }
+
+  @Test
+  void testDropPolicyAccountsForEveryRecord() throws Exception {
+    // Arrange
+    var auditLog = auditLog(1, OverflowPolicy.DROP, false, Set.of());
+
+    // Act
+    for (var i = 0; i < 5000; i++) {
+      auditLog.record(0, null, "tool", null, 0, "ok");
+    }
+    auditLog.close();
+    auditLog.record(0, null, "tool", null, 0, "ok");
+
+    // Assert
+    assertFalse(auditLog.isEnabled());
+    assertEquals(5001, records().size() + auditLog.dropped());
+  }
+
+  @Test
+  void testOutcomeOfResults() {
+    // Act & Assert
+    assertEquals("ok", AuditLog.outcomeOf(new CallToolResult(List.of(), false)));
+    assertEquals(
+        "rate_limited",
+        AuditLog.outcomeOf(
+            new CallToolResult(
+                List.of(new TextContent("limited")), true, Map.of("error", "rate_limited"))));
+    assertEquals(
+        "error", AuditLog.outcomeOf(new CallToolResult(List.of(new TextContent("boom")), true)));
+    assertFalse(AuditLog.NOOP.isEnabled());
+  }
+
+  private AuditLog auditLog(
+      int bufferSize, OverflowPolicy overflow, boolean includeArguments, Set<String> redacted) {
+    return new AuditLog(
+        new RollingFileWriter(directory.resolve("audit.log"), 1024 * 1024, 2),
+        bufferSize,
+        overflow,
+        includeArguments,
+        redacted,
+        objectMapper);
+  }
+
+  private static Map<String, Object> orderedMap(String... keys) {
+    var map = new LinkedHashMap<String, Object>();
+    for (var key : keys) {
+      map.put(key, key.length());
+    }
+    return map;
+  }
+
+  private List<JsonNode> records() throws Exception {
+    var records = new ArrayList<JsonNode>();
+    for (var line : Files.readAllLines(directory.resolve("audit.log"))) {
+      records.add(objectMapper.readTree(line));
+    }
+    return records;
+  }
+}
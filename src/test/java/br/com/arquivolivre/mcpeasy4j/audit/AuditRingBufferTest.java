@@ -0,0 +1,89 @@
+package br.com.arquivolivre.mcpeasy4j.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class AuditRingBufferTest {
+
+  @Test
+  void testRoundsCapacityUpToPowerOfTwo() {
+    // Act & Assert
+    assertEquals(8, new AuditRingBuffer(5).capacity());
+    assertEquals(8, new AuditRingBuffer(8).capacity());
+    assertThrows(IllegalArgumentException.class, () -> new AuditRingBuffer(0));
+  }
+
+  @Test
+  void testRejectsRecordsWhenFullUntilDrained() {
+    // Arrange
+    var buffer = new AuditRingBuffer(2);
+    assertTrue(publish(buffer, "a"));
+    assertTrue(publish(buffer, "b"));
+
+    // Act
+    var rejected = !publish(buffer, "c");
+    var tools = new ArrayList<String>();
+    var drained = buffer.drain(entry -> tools.add(entry.tool), 10);
+
+    // Assert
+    assertTrue(rejected);
+    assertEquals(2, drained);
+    assertEquals(List.of("a", "b"), tools);
+    assertTrue(buffer.isEmpty());
+    assertTrue(publish(buffer, "d"));
+  }
+
+  @Test
+  void testDrainsRecordsFromConcurrentProducersExactlyOnce() throws Exception {
+    // Arrange
+    var buffer = new AuditRingBuffer(64);
+    var producers = 4;
+    var perProducer = 20_000;
+    var seen = new HashSet<String>();
+    var done = new AtomicBoolean();
+    var consumer =
+        Thread.ofPlatform()
+            .start(
+                () -> {
+                  while (!done.get() || !buffer.isEmpty()) {
+                    if (buffer.drain(entry -> assertTrue(seen.add(entry.tool)), 32) == 0) {
+                      Thread.yield();
+                    }
+                  }
+                });
+
+    // Act
+    var threads = new ArrayList<Thread>();
+    for (var p = 0; p < producers; p++) {
+      var producer = p;
+      threads.add(
+          Thread.ofPlatform()
+              .start(
+                  () -> {
+                    for (var i = 0; i < perProducer; i++) {
+                      while (!publish(buffer, producer + "-" + i)) {
+                        Thread.yield();
+                      }
+                    }
+                  }));
+    }
+    for (var thread : threads) {
+      thread.join();
+    }
+    done.set(true);
+    consumer.join(10_000);
+
+    // Assert
+    assertEquals(producers * perProducer, seen.size());
+  }
+
+  private static boolean publish(AuditRingBuffer buffer, String tool) {
+    return buffer.tryPublish(0, "session", tool, Map.of(), 0, "ok");
+  }
+}
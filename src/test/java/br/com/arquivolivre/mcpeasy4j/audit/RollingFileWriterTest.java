@@ -0,0 +1,52 @@
+package br.com.arquivolivre.mcpeasy4j.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RollingFileWriterTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void testRollsOverAndKeepsBoundedNumberOfFiles() throws Exception {
+    // Arrange
+    var file = directory.resolve("audit.log");
+
+    // Act: every batch fills a file on its own
+    try (var writer = new RollingFileWriter(file, 10, 3)) {
+      for (var batch : new String[] {"first-----\n", "second----\n", "third-----\n", "fourth\n"}) {
+        var bytes = batch.getBytes(StandardCharsets.UTF_8);
+        writer.write(bytes, bytes.length);
+      }
+    }
+
+    // Assert
+    assertEquals("fourth\n", Files.readString(file));
+    assertEquals("third-----\n", Files.readString(directory.resolve("audit.log.1")));
+    assertEquals("second----\n", Files.readString(directory.resolve("audit.log.2")));
+    assertFalse(Files.exists(directory.resolve("audit.log.3")));
+  }
+
+  @Test
+  void testAppendsBatchesThatFit() throws Exception {
+    // Arrange
+    var file = directory.resolve("logs/audit.log");
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, "existing\n");
+
+    // Act
+    try (var writer = new RollingFileWriter(file, 1024, 2)) {
+      var bytes = "appended\n".getBytes(StandardCharsets.UTF_8);
+      writer.write(bytes, bytes.length);
+    }
+
+    // Assert
+    assertEquals("existing\nappended\n", Files.readString(file));
+    assertThrows(IllegalArgumentException.class, () -> new RollingFileWriter(file, 0, 1));
+  }
+}
@@ -0,0 +1,72 @@
+package br.com.arquivolivre.mcpeasy4j.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class BulkheadGroupTest {
+
+  @Test
+  void testRejectsWhenThreadsAndQueueAreFull() throws Exception {
+    // Arrange
+    var group = new BulkheadGroup("db", 1, 1, false);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    try {
+      var running =
+          group.submit(
+              () -> {
+                started.countDown();
+                release.await();
+                return "first";
+              });
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+      var queued = group.submit(() -> "second");
+
+      // Act & Assert
+      assertThrows(RejectedExecutionException.class, () -> group.submit(() -> "third"));
+      var snapshot = group.snapshot();
+      assertEquals(1, snapshot.active());
+      assertEquals(1, snapshot.queueDepth());
+      assertEquals(1, snapshot.rejected());
+
+      release.countDown();
+      assertEquals("first", running.get(5, TimeUnit.SECONDS));
+      assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+    } finally {
+      group.shutdown();
+    }
+  }
+
+  @Test
+  void testRunsCallsOnItsOwnThreads() throws Exception {
+    // Arrange
+    var platform = new BulkheadGroup("platform", 2, 0, false);
+    var virtual = new BulkheadGroup("virtual", 2, 0, true);
+
+    try {
+      // Act
+      var platformThread = platform.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+      var virtualThread = virtual.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+      // Assert
+      assertTrue(platformThread.getName().startsWith("mcp-bulkhead-platform-"));
+      assertFalse(platformThread.isVirtual());
+      assertTrue(virtualThread.getName().startsWith("mcp-bulkhead-virtual-"));
+      assertTrue(virtualThread.isVirtual());
+    } finally {
+      platform.shutdown();
+      virtual.shutdown();
+    }
+  }
+
+  @Test
+  void testRejectsInvalidSizes() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> new BulkheadGroup("none", 0, 0, false));
+    assertThrows(IllegalArgumentException.class, () -> new BulkheadGroup("neg", 1, -1, false));
+  }
+}
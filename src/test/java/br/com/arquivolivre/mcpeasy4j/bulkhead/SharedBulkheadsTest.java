@@ -0,0 +1,54 @@
+package br.com.arquivolivre.mcpeasy4j.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.Bulkhead;
+import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+
+class SharedBulkheadsTest {
+
+  @Test
+  void testServersDeclaringTheSameGroupShareItsExecutor() {
+    // Arrange
+    var first = SharedBulkheads.acquire(bulkheadOf(FirstServer.class));
+    var second = SharedBulkheads.acquire(bulkheadOf(SecondServer.class));
+
+    // Act
+    SharedBulkheads.release(first);
+
+    // Assert: still running for the second server until it releases the group too
+    assertSame(first, second);
+    assertDoesNotThrow(() -> second.submit(() -> "ok").get());
+    SharedBulkheads.release(second);
+    assertThrows(RejectedExecutionException.class, () -> second.submit(() -> "late"));
+  }
+
+  @Test
+  void testRejectsGroupDeclaredWithOtherSettings() {
+    // Arrange
+    var group = SharedBulkheads.acquire(bulkheadOf(FirstServer.class));
+    try {
+      // Act & Assert
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> SharedBulkheads.acquire(bulkheadOf(LargerServer.class)));
+    } finally {
+      SharedBulkheads.release(group);
+    }
+  }
+
+  private static Bulkhead bulkheadOf(Class<?> serverClass) {
+    return serverClass.getAnnotation(McpServer.class).bulkheads()[0];
+  }
+
+  @McpServer(name = "first", bulkheads = @Bulkhead(name = "shared-db", threads = 2))
+  static class FirstServer {}
+
+  @McpServer(name = "second", bulkheads = @Bulkhead(name = "shared-db", threads = 2))
+  static class SecondServer {}
+
+  @McpServer(name = "larger", bulkheads = @Bulkhead(name = "shared-db", threads = 4))
+  static class LargerServer {}
+}
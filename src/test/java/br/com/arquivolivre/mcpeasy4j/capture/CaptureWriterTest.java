@@ -0,0 +1,79 @@
+package br.com.arquivolivre.mcpeasy4j.capture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CaptureWriterTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void testRoundTripsRequestsAcrossSegments() throws Exception {
+    // Arrange
+    var file = directory.resolve("traffic.capture");
+    var large = "{\"text\":\"" + "x".repeat(200) + "\"}";
+
+    // Act: the large request does not fit in a 64-byte segment and gets one of its own
+    try (var writer = new CaptureWriter(file, 64)) {
+      assertTrue(writer.record("tools/call", bytes("{\"name\":\"echo\"}")));
+      assertTrue(writer.record("resources/read", bytes(large)));
+      assertFalse(writer.record("tools/list", bytes("{}")));
+      assertTrue(writer.record("prompts/get", bytes("{\"name\":\"greeting\"}")));
+    }
+    var requests = CaptureReader.read(file);
+
+    // Assert
+    assertEquals(
+        List.of("tools/call", "resources/read", "prompts/get"),
+        requests.stream().map(CapturedRequest::method).toList());
+    assertEquals(large, requests.get(1).params());
+    assertTrue(requests.get(0).offsetNanos() <= requests.get(2).offsetNanos());
+    assertEquals(
+        CaptureWriter.HEADER_BYTES
+            + 3 * CaptureWriter.RECORD_HEADER_BYTES
+            + 15
+            + large.length()
+            + 19,
+        Files.size(file),
+        "Closing trims the mapped tail");
+  }
+
+  @Test
+  void testReadsCaptureThatWasNotClosed() throws Exception {
+    // Arrange
+    var file = directory.resolve("traffic.capture");
+
+    try (var writer = new CaptureWriter(file)) {
+      writer.record("tools/call", bytes("{\"name\":\"echo\"}"));
+
+      // Act: the file still has the zero-filled tail of the mapped segment
+      var requests = CaptureReader.read(file);
+
+      // Assert
+      assertTrue(Files.size(file) > writer.size());
+      assertEquals(1, requests.size());
+      assertEquals("{\"name\":\"echo\"}", requests.get(0).params());
+    }
+  }
+
+  @Test
+  void testRejectsFileThatIsNotACapture() throws Exception {
+    // Arrange
+    var file = directory.resolve("notes.txt");
+    Files.writeString(file, "not a capture");
+
+    // Act & Assert
+    assertThrows(IOException.class, () -> CaptureReader.read(file));
+  }
+
+  private static byte[] bytes(String json) {
+    return json.getBytes(StandardCharsets.UTF_8);
+  }
+}
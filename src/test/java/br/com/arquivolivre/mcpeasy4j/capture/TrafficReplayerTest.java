@@ -0,0 +1,133 @@
+package br.com.arquivolivre.mcpeasy4j.capture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.arquivolivre.mcpeasy4j.McpServerBootstrap;
+import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import br.com.arquivolivre.mcpeasy4j.annotation.Property;
+import br.com.arquivolivre.mcpeasy4j.annotation.Tool;
+import br.com.arquivolivre.mcpeasy4j.transport.BufferedStdioServerTransportProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrafficReplayerTest {
+
+  private static final String CAPTURE_FILE = "target/test-captures/echo.capture";
+
+  @McpServer(name = "echo-server")
+  public static class EchoServer {
+    @Tool(name = "echo", description = "Echoes the text")
+    public String echo(@Property(name = "text") String text) {
+      return text;
+    }
+  }
+
+  @McpServer(name = "capturing-echo-server", captureFile = CAPTURE_FILE)
+  public static class CapturingEchoServer extends EchoServer {}
+
+  @Test
+  void testReplaysCapturedTraffic() throws Exception {
+    // Arrange: capture two calls served by the capturing server
+    var input = new PipedOutputStream();
+    var output = new ByteArrayOutputStream();
+    var handle =
+        McpServerBootstrap.start(
+            CapturingEchoServer.class,
+            new BufferedStdioServerTransportProvider(
+                new ObjectMapper(), new PipedInputStream(input), output));
+    try {
+      input.write(
+          ("{\"jsonrpc\":\"2.0\",\"id\":0,\"method\":\"initialize\",\"params\":"
+                  + "{\"protocolVersion\":\"2025-06-18\",\"capabilities\":{},"
+                  + "\"clientInfo\":{\"name\":\"test\",\"version\":\"1.0.0\"}}}\n"
+                  + "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}\n")
+              .getBytes(StandardCharsets.UTF_8));
+      for (var id = 1; id <= 2; id++) {
+        input.write(
+            ("{\"jsonrpc\":\"2.0\",\"id\":"
+                    + id
+                    + ",\"method\":\"tools/call\",\"params\":{\"name\":\"echo\",\"arguments\":"
+                    + "{\"text\":\"hello\"}}}\n")
+                .getBytes(StandardCharsets.UTF_8));
+      }
+      input.flush();
+      awaitResponses(output, 3);
+    } finally {
+      handle.shutdown(Duration.ZERO);
+      input.close();
+    }
+
+    // Act
+    var report =
+        TrafficReplayer.load(Path.of(CAPTURE_FILE))
+            .replay(EchoServer.class, TrafficReplayer.Speed.MAXIMUM);
+
+    // Assert
+    assertEquals(2, report.requests());
+    assertEquals(2, report.responses());
+    assertEquals(0, report.errors());
+    assertEquals(2, report.latency().count());
+  }
+
+  @Test
+  void testReplaysAtOriginalSpeedAndCountsErrors() throws Exception {
+    // Arrange
+    var replayer =
+        new TrafficReplayer(
+            List.of(
+                new CapturedRequest(
+                    1_000_000, "tools/call", "{\"name\":\"echo\",\"arguments\":{\"text\":\"a\"}}"),
+                new CapturedRequest(
+                    51_000_000, "tools/call", "{\"name\":\"missing\",\"arguments\":{}}")));
+
+    // Act
+    var report = replayer.replay(EchoServer.class, TrafficReplayer.Speed.ORIGINAL);
+
+    // Assert
+    assertEquals(2, report.responses());
+    assertEquals(1, report.errors(), "Calling an unknown tool is an error");
+    assertTrue(
+        report.elapsed().compareTo(Duration.ofMillis(50)) >= 0,
+        "The 50 ms gap between the captured requests is kept: " + report.elapsed());
+    assertTrue(report.throughputPerSecond() > 0);
+  }
+
+  @Test
+  void testRefusesToReplayIntoServerCapturingTheSameFile() throws Exception {
+    // Arrange
+    try (var writer = new CaptureWriter(Path.of(CAPTURE_FILE))) {
+      writer.record("tools/call", "{\"name\":\"echo\"}".getBytes(StandardCharsets.UTF_8));
+    }
+    var replayer = TrafficReplayer.load(Path.of(CAPTURE_FILE));
+
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> replayer.replay(CapturingEchoServer.class, TrafficReplayer.Speed.MAXIMUM));
+  }
+
+  private static void awaitResponses(ByteArrayOutputStream output, int count) throws Exception {
+    var deadline = System.nanoTime() + 5_000_000_000L;
+    while (System.nanoTime() < deadline) {
+      var responses = 0;
+      var written = output.toString(StandardCharsets.UTF_8);
+      for (var line : written.substring(0, written.lastIndexOf('\n') + 1).split("\n")) {
+        if (!line.isBlank() && new ObjectMapper().readTree(line).has("id")) {
+          responses++;
+        }
+      }
+      if (responses >= count) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+    fail("Expected " + count + " responses");
+  }
+}
@@ -0,0 +1,167 @@
+package br.com.arquivolivre.mcpeasy4j.circuitbreaker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.CircuitBreaker;
+import br.com.arquivolivre.mcpeasy4j.circuitbreaker.Circuit.State;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitTest {
+
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<String> transitions = new ArrayList<>();
+  private Circuit circuit;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    circuit = create("defaults");
+  }
+
+  @Test
+  void testStaysClosedBelowMinimumCalls() {
+    // Act
+    for (var i = 0; i < 3; i++) {
+      assertTrue(circuit.tryAcquire());
+      circuit.onResult(MILLIS, false);
+    }
+
+    // Assert
+    assertEquals(State.CLOSED, circuit.state());
+    assertTrue(transitions.isEmpty());
+  }
+
+  @Test
+  void testOpensWhenFailureRateReachesThreshold() {
+    // Act: 2 failures out of 4 calls is 50%
+    record(true, true, false, false);
+
+    // Assert
+    assertEquals(State.OPEN, circuit.state());
+    assertFalse(circuit.tryAcquire());
+    assertEquals(List.of("CLOSED->OPEN: failure rate 50.0% reached threshold 50.0%"), transitions);
+  }
+
+  @Test
+  void testOpensWhenSlowCallRateReachesThreshold() {
+    // Act: successful calls slower than 100 ms
+    for (var i = 0; i < 4; i++) {
+      circuit.tryAcquire();
+      circuit.onResult(150 * MILLIS, true);
+    }
+
+    // Assert
+    assertEquals(State.OPEN, circuit.state());
+    assertTrue(transitions.get(0).contains("slow call rate 100.0%"));
+  }
+
+  @Test
+  void testOldOutcomesSlideOutOfTheWindow() {
+    // Act: failures are followed by enough successes to push them out of the 4-call window
+    record(false, true, true, true, true, true);
+
+    // Assert
+    assertEquals(State.CLOSED, circuit.state());
+  }
+
+  @Test
+  void testHalfOpenLetsProbesThroughAndCloses() {
+    // Arrange
+    record(false, false, false, false);
+    clock.addAndGet(999 * MILLIS);
+    assertFalse(circuit.tryAcquire());
+
+    // Act
+    clock.addAndGet(MILLIS);
+    assertTrue(circuit.tryAcquire());
+    assertTrue(circuit.tryAcquire());
+    assertFalse(circuit.tryAcquire());
+    circuit.onResult(MILLIS, true);
+    circuit.onResult(MILLIS, true);
+
+    // Assert
+    assertEquals(State.CLOSED, circuit.state());
+    assertEquals(
+        List.of(
+            "CLOSED->OPEN: failure rate 100.0% reached threshold 50.0%",
+            "OPEN->HALF_OPEN: open for 1000 ms, probing",
+            "HALF_OPEN->CLOSED: probe calls succeeded"),
+        transitions);
+  }
+
+  @Test
+  void testFailedProbeReopens() {
+    // Arrange
+    record(false, false, false, false);
+    clock.addAndGet(1000 * MILLIS);
+
+    // Act
+    circuit.tryAcquire();
+    circuit.tryAcquire();
+    circuit.onResult(MILLIS, true);
+    circuit.onResult(MILLIS, false);
+
+    // Assert
+    assertEquals(State.OPEN, circuit.state());
+    assertTrue(transitions.get(2).startsWith("HALF_OPEN->OPEN: probe failure rate 50.0%"));
+    assertFalse(circuit.tryAcquire());
+  }
+
+  @Test
+  void testReleasedProbePermissionCanBeReused() {
+    // Arrange
+    record(false, false, false, false);
+    clock.addAndGet(1000 * MILLIS);
+    assertTrue(circuit.tryAcquire());
+    assertTrue(circuit.tryAcquire());
+
+    // Act
+    circuit.releasePermission();
+
+    // Assert
+    assertTrue(circuit.tryAcquire());
+    assertFalse(circuit.tryAcquire());
+  }
+
+  @Test
+  void testRejectsInvalidSettings() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> create("emptyWindow"));
+  }
+
+  private void record(boolean... outcomes) {
+    for (var success : outcomes) {
+      assertTrue(circuit.tryAcquire());
+      circuit.onResult(MILLIS, success);
+    }
+  }
+
+  private Circuit create(String methodName) throws Exception {
+    var annotation = Settings.class.getMethod(methodName).getAnnotation(CircuitBreaker.class);
+    return new Circuit(
+        annotation,
+        (from, to, reason) -> transitions.add(from + "->" + to + ": " + reason),
+        clock::get);
+  }
+
+  static class Settings {
+    @CircuitBreaker(
+        windowSize = 4,
+        minimumCalls = 4,
+        failureRateThreshold = 50,
+        slowCallMillis = 100,
+        slowCallRateThreshold = 75,
+        openMillis = 1000,
+        probeCalls = 2)
+    public void defaults() {}
+
+    @CircuitBreaker(windowSize = 0)
+    public void emptyWindow() {}
+  }
+}
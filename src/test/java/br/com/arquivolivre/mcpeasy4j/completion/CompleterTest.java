@@ -0,0 +1,71 @@
+package br.com.arquivolivre.mcpeasy4j.completion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class CompleterTest {
+
+  @Test
+  void testRefreshSwapsInNewCandidates() {
+    // Arrange
+    var candidates = new AtomicReference<>(List.of("red", "green"));
+    var completer = new Completer(() -> candidates.get().stream());
+    completer.refresh();
+
+    // Act
+    candidates.set(List.of("rose", "ruby"));
+    var before = completer.complete("r", 10);
+    var refreshed = completer.refresh();
+    var after = completer.complete("r", 10);
+
+    // Assert
+    assertTrue(refreshed);
+    assertEquals(List.of("red"), before.values());
+    assertEquals(List.of("rose", "ruby"), after.values());
+  }
+
+  @Test
+  void testFailedRefreshKeepsPreviousCandidates() {
+    // Arrange
+    var failing = new AtomicReference<Boolean>(false);
+    var completer =
+        new Completer(
+            () -> {
+              if (failing.get()) {
+                throw new IllegalStateException("catalog unavailable");
+              }
+              return Stream.of("apple");
+            });
+    completer.refresh();
+    failing.set(true);
+
+    // Act
+    var refreshed = completer.refresh();
+
+    // Assert
+    assertFalse(refreshed);
+    assertEquals(List.of("apple"), completer.complete("a", 10).values());
+  }
+
+  @Test
+  void testCreatesProviderFromClass() {
+    // Act
+    var completer = Completer.of(Colors.class);
+    completer.refresh();
+
+    // Assert
+    assertEquals(3, completer.size());
+    assertThrows(IllegalStateException.class, () -> Completer.of(CompletionProvider.class));
+  }
+
+  public static class Colors implements CompletionProvider {
+    @Override
+    public Stream<String> candidates() {
+      return Stream.of("red", "green", "blue");
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package br.com.arquivolivre.mcpeasy4j.completion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class PrefixIndexTest {
+
+  @Test
+  void testFindsValuesByPrefixIgnoringCase() {
+    // Arrange
+    var index = PrefixIndex.of(Stream.of("Porto", "lisbon", "Lisbon", "Lima", "london", "Lis"));
+
+    // Act
+    var matches = index.lookup("LIS", 10);
+
+    // Assert
+    assertEquals(List.of("Lis", "Lisbon", "lisbon"), matches.values());
+    assertEquals(3, matches.total());
+    assertFalse(matches.hasMore());
+  }
+
+  @Test
+  void testLimitsValuesAndCountsAllMatches() {
+    // Arrange
+    var index =
+        PrefixIndex.of(IntStream.range(0, 200_000).mapToObj(i -> String.format("item-%06d", i)));
+
+    // Act
+    var matches = index.lookup("item-0012", 3);
+
+    // Assert
+    assertEquals(200_000, index.size());
+    assertEquals(List.of("item-001200", "item-001201", "item-001202"), matches.values());
+    assertEquals(100, matches.total());
+    assertTrue(matches.hasMore());
+  }
+
+  @Test
+  void testDropsDuplicatesAndNulls() {
+    // Arrange
+    var index = PrefixIndex.of(Stream.of("b", "a", null, "b", "a", "c"));
+
+    // Act
+    var matches = index.lookup("", 10);
+
+    // Assert
+    assertEquals(List.of("a", "b", "c"), matches.values());
+    assertEquals(3, index.size());
+  }
+
+  @Test
+  void testReturnsNothingWithoutMatches() {
+    // Arrange
+    var index = PrefixIndex.of(Stream.of("alpha", "beta"));
+
+    // Act & Assert
+    assertEquals(new PrefixIndex.Matches(List.of(), 0), index.lookup("gamma", 10));
+    assertEquals(new PrefixIndex.Matches(List.of(), 0), index.lookup("alphabet", 10));
+    assertEquals(new PrefixIndex.Matches(List.of(), 0), PrefixIndex.EMPTY.lookup("a", 10));
+  }
+}
@@ -0,0 +1,214 @@
+package br.com.arquivolivre.mcpeasy4j.gateway;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.ListPromptsResult;
+import io.modelcontextprotocol.spec.McpSchema.ListToolsResult;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class DownstreamPoolTest {
+
+  private static final McpSchema.JsonSchema SCHEMA =
+      new McpSchema.JsonSchema("object", null, null, null, null, null);
+
+  @Test
+  void testFetchesCatalogAcrossPages() {
+    // Arrange
+    var client = client(McpSchema.ServerCapabilities.builder().tools(false).prompts(false).build());
+    when(client.listTools(null)).thenReturn(new ListToolsResult(List.of(tool("read")), "page-2"));
+    when(client.listTools("page-2")).thenReturn(new ListToolsResult(List.of(tool("write")), null));
+    when(client.listPrompts(null))
+        .thenReturn(
+            new ListPromptsResult(List.of(new McpSchema.Prompt("summary", "", List.of())), null));
+
+    // Act
+    var pool = new DownstreamPool("files", List.of(client));
+
+    // Assert
+    assertEquals(
+        List.of("read", "write"), pool.tools().stream().map(McpSchema.Tool::name).toList());
+    assertEquals("summary", pool.prompts().get(0).name());
+    assertTrue(pool.resources().isEmpty(), "Resources are not declared by the downstream server");
+    verify(client, never()).listResources(any());
+  }
+
+  @Test
+  void testRoutesToReplicaWithFewestOutstandingRequests() {
+    // Arrange
+    var replicas = List.of(client(null), client(null), client(null));
+    var pool = new DownstreamPool("files", replicas);
+
+    // Act: replicas 0 and 1 stay busy while the fourth request is routed. Round robin alone
+    // would send it back to replica 0.
+    var chosen =
+        pool.call(
+            first ->
+                pool.call(
+                    second -> {
+                      pool.call(third -> third);
+                      assertEquals(1, pool.outstanding(0));
+                      assertEquals(1, pool.outstanding(1));
+                      return pool.call(fourth -> fourth);
+                    }));
+
+    // Assert
+    assertSame(replicas.get(2), chosen);
+    assertEquals(0, pool.outstanding(0));
+    assertEquals(0, pool.outstanding(1));
+    assertEquals(0, pool.outstanding(2));
+  }
+
+  @Test
+  void testReleasesReplicaWhenRequestFails() {
+    // Arrange
+    var pool = new DownstreamPool("files", List.of(client(null)));
+
+    // Act
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            pool.call(
+                client -> {
+                  throw new IllegalStateException("timeout");
+                }));
+
+    // Assert
+    assertEquals(0, pool.outstanding(0));
+  }
+
+  @Test
+  void testEjectsReplicaWhoseConnectionFails() {
+    // Arrange
+    var dead = client(null);
+    var alive = client(null);
+    var pool = new DownstreamPool("files", List.of(dead, alive));
+
+    // Act
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            pool.call(
+                client -> {
+                  throw new IllegalStateException("Broken pipe");
+                }));
+    var chosen = List.of(pool.call(client -> client), pool.call(client -> client));
+
+    // Assert
+    assertFalse(pool.isHealthy(0));
+    assertTrue(pool.isHealthy(1));
+    assertEquals(List.of(alive, alive), chosen);
+    verify(dead).closeGracefully();
+  }
+
+  @Test
+  void testKeepsReplicaThatAnswersWithErrorOrTimesOut() {
+    // Arrange
+    var pool = new DownstreamPool("files", List.of(client(null)));
+
+    // Act
+    assertThrows(
+        McpError.class,
+        () ->
+            pool.call(
+                client -> {
+                  throw McpError.builder(McpSchema.ErrorCodes.INVALID_PARAMS)
+                      .message("bad")
+                      .build();
+                }));
+    assertThrows(
+        RuntimeException.class,
+        () ->
+            pool.call(
+                client -> {
+                  throw new RuntimeException(new TimeoutException("slow"));
+                }));
+
+    // Assert
+    assertTrue(pool.isHealthy(0));
+  }
+
+  @Test
+  void testRejectsCallsWhenNoReplicaIsHealthy() {
+    // Arrange
+    var pool = new DownstreamPool("files", List.of(client(null)));
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            pool.call(
+                client -> {
+                  throw new IllegalStateException("Broken pipe");
+                }));
+
+    // Act & Assert
+    var e = assertThrows(IllegalStateException.class, () -> pool.call(client -> client));
+    assertEquals("No replica of downstream files is available", e.getMessage());
+  }
+
+  @Test
+  void testReconnectsFailedReplica() throws InterruptedException {
+    // Arrange
+    var dead = client(null);
+    var replacement = client(null);
+    var pool = new DownstreamPool("files", List.of(dead), () -> replacement);
+
+    // Act
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            pool.call(
+                client -> {
+                  throw new IllegalStateException("Broken pipe");
+                }));
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!pool.isHealthy(0) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+
+    // Assert
+    assertTrue(pool.isHealthy(0));
+    assertSame(replacement, pool.call(client -> client));
+    verify(dead).closeGracefully();
+  }
+
+  @Test
+  void testClosesEveryReplica() {
+    // Arrange
+    var first = client(null);
+    var second = client(null);
+    when(second.closeGracefully()).thenThrow(new IllegalStateException("already closed"));
+    var pool = new DownstreamPool("files", List.of(first, second));
+
+    // Act
+    pool.close();
+
+    // Assert
+    verify(first).closeGracefully();
+    verify(second).closeGracefully();
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  void testRejectsPoolWithoutReplicas() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> new DownstreamPool("files", List.of()));
+  }
+
+  private static McpSyncClient client(McpSchema.ServerCapabilities capabilities) {
+    var client = mock(McpSyncClient.class);
+    when(client.getServerCapabilities()).thenReturn(capabilities);
+    when(client.listTools(null)).thenReturn(new ListToolsResult(List.of(), null));
+    return client;
+  }
+
+  private static McpSchema.Tool tool(String name) {
+    return McpSchema.Tool.builder().name(name).inputSchema(SCHEMA).build();
+  }
+}
@@ -2,12 +2,22 @@ package br.com.arquivolivre.mcpeasy4j.invoker;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import br.com.arquivolivre.mcpeasy4j.annotation.LockKey;
 import br.com.arquivolivre.mcpeasy4j.annotation.PromptArgument;
 import br.com.arquivolivre.mcpeasy4j.annotation.Property;
+import br.com.arquivolivre.mcpeasy4j.logging.LogLevels;
+import br.com.arquivolivre.mcpeasy4j.logging.McpLogger;
+import br.com.arquivolivre.mcpeasy4j.progress.ProgressReporter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -163,6 +173,182 @@ class MethodInvokerTest {
     assertNotNull(result);
   }
 
+  @Test
+  void testInvokeRawInjectsProgressReporter() throws Exception {
+    var method = TestClass.class.getMethod("countTo", int.class, ProgressReporter.class);
+    var reported = new ArrayList<Double>();
+    ProgressReporter reporter = (progress, total, message) -> reported.add(progress);
+
+    var result =
+        invoker.invokeRaw(
+            method,
+            testInstance,
+            Map.of("n", 3),
+            InvocationObserver.NOOP,
+            reporter,
+            McpLogger.NOOP);
+
+    assertEquals(3, result);
+    assertEquals(List.of(1.0, 2.0, 3.0), reported);
+  }
+
+  @Test
+  void testInvokeRawInjectsLogger() throws Exception {
+    var method = TestClass.class.getMethod("logged", String.class, McpLogger.class);
+    var sent = new ArrayList<LoggingMessageNotification>();
+    var logger = new LogLevels().loggerFor("session-1", "search", sent::add, new ObjectMapper());
+
+    var result =
+        invoker.invokeRaw(
+            method,
+            testInstance,
+            Map.of("query", "rust"),
+            InvocationObserver.NOOP,
+            ProgressReporter.NOOP,
+            logger);
+
+    assertEquals("rust", result);
+    assertEquals("searching rust", sent.get(0).data());
+  }
+
+  @Test
+  void testInvokeRawConvertsArgumentsToGenericParameterTypes() throws Exception {
+    // Arrange
+    var method = TestClass.class.getMethod("sumNamed", DataObject.class, List.class);
+    Map<String, Object> params =
+        Map.of(
+            "data",
+            Map.of("name", "total", "value", 4),
+            "items",
+            List.of(Map.of("name", "a", "value", 1), Map.of("name", "b", "value", 2)),
+            "extra",
+            "skipped");
+
+    // Act
+    var result =
+        invoker.invokeRaw(
+            method,
+            testInstance,
+            params,
+            InvocationObserver.NOOP,
+            ProgressReporter.NOOP,
+            McpLogger.NOOP);
+
+    // Assert: list elements are bound to the generic element type, not left as maps
+    assertEquals("total:7", result);
+  }
+
+  @Test
+  void testLockKeySerializesOnlyCallsWithTheSameKey() throws Exception {
+    // Arrange
+    var accounts = new Accounts();
+    var method = Accounts.class.getMethod("hold", String.class);
+    var calls = new ArrayList<Thread>();
+    for (var key : List.of("a", "b", "a")) {
+      calls.add(call(method, accounts, "account", key));
+    }
+
+    // Act: the second call with key "a" starts while the first one holds its stripe
+    calls.get(0).start();
+    calls.get(1).start();
+    assertTrue(accounts.awaitInside(2), "Calls with different keys run concurrently");
+    calls.get(2).start();
+    Thread.sleep(100);
+    var insideWhileHeld = accounts.inside.get();
+    accounts.release.countDown();
+    for (var call : calls) {
+      call.join(5000);
+    }
+
+    // Assert
+    assertEquals(2, insideWhileHeld, "A call with a held key waits");
+    assertEquals(2, accounts.maxInside.get());
+    assertEquals(3, accounts.finished.size());
+  }
+
+  @Test
+  void testLockKeyIsSharedByMethodsOfTheSameClass() throws Exception {
+    // Arrange
+    var accounts = new Accounts();
+    var hold = Accounts.class.getMethod("hold", String.class);
+    var holdAgain = Accounts.class.getMethod("holdAgain", String.class);
+    var holdUser = Accounts.class.getMethod("holdUser", String.class);
+    var first = call(hold, accounts, "account", "a");
+    var otherSpace = call(holdUser, accounts, "user", "a");
+    var sameKey = call(holdAgain, accounts, "account", "a");
+
+    // Act: a call to another method with the same key starts while the first one holds it
+    first.start();
+    otherSpace.start();
+    assertTrue(accounts.awaitInside(2), "Equal keys of different spaces run concurrently");
+    sameKey.start();
+    Thread.sleep(100);
+    var insideWhileHeld = accounts.inside.get();
+    accounts.release.countDown();
+    for (var call : List.of(first, otherSpace, sameKey)) {
+      call.join(5000);
+    }
+
+    // Assert
+    assertEquals(2, insideWhileHeld, "A call to another method with a held key waits");
+    assertEquals(3, accounts.finished.size());
+  }
+
+  private Thread call(Method method, Object instance, String name, String key) {
+    return Thread.ofPlatform()
+        .unstarted(
+            () -> {
+              try {
+                invoker.invokeRaw(
+                    method,
+                    instance,
+                    Map.of(name, key),
+                    InvocationObserver.NOOP,
+                    ProgressReporter.NOOP,
+                    McpLogger.NOOP);
+              } catch (MethodInvoker.InvocationException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+  }
+
+  static class Accounts {
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger inside = new AtomicInteger();
+    final AtomicInteger maxInside = new AtomicInteger();
+    final List<String> finished = new CopyOnWriteArrayList<>();
+
+    public String hold(@LockKey @Property(name = "account") String account)
+        throws InterruptedException {
+      maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+      try {
+        assertTrue(release.await(5, TimeUnit.SECONDS));
+      } finally {
+        inside.decrementAndGet();
+      }
+      finished.add(account);
+      return account;
+    }
+
+    public String holdAgain(@LockKey @Property(name = "account") String account)
+        throws InterruptedException {
+      return hold(account);
+    }
+
+    public String holdUser(@LockKey("user") @Property(name = "user") String user)
+        throws InterruptedException {
+      return hold(user);
+    }
+
+    boolean awaitInside(int count) throws InterruptedException {
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (inside.get() < count && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      return inside.get() == count;
+    }
+  }
+
   static class DataObject {
     private String name;
     private int value;
@@ -185,6 +371,18 @@ class MethodInvokerTest {
   }
 
   static class TestClass {
+    public int countTo(@Property(name = "n") int n, ProgressReporter progress) {
+      for (var i = 1; i <= n; i++) {
+        progress.report(i, n);
+      }
+      return n;
+    }
+
+    public String logged(@Property(name = "query") String query, McpLogger logger) {
+      logger.info("searching " + query);
+      return query;
+    }
+
     public String echo(@Property(name = "message") String message) {
       return "Echo: " + message;
     }
@@ -229,6 +427,14 @@ class MethodInvokerTest {
       return obj;
     }
 
+    public String sumNamed(
+        @Property(name = "data") DataObject data,
+        @Property(name = "items") List<DataObject> items) {
+      return data.getName()
+          + ":"
+          + (data.getValue() + items.stream().mapToInt(DataObject::getValue).sum());
+    }
+
     public String promptMethod(@PromptArgument(name = "promptArg") String arg) {
       return "Prompt: " + arg;
     }
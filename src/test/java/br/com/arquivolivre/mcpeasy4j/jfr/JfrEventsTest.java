@@ -0,0 +1,132 @@
+package br.com.arquivolivre.mcpeasy4j.jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import br.com.arquivolivre.mcpeasy4j.adapter.SdkFeatureAdapter;
+import br.com.arquivolivre.mcpeasy4j.annotation.Property;
+import br.com.arquivolivre.mcpeasy4j.annotation.Tool;
+import br.com.arquivolivre.mcpeasy4j.scanner.AnnotationScanner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+class JfrEventsTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testEventsAreRecordedWhenEnabled() throws Exception {
+    // Arrange
+    var server = mock(McpSyncServer.class);
+    var adapter = new SdkFeatureAdapter(new ObjectMapper());
+    var file = tempDir.resolve("events.jfr");
+
+    // Act
+    try (var recording = new Recording()) {
+      recording.enable(ToolInvocationEvent.NAME);
+      recording.enable(ArgumentConversionEvent.NAME);
+      recording.enable(ResultSerializationEvent.NAME);
+      recording.enable(AnnotationScanEvent.NAME);
+      recording.start();
+
+      var tools = new AnnotationScanner().scanTools(new TestServer());
+      adapter.registerTools(server, tools);
+      var specCaptor = ArgumentCaptor.forClass(SyncToolSpecification.class);
+      verify(server, times(2)).addTool(specCaptor.capture());
+      var handlers =
+          specCaptor.getAllValues().stream()
+              .collect(Collectors.toMap(spec -> spec.tool().name(), spec -> spec.callHandler()));
+      handlers.get("echo").apply(null, new CallToolRequest("echo", Map.of("message", "hello")));
+      assertThrows(
+          RuntimeException.class,
+          () -> handlers.get("fail").apply(null, new CallToolRequest("fail", Map.of())));
+
+      recording.stop();
+      recording.dump(file);
+    }
+    var events = RecordingFile.readAllEvents(file);
+
+    // Assert
+    var scan = single(events, AnnotationScanEvent.NAME);
+    assertEquals("Tool", scan.getString("annotation"));
+    assertEquals(TestServer.class.getName(), scan.getClass("scannedClass").getName());
+    assertEquals(2, scan.getInt("definitionsFound"));
+
+    var invocations = byName(events, ToolInvocationEvent.NAME);
+    assertEquals(2, invocations.size());
+    var echo = find(invocations, "echo");
+    assertEquals("tool", echo.getString("kind"));
+    assertEquals(
+        new ObjectMapper().writeValueAsBytes(Map.of("message", "hello")).length,
+        echo.getLong("argumentBytes"));
+    assertTrue(echo.getLong("resultBytes") > 0);
+    assertNull(echo.getString("error"));
+    var fail = find(invocations, "fail");
+    assertTrue(fail.getString("error").contains("backend down"));
+
+    assertEquals(2, byName(events, ArgumentConversionEvent.NAME).size());
+    var serialization = single(events, ResultSerializationEvent.NAME);
+    assertEquals("echo", serialization.getString("name"));
+    assertEquals(String.class.getName(), serialization.getClass("resultType").getName());
+  }
+
+  @Test
+  void testEventsAreNotRecordedWhenDisabled() throws Exception {
+    // Arrange
+    var file = tempDir.resolve("disabled.jfr");
+
+    // Act
+    try (var recording = new Recording()) {
+      recording.disable(AnnotationScanEvent.NAME);
+      recording.start();
+      new AnnotationScanner().scanTools(new TestServer());
+      recording.stop();
+      recording.dump(file);
+    }
+
+    // Assert
+    assertTrue(byName(RecordingFile.readAllEvents(file), AnnotationScanEvent.NAME).isEmpty());
+    assertTrue(Files.exists(file));
+  }
+
+  private static List<RecordedEvent> byName(List<RecordedEvent> events, String name) {
+    return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+  }
+
+  private static RecordedEvent single(List<RecordedEvent> events, String name) {
+    var matching = byName(events, name);
+    assertEquals(1, matching.size(), "expected exactly one " + name);
+    return matching.get(0);
+  }
+
+  private static RecordedEvent find(List<RecordedEvent> events, String name) {
+    return events.stream().filter(e -> name.equals(e.getString("name"))).findFirst().orElseThrow();
+  }
+
+  /** Server used to trigger every event type. */
+  public static class TestServer {
+
+    @Tool(name = "echo", description = "Echoes a message")
+    public String echo(@Property(name = "message") String message) {
+      return message;
+    }
+
+    @Tool(name = "fail", description = "Always fails")
+    public String fail() {
+      throw new IllegalStateException("backend down");
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package br.com.arquivolivre.mcpeasy4j.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RequestTrackerTest {
+
+  @Test
+  void testCountsCompletedAndFailedInvocations() {
+    var tracker = new RequestTracker();
+
+    assertTrue(tracker.tryEnter());
+    assertTrue(tracker.tryEnter());
+    assertEquals(2, tracker.inFlight());
+
+    tracker.exit(true);
+    tracker.exit(false);
+
+    assertEquals(0, tracker.inFlight());
+    assertEquals(1, tracker.completed());
+    assertEquals(1, tracker.failed());
+    assertEquals(0, tracker.rejected());
+  }
+
+  @Test
+  void testRejectsAfterStopAccepting() {
+    var tracker = new RequestTracker();
+
+    tracker.stopAccepting();
+
+    assertFalse(tracker.isAccepting());
+    assertFalse(tracker.tryEnter());
+    assertEquals(0, tracker.inFlight());
+    assertEquals(1, tracker.rejected());
+  }
+
+  @Test
+  void testAwaitIdleReturnsImmediatelyWhenIdle() throws Exception {
+    var tracker = new RequestTracker();
+
+    assertTrue(tracker.awaitIdle(Duration.ZERO));
+  }
+
+  @Test
+  void testAwaitIdleTimesOutWhileBusy() throws Exception {
+    var tracker = new RequestTracker();
+    tracker.tryEnter();
+    tracker.stopAccepting();
+
+    assertFalse(tracker.awaitIdle(Duration.ofMillis(20)));
+    assertEquals(1, tracker.inFlight());
+  }
+
+  @Test
+  void testAwaitIdleWakesUpWhenLastInvocationExits() throws Exception {
+    var tracker = new RequestTracker();
+    var invocations = 16;
+    var started = new CountDownLatch(invocations);
+    var release = new CountDownLatch(1);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (var i = 0; i < invocations; i++) {
+        executor.submit(
+            () -> {
+              assertTrue(tracker.tryEnter());
+              started.countDown();
+              release.await();
+              tracker.exit(true);
+              return null;
+            });
+      }
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      tracker.stopAccepting();
+      release.countDown();
+
+      assertTrue(tracker.awaitIdle(Duration.ofSeconds(5)));
+    }
+    assertEquals(invocations, tracker.completed());
+  }
+}
@@ -0,0 +1,113 @@
+package br.com.arquivolivre.mcpeasy4j.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema.LoggingLevel;
+import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LogLevelsTest {
+
+  private final LogLevels levels = new LogLevels();
+  private final List<LoggingMessageNotification> sent = new ArrayList<>();
+  private final McpLogger logger =
+      levels.loggerFor("session-1", "search", sent::add, new ObjectMapper());
+
+  @Test
+  void testDropsMessagesBelowDefaultLevelWithoutBuildingThem() {
+    // Act
+    logger.debug(() -> fail("Disabled message must not be built"));
+    logger.logData(LoggingLevel.DEBUG, () -> fail("Disabled data must not be built"));
+    logger.info("started");
+
+    // Assert
+    assertFalse(logger.isEnabled(LoggingLevel.DEBUG));
+    assertEquals(1, sent.size());
+    assertEquals(LoggingLevel.INFO, sent.get(0).level());
+    assertEquals("search", sent.get(0).logger());
+    assertEquals("started", sent.get(0).data());
+  }
+
+  @Test
+  void testLevelChangeAppliesToExistingLoggers() {
+    // Act
+    levels.setLevel("session-1", LoggingLevel.DEBUG);
+    logger.debug(() -> "query parsed");
+    levels.setLevel("session-1", LoggingLevel.ERROR);
+    logger.warning("slow index");
+    logger.error("index missing");
+
+    // Assert
+    assertEquals(
+        List.of("query parsed", "index missing"), sent.stream().map(n -> n.data()).toList());
+    assertEquals(LoggingLevel.ERROR, levels.levelOf("session-1"));
+  }
+
+  @Test
+  void testSerializesStructuredDataAsJson() {
+    // Act
+    logger.logData(LoggingLevel.NOTICE, () -> Map.of("hits", 3));
+
+    // Assert
+    assertEquals(LoggingLevel.NOTICE, sent.get(0).level());
+    assertEquals("{\"hits\":3}", sent.get(0).data());
+  }
+
+  @Test
+  void testKeepsLevelsPerSessionAndForgetsRemovedOnes() {
+    // Arrange
+    levels.setLevel("session-1", LoggingLevel.DEBUG);
+    levels.setLevel("session-2", LoggingLevel.CRITICAL);
+
+    // Act
+    levels.remove("session-1");
+
+    // Assert
+    assertEquals(LogLevels.DEFAULT_LEVEL, levels.levelOf("session-1"));
+    assertEquals(LoggingLevel.CRITICAL, levels.levelOf("session-2"));
+    assertEquals(LogLevels.DEFAULT_LEVEL, levels.levelOf("unknown"));
+  }
+
+  @Test
+  void testBroadcastsToRegisteredSessionsAtTheirOwnLevels() {
+    // Arrange
+    var verbose = new ArrayList<LoggingMessageNotification>();
+    var quiet = new ArrayList<LoggingMessageNotification>();
+    levels.register("verbose", verbose::add);
+    levels.register("quiet", quiet::add);
+    levels.setLevel("verbose", LoggingLevel.DEBUG);
+    levels.setLevel("quiet", LoggingLevel.ERROR);
+    var built = new int[1];
+
+    // Act
+    levels.broadcast(
+        LoggingLevel.WARNING,
+        "circuit",
+        () -> {
+          built[0]++;
+          return "opened";
+        });
+    levels.broadcast(LoggingLevel.DEBUG, "circuit", () -> "probing");
+    levels.remove("verbose");
+    levels.broadcast(LoggingLevel.INFO, "circuit", () -> fail("No session enables info"));
+
+    // Assert
+    assertEquals(1, built[0]);
+    assertEquals(List.of("opened", "probing"), verbose.stream().map(n -> n.data()).toList());
+    assertTrue(quiet.isEmpty());
+    assertTrue(sent.isEmpty());
+  }
+
+  @Test
+  void testNoopLoggerIsNeverEnabled() {
+    // Act
+    McpLogger.NOOP.error(() -> fail("NOOP must not build messages"));
+
+    // Assert
+    assertFalse(McpLogger.NOOP.isEnabled(LoggingLevel.EMERGENCY));
+  }
+}
@@ -0,0 +1,60 @@
+package br.com.arquivolivre.mcpeasy4j.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void testEmptySnapshot() {
+    assertEquals(HistogramSnapshot.EMPTY, new LatencyHistogram().snapshot());
+  }
+
+  @Test
+  void testBucketIndexIsMonotonicAndContiguous() {
+    var previous = LatencyHistogram.bucketIndex(0);
+    for (long value = 1; value < 1_000_000; value++) {
+      var index = LatencyHistogram.bucketIndex(value);
+      assertTrue(index == previous || index == previous + 1, "value " + value);
+      previous = index;
+    }
+  }
+
+  @Test
+  void testBucketMidpointStaysWithinRelativeError() {
+    for (long value = 1; value < 10_000_000; value += 7919) {
+      var midpoint = LatencyHistogram.bucketMidpoint(LatencyHistogram.bucketIndex(value));
+      assertTrue(Math.abs(midpoint - value) <= value * 0.125, "value " + value);
+    }
+  }
+
+  @Test
+  void testPercentiles() {
+    var histogram = new LatencyHistogram();
+    // 1..1000 microseconds
+    for (var i = 1; i <= 1000; i++) {
+      histogram.record(i * 1_000L);
+    }
+
+    var snapshot = histogram.snapshot();
+
+    assertEquals(1000, snapshot.count());
+    assertEquals(500.5, snapshot.meanMicros(), 0.1);
+    assertEquals(500, snapshot.p50Micros(), 500 * 0.125);
+    assertEquals(990, snapshot.p99Micros(), 990 * 0.125);
+    assertEquals(1000, snapshot.maxMicros(), 0.1);
+  }
+
+  @Test
+  void testOutOfRangeValuesAreClamped() {
+    var histogram = new LatencyHistogram();
+    histogram.record(-5);
+    histogram.record(Long.MAX_VALUE / 2);
+
+    var snapshot = histogram.snapshot();
+
+    assertEquals(2, snapshot.count());
+    assertTrue(snapshot.p999Micros() <= snapshot.maxMicros());
+  }
+}
@@ -0,0 +1,133 @@
+package br.com.arquivolivre.mcpeasy4j.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.arquivolivre.mcpeasy4j.bulkhead.BulkheadGroup;
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+class MetricsRegistryTest {
+
+  @Test
+  void testReturnsSameMetricsForSameName() {
+    var registry = new MetricsRegistry();
+
+    assertSame(registry.tool("echo"), registry.tool("echo"));
+    assertNotSame(registry.tool("echo"), registry.prompt("echo"));
+  }
+
+  @Test
+  void testSnapshotGroupsByKind() {
+    var registry = new MetricsRegistry();
+    registry.tool("echo").recordCall(1_000, true);
+    registry.tool("echo").recordCall(2_000, false);
+    registry.resource("test://resource").recordCall(1_000, true);
+
+    var snapshot = registry.snapshot();
+
+    var echo = snapshot.get("tools").get("echo");
+    assertEquals(2, echo.calls());
+    assertEquals(1, echo.errors());
+    assertEquals(2, echo.latency().count());
+    assertEquals(1, snapshot.get("resources").get("test://resource").calls());
+    assertTrue(snapshot.get("prompts").isEmpty());
+  }
+
+  @Test
+  void testPhaseTimingsAreRecordedSeparately() {
+    var metrics = new InvocationMetrics("tool", "echo");
+    metrics.onConversion(1_000);
+    metrics.onExecution(5_000_000);
+    metrics.recordSerialization(2_000);
+
+    var snapshot = metrics.snapshot();
+
+    assertEquals(1, snapshot.conversion().count());
+    assertEquals(1, snapshot.execution().count());
+    assertEquals(1, snapshot.serialization().count());
+    assertEquals(0, snapshot.latency().count());
+    assertEquals(5_000, metrics.getExecutionP99Micros(), 5_000 * 0.125);
+  }
+
+  @Test
+  void testJmxRegistration() throws Exception {
+    var registry = new MetricsRegistry();
+    registry.tool("existing").recordCall(1_000, true);
+    var server = ManagementFactory.getPlatformMBeanServer();
+
+    registry.enableJmx("jmx-test");
+    registry.prompt("later");
+
+    var existing =
+        new ObjectName(
+            MetricsRegistry.JMX_DOMAIN + ":type=tool,server=\"jmx-test\",name=\"existing\"");
+    var later =
+        new ObjectName(
+            MetricsRegistry.JMX_DOMAIN + ":type=prompt,server=\"jmx-test\",name=\"later\"");
+    assertTrue(server.isRegistered(existing));
+    assertTrue(server.isRegistered(later));
+    assertEquals(1L, server.getAttribute(existing, "Calls"));
+
+    registry.disableJmx();
+
+    assertFalse(server.isRegistered(existing));
+    assertFalse(server.isRegistered(later));
+  }
+
+  @Test
+  void testBulkheadsAreSnapshottedAndPublished() throws Exception {
+    var registry = new MetricsRegistry();
+    var group = new BulkheadGroup("db", 4, 8, false);
+    var server = ManagementFactory.getPlatformMBeanServer();
+
+    registry.enableJmx("bulkhead-test");
+    registry.bulkhead(group);
+
+    var snapshot = registry.bulkheadSnapshot().get("db");
+    assertEquals(4, snapshot.threads());
+    assertEquals(8, snapshot.queueCapacity());
+    var objectName =
+        new ObjectName(
+            MetricsRegistry.JMX_DOMAIN + ":type=bulkhead,server=\"bulkhead-test\",name=\"db\"");
+    assertTrue(server.isRegistered(objectName));
+    assertEquals(0L, server.getAttribute(objectName, "Rejected"));
+
+    registry.disableJmx();
+    group.shutdown();
+
+    assertFalse(server.isRegistered(objectName));
+  }
+
+  @Test
+  void testRegistriesSharingServerNameGetInstanceNumbers() throws Exception {
+    var first = new MetricsRegistry();
+    var second = new MetricsRegistry();
+    first.tool("echo");
+    second.tool("echo");
+    var server = ManagementFactory.getPlatformMBeanServer();
+
+    first.enableJmx("shared-name");
+    second.enableJmx("shared-name");
+
+    var firstName =
+        new ObjectName(
+            MetricsRegistry.JMX_DOMAIN + ":type=tool,server=\"shared-name\",name=\"echo\"");
+    var secondName =
+        new ObjectName(
+            MetricsRegistry.JMX_DOMAIN
+                + ":type=tool,server=\"shared-name\",instance=2,name=\"echo\"");
+    assertTrue(server.isRegistered(firstName));
+    assertTrue(server.isRegistered(secondName));
+
+    first.disableJmx();
+    second.disableJmx();
+
+    // Numbers are reused once released
+    var third = new MetricsRegistry();
+    third.tool("echo");
+    third.enableJmx("shared-name");
+    assertTrue(server.isRegistered(firstName));
+    third.disableJmx();
+  }
+}
@@ -0,0 +1,162 @@
+package br.com.arquivolivre.mcpeasy4j.progress;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.modelcontextprotocol.spec.McpSchema.ProgressNotification;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ThrottledProgressReporterTest {
+
+  private static final long INTERVAL_NANOS = Duration.ofMillis(100).toNanos();
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<ProgressNotification> sent = new ArrayList<>();
+  private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+  private ThrottledProgressReporter reporter;
+
+  @BeforeEach
+  void setUp() {
+    reporter =
+        new ThrottledProgressReporter(
+            "token-1", sent::add, Duration.ofMillis(100), clock::get, scheduler);
+  }
+
+  @Test
+  void testSendsFirstUpdateImmediately() {
+    // Act
+    reporter.report(1, 10.0, "starting");
+
+    // Assert
+    assertEquals(1, sent.size());
+    var notification = sent.get(0);
+    assertEquals("token-1", notification.progressToken());
+    assertEquals(1.0, notification.progress());
+    assertEquals(10.0, notification.total());
+    assertEquals("starting", notification.message());
+  }
+
+  @Test
+  void testCoalescesUpdatesWithinInterval() {
+    // Arrange
+    reporter.report(1);
+
+    // Act
+    for (var i = 2; i <= 1000; i++) {
+      clock.addAndGet(INTERVAL_NANOS / 1000);
+      reporter.report(i, 2000);
+    }
+    clock.addAndGet(INTERVAL_NANOS);
+    reporter.report(1001, 2000);
+
+    // Assert
+    assertEquals(2, sent.size());
+    assertEquals(1001.0, sent.get(1).progress());
+    assertEquals(2000.0, sent.get(1).total());
+  }
+
+  @Test
+  void testFlushSendsLatestPendingUpdate() {
+    // Arrange
+    reporter.report(1);
+    reporter.report(2);
+    reporter.report(3, null, "almost");
+
+    // Act
+    reporter.flush();
+    reporter.flush();
+
+    // Assert
+    assertEquals(2, sent.size());
+    assertEquals(3.0, sent.get(1).progress());
+    assertEquals("almost", sent.get(1).message());
+  }
+
+  @Test
+  void testSchedulesTrailingSendOnceIntervalExpires() {
+    // Arrange
+    reporter.report(1);
+    clock.addAndGet(INTERVAL_NANOS / 4);
+    reporter.report(2);
+    reporter.report(3);
+    var task = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler)
+        .schedule(task.capture(), eq(INTERVAL_NANOS * 3 / 4), eq(TimeUnit.NANOSECONDS));
+
+    // Act
+    clock.addAndGet(INTERVAL_NANOS);
+    task.getValue().run();
+    reporter.flush();
+
+    // Assert
+    assertEquals(2, sent.size());
+    assertEquals(3.0, sent.get(1).progress());
+  }
+
+  @Test
+  void testSendsLatestUpdateWhenReportsStop() throws InterruptedException {
+    // Arrange
+    var delivered = new CopyOnWriteArrayList<ProgressNotification>();
+    var realTime = new ThrottledProgressReporter("token-3", delivered::add, Duration.ofMillis(20));
+
+    // Act: report twice, then go quiet without flushing
+    realTime.report(1);
+    realTime.report(2);
+
+    // Assert
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+    while (delivered.size() < 2 && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(2, delivered.size());
+    assertEquals(2.0, delivered.get(1).progress());
+  }
+
+  @Test
+  void testIgnoresProgressThatDoesNotIncrease() {
+    // Act
+    reporter.report(5);
+    clock.addAndGet(INTERVAL_NANOS);
+    reporter.report(5);
+    reporter.report(4);
+    reporter.flush();
+
+    // Assert
+    assertEquals(1, sent.size());
+  }
+
+  @Test
+  void testDropsUpdatesAfterSendFails() {
+    // Arrange
+    var attempts = new AtomicLong();
+    var failing =
+        new ThrottledProgressReporter(
+            "token-2",
+            notification -> {
+              attempts.incrementAndGet();
+              throw new IllegalStateException("session closed");
+            },
+            Duration.ofMillis(100),
+            clock::get,
+            scheduler);
+
+    // Act
+    assertDoesNotThrow(() -> failing.report(1));
+    clock.addAndGet(INTERVAL_NANOS);
+    failing.report(2);
+    failing.flush();
+
+    // Assert
+    assertEquals(1, attempts.get());
+  }
+}
@@ -0,0 +1,131 @@
+package br.com.arquivolivre.mcpeasy4j.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.RateLimit;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+  @Test
+  void testSessionsHaveSeparateBudgets() {
+    // Arrange
+    var limiter = new RateLimiter(1, 1);
+
+    // Act & Assert
+    assertEquals(0, limiter.tryAcquire("a", 0));
+    assertTrue(limiter.tryAcquire("a", 0) > 0);
+    assertEquals(0, limiter.tryAcquire("b", 0));
+    assertEquals(0, limiter.tryAcquire(null, 0));
+    assertEquals(3, limiter.sessions());
+  }
+
+  @Test
+  void testDefaultBurstIsOneSecondOfPermits() {
+    // Arrange
+    var limiter = new RateLimiter(2.5, 0);
+
+    // Act
+    var admitted = 0;
+    while (limiter.tryAcquire(null, 0) == 0) {
+      admitted++;
+    }
+
+    // Assert
+    assertEquals(3, admitted);
+  }
+
+  @Test
+  void testSweepsFullBucketsOfIdleSessionsOnSweeper() {
+    // Arrange
+    var sweeps = new ArrayList<Runnable>();
+    var limiter = new RateLimiter(1000, 1, 0, 0, sweeps::add);
+    for (var i = 0; i < RateLimiter.EVICTION_THRESHOLD; i++) {
+      limiter.tryAcquire("session-" + i, 0);
+    }
+
+    // Act: every bucket has refilled a second later
+    limiter.tryAcquire("late", 1_000_000_000L);
+    limiter.tryAcquire("later", 1_000_000_001L);
+
+    // Assert: the calls only scheduled one sweep, which runs on the sweeper
+    assertEquals(1, sweeps.size());
+    assertEquals(RateLimiter.EVICTION_THRESHOLD + 2, limiter.sessions());
+    sweeps.get(0).run();
+    assertEquals(2, limiter.sessions());
+  }
+
+  @Test
+  void testToolWideLimitCapsAllSessionsTogether() {
+    // Arrange
+    var limiter = new RateLimiter(10, 10, 1, 2);
+
+    // Act & Assert
+    assertEquals(0, limiter.tryAcquire("a", 0));
+    assertEquals(0, limiter.tryAcquire("b", 0));
+    assertTrue(limiter.tryAcquire("c", 0) > 0);
+    assertEquals(0, limiter.tryAcquire("c", 1_000_000_000L));
+  }
+
+  @Test
+  void testToolWideRejectionDoesNotUseSessionBudget() {
+    // Arrange
+    var limiter = new RateLimiter(0.1, 1, 1, 1);
+    assertEquals(0, limiter.tryAcquire("a", 0));
+
+    // Act
+    var rejected = limiter.tryAcquire("b", 0);
+
+    // Assert: session b may call as soon as the tool-wide bucket refills, long before its own
+    // ten-second interval would have passed
+    assertTrue(rejected > 0);
+    assertEquals(0, limiter.tryAcquire("b", rejected));
+  }
+
+  @Test
+  void testUnlimitedAdmitsEverything() {
+    // Act & Assert
+    for (var i = 0; i < 1000; i++) {
+      assertEquals(0, RateLimiter.UNLIMITED.tryAcquire("session"));
+    }
+    assertEquals(0, RateLimiter.UNLIMITED.sessions());
+  }
+
+  @Test
+  void testOfAnnotation() throws Exception {
+    // Arrange
+    var limited = Limits.class.getMethod("limited").getAnnotation(RateLimit.class);
+    var disabled = Limits.class.getMethod("disabled").getAnnotation(RateLimit.class);
+    var toolWide = Limits.class.getMethod("toolWide").getAnnotation(RateLimit.class);
+
+    // Act & Assert
+    assertSame(RateLimiter.UNLIMITED, RateLimiter.of(null));
+    assertSame(RateLimiter.UNLIMITED, RateLimiter.of(disabled));
+    var limiter = RateLimiter.of(limited);
+    assertEquals(0, limiter.tryAcquire(null, 0));
+    assertTrue(limiter.tryAcquire(null, 0) > 0);
+    var toolWideLimiter = RateLimiter.of(toolWide);
+    assertEquals(0, toolWideLimiter.tryAcquire("a", 0));
+    assertTrue(toolWideLimiter.tryAcquire("b", 0) > 0);
+    assertEquals(0, toolWideLimiter.sessions());
+  }
+
+  @Test
+  void testRejectsNegativeBurst() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> new RateLimiter(1, -1));
+    assertThrows(IllegalArgumentException.class, () -> new RateLimiter(1, 1, 1, -1));
+  }
+
+  static class Limits {
+    @RateLimit(permitsPerSecond = 5, burst = 1)
+    public void limited() {}
+
+    @RateLimit(permitsPerSecond = 0)
+    public void disabled() {}
+
+    @RateLimit(permitsPerSecond = 0, toolPermitsPerSecond = 1, toolBurst = 1)
+    public void toolWide() {}
+  }
+}
@@ -0,0 +1,84 @@
+package br.com.arquivolivre.mcpeasy4j.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  void testAdmitsBurstThenRejectsWithRetryAfter() {
+    // Arrange: 10 permits per second, one every 100 ms, burst of 3
+    var bucket = new TokenBucket(10, 3);
+
+    // Act & Assert
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(100 * MILLIS, bucket.tryAcquire(0));
+    assertEquals(40 * MILLIS, bucket.tryAcquire(60 * MILLIS));
+  }
+
+  @Test
+  void testRefillsAtSustainedRate() {
+    // Arrange
+    var bucket = new TokenBucket(10, 1);
+    assertEquals(0, bucket.tryAcquire(0));
+
+    // Act & Assert
+    assertTrue(bucket.tryAcquire(50 * MILLIS) > 0);
+    assertEquals(0, bucket.tryAcquire(100 * MILLIS));
+    assertEquals(0, bucket.tryAcquire(200 * MILLIS));
+    assertTrue(bucket.tryAcquire(250 * MILLIS) > 0);
+  }
+
+  @Test
+  void testIsFullOnceRefilled() {
+    // Arrange
+    var bucket = new TokenBucket(10, 2);
+
+    // Act
+    bucket.tryAcquire(0);
+    bucket.tryAcquire(0);
+
+    // Assert
+    assertFalse(bucket.isFull(100 * MILLIS));
+    assertTrue(bucket.isFull(200 * MILLIS));
+  }
+
+  @Test
+  void testConcurrentCallersNeverExceedBurst() throws Exception {
+    // Arrange
+    var bucket = new TokenBucket(0.001, 50);
+    var threads = 16;
+    var attemptsPerThread = 100;
+    var admitted = new AtomicInteger();
+    var start = new CountDownLatch(1);
+
+    // Act
+    try (var executor = Executors.newFixedThreadPool(threads)) {
+      for (var i = 0; i < threads; i++) {
+        executor.submit(
+            () -> {
+              start.await();
+              for (var j = 0; j < attemptsPerThread; j++) {
+                if (bucket.tryAcquire(0) == 0) {
+                  admitted.incrementAndGet();
+                }
+              }
+              return null;
+            });
+      }
+      start.countDown();
+    }
+
+    // Assert
+    assertEquals(50, admitted.get());
+  }
+}
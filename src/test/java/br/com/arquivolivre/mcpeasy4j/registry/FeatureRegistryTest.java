@@ -0,0 +1,142 @@
+package br.com.arquivolivre.mcpeasy4j.registry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.ListToolsResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class FeatureRegistryTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void testPagesThroughSortedCatalogWithCursors() throws Exception {
+    // Arrange
+    var registry = registry(4);
+    registry.publish(tools(10));
+
+    // Act
+    var names = new ArrayList<String>();
+    String cursor = null;
+    var pages = 0;
+    do {
+      var page = parse(registry, cursor);
+      page.tools().forEach(tool -> names.add(tool.name()));
+      cursor = page.nextCursor();
+      pages++;
+    } while (cursor != null);
+
+    // Assert
+    assertEquals(3, pages);
+    assertEquals(names.stream().sorted().toList(), names);
+    assertEquals(10, names.size());
+  }
+
+  @Test
+  void testZeroPageSizeReturnsEverythingAtOnce() throws Exception {
+    // Arrange
+    var registry = registry(0);
+    registry.publish(tools(25));
+
+    // Act
+    var page = parse(registry, null);
+
+    // Assert
+    assertEquals(25, page.tools().size());
+    assertNull(page.nextCursor());
+  }
+
+  @Test
+  void testCachesPagesUntilRepublished() {
+    // Arrange
+    var registry = registry(5);
+    registry.publish(tools(8));
+
+    // Act
+    var first = registry.page(null);
+    var again = registry.page(null);
+    registry.publish(tools(9));
+    var republished = registry.page(null);
+
+    // Assert
+    assertSame(first, again);
+    assertNotSame(first, republished);
+    assertEquals(2, registry.version());
+    assertEquals(9, registry.size());
+  }
+
+  @Test
+  void testCursorSurvivesRepublish() throws Exception {
+    // Arrange
+    var registry = registry(3);
+    registry.publish(tools(6));
+    var cursor = parse(registry, null).nextCursor();
+
+    // Act: a tool sorting before the cursor is added between two page requests
+    var republished = new ArrayList<>(tools(6));
+    republished.add(tool("tool-000-new"));
+    registry.publish(republished);
+    var page = parse(registry, cursor);
+
+    // Assert
+    assertEquals(
+        List.of("tool-03", "tool-04", "tool-05"),
+        page.tools().stream().map(McpSchema.Tool::name).toList());
+  }
+
+  @Test
+  void testFindsEntriesByKey() {
+    // Arrange
+    var registry = registry(2);
+    registry.publish(tools(3));
+
+    // Act & Assert
+    assertEquals("tool-01", registry.find("tool-01").name());
+    assertNull(registry.find("missing"));
+  }
+
+  @Test
+  void testRejectsMalformedCursorAndUnpublishedRegistry() {
+    // Arrange
+    var registry = registry(2);
+
+    // Act & Assert
+    assertFalse(registry.isPublished());
+    assertThrows(IllegalStateException.class, () -> registry.page(null));
+    registry.publish(tools(3));
+    assertThrows(IllegalArgumentException.class, () -> registry.page("not base64!"));
+    assertThrows(IllegalArgumentException.class, () -> registry(-1));
+  }
+
+  private FeatureRegistry<McpSchema.Tool> registry(int pageSize) {
+    return new FeatureRegistry<>(
+        McpSchema.Tool::name, ListToolsResult::new, objectMapper, pageSize);
+  }
+
+  private ListToolsResult parse(FeatureRegistry<McpSchema.Tool> registry, String cursor)
+      throws Exception {
+    var raw = (String) registry.page(cursor).rawValue();
+    return objectMapper.readValue(raw, ListToolsResult.class);
+  }
+
+  private static List<McpSchema.Tool> tools(int count) {
+    // Published in reverse so that sorting is observable
+    return IntStream.range(0, count)
+        .mapToObj(i -> tool(String.format("tool-%02d", count - 1 - i)))
+        .toList();
+  }
+
+  private static McpSchema.Tool tool(String name) {
+    var schema = new McpSchema.JsonSchema("object", null, null, null, null, null);
+    return McpSchema.Tool.builder()
+        .name(name)
+        .description("Tool " + name)
+        .inputSchema(schema)
+        .build();
+  }
+}
@@ -3,6 +3,7 @@ package br.com.arquivolivre.mcpeasy4j.scanner;
 import static org.junit.jupiter.api.Assertions.*;
 
 import br.com.arquivolivre.mcpeasy4j.annotation.*;
+import java.util.ArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -28,6 +29,8 @@ class AnnotationScannerTest {
     var echoTool = tools.stream().filter(t -> t.name().equals("echo")).findFirst().orElse(null);
     assertNotNull(echoTool);
     assertEquals("Echoes a message", echoTool.description());
+    // Plain values are returned as text, without an output schema
+    assertNull(echoTool.outputSchema());
   }
 
   @Test
@@ -65,6 +68,28 @@ class AnnotationScannerTest {
     assertEquals("add", addTool.name());
   }
 
+  @Test
+  void testScanAllKeepsTheOrderOfInstances() {
+    // Arrange
+    var instances = new ArrayList<Object>();
+    for (var i = 0; i < 64; i++) {
+      instances.add(i % 2 == 0 ? new TestServer() : new ClasspathScannerTest.PricingTools());
+    }
+
+    // Act
+    var scans = scanner.scanAll(instances);
+
+    // Assert
+    assertEquals(64, scans.size());
+    for (var i = 0; i < scans.size(); i++) {
+      var scan = scans.get(i);
+      assertSame(instances.get(i), scan.instance());
+      assertEquals(i % 2 == 0 ? 1 : 0, scan.prompts().size());
+      assertEquals(1, scan.resources().size());
+      assertSame(instances.get(i), scan.tools().get(0).instance());
+    }
+  }
+
   static class TestServer {
     @Tool(name = "echo", description = "Echoes a message")
     public String echo(@Property(name = "message") String message) {
@@ -0,0 +1,109 @@
+package br.com.arquivolivre.mcpeasy4j.scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.Resource;
+import br.com.arquivolivre.mcpeasy4j.annotation.Tool;
+import br.com.arquivolivre.mcpeasy4j.annotation.ToolComponent;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClasspathScannerTest {
+
+  private static final String PACKAGE = ClasspathScannerTest.class.getPackageName();
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testFindsAnnotatedClassesInDirectories() {
+    // Act
+    var components = new ClasspathScanner().findComponents(List.of(PACKAGE));
+
+    // Assert: unannotated classes are left out, the rest is sorted by name
+    assertEquals(List.of(InventoryTools.class, PricingTools.class), components);
+  }
+
+  @Test
+  void testFindsAnnotatedClassesInJarFiles() throws Exception {
+    // Arrange
+    var jar = tempDir.resolve("components.jar");
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      var directory = new StringBuilder();
+      for (var segment : PACKAGE.split("\\.")) {
+        directory.append(segment).append('/');
+        out.putNextEntry(new JarEntry(directory.toString()));
+      }
+      for (var type : List.of(InventoryTools.class, PricingTools.class, NotAComponent.class)) {
+        var entry = type.getName().replace('.', '/') + ".class";
+        out.putNextEntry(new JarEntry(entry));
+        try (var in = getClass().getClassLoader().getResourceAsStream(entry)) {
+          in.transferTo(out);
+        }
+      }
+    }
+
+    // Act
+    List<Class<?>> components;
+    try (var loader = new JarOnlyClassLoader(jar.toUri().toURL(), getClass().getClassLoader())) {
+      components = new ClasspathScanner(loader).findComponents(List.of(PACKAGE));
+    }
+
+    // Assert
+    assertEquals(List.of(InventoryTools.class, PricingTools.class), components);
+  }
+
+  @Test
+  void testReturnsNothingForUnknownPackage() {
+    // Act & Assert
+    assertTrue(new ClasspathScanner().findComponents(List.of("com.example.missing")).isEmpty());
+  }
+
+  /** Lists resources from its jar only, while loading classes through its parent. */
+  private static final class JarOnlyClassLoader extends URLClassLoader {
+    JarOnlyClassLoader(URL jar, ClassLoader parent) {
+      super(new URL[] {jar}, parent);
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+      return findResources(name);
+    }
+  }
+
+  @ToolComponent
+  public static class InventoryTools {
+    @Tool(description = "Units in stock")
+    public int stock(String sku) {
+      return 7;
+    }
+  }
+
+  @ToolComponent
+  public static class PricingTools {
+    @Tool(description = "Unit price")
+    public double price(String sku) {
+      return 9.99;
+    }
+
+    @Resource(uri = "pricing://currencies", description = "Supported currencies")
+    public List<String> currencies() {
+      return List.of("BRL", "USD");
+    }
+  }
+
+  public static class NotAComponent {
+    @Tool(description = "Never registered")
+    public String ignored() {
+      return "ignored";
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package br.com.arquivolivre.mcpeasy4j.schema;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SampleArgumentsTest {
+
+  @Test
+  void testGeneratesValuesOfEachType() {
+    // Arrange
+    var properties = new LinkedHashMap<String, Object>();
+    properties.put("name", Map.of("type", "string"));
+    properties.put("count", Map.of("type", "integer"));
+    properties.put("ratio", Map.of("type", "number"));
+    properties.put("enabled", Map.of("type", "boolean"));
+    properties.put("tags", Map.of("type", "array"));
+    properties.put("options", Map.of("type", "object"));
+    properties.put("since", Map.of("type", "string", "format", "date-time"));
+    properties.put("owner", Map.of("type", List.of("null", "string"), "format", "email"));
+
+    // Act
+    var arguments = SampleArguments.of(schema(properties));
+
+    // Assert
+    assertEquals(
+        List.of("name", "count", "ratio", "enabled", "tags", "options", "since", "owner"),
+        List.copyOf(arguments.keySet()));
+    assertEquals("sample", arguments.get("name"));
+    assertEquals(1, arguments.get("count"));
+    assertEquals(1.0, arguments.get("ratio"));
+    assertEquals(true, arguments.get("enabled"));
+    assertEquals(List.of(), arguments.get("tags"));
+    assertEquals(Map.of(), arguments.get("options"));
+    assertEquals("2024-01-01T00:00:00Z", arguments.get("since"));
+    assertEquals("user@example.com", arguments.get("owner"));
+  }
+
+  @Test
+  void testPrefersExamplesThenEnumConstants() {
+    // Arrange
+    var properties = new LinkedHashMap<String, Object>();
+    properties.put("city", Map.of("type", "string", "examples", List.of("Lisbon", "Porto")));
+    properties.put("unit", Map.of("type", "string", "enum", List.of("celsius", "fahrenheit")));
+
+    // Act
+    var arguments = SampleArguments.of(schema(properties));
+
+    // Assert
+    assertEquals(Map.of("city", "Lisbon", "unit", "celsius"), arguments);
+  }
+
+  @Test
+  void testReturnsNoArgumentsWithoutProperties() {
+    // Act & Assert
+    assertTrue(SampleArguments.of(null).isEmpty());
+    assertTrue(
+        SampleArguments.of(new McpSchema.JsonSchema("object", null, null, null, null, null))
+            .isEmpty());
+  }
+
+  private static McpSchema.JsonSchema schema(Map<String, Object> properties) {
+    return new McpSchema.JsonSchema("object", properties, List.of(), null, null, null);
+  }
+}
@@ -2,9 +2,15 @@ package br.com.arquivolivre.mcpeasy4j.schema;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import br.com.arquivolivre.mcpeasy4j.annotation.Example;
 import br.com.arquivolivre.mcpeasy4j.annotation.Property;
+import br.com.arquivolivre.mcpeasy4j.logging.McpLogger;
+import br.com.arquivolivre.mcpeasy4j.progress.ProgressReporter;
 import io.modelcontextprotocol.spec.McpSchema;
 import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 /** Tests for SchemaGenerator. */
@@ -74,6 +80,82 @@ class SchemaGeneratorTest {
     assertFalse(schema.required().contains("optional"));
   }
 
+  @Test
+  void testGenerateSchema_SkipsInjectedParameters() throws Exception {
+    Method method =
+        TestClass.class.getMethod(
+            "testMethodWithProgress", String.class, ProgressReporter.class, McpLogger.class);
+    McpSchema.JsonSchema schema = generator.generateSchema(method);
+
+    assertEquals(1, schema.properties().size());
+    assertTrue(schema.properties().containsKey("path"));
+    assertFalse(schema.required().contains("progress"));
+    assertFalse(schema.required().contains("logger"));
+  }
+
+  @Test
+  void testGenerateSchema_Examples() throws Exception {
+    Method method =
+        TestClass.class.getMethod("testMethodWithExamples", String.class, int.class, List.class);
+    McpSchema.JsonSchema schema = generator.generateSchema(method);
+
+    // Strings are taken as they are, other types are parsed as JSON
+    assertEquals(List.of("Lisbon"), ((Map<?, ?>) schema.properties().get("city")).get("examples"));
+    assertEquals(List.of(3), ((Map<?, ?>) schema.properties().get("days")).get("examples"));
+    assertEquals(
+        List.of(List.of("rain", "wind")),
+        ((Map<?, ?>) schema.properties().get("alerts")).get("examples"));
+  }
+
+  @Test
+  void testGenerateSchema_InvalidExample() throws Exception {
+    Method method = TestClass.class.getMethod("testMethodWithInvalidExample", int.class);
+
+    var exception =
+        assertThrows(IllegalArgumentException.class, () -> generator.generateSchema(method));
+    assertTrue(exception.getMessage().contains("Invalid @Example"));
+  }
+
+  @Test
+  void testGenerateOutputSchema_Record() throws Exception {
+    Method method = TestClass.class.getMethod("lookup");
+    var schema = generator.generateOutputSchema(method);
+
+    assertNotNull(schema);
+    assertEquals("object", schema.get("type"));
+    var properties = (Map<?, ?>) schema.get("properties");
+    assertEquals(List.of("name", "age", "tags", "createdAt"), List.copyOf(properties.keySet()));
+    assertEquals(Map.of("type", List.of("string", "null")), properties.get("name"));
+    assertEquals(Map.of("type", "integer"), properties.get("age"));
+    assertEquals(Map.of("type", List.of("array", "null")), properties.get("tags"));
+    // Types without a known JSON form accept any value
+    assertEquals(Map.of(), properties.get("createdAt"));
+  }
+
+  @Test
+  void testGenerateOutputSchema_MapAndBean() throws Exception {
+    assertEquals(
+        Map.of("type", "object"),
+        generator.generateOutputSchema(TestClass.class.getMethod("stats")));
+    assertEquals(
+        Map.of("type", "object"),
+        generator.generateOutputSchema(TestClass.class.getMethod("bean")));
+  }
+
+  @Test
+  void testGenerateOutputSchema_NonObjectTypes() throws Exception {
+    assertNull(generator.generateOutputSchema(TestClass.class.getMethod("text")));
+    assertNull(generator.generateOutputSchema(TestClass.class.getMethod("count")));
+    assertNull(generator.generateOutputSchema(TestClass.class.getMethod("names")));
+    assertNull(generator.generateOutputSchema(TestClass.class.getMethod("anything")));
+  }
+
+  record Person(String name, int age, List<String> tags, Instant createdAt) {}
+
+  static class Bean {
+    public String value = "value";
+  }
+
   static class TestClass {
     public void testMethod(
         @Property(name = "name", description = "Name field") String name,
@@ -85,5 +167,45 @@ class SchemaGeneratorTest {
             String required,
         @Property(name = "optional", description = "Optional field", required = false)
             String optional) {}
+
+    public void testMethodWithProgress(
+        @Property(name = "path", description = "Path", required = true) String path,
+        @Property(name = "progress", required = true) ProgressReporter progress,
+        @Property(name = "logger", required = true) McpLogger logger) {}
+
+    public void testMethodWithExamples(
+        @Property(name = "city") @Example("Lisbon") String city,
+        @Property(name = "days") @Example("3") int days,
+        @Property(name = "alerts") @Example("[\"rain\", \"wind\"]") List<String> alerts) {}
+
+    public void testMethodWithInvalidExample(@Property(name = "days") @Example("three") int days) {}
+
+    public Person lookup() {
+      return null;
+    }
+
+    public Map<String, Object> stats() {
+      return Map.of();
+    }
+
+    public Bean bean() {
+      return new Bean();
+    }
+
+    public String text() {
+      return "";
+    }
+
+    public int count() {
+      return 0;
+    }
+
+    public List<String> names() {
+      return List.of();
+    }
+
+    public Object anything() {
+      return null;
+    }
   }
 }
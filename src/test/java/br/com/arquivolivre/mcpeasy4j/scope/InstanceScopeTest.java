@@ -0,0 +1,144 @@
+package br.com.arquivolivre.mcpeasy4j.scope;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import br.com.arquivolivre.mcpeasy4j.annotation.Scope;
+import br.com.arquivolivre.mcpeasy4j.annotation.ToolComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class InstanceScopeTest {
+
+  @Test
+  void testUnannotatedClassesAreSingletons() {
+    // Arrange
+    var prototype = new Object();
+    var scope = InstanceScope.of(prototype);
+
+    // Act & Assert
+    assertSame(prototype, scope.acquire());
+    assertSame(prototype, scope.acquire());
+  }
+
+  @Test
+  void testPerCallScopeCreatesAnInstanceForEveryCall() {
+    // Arrange
+    var prototype = new PerCallComponent();
+    var scope = InstanceScope.of(prototype);
+
+    // Act
+    var first = scope.acquire();
+    var second = scope.acquire();
+
+    // Assert
+    assertInstanceOf(PerCallComponent.class, first);
+    assertNotSame(prototype, first);
+    assertNotSame(first, second);
+  }
+
+  @Test
+  void testPooledScopeCreatesInstancesUpToThePoolSize() {
+    // Arrange
+    var prototype = new PooledServer();
+    var scope = (PooledScope) InstanceScope.of(prototype);
+
+    // Act
+    var first = scope.acquire();
+    var second = scope.acquire();
+    scope.release(first);
+    scope.release(second);
+    var reused = scope.acquire();
+
+    // Assert
+    assertSame(prototype, first);
+    assertNotSame(first, second);
+    assertTrue(reused == first || reused == second, "An idle instance is borrowed again");
+    assertEquals(2, scope.size());
+    assertEquals(1, scope.idleCount());
+  }
+
+  @Test
+  void testPooledScopeWaitsForAnInstanceOnceAllAreInUse() throws Exception {
+    // Arrange
+    var scope = (PooledScope) InstanceScope.of(new PooledServer());
+    var first = scope.acquire();
+    scope.acquire();
+    var waiting = new CompletableFuture<Object>();
+    var thread = Thread.ofPlatform().start(() -> waiting.complete(scope.acquire()));
+    while (thread.getState() != Thread.State.WAITING) {
+      Thread.sleep(1);
+    }
+
+    // Act
+    assertFalse(waiting.isDone(), "Every instance is in use");
+    scope.release(first);
+
+    // Assert
+    assertSame(first, waiting.get(2, TimeUnit.SECONDS));
+    assertEquals(2, scope.size());
+  }
+
+  @Test
+  void testPooledScopeNeverLendsAnInstanceToTwoCallsAtOnce() throws Exception {
+    // Arrange
+    var scope = InstanceScope.of(new PooledServer());
+    var inUse = Collections.synchronizedMap(new IdentityHashMap<Object, Boolean>());
+    var shared = new AtomicBoolean();
+    var start = new CountDownLatch(1);
+    var threads = new ArrayList<Thread>();
+    for (var t = 0; t < 8; t++) {
+      threads.add(
+          Thread.ofPlatform()
+              .start(
+                  () -> {
+                    try {
+                      start.await();
+                    } catch (InterruptedException e) {
+                      return;
+                    }
+                    for (var i = 0; i < 10_000; i++) {
+                      var instance = scope.acquire();
+                      if (inUse.put(instance, Boolean.TRUE) != null) {
+                        shared.set(true);
+                      }
+                      inUse.remove(instance);
+                      scope.release(instance);
+                    }
+                  }));
+    }
+
+    // Act
+    start.countDown();
+    for (var thread : threads) {
+      thread.join();
+    }
+
+    // Assert
+    assertFalse(shared.get());
+  }
+
+  @Test
+  void testRejectsPooledClassWithoutPublicConstructor() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class, () -> InstanceScope.of(new PrivateConstructorComponent()));
+  }
+
+  @ToolComponent(scope = Scope.PER_CALL)
+  public static class PerCallComponent {}
+
+  @McpServer(name = "pooled", scope = Scope.POOLED, poolSize = 2)
+  public static class PooledServer {}
+
+  @ToolComponent(scope = Scope.POOLED)
+  public static class PrivateConstructorComponent {
+    private PrivateConstructorComponent() {}
+  }
+}
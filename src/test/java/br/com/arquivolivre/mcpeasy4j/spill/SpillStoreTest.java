@@ -0,0 +1,146 @@
+package br.com.arquivolivre.mcpeasy4j.spill;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.arquivolivre.mcpeasy4j.annotation.McpServer;
+import br.com.arquivolivre.mcpeasy4j.annotation.Spill;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SpillStoreTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private SpillStore store;
+
+  @AfterEach
+  void tearDown() {
+    if (store != null) {
+      store.close();
+    }
+  }
+
+  @Test
+  void testStoresContentUnderItsDigestAndReadsItBack() throws Exception {
+    // Arrange
+    store = create(Defaults.class);
+
+    // Act
+    var first = put("{\"answer\":42}");
+    var second = put("{\"answer\":42}");
+
+    // Assert: the same content is stored once
+    assertEquals(64, first.digest().length());
+    assertEquals(first, second);
+    assertEquals(13, first.size());
+    assertEquals(13, store.totalBytes());
+    assertEquals(first, store.find(first.digest()));
+    assertEquals("{\"answer\":42}", store.read(first));
+    assertNull(store.find("unknown"));
+  }
+
+  @Test
+  void testExpiresResultsAfterTheirTimeToLive() throws Exception {
+    // Arrange
+    store = create(Defaults.class);
+    var result = put("short-lived");
+
+    // Act
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+    // Assert
+    assertNull(store.find(result.digest()));
+    assertEquals(0, store.totalBytes());
+    assertThrows(NoSuchFileException.class, () -> store.read(result));
+  }
+
+  @Test
+  void testEvictsOldestResultsOverTheTotalSize() throws Exception {
+    // Arrange
+    store = create(Small.class);
+    var oldest = put("0123456789");
+    var middle = put("abcdefghij");
+
+    // Act
+    var newest = put("ABCDEFGHIJ");
+
+    // Assert
+    assertNull(store.find(oldest.digest()));
+    assertEquals(middle, store.find(middle.digest()));
+    assertEquals(newest, store.find(newest.digest()));
+    assertEquals(20, store.totalBytes());
+  }
+
+  @Test
+  void testCloseDeletesStoredResults() throws Exception {
+    // Arrange
+    store = create(Small.class);
+    var file = Path.of("target/test-spill").resolve(put("temporary").digest());
+    assertTrue(Files.isRegularFile(file));
+
+    // Act
+    store.close();
+
+    // Assert: a configured directory is kept, only its results are deleted
+    assertFalse(Files.exists(file));
+    assertTrue(Files.isDirectory(file.getParent()));
+  }
+
+  @Test
+  void testSinkKeepsCommittedContentAndDiscardsTheRest() throws Exception {
+    // Arrange
+    store = create(Small.class);
+    var before = fileCount();
+
+    // Act
+    SpilledResult kept;
+    try (var sink = store.open("text/plain")) {
+      sink.stream().write("kept".getBytes(StandardCharsets.UTF_8));
+      kept = sink.commit();
+    }
+    try (var sink = store.open("text/plain")) {
+      sink.stream().write("abandoned".getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Assert
+    assertEquals("kept", store.read(kept));
+    assertEquals(4, store.totalBytes());
+    assertEquals(before + 1, fileCount(), "The abandoned content leaves no file behind");
+  }
+
+  @Test
+  void testRejectsNonPositiveSettings() {
+    assertThrows(IllegalArgumentException.class, () -> create(Disabled.class));
+  }
+
+  private SpilledResult put(String content) throws Exception {
+    return store.put(
+        "application/json", out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private long fileCount() throws Exception {
+    try (var files = Files.list(Path.of("target/test-spill"))) {
+      return files.count();
+    }
+  }
+
+  private SpillStore create(Class<?> server) throws Exception {
+    return new SpillStore(server.getAnnotation(McpServer.class).spill(), clock::get);
+  }
+
+  @McpServer(name = "defaults", spill = @Spill(thresholdBytes = 1, ttlSeconds = 60))
+  static class Defaults {}
+
+  @McpServer(
+      name = "small",
+      spill = @Spill(thresholdBytes = 1, maxTotalBytes = 25, directory = "target/test-spill"))
+  static class Small {}
+
+  @McpServer(name = "disabled")
+  static class Disabled {}
+}
@@ -0,0 +1,74 @@
+package br.com.arquivolivre.mcpeasy4j.tracing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OtlpJsonFileSpanExporterTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testWritesOneOtlpJsonLinePerBatch() throws Exception {
+    // Arrange
+    var file = tempDir.resolve("traces.jsonl");
+    var exporter = new OtlpJsonFileSpanExporter(file, "my-server");
+    var root =
+        new SpanData(
+            "4bf92f3577b34da6a3ce929d0e0e4736",
+            "00f067aa0ba902b7",
+            null,
+            "tools/call echo",
+            SpanData.Kind.SERVER,
+            1_000L,
+            5_000L,
+            Map.of("mcp.tool.name", "echo"),
+            "java.lang.IllegalStateException: boom");
+    var child =
+        new SpanData(
+            "4bf92f3577b34da6a3ce929d0e0e4736",
+            "1111111111111111",
+            "00f067aa0ba902b7",
+            "execute",
+            SpanData.Kind.INTERNAL,
+            2_000L,
+            3_000L,
+            Map.of(),
+            null);
+
+    // Act
+    exporter.export(List.of(child, root));
+    exporter.export(List.of(root));
+    exporter.shutdown();
+
+    // Assert
+    var lines = Files.readAllLines(file);
+    assertEquals(2, lines.size());
+    var request = new ObjectMapper().readTree(lines.get(0));
+    var resource = request.get("resourceSpans").get(0);
+    var serviceName = resource.get("resource").get("attributes").get(0);
+    assertEquals("service.name", serviceName.get("key").asText());
+    assertEquals("my-server", serviceName.get("value").get("stringValue").asText());
+
+    var spans = resource.get("scopeSpans").get(0).get("spans");
+    assertEquals(2, spans.size());
+    var childNode = spans.get(0);
+    assertEquals("00f067aa0ba902b7", childNode.get("parentSpanId").asText());
+    assertEquals(1, childNode.get("kind").asInt());
+    assertFalse(childNode.has("status"));
+    var rootNode = spans.get(1);
+    assertFalse(rootNode.has("parentSpanId"));
+    assertEquals(2, rootNode.get("kind").asInt());
+    assertEquals("1000", rootNode.get("startTimeUnixNano").asText());
+    assertEquals("5000", rootNode.get("endTimeUnixNano").asText());
+    assertEquals(
+        "echo", rootNode.get("attributes").get(0).get("value").get("stringValue").asText());
+    assertEquals(2, rootNode.get("status").get("code").asInt());
+  }
+}
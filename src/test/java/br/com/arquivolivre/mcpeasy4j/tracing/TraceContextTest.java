@@ -0,0 +1,52 @@
+package br.com.arquivolivre.mcpeasy4j.tracing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TraceContextTest {
+
+  private static final String TRACEPARENT =
+      "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+  @Test
+  void testParseValidTraceparent() {
+    var context = TraceContext.parse(TRACEPARENT);
+
+    assertNotNull(context);
+    assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.traceId());
+    assertEquals("00f067aa0ba902b7", context.spanId());
+    assertTrue(context.sampled());
+    assertEquals(TRACEPARENT, context.traceparent());
+    assertEquals(0xa3ce929d0e0e4736L, context.traceIdLow());
+  }
+
+  @Test
+  void testParseUnsampledTraceparent() {
+    var context = TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00");
+
+    assertNotNull(context);
+    assertFalse(context.sampled());
+  }
+
+  @Test
+  void testParseRejectsMalformedValues() {
+    assertNull(TraceContext.parse("garbage"));
+    assertNull(TraceContext.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01"));
+    assertNull(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+    assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01"));
+  }
+
+  @Test
+  void testFromMeta() {
+    var meta = new HashMap<String, Object>();
+    meta.put("traceparent", TRACEPARENT);
+
+    assertEquals(TraceContext.parse(TRACEPARENT), TraceContext.fromMeta(meta));
+    assertNull(TraceContext.fromMeta(null));
+    assertNull(TraceContext.fromMeta(Map.of()));
+    assertNull(TraceContext.fromMeta(Map.of("traceparent", 42)));
+  }
+}
@@ -0,0 +1,166 @@
+package br.com.arquivolivre.mcpeasy4j.tracing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class TracerTest {
+
+  private static final String TRACEPARENT =
+      "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+  @Test
+  void testExportsSpanWithChildrenOnShutdown() {
+    // Arrange
+    var exporter = new CollectingExporter();
+    var tracer = new Tracer(Sampler.parentBasedRatio(1.0), exporter);
+
+    // Act
+    var span = tracer.startSpan("tools/call echo", null);
+    span.setAttribute("mcp.tool.name", "echo");
+    span.addChild("execute", 1_000);
+    span.end();
+    span.end();
+    tracer.shutdown();
+
+    // Assert
+    assertTrue(exporter.shutdown);
+    assertEquals(2, exporter.spans.size());
+    var child = exporter.spans.get(0);
+    var root = exporter.spans.get(1);
+    assertEquals("tools/call echo", root.name());
+    assertEquals(SpanData.Kind.SERVER, root.kind());
+    assertNull(root.parentSpanId());
+    assertEquals(32, root.traceId().length());
+    assertEquals(16, root.spanId().length());
+    assertEquals(Map.of("mcp.tool.name", "echo"), root.attributes());
+    assertEquals(SpanData.Kind.INTERNAL, child.kind());
+    assertEquals(root.traceId(), child.traceId());
+    assertEquals(root.spanId(), child.parentSpanId());
+    assertEquals(1_000, child.endEpochNanos() - child.startEpochNanos());
+  }
+
+  @Test
+  void testContinuesClientTrace() {
+    // Arrange
+    var exporter = new CollectingExporter();
+    var tracer = new Tracer(Sampler.parentBasedRatio(1.0), exporter);
+
+    // Act
+    var span = tracer.startSpan("tools/call echo", Map.of("traceparent", TRACEPARENT));
+    span.recordError(new IllegalStateException("boom"));
+    span.end();
+    tracer.shutdown();
+
+    // Assert
+    var root = exporter.spans.get(0);
+    assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", root.traceId());
+    assertEquals("00f067aa0ba902b7", root.parentSpanId());
+    assertEquals("java.lang.IllegalStateException: boom", root.error());
+  }
+
+  @Test
+  void testUnsampledRequestsGetNoopSpan() {
+    // Arrange
+    var exporter = new CollectingExporter();
+    var tracer = new Tracer(Sampler.parentBasedRatio(0.0), exporter);
+    var unsampledParent = Map.<String, Object>of("traceparent", TRACEPARENT.replace("-01", "-00"));
+
+    // Act
+    var span = tracer.startSpan("tools/call echo", null);
+    var childOfUnsampled = tracer.startSpan("tools/call echo", unsampledParent);
+    var childOfSampled = tracer.startSpan("tools/call echo", Map.of("traceparent", TRACEPARENT));
+    tracer.shutdown();
+
+    // Assert
+    assertSame(Span.NOOP, span);
+    assertSame(Span.NOOP, childOfUnsampled);
+    assertTrue(childOfSampled.isRecording());
+    assertFalse(Span.NOOP.setAttribute("key", "value").isRecording());
+  }
+
+  @Test
+  void testRatioSamplerIsDeterministicPerTraceId() {
+    var sampler = Sampler.parentBasedRatio(0.5);
+    var low = 1L;
+    var high = 0xffff_ffff_ffff_ffffL;
+
+    assertTrue(sampler.shouldSample(null, low));
+    assertFalse(sampler.shouldSample(null, high));
+    assertEquals(sampler.shouldSample(null, low), sampler.shouldSample(null, low));
+  }
+
+  @Test
+  void testRatioSamplerSamplesRoughlyTheRatio() {
+    var tracer = new Tracer(Sampler.parentBasedRatio(0.25), new CollectingExporter());
+    var sampled = 0;
+    for (var i = 0; i < 10_000; i++) {
+      if (tracer.startSpan("span", null).isRecording()) {
+        sampled++;
+      }
+    }
+    tracer.shutdown();
+
+    assertTrue(sampled > 2_000 && sampled < 3_000, "sampled " + sampled);
+  }
+
+  @Test
+  void testDropsSpansWhenQueueIsFull() throws Exception {
+    // Arrange
+    var release = new CountDownLatch(1);
+    var exporter =
+        new CollectingExporter() {
+          @Override
+          public void export(List<SpanData> spans) {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            super.export(spans);
+          }
+        };
+    var tracer = new Tracer(Sampler.parentBasedRatio(1.0), exporter, 4, 1, Duration.ofMillis(10));
+
+    // Act
+    for (var i = 0; i < 20; i++) {
+      tracer.startSpan("span-" + i, null).end();
+    }
+    release.countDown();
+    tracer.shutdown();
+
+    // Assert
+    assertTrue(tracer.dropped() > 0);
+    assertEquals(20, exporter.spans.size() + tracer.dropped());
+  }
+
+  @Test
+  void testNoopTracerNeverSamples() {
+    var span = Tracer.NOOP.startSpan("tools/call echo", Map.of("traceparent", TRACEPARENT));
+
+    assertSame(Span.NOOP, span);
+    Tracer.NOOP.shutdown();
+    assertEquals(0, Tracer.NOOP.dropped());
+  }
+
+  /** Exporter keeping every span in memory. */
+  private static class CollectingExporter implements SpanExporter {
+    final List<SpanData> spans = new CopyOnWriteArrayList<>();
+    volatile boolean shutdown;
+
+    @Override
+    public void export(List<SpanData> batch) {
+      spans.addAll(batch);
+    }
+
+    @Override
+    public void shutdown() {
+      shutdown = true;
+    }
+  }
+}
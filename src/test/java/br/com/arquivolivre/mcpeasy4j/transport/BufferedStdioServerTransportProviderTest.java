@@ -0,0 +1,218 @@
+package br.com.arquivolivre.mcpeasy4j.transport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
+import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpServerTransport;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+class BufferedStdioServerTransportProviderTest {
+
+  private ObjectMapper objectMapper;
+  private McpServerSession session;
+  private AtomicReference<McpServerTransport> transportRef;
+  private McpServerSession.Factory factory;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    session = mock(McpServerSession.class);
+    when(session.handle(any())).thenReturn(Mono.empty());
+    transportRef = new AtomicReference<>();
+    factory =
+        transport -> {
+          transportRef.set(transport);
+          return session;
+        };
+  }
+
+  @Test
+  void testFramesMessagesAcrossBufferBoundaries() throws Exception {
+    // Arrange - a tiny buffer forces compaction and growth
+    var input =
+        """
+        {"jsonrpc":"2.0","id":1,"method":"tools/list","params":{}}\r
+        {"jsonrpc":"2.0","method":"notifications/initialized"}
+
+        {"jsonrpc":"2.0","id":2,"result":{"ok":true}}
+        """;
+    var provider =
+        new BufferedStdioServerTransportProvider(
+            objectMapper,
+            Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))),
+            new ByteArrayOutputStream(),
+            8,
+            4);
+
+    // Act
+    provider.setSessionFactory(factory);
+
+    // Assert - the reader closes the session at EOF after dispatching everything
+    verify(session, timeout(2000)).close();
+    var captor = ArgumentCaptor.forClass(JSONRPCMessage.class);
+    verify(session, times(3)).handle(captor.capture());
+    var messages = captor.getAllValues();
+
+    var request = assertInstanceOf(McpSchema.JSONRPCRequest.class, messages.get(0));
+    assertEquals("tools/list", request.method());
+    assertEquals(1, request.id());
+    var notification = assertInstanceOf(McpSchema.JSONRPCNotification.class, messages.get(1));
+    assertEquals("notifications/initialized", notification.method());
+    assertInstanceOf(McpSchema.JSONRPCResponse.class, messages.get(2));
+  }
+
+  @Test
+  void testWritesNewlineDelimitedMessages() throws Exception {
+    // Arrange - keep the input open so the transport stays alive
+    var pipe = new PipedOutputStream();
+    var output = new ByteArrayOutputStream();
+    var provider =
+        new BufferedStdioServerTransportProvider(objectMapper, new PipedInputStream(pipe), output);
+    provider.setSessionFactory(factory);
+    var transport = transportRef.get();
+
+    // Act
+    transport
+        .sendMessage(new McpSchema.JSONRPCResponse("2.0", 1, Map.of("text", "a\nb"), null))
+        .block();
+    transport
+        .sendMessage(new McpSchema.JSONRPCNotification("2.0", "notifications/test", null))
+        .block();
+    transport.closeGracefully().block();
+
+    // Assert
+    var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    var first = objectMapper.readTree(lines[0]);
+    assertEquals("a\nb", first.get("result").get("text").asText());
+    assertEquals("notifications/test", objectMapper.readTree(lines[1]).get("method").asText());
+    pipe.close();
+  }
+
+  @Test
+  void testSendAfterCloseFails() throws Exception {
+    var pipe = new PipedOutputStream();
+    var provider =
+        new BufferedStdioServerTransportProvider(
+            objectMapper, new PipedInputStream(pipe), new ByteArrayOutputStream());
+    provider.setSessionFactory(factory);
+    var transport = transportRef.get();
+
+    transport.close();
+
+    var message = new McpSchema.JSONRPCNotification("2.0", "notifications/test", null);
+    assertThrows(IllegalStateException.class, () -> transport.sendMessage(message).block());
+    pipe.close();
+  }
+
+  @Test
+  void testClosesSessionOnOversizedMessage() {
+    // Arrange - a message with no newline in sight
+    var input = "{\"jsonrpc\":\"2.0\",\"method\":\"" + "x".repeat(64);
+    var provider =
+        new BufferedStdioServerTransportProvider(
+            objectMapper,
+            Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))),
+            new ByteArrayOutputStream(),
+            8,
+            4,
+            32);
+
+    // Act
+    provider.setSessionFactory(factory);
+
+    // Assert
+    verify(session, timeout(2000)).close();
+    verify(session, never()).handle(any());
+  }
+
+  @Test
+  void testBlockedSenderFailsWhenOutputBreaks() throws Exception {
+    // Arrange - the writer blocks on its first flush until released, then the pipe breaks
+    var writing = new CountDownLatch(1);
+    var broken = new CountDownLatch(1);
+    var output =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+          }
+
+          @Override
+          public void write(byte[] bytes, int offset, int length) throws IOException {
+            writing.countDown();
+            try {
+              broken.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            throw new IOException("Broken pipe");
+          }
+        };
+    var pipe = new PipedOutputStream();
+    var provider =
+        new BufferedStdioServerTransportProvider(
+            objectMapper, Channels.newChannel(new PipedInputStream(pipe)), output, 8, 1);
+    provider.setSessionFactory(factory);
+    var transport = transportRef.get();
+    var message = new McpSchema.JSONRPCNotification("2.0", "notifications/test", null);
+    transport.sendMessage(message).block();
+    assertTrue(writing.await(2, TimeUnit.SECONDS));
+    transport.sendMessage(message).block();
+    var blocked = CompletableFuture.runAsync(() -> transport.sendMessage(message).block());
+
+    // Act
+    broken.countDown();
+
+    // Assert
+    var e = assertThrows(ExecutionException.class, () -> blocked.get(2, TimeUnit.SECONDS));
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+    assertThrows(IllegalStateException.class, () -> transport.sendMessage(message).block());
+    pipe.close();
+  }
+
+  @Test
+  void testNotifyClientsWithoutSessionFails() {
+    var provider =
+        new BufferedStdioServerTransportProvider(
+            objectMapper, new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream());
+
+    assertThrows(
+        IllegalStateException.class, () -> provider.notifyClients("test", Map.of()).block());
+  }
+
+  @Test
+  void testRejectsNonPositiveBufferSizes() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new BufferedStdioServerTransportProvider(
+                objectMapper,
+                Channels.newChannel(new ByteArrayInputStream(new byte[0])),
+                new ByteArrayOutputStream(),
+                0,
+                1));
+  }
+}
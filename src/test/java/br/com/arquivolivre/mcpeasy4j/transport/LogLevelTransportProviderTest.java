@@ -0,0 +1,105 @@
+package br.com.arquivolivre.mcpeasy4j.transport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import br.com.arquivolivre.mcpeasy4j.logging.LogLevels;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpServerSession;
+import java.io.ByteArrayOutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+class LogLevelTransportProviderTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final LogLevels levels = new LogLevels();
+  private PipedOutputStream input;
+  private McpServerSession session;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    input = new PipedOutputStream();
+    session = mock(McpServerSession.class);
+    when(session.getId()).thenReturn("session-1");
+    when(session.handle(any())).thenReturn(Mono.empty());
+
+    var provider =
+        new LogLevelTransportProvider(
+            new BufferedStdioServerTransportProvider(
+                objectMapper, new PipedInputStream(input), new ByteArrayOutputStream()),
+            levels,
+            objectMapper);
+    provider.setSessionFactory(transport -> session);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    input.close();
+  }
+
+  @Test
+  void testRecordsLevelAndForwardsRequestToSession() throws Exception {
+    // Act
+    send(
+        "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"logging/setLevel\","
+            + "\"params\":{\"level\":\"debug\"}}");
+
+    // Assert
+    var captor = ArgumentCaptor.forClass(McpSchema.JSONRPCMessage.class);
+    verify(session, timeout(2000)).handle(captor.capture());
+    assertEquals(
+        McpSchema.METHOD_LOGGING_SET_LEVEL,
+        ((McpSchema.JSONRPCRequest) captor.getValue()).method());
+    assertEquals(McpSchema.LoggingLevel.DEBUG, levels.levelOf("session-1"));
+  }
+
+  @Test
+  void testIgnoresMalformedLevelAndOtherRequests() throws Exception {
+    // Act
+    send(
+        "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"logging/setLevel\","
+            + "\"params\":{\"level\":\"loud\"}}");
+    send("{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"tools/list\",\"params\":{}}");
+
+    // Assert
+    var captor = ArgumentCaptor.forClass(McpSchema.JSONRPCMessage.class);
+    verify(session, timeout(2000).times(2)).handle(captor.capture());
+    var methods =
+        captor.getAllValues().stream()
+            .map(message -> ((McpSchema.JSONRPCRequest) message).method())
+            .toList();
+    assertEquals(List.of("logging/setLevel", "tools/list"), methods);
+    assertEquals(LogLevels.DEFAULT_LEVEL, levels.levelOf("session-1"));
+  }
+
+  @Test
+  void testRegistersSessionForBroadcasts() throws Exception {
+    // Arrange: the session is created once the transport starts reading
+    when(session.sendNotification(any(), any())).thenReturn(Mono.empty());
+    send("{\"jsonrpc\":\"2.0\",\"id\":4,\"method\":\"ping\"}");
+    verify(session, timeout(2000)).handle(any());
+
+    // Act
+    levels.broadcast(McpSchema.LoggingLevel.WARNING, "circuit", () -> "opened");
+
+    // Assert
+    var captor = ArgumentCaptor.forClass(Object.class);
+    verify(session).sendNotification(eq(McpSchema.METHOD_NOTIFICATION_MESSAGE), captor.capture());
+    assertEquals("opened", ((McpSchema.LoggingMessageNotification) captor.getValue()).data());
+  }
+
+  private void send(String line) throws Exception {
+    input.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+    input.flush();
+  }
+}
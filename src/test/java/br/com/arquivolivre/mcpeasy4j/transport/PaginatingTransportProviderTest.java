@@ -0,0 +1,139 @@
+package br.com.arquivolivre.mcpeasy4j.transport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import br.com.arquivolivre.mcpeasy4j.registry.FeatureRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpServerSession;
+import java.io.ByteArrayOutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+class PaginatingTransportProviderTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+  private PipedOutputStream input;
+  private McpServerSession session;
+  private FeatureRegistry<McpSchema.Tool> tools;
+  private FeatureRegistry<McpSchema.Resource> resources;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    input = new PipedOutputStream();
+    session = mock(McpServerSession.class);
+    when(session.handle(any())).thenReturn(Mono.empty());
+    tools =
+        new FeatureRegistry<>(
+            McpSchema.Tool::name, McpSchema.ListToolsResult::new, objectMapper, 2);
+    resources =
+        new FeatureRegistry<>(
+            McpSchema.Resource::uri, McpSchema.ListResourcesResult::new, objectMapper, 2);
+
+    var provider =
+        new PaginatingTransportProvider(
+            new BufferedStdioServerTransportProvider(
+                objectMapper, new PipedInputStream(input), output),
+            tools,
+            resources);
+    provider.setSessionFactory(transport -> session);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    input.close();
+  }
+
+  @Test
+  void testAnswersListRequestsFromRegistryPages() throws Exception {
+    // Arrange
+    var schema = new McpSchema.JsonSchema("object", null, null, null, null, null);
+    tools.publish(
+        List.of("gamma", "alpha", "beta").stream()
+            .map(name -> McpSchema.Tool.builder().name(name).inputSchema(schema).build())
+            .toList());
+
+    // Act
+    send("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"tools/list\",\"params\":{}}");
+    var first = awaitResponse(1);
+    var cursor = first.get("result").get("nextCursor").asText();
+    send(
+        "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\",\"params\":{\"cursor\":\""
+            + cursor
+            + "\"}}");
+    var second = awaitResponse(2);
+
+    // Assert
+    var firstTools = first.get("result").get("tools");
+    assertEquals(2, firstTools.size());
+    assertEquals("alpha", firstTools.get(0).get("name").asText());
+    assertEquals("beta", firstTools.get(1).get("name").asText());
+    assertEquals("gamma", second.get("result").get("tools").get(0).get("name").asText());
+    assertFalse(second.get("result").has("nextCursor"));
+    verify(session, never()).handle(any());
+  }
+
+  @Test
+  void testRejectsMalformedCursor() throws Exception {
+    // Arrange
+    tools.publish(List.of());
+
+    // Act
+    send("{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"tools/list\",\"params\":{\"cursor\":\"%%\"}}");
+    var response = awaitResponse(3);
+
+    // Assert
+    assertEquals(McpSchema.ErrorCodes.INVALID_PARAMS, response.get("error").get("code").asInt());
+  }
+
+  @Test
+  void testForwardsOtherRequestsAndUnpublishedListsToSession() throws Exception {
+    // Act - resources have not been published yet
+    send("{\"jsonrpc\":\"2.0\",\"id\":4,\"method\":\"resources/list\",\"params\":{}}");
+    send("{\"jsonrpc\":\"2.0\",\"id\":5,\"method\":\"prompts/list\",\"params\":{}}");
+
+    // Assert
+    var captor = ArgumentCaptor.forClass(McpSchema.JSONRPCMessage.class);
+    verify(session, timeout(2000).times(2)).handle(captor.capture());
+    var methods =
+        captor.getAllValues().stream()
+            .map(message -> ((McpSchema.JSONRPCRequest) message).method())
+            .toList();
+    assertEquals(List.of("resources/list", "prompts/list"), methods);
+  }
+
+  private void send(String line) throws Exception {
+    input.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+    input.flush();
+  }
+
+  private JsonNode awaitResponse(int id) throws Exception {
+    var deadline = System.nanoTime() + 2_000_000_000L;
+    while (System.nanoTime() < deadline) {
+      var written = output.toString(StandardCharsets.UTF_8);
+      // Skip a line still being written
+      var complete = written.substring(0, written.lastIndexOf('\n') + 1);
+      for (var line : complete.split("\n")) {
+        if (!line.isBlank()) {
+          var message = objectMapper.readTree(line);
+          if (message.get("id").asInt() == id) {
+            return message;
+          }
+        }
+      }
+      Thread.sleep(10);
+    }
+    return fail("No response to request " + id);
+  }
+}